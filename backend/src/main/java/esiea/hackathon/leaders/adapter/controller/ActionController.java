@@ -3,11 +3,8 @@ package esiea.hackathon.leaders.adapter.controller;
 import esiea.hackathon.leaders.application.dto.request.ActionRequestDto;
 import esiea.hackathon.leaders.application.dto.request.MoveRequestDto;
 import esiea.hackathon.leaders.application.dto.request.RecruitmentRequestDto;
-import esiea.hackathon.leaders.application.services.ActionService;
-import esiea.hackathon.leaders.application.services.MovementService;
-import esiea.hackathon.leaders.application.services.RecruitmentService;
-import esiea.hackathon.leaders.domain.model.GameEntity;
-import esiea.hackathon.leaders.domain.repository.GameRepository;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommand;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommandRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,12 +16,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ActionController {
 
-    private final MovementService movementService;
-    private final ActionService actionService;
-    private final RecruitmentService recruitmentService;
-    private final GameRepository gameRepository;
-    private final esiea.hackathon.leaders.application.services.GameQueryService gameQueryService;
-    private final org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
+    // Les actions sont appliquées par le nœud propriétaire de la partie, qui diffuse le nouvel état
+    private final GameCommandRouter commandRouter;
 
     // 1. Déplacer une pièce
     @PostMapping("/move")
@@ -32,10 +25,8 @@ public class ActionController {
         // Note: Idéalement, on vérifierait ici si la pièce appartient bien au joueur
         // courant via gameId
         System.out.println("DEBUG: ActionController move " + request.pieceId());
-        movementService.movePiece(request.pieceId(), request.destination().q(), request.destination().r(),
-                request.playerId());
-
-        broadcastUpdate(gameId);
+        commandRouter.send(new GameCommand.Move(gameId, request.pieceId(), request.destination().q(),
+                request.destination().r(), request.playerId()));
         return ResponseEntity.ok().build();
     }
 
@@ -44,15 +35,14 @@ public class ActionController {
     public ResponseEntity<Void> useAbility(@PathVariable UUID gameId, @RequestBody ActionRequestDto request) {
         System.out
                 .println("DEBUG: ActionController useAbility " + request.abilityId() + " source=" + request.sourceId());
-        actionService.useAbility(
+        commandRouter.send(new GameCommand.UseAbility(
+                gameId,
                 request.sourceId(),
                 request.targetId(),
                 request.abilityId(),
                 request.destination(),
                 request.secondaryDestination(),
-                request.playerId());
-
-        broadcastUpdate(gameId);
+                request.playerId()));
         return ResponseEntity.ok().build();
     }
 
@@ -60,33 +50,16 @@ public class ActionController {
     @PostMapping("/skip-actions")
     public ResponseEntity<Void> skipActions(@PathVariable UUID gameId, @RequestBody ActionRequestDto request) {
         System.out.println("DEBUG: ActionController skipActions for player " + request.playerId());
-        actionService.skipActions(gameId, request.playerId());
-        broadcastUpdate(gameId);
+        commandRouter.send(new GameCommand.SkipActions(gameId, request.playerId()));
         return ResponseEntity.ok().build();
     }
 
     // 3. Recruter un personnage
     @PostMapping("/recruit")
     public ResponseEntity<Void> recruit(@PathVariable UUID gameId, @RequestBody RecruitmentRequestDto request) {
-        // On récupère le jeu pour savoir qui est le joueur courant
-        GameEntity game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
-
-        Short currentPlayerIndex = (short) game.getCurrentPlayerIndex();
-
+        // Le nœud de la partie recrute pour le joueur courant
         System.out.println("DEBUG: ActionController recruit " + request.cardId());
-        recruitmentService.recruit(
-                gameId,
-                currentPlayerIndex,
-                request.cardId(),
-                request.placements());
-
-        broadcastUpdate(gameId);
+        commandRouter.send(new GameCommand.Recruit(gameId, request.cardId(), request.placements()));
         return ResponseEntity.ok().build();
     }
-
-    private void broadcastUpdate(UUID gameId) {
-        esiea.hackathon.leaders.application.dto.response.GameStateDto gameState = gameQueryService.getGameState(gameId);
-        messagingTemplate.convertAndSend("/topic/game/" + gameId, gameState);
-    }
 }
\ No newline at end of file
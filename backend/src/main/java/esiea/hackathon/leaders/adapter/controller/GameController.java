@@ -1,12 +1,14 @@
 package esiea.hackathon.leaders.adapter.controller;
 
 import esiea.hackathon.leaders.application.dto.request.CreateGameRequestDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionPageDto;
 import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.services.GamePoolService;
 import esiea.hackathon.leaders.application.services.GameQueryService;
-import esiea.hackathon.leaders.application.services.GameService;
 import esiea.hackathon.leaders.application.services.GameSetupService;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommand;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommandRouter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,11 +21,10 @@ import java.util.UUID;
 public class GameController {
 
     private final GameSetupService setupService;
-    private final GameService gameService;
+    private final GamePoolService gamePool;
     private final GameQueryService gameQueryService;
-    private final SimpMessagingTemplate messagingTemplate;
     private final esiea.hackathon.leaders.usecase.StartAiGameUseCase startAiGameUseCase;
-    private final esiea.hackathon.leaders.application.services.AiService aiService;
+    private final GameCommandRouter commandRouter;
 
     @PostMapping("/ai")
     public ResponseEntity<UUID> createAiGame(@RequestBody java.util.Map<String, String> body) {
@@ -68,8 +69,10 @@ public class GameController {
                 finalGameId = setupService.createGameWithId(requestedId, forcedDeck, scenarioId);
             }
         } else {
-            // Pas d'ID fourni : création classique avec UUID généré par le serveur
-            finalGameId = setupService.createGame(forcedDeck, scenarioId);
+            // Pas d'ID fourni : partie de la réserve (standard ou du scénario), sauf deck imposé
+            finalGameId = (forcedDeck == null || forcedDeck.isEmpty())
+                    ? gamePool.startNew(scenarioId, List.of(), null)
+                    : setupService.createGame(forcedDeck, scenarioId);
         }
 
         return ResponseEntity.ok(finalGameId);
@@ -77,41 +80,22 @@ public class GameController {
 
     @GetMapping("/{gameId}")
     public ResponseEntity<GameStateDto> getGameState(@PathVariable UUID gameId) {
-        // Vérification du timeout à chaque appel
-        try {
-            gameService.checkTimeout(gameId);
-        } catch (Exception e) {
-            // Log silentieux, on veut quand même renvoyer l'état
-            System.err.println("Error checking timeout: " + e.getMessage());
-        }
+        // Lecture seule : les fins au temps sont déclenchées par TurnClockService
         return ResponseEntity.ok(gameQueryService.getGameState(gameId));
     }
 
+    // Historique par curseur : le client repasse le dernier actionOrder reçu
+    @GetMapping("/{gameId}/actions")
+    public ResponseEntity<GameActionPageDto> getActions(@PathVariable UUID gameId,
+            @RequestParam(defaultValue = "0") int since,
+            @RequestParam(defaultValue = "" + GameQueryService.MAX_ACTIONS_PAGE) int limit) {
+        return ResponseEntity.ok(gameQueryService.getActions(gameId, since, limit));
+    }
+
     @PostMapping("/{gameId}/end-turn")
     public ResponseEntity<GameStateDto> endTurn(@PathVariable UUID gameId) {
-        // Effectuer l'action
-        gameService.endTurn(gameId);
-
-        // Récupérer l'état mis à jour
-        GameStateDto updatedGameState = gameQueryService.getGameState(gameId);
-
-        // Notifier les clients via WebSocket
-        messagingTemplate.convertAndSend("/topic/game/" + gameId, updatedGameState);
-
-        // TRIGGER AI (After Transaction Commit)
-        if (updatedGameState.status() == esiea.hackathon.leaders.domain.model.enums.GameStatus.IN_PROGRESS) {
-            esiea.hackathon.leaders.application.dto.response.PlayerDto currentPlayer = updatedGameState.players()
-                    .stream()
-                    .filter(p -> p.playerIndex() == updatedGameState.currentPlayerIndex())
-                    .findFirst().orElse(null);
-
-            if (currentPlayer != null && esiea.hackathon.leaders.application.services.AiService.AI_PLAYER_ID
-                    .equals(currentPlayer.userId())) {
-                System.out.println("DEBUG: Controller triggering AI interaction for game " + gameId);
-                aiService.playTurn(gameId);
-            }
-        }
-
+        // Exécuté sur le nœud de la partie, qui diffuse l'état et déclenche l'IA
+        GameStateDto updatedGameState = commandRouter.send(new GameCommand.EndTurn(gameId));
         return ResponseEntity.ok(updatedGameState);
     }
 
@@ -123,12 +107,8 @@ public class GameController {
             return ResponseEntity.badRequest().build();
         }
 
-        gameService.surrender(gameId, playerId);
-
-        // Get updated state and notify
-        GameStateDto updatedGameState = gameQueryService.getGameState(gameId);
-        messagingTemplate.convertAndSend("/topic/game/" + gameId, updatedGameState);
+        GameStateDto updatedGameState = commandRouter.send(new GameCommand.Surrender(gameId, playerId));
 
         return ResponseEntity.ok(updatedGameState);
     }
-}
\ No newline at end of file
+}
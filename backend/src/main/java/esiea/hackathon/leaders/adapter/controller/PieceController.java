@@ -5,6 +5,8 @@ import esiea.hackathon.leaders.application.services.MovementService;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommand;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommandRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,8 +22,7 @@ public class PieceController {
 
     private final PieceRepository pieceRepository;
     private final MovementService movementService;
-    private final esiea.hackathon.leaders.application.services.GameQueryService gameQueryService;
-    private final org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
+    private final GameCommandRouter commandRouter;
 
     /**
      * GET /api/pieces?gameId=xxx
@@ -53,13 +54,12 @@ public class PieceController {
         try {
             System.out.println("DEBUG: Received move request for piece " + pieceId + " to (" + request.toQ() + ","
                     + request.toR() + ")");
-            PieceEntity movedPiece = movementService.movePiece(pieceId, request.toQ(), request.toR(),
-                    request.playerId());
-
-            // Broadcast update
-            esiea.hackathon.leaders.application.dto.response.GameStateDto gameState = gameQueryService
-                    .getGameState(movedPiece.getGameId());
-            messagingTemplate.convertAndSend("/topic/game/" + movedPiece.getGameId(), gameState);
+            // La partie de la pièce désigne le nœud qui applique le déplacement et diffuse l'état
+            UUID gameId = pieceRepository.findById(pieceId)
+                    .orElseThrow(() -> new IllegalArgumentException("Piece not found"))
+                    .getGameId();
+            PieceEntity movedPiece = commandRouter.send(new GameCommand.Move(gameId, pieceId, request.toQ(),
+                    request.toR(), request.playerId()));
 
             return ResponseEntity.ok(toDto(movedPiece));
 
@@ -0,0 +1,23 @@
+package esiea.hackathon.leaders.adapter.controller;
+
+import esiea.hackathon.leaders.adapter.infrastructure.cache.CachedRefCharacterRepository;
+import esiea.hackathon.leaders.domain.repository.ReferenceDataReloadedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reference-data")
+@RequiredArgsConstructor
+public class ReferenceDataController {
+
+    private final CachedRefCharacterRepository referenceData;
+
+    // À appeler après une modification des données de départ (personnages, capacités, scénarios)
+    @PostMapping("/reload")
+    public ResponseEntity<ReferenceDataReloadedEvent> reload() {
+        return ResponseEntity.ok(referenceData.reload());
+    }
+}
@@ -2,9 +2,9 @@ package esiea.hackathon.leaders.adapter.controller;
 
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
+import esiea.hackathon.leaders.infrastructure.cluster.MatchmakingRouter;
 import esiea.hackathon.leaders.usecase.CreateGameSessionUseCase;
 import esiea.hackathon.leaders.usecase.JoinPrivateSessionUseCase;
-import esiea.hackathon.leaders.usecase.MatchmakingUseCase;
 import esiea.hackathon.leaders.usecase.HeartbeatUseCase;
 import esiea.hackathon.leaders.usecase.LeaveSessionUseCase;
 
@@ -18,20 +18,20 @@ import java.util.Optional;
 @RequestMapping("/sessions")
 public class SessionController {
 
-    private final MatchmakingUseCase matchmakingUseCase;
+    private final MatchmakingRouter matchmakingRouter;
     private final CreateGameSessionUseCase createGameSessionUseCase;
     private final JoinPrivateSessionUseCase joinPrivateSessionUseCase;
     private final LeaveSessionUseCase leaveSessionUseCase;
     private final SessionRepository sessionRepository;
     private final HeartbeatUseCase heartbeatUseCase;
 
-    public SessionController(MatchmakingUseCase matchmakingUseCase,
+    public SessionController(MatchmakingRouter matchmakingRouter,
             CreateGameSessionUseCase createGameSessionUseCase,
             JoinPrivateSessionUseCase joinPrivateSessionUseCase,
             LeaveSessionUseCase leaveSessionUseCase,
             SessionRepository sessionRepository,
             HeartbeatUseCase heartbeatUseCase) {
-        this.matchmakingUseCase = matchmakingUseCase;
+        this.matchmakingRouter = matchmakingRouter;
         this.createGameSessionUseCase = createGameSessionUseCase;
         this.joinPrivateSessionUseCase = joinPrivateSessionUseCase;
         this.leaveSessionUseCase = leaveSessionUseCase;
@@ -55,7 +55,7 @@ public class SessionController {
     public ResponseEntity<?> joinPublicQueue(@RequestBody(required = false) Map<String, String> body) {
         try {
             String playerId = (body != null) ? body.get("playerId") : null;
-            Session session = matchmakingUseCase.findOrCreatePublicSession(playerId);
+            Session session = matchmakingRouter.findOrCreatePublicSession(playerId);
             return ResponseEntity.ok(session);
         } catch (Exception e) {
             System.err.println("FATAL: Matchmaking endpoint failed: " + e.getMessage());
@@ -70,7 +70,7 @@ public class SessionController {
         if (playerId == null) {
             return ResponseEntity.badRequest().body(Map.of("error", "playerId is required"));
         }
-        matchmakingUseCase.removePlayerFromQueue(playerId);
+        matchmakingRouter.removePlayerFromQueue(playerId);
         return ResponseEntity.ok(Map.of("message", "Search cancelled"));
     }
 
@@ -1,5 +1,12 @@
 package esiea.hackathon.leaders.adapter.controller;
 
+import esiea.hackathon.leaders.application.services.GamePoolService;
+import esiea.hackathon.leaders.application.services.UserProfileCache;
+import esiea.hackathon.leaders.application.services.ai.SearchThreadPool;
+import esiea.hackathon.leaders.application.services.ai.TranspositionTable;
+import esiea.hackathon.leaders.domain.SessionRepository;
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementCounter;
+import esiea.hackathon.leaders.usecase.MatchmakingUseCase;
 import esiea.hackathon.leaders.usecase.StatsUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,9 +20,50 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatsController {
 
     private final StatsUseCase statsUseCase;
+    private final MatchmakingUseCase matchmakingUseCase;
+    private final TranspositionTable transpositionTable;
+    private final SearchThreadPool searchThreadPool;
+    private final UserProfileCache userProfileCache;
+    private final GamePoolService gamePool;
+    private final SqlStatementCounter sqlStatements;
 
     @GetMapping
     public ResponseEntity<StatsUseCase.GameStats> getStats() {
         return ResponseEntity.ok(statsUseCase.getGameStats());
     }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<SessionRepository.Stats> getSessionStats() {
+        return ResponseEntity.ok(statsUseCase.getSessionStats());
+    }
+
+    @GetMapping("/matchmaking")
+    public ResponseEntity<MatchmakingUseCase.Stats> getMatchmakingStats() {
+        return ResponseEntity.ok(matchmakingUseCase.stats());
+    }
+
+    @GetMapping("/ai/transposition")
+    public ResponseEntity<TranspositionTable.Stats> getTranspositionStats() {
+        return ResponseEntity.ok(transpositionTable.stats());
+    }
+
+    @GetMapping("/ai/search")
+    public ResponseEntity<SearchThreadPool.Stats> getSearchStats() {
+        return ResponseEntity.ok(searchThreadPool.stats());
+    }
+
+    @GetMapping("/game-pool")
+    public ResponseEntity<GamePoolService.Stats> getGamePoolStats() {
+        return ResponseEntity.ok(gamePool.stats());
+    }
+
+    @GetMapping("/user-profiles")
+    public ResponseEntity<UserProfileCache.Stats> getUserProfileStats() {
+        return ResponseEntity.ok(userProfileCache.stats());
+    }
+
+    @GetMapping("/sql")
+    public ResponseEntity<SqlStatementCounter.Stats> getSqlStats() {
+        return ResponseEntity.ok(sqlStatements.stats());
+    }
 }
@@ -0,0 +1,35 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JdbcGameActionRepository;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Actions des parties en cours ajoutées par {@link GameStateCache}, les autres par JDBC. */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedGameActionRepository implements GameActionRepository {
+
+    private final GameStateCache cache;
+    private final JdbcGameActionRepository jdbcRepository;
+
+    @Override
+    public GameActionEntity append(UUID gameId, GameActionEntity action) {
+        return cache.ifLoaded(gameId, live -> live.appendAction(action), () -> jdbcRepository.append(gameId, action));
+    }
+
+    @Override
+    public List<GameActionEntity> findSince(UUID gameId, int afterOrder, int limit) {
+        // Partie en cache : les actions pas encore écrites en base n'existent qu'ici
+        return cache.read(gameId, live -> live.actionsSince(afterOrder, limit),
+                () -> jdbcRepository.findSince(gameId, afterOrder, limit));
+    }
+}
@@ -0,0 +1,47 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaGameRepository;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Parties en cours servies par {@link GameStateCache}, les autres par JPA. */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedGameRepository implements GameRepository {
+
+    private final GameStateCache cache;
+    private final JpaGameRepository jpaRepository;
+
+    @Override
+    public Optional<GameEntity> findById(UUID id) {
+        return cache.read(id, live -> Optional.of(live.game()), () -> jpaRepository.findById(id));
+    }
+
+    // Une partie absente du cache n'y est pas chargée pour un affichage : une requête suffit
+    @Override
+    public Optional<GameEntity> findStateById(UUID id) {
+        return cache.ifLoaded(id, live -> Optional.of(live.game()), () -> jpaRepository.findStateById(id));
+    }
+
+    @Override
+    public GameEntity save(GameEntity game) {
+        return cache.ifLoaded(game.getId(), live -> live.saveGame(game), () -> jpaRepository.save(game));
+    }
+
+    // Lecture en base : sert au démarrage, une fois le journal rejoué
+    @Override
+    public List<UUID> findIdsByStatus(GameStatus status) {
+        return jpaRepository.findIdsByStatus(status);
+    }
+}
@@ -0,0 +1,98 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaPieceRepository;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.repository.PieceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Pièces des parties en cours servies par {@link GameStateCache}, les autres par JPA. */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedPieceRepository implements PieceRepository {
+
+    private final GameStateCache cache;
+    private final JpaPieceRepository jpaRepository;
+
+    @Override
+    public PieceEntity save(PieceEntity piece) {
+        return cache.ifLoaded(piece.getGameId(), live -> {
+            PieceEntity saved = live.savePiece(piece);
+            cache.indexPiece(live, saved.getId(), true);
+            return saved;
+        }, () -> jpaRepository.save(piece));
+    }
+
+    @Override
+    public Optional<PieceEntity> findById(UUID id) {
+        Optional<UUID> gameId = cache.gameOfPiece(id);
+        if (gameId.isPresent())
+            return cache.read(gameId.get(), live -> live.piece(id), () -> jpaRepository.findById(id));
+        // Pièce inconnue du cache : sa partie est chargée si elle est en cours
+        return jpaRepository.findById(id)
+                .flatMap(piece -> cache.read(piece.getGameId(), live -> live.piece(id), () -> Optional.of(piece)));
+    }
+
+    @Override
+    public List<PieceEntity> findByGameId(UUID gameId) {
+        return cache.read(gameId, LiveGame::pieces, () -> jpaRepository.findByGameId(gameId));
+    }
+
+    @Override
+    public List<PieceEntity> findByGameIdAndOwnerIndex(UUID gameId, Short ownerIndex) {
+        return cache.read(gameId,
+                live -> live.pieces().stream().filter(piece -> ownerIndex.equals(piece.getOwnerIndex())).toList(),
+                () -> jpaRepository.findByGameIdAndOwnerIndex(gameId, ownerIndex));
+    }
+
+    @Override
+    public Optional<PieceEntity> findByGameIdAndPosition(UUID gameId, Short q, Short r) {
+        return cache.read(gameId,
+                live -> live.pieces().stream()
+                        .filter(piece -> q.equals(piece.getQ()) && r.equals(piece.getR()))
+                        .findFirst(),
+                () -> jpaRepository.findByGameIdAndPosition(gameId, q, r));
+    }
+
+    @Override
+    public long countByGameIdAndOwnerIndex(UUID gameId, Short ownerIndex) {
+        return cache.read(gameId,
+                live -> live.pieces().stream().filter(piece -> ownerIndex.equals(piece.getOwnerIndex())).count(),
+                () -> jpaRepository.countByGameIdAndOwnerIndex(gameId, ownerIndex));
+    }
+
+    @Override
+    public void delete(UUID id) {
+        Optional<UUID> gameId = cache.gameOfPiece(id);
+        cache.ifLoaded(gameId.orElse(null), live -> {
+            live.deletePiece(id);
+            cache.indexPiece(live, id, false);
+            return null;
+        }, () -> {
+            jpaRepository.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public List<PieceEntity> saveAll(List<PieceEntity> pieces) {
+        return pieces.stream().map(this::save).toList();
+    }
+
+    @Override
+    public PieceEntity saveAndFlush(PieceEntity piece) {
+        return cache.ifLoaded(piece.getGameId(), live -> {
+            PieceEntity saved = live.savePiece(piece);
+            cache.indexPiece(live, saved.getId(), true);
+            return saved;
+        }, () -> jpaRepository.saveAndFlush(piece));
+    }
+}
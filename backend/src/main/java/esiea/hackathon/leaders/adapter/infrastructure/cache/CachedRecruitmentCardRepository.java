@@ -0,0 +1,71 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaRecruitmentCardRepository;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.repository.RecruitmentCardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Cartes des parties en cours servies par {@link GameStateCache}, les autres par JPA. */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedRecruitmentCardRepository implements RecruitmentCardRepository {
+
+    private final GameStateCache cache;
+    private final JpaRecruitmentCardRepository jpaRepository;
+
+    @Override
+    public Optional<RecruitmentCardEntity> findById(UUID id) {
+        Optional<UUID> gameId = cache.gameOfCard(id);
+        if (gameId.isPresent())
+            return cache.read(gameId.get(), live -> live.card(id), () -> jpaRepository.findById(id));
+        return jpaRepository.findById(id)
+                .flatMap(card -> cache.read(gameId(card), live -> live.card(id), () -> Optional.of(card)));
+    }
+
+    @Override
+    public RecruitmentCardEntity save(RecruitmentCardEntity card) {
+        UUID gameId = card.getId() != null ? cache.gameOfCard(card.getId()).orElse(gameId(card)) : gameId(card);
+        return cache.ifLoaded(gameId, live -> {
+            RecruitmentCardEntity saved = live.saveCard(card);
+            cache.indexCard(live, saved.getId());
+            return saved;
+        }, () -> jpaRepository.save(card));
+    }
+
+    @Override
+    public Optional<RecruitmentCardEntity> findNextCardInDeck(UUID gameId) {
+        return cache.read(gameId,
+                live -> live.cards().stream()
+                        .filter(card -> card.getState() == CardState.IN_DECK)
+                        .min(Comparator.comparing(RecruitmentCardEntity::getDeckOrder,
+                                Comparator.nullsLast(Comparator.naturalOrder()))),
+                () -> jpaRepository.findNextCardInDeck(gameId));
+    }
+
+    @Override
+    public List<RecruitmentCardEntity> findByGameIdAndState(UUID gameId, CardState state) {
+        return cache.read(gameId,
+                live -> live.cards().stream().filter(card -> card.getState() == state).toList(),
+                () -> jpaRepository.findByGameIdAndState(gameId, state));
+    }
+
+    @Override
+    public List<RecruitmentCardEntity> findAllByGameId(UUID gameId) {
+        return cache.read(gameId, LiveGame::cards, () -> jpaRepository.findAllByGameId(gameId));
+    }
+
+    private static UUID gameId(RecruitmentCardEntity card) {
+        return card.getGame() != null ? card.getGame().getId() : null;
+    }
+}
@@ -0,0 +1,117 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaRefCharacterRepository;
+import esiea.hackathon.leaders.domain.model.AbilityEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import esiea.hackathon.leaders.domain.repository.ReferenceDataReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Données de référence ({@code ref_character}, {@code ability},
+ * {@code scenario_character}) chargées une fois au démarrage : ces tables ne
+ * changent qu'avec {@code schema.sql}. Les lectures sont de simples
+ * recherches dans des maps immuables ; {@link #reload()} les reconstruit (et
+ * prévient les caches dérivés) si les données de départ changent.
+ *
+ * <p>Les personnages renvoyés sont partagés : ils ne doivent pas être modifiés.
+ */
+@Primary
+@Component
+public class CachedRefCharacterRepository implements RefCharacterRepository {
+
+    private final JpaRefCharacterRepository jpaRepository;
+    private final ApplicationEventPublisher events;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public CachedRefCharacterRepository(JpaRefCharacterRepository jpaRepository, ApplicationEventPublisher events) {
+        this.jpaRepository = jpaRepository;
+        this.events = events;
+    }
+
+    @PostConstruct
+    void load() {
+        reload();
+    }
+
+    /** Relit les tables de référence et remplace le contenu du cache d'un bloc. */
+    public ReferenceDataReloadedEvent reload() {
+        Map<String, RefCharacterEntity> characters = new LinkedHashMap<>();
+        for (RefCharacterEntity character : jpaRepository.findAll())
+            characters.put(character.getId(), freeze(character));
+
+        Map<Integer, List<RefCharacterEntity>> scenarios = new LinkedHashMap<>();
+        jpaRepository.findAllScenarioCharacterIds().forEach((scenarioId, characterIds) -> {
+            List<RefCharacterEntity> members = new ArrayList<>();
+            for (String characterId : characterIds) {
+                RefCharacterEntity character = characters.get(characterId);
+                if (character != null)
+                    members.add(character);
+            }
+            scenarios.put(scenarioId, List.copyOf(members));
+        });
+
+        Snapshot loaded = new Snapshot(Map.copyOf(characters), List.copyOf(characters.values()),
+                Map.copyOf(scenarios));
+        snapshot = loaded;
+
+        int abilities = (int) loaded.all.stream()
+                .flatMap(character -> character.getAbilities().stream())
+                .map(AbilityEntity::getId)
+                .distinct()
+                .count();
+        ReferenceDataReloadedEvent event = new ReferenceDataReloadedEvent(loaded.all.size(), abilities,
+                loaded.byScenario.size());
+        System.out.println("REFERENCE DATA: " + event.characters() + " characters, " + event.abilities()
+                + " abilities, " + event.scenarios() + " scenarios loaded");
+        events.publishEvent(event);
+        return event;
+    }
+
+    @Override
+    public Optional<RefCharacterEntity> findById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.byId.get(id));
+    }
+
+    @Override
+    public List<RefCharacterEntity> findAll() {
+        return snapshot.all;
+    }
+
+    @Override
+    public List<RefCharacterEntity> findByScenarioId(Integer scenarioId) {
+        return scenarioId == null ? List.of() : snapshot.byScenario.getOrDefault(scenarioId, List.of());
+    }
+
+    // Copie dont l'ensemble des capacités est immuable
+    private static RefCharacterEntity freeze(RefCharacterEntity character) {
+        Set<AbilityEntity> abilities = character.getAbilities() != null
+                ? character.getAbilities().stream().collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        return RefCharacterEntity.builder()
+                .id(character.getId())
+                .name(character.getName())
+                .isLeader(character.isLeader())
+                .recruitmentSlots(character.getRecruitmentSlots())
+                .description(character.getDescription())
+                .abilities(abilities)
+                .build();
+    }
+
+    private record Snapshot(Map<String, RefCharacterEntity> byId, List<RefCharacterEntity> all,
+            Map<Integer, List<RefCharacterEntity>> byScenario) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), Map.of());
+    }
+}
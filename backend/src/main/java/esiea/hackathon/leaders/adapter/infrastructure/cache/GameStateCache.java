@@ -0,0 +1,383 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JdbcGameActionRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaGameRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaPieceRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaRecruitmentCardRepository;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Parties en cours gardées en mémoire : une fois chargée, une partie n'est
+ * plus lue en base et ses changements sont écrits en tâche de fond, par lots.
+ * <p>
+ * Un seul écrivain par partie : le verrou de la partie est pris au premier
+ * accès et gardé jusqu'à la fin de la transaction Spring en cours (ou de
+ * l'opération, hors transaction). À la validation, les changements partent
+ * dans le journal ({@link GameWriteAheadLog}) puis dans la file d'écriture ;
+ * en cas d'annulation, la partie revient à son état d'avant la transaction.
+ * <p>
+ * Les écritures faites directement en base (joueurs, création de la partie)
+ * ne passent pas par le cache : une partie n'est chargée qu'une fois en cours
+ * avec ses deux joueurs. Une partie terminée ou inactive est retirée du cache
+ * dès que ses changements sont en base.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class GameStateCache {
+
+    private final JpaGameRepository gameRepository;
+    private final JpaPieceRepository pieceRepository;
+    private final JpaRecruitmentCardRepository cardRepository;
+    private final JdbcGameActionRepository actionRepository;
+    private final GameStateWriter writer;
+    private final GameWriteAheadLog wal;
+    private final long lockTimeoutMs;
+    private final long idleEvictionNanos;
+
+    private final Map<UUID, LiveGame> games = new ConcurrentHashMap<>();
+    // Index pièce/carte -> partie, pour les recherches par id
+    private final Map<UUID, UUID> pieceGames = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> cardGames = new ConcurrentHashMap<>();
+
+    // File d'écriture, protégée par commitLock (avec la rotation du journal)
+    private final Object commitLock = new Object();
+    private List<GameWriteBatch> pending = new ArrayList<>();
+    private final Set<UUID> retrying = new HashSet<>();
+    private long commitSeq;
+    private long flushedSeq;
+
+    public GameStateCache(JpaGameRepository gameRepository, JpaPieceRepository pieceRepository,
+            JpaRecruitmentCardRepository cardRepository, JdbcGameActionRepository actionRepository,
+            GameStateWriter writer, GameWriteAheadLog wal,
+            @Value("${app.game.cache.lock-timeout-ms:5000}") long lockTimeoutMs,
+            @Value("${app.game.cache.idle-eviction-ms:600000}") long idleEvictionMs) {
+        this.gameRepository = gameRepository;
+        this.pieceRepository = pieceRepository;
+        this.cardRepository = cardRepository;
+        this.actionRepository = actionRepository;
+        this.writer = writer;
+        this.wal = wal;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+    }
+
+    /** Rejoue en base les validations journalisées avant un arrêt brutal. */
+    @PostConstruct
+    public void recover() {
+        List<GameWriteBatch> batches = wal.readSealed();
+        if (!batches.isEmpty()) {
+            GameWriteBatch merged = GameWriteBatch.merge(batches);
+            log.warn("WAL : rejeu de {} validation(s), {} ligne(s)", batches.size(), merged.size());
+            writer.write(merged);
+        }
+        wal.deleteSealed();
+    }
+
+    // --- Accès ---
+
+    /**
+     * Exécute {@code operation} sur la partie si elle est (ou peut être) en
+     * mémoire, sinon {@code fallback} (lecture ou écriture directe en base).
+     */
+    <T> T read(UUID gameId, Function<LiveGame, T> operation, Supplier<T> fallback) {
+        return apply(gameId, true, operation, fallback);
+    }
+
+    /**
+     * Comme {@link #read}, sans charger la partie : une lecture ou une écriture
+     * sur une partie absente du cache va directement en base.
+     */
+    <T> T ifLoaded(UUID gameId, Function<LiveGame, T> operation, Supplier<T> fallback) {
+        return apply(gameId, false, operation, fallback);
+    }
+
+    Optional<UUID> gameOfPiece(UUID pieceId) {
+        return Optional.ofNullable(pieceGames.get(pieceId));
+    }
+
+    Optional<UUID> gameOfCard(UUID cardId) {
+        return Optional.ofNullable(cardGames.get(cardId));
+    }
+
+    void indexPiece(LiveGame live, UUID pieceId, boolean present) {
+        if (present)
+            pieceGames.put(pieceId, live.id);
+        else
+            pieceGames.remove(pieceId);
+    }
+
+    void indexCard(LiveGame live, UUID cardId) {
+        cardGames.put(cardId, live.id);
+    }
+
+    private <T> T apply(UUID gameId, boolean load, Function<LiveGame, T> operation, Supplier<T> fallback) {
+        if (gameId == null)
+            return fallback.get();
+        Entry entry = enter(gameId, load);
+        if (entry == null)
+            return fallback.get();
+        LiveGame live = entry.live;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Le verrou est gardé jusqu'à la fin de la transaction
+            enlistment().enlist(live, entry.loaded);
+            return operation.apply(live);
+        }
+
+        live.beginScope();
+        try {
+            T result = operation.apply(live);
+            complete(live, true, entry.loaded);
+            return result;
+        } catch (RuntimeException | Error e) {
+            complete(live, false, entry.loaded);
+            throw e;
+        }
+    }
+
+    /** Retourne la partie verrouillée, ou null si elle n'est pas gérée par le cache. */
+    private Entry enter(UUID gameId, boolean load) {
+        while (true) {
+            LiveGame live = games.get(gameId);
+            boolean loaded = false;
+            if (live == null) {
+                if (!load)
+                    return null;
+                live = load(gameId);
+                if (live == null)
+                    return null;
+                LiveGame existing = games.putIfAbsent(gameId, live);
+                if (existing != null) {
+                    live = existing;
+                } else {
+                    loaded = true;
+                    index(live);
+                }
+            }
+            lock(live);
+            if (live.evicted) {
+                live.lock.unlock();
+                continue;
+            }
+            live.lastAccessNanos = System.nanoTime();
+            return new Entry(live, loaded);
+        }
+    }
+
+    private LiveGame load(UUID gameId) {
+        GameEntity game = gameRepository.findById(gameId).orElse(null);
+        if (game == null || game.getStatus() != GameStatus.IN_PROGRESS
+                || game.getPlayers() == null || game.getPlayers().size() < 2)
+            return null;
+        List<PieceEntity> pieces = game.getPieces() != null ? game.getPieces() : pieceRepository.findByGameId(gameId);
+        List<RecruitmentCardEntity> cards = game.getCards() != null ? game.getCards()
+                : cardRepository.findAllByGameId(gameId);
+        if (game.getActions() == null)
+            game.setActions(actionRepository.findSince(gameId, 0, Integer.MAX_VALUE));
+        return new LiveGame(game, pieces, cards);
+    }
+
+    private void lock(LiveGame live) {
+        try {
+            if (!live.lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS))
+                throw new IllegalStateException("Game " + live.id + " is busy, try again");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for game " + live.id, e);
+        }
+    }
+
+    /** Termine une portée et rend le verrou. */
+    private void complete(LiveGame live, boolean success, boolean loaded) {
+        try {
+            if (!success) {
+                live.rollbackScope();
+                if (loaded && !live.inScope())
+                    // Chargée dans une transaction annulée : peut-être depuis des données non validées
+                    evict(live);
+            } else if (live.endScope()) {
+                commit(live);
+            }
+        } finally {
+            live.lock.unlock();
+        }
+    }
+
+    private void commit(LiveGame live) {
+        GameWriteBatch batch = live.drainChanges();
+        if (batch.isEmpty())
+            return;
+        synchronized (commitLock) {
+            try {
+                wal.append(batch);
+            } catch (RuntimeException e) {
+                // L'état en mémoire fait foi : la partie sera écrite au prochain vidage
+                log.error("WAL : validation de la partie {} non journalisée", live.id, e);
+            }
+            pending.add(batch);
+            live.lastCommitSeq = ++commitSeq;
+        }
+    }
+
+    // --- Écriture en base ---
+
+    @Scheduled(fixedDelayString = "${app.game.cache.flush-interval-ms:200}")
+    public void flush() {
+        List<GameWriteBatch> batches;
+        long seq;
+        synchronized (commitLock) {
+            if (pending.isEmpty()) {
+                evictInactive();
+                return;
+            }
+            batches = pending;
+            pending = new ArrayList<>();
+            seq = commitSeq;
+            wal.rotate();
+        }
+
+        Map<UUID, GameWriteBatch> failed = write(GameWriteBatch.merge(batches));
+
+        synchronized (commitLock) {
+            retrying.clear();
+            if (failed.isEmpty()) {
+                wal.deleteSealed();
+            } else {
+                // Les segments scellés sont gardés : ils contiennent encore ces parties
+                List<GameWriteBatch> retry = new ArrayList<>(failed.values());
+                retry.addAll(pending);
+                pending = retry;
+                retrying.addAll(failed.keySet());
+            }
+            flushedSeq = seq;
+        }
+        evictInactive();
+    }
+
+    /** Écrit le lot ; en cas d'échec, réessaie partie par partie. Retourne les parties en échec. */
+    private Map<UUID, GameWriteBatch> write(GameWriteBatch batch) {
+        try {
+            writer.write(batch);
+            return Map.of();
+        } catch (RuntimeException e) {
+            log.warn("Cache : écriture groupée impossible, reprise partie par partie", e);
+        }
+        Map<UUID, GameWriteBatch> failed = new LinkedHashMap<>();
+        batch.byGame().forEach((gameId, rows) -> {
+            try {
+                writer.write(rows);
+            } catch (RuntimeException e) {
+                log.error("Cache : écriture de la partie {} impossible", gameId, e);
+                failed.put(gameId, rows);
+            }
+        });
+        return failed;
+    }
+
+    /** Retire les parties terminées ou inactives dont tous les changements sont en base. */
+    private void evictInactive() {
+        long now = System.nanoTime();
+        for (LiveGame live : games.values()) {
+            if (live.inProgress() && now - live.lastAccessNanos < idleEvictionNanos)
+                continue;
+            if (!live.lock.tryLock())
+                continue;
+            try {
+                boolean flushed;
+                synchronized (commitLock) {
+                    flushed = live.lastCommitSeq <= flushedSeq && !retrying.contains(live.id);
+                }
+                if (flushed && !live.inScope())
+                    evict(live);
+            } finally {
+                live.lock.unlock();
+            }
+        }
+    }
+
+    private void evict(LiveGame live) {
+        live.evicted = true;
+        games.remove(live.id, live);
+        live.pieceIds().forEach(pieceId -> pieceGames.remove(pieceId, live.id));
+        live.cardIds().forEach(cardId -> cardGames.remove(cardId, live.id));
+    }
+
+    private void index(LiveGame live) {
+        live.pieceIds().forEach(pieceId -> pieceGames.put(pieceId, live.id));
+        live.cardIds().forEach(cardId -> cardGames.put(cardId, live.id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // --- Transactions ---
+
+    private Enlistment enlistment() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Enlistment enlistment && enlistment.owner == this)
+                return enlistment;
+        }
+        Enlistment enlistment = new Enlistment(this);
+        TransactionSynchronizationManager.registerSynchronization(enlistment);
+        return enlistment;
+    }
+
+    /** Parties verrouillées par la transaction en cours, libérées à sa fin. */
+    private static final class Enlistment implements TransactionSynchronization {
+
+        private final GameStateCache owner;
+        private final Map<UUID, Entry> games = new LinkedHashMap<>();
+
+        Enlistment(GameStateCache owner) {
+            this.owner = owner;
+        }
+
+        void enlist(LiveGame live, boolean loaded) {
+            if (games.containsKey(live.id)) {
+                // Déjà verrouillée par cette transaction : le verrou réentrant est rendu
+                live.lock.unlock();
+                return;
+            }
+            live.beginScope();
+            games.put(live.id, new Entry(live, loaded));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            for (Entry entry : games.values())
+                owner.complete(entry.live, status == STATUS_COMMITTED, entry.loaded);
+            games.clear();
+        }
+    }
+
+    private record Entry(LiveGame live, boolean loaded) {
+    }
+}
@@ -0,0 +1,111 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.cache.GameWriteBatch.ActionRow;
+import esiea.hackathon.leaders.adapter.infrastructure.cache.GameWriteBatch.CardRow;
+import esiea.hackathon.leaders.adapter.infrastructure.cache.GameWriteBatch.GameRow;
+import esiea.hackathon.leaders.adapter.infrastructure.cache.GameWriteBatch.PieceRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Écrit un lot en base en une transaction : une requête JDBC batch par table.
+ * Les écritures sont idempotentes (upsert), un lot peut donc être rejoué.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class GameStateWriter {
+
+    static final String UPDATE_GAME = "UPDATE game SET mode = ?, status = ?, phase = ?, current_player_index = ?, "
+            + "turn_number = ?, winner_player_index = ?, winner_victory_type = ?, banishment_count = ?, "
+            + "recruitment_count = ?, remaining_time_p0 = ?, remaining_time_p1 = ?, last_timer_update = ?, "
+            + "elo_change_p0 = ?, elo_change_p1 = ?, scenario_id = ?, ai_difficulty = ?, updated_at = NOW() "
+            + "WHERE id = ?";
+
+    static final String DELETE_PIECE = "DELETE FROM piece WHERE id = ?";
+
+    static final String UPSERT_PIECE = "INSERT INTO piece (id, game_id, character_id, owner_index, q, r, "
+            + "has_acted_this_turn) VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET "
+            + "owner_index = EXCLUDED.owner_index, q = EXCLUDED.q, r = EXCLUDED.r, "
+            + "has_acted_this_turn = EXCLUDED.has_acted_this_turn";
+
+    static final String UPSERT_CARD = "INSERT INTO recruitment_card (id, game_id, character_id, state, deck_order, "
+            + "visible_slot, recruited_by_index, banned_by_index) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (id) DO UPDATE SET state = EXCLUDED.state, deck_order = EXCLUDED.deck_order, "
+            + "visible_slot = EXCLUDED.visible_slot, recruited_by_index = EXCLUDED.recruited_by_index, "
+            + "banned_by_index = EXCLUDED.banned_by_index";
+
+    static final String INSERT_ACTION = "INSERT INTO game_action (id, game_id, turn_number, player_index, "
+            + "action_order, action_type, piece_id, from_q, from_r, to_q, to_r, target_piece_id, ability_id, "
+            + "character_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (id) DO NOTHING";
+
+    // Compteur utilisé par JdbcGameActionRepository une fois la partie sortie du cache
+    static final String UPDATE_ACTION_COUNT = "UPDATE game SET action_count = GREATEST(COALESCE(action_count, 0), ?) "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void write(GameWriteBatch batch) {
+        batch(UPDATE_GAME, batch.games().stream().map(GameStateWriter::params).toList());
+        batch(DELETE_PIECE, batch.deletedPieces().stream().map(row -> new Object[] { row.id() }).toList());
+        batch(UPSERT_PIECE, batch.pieces().stream().map(GameStateWriter::params).toList());
+        batch(UPSERT_CARD, batch.cards().stream().map(GameStateWriter::params).toList());
+        batch(INSERT_ACTION, batch.actions().stream().map(GameStateWriter::params).toList());
+        batch(UPDATE_ACTION_COUNT, lastActionOrders(batch.actions()));
+    }
+
+    private static List<Object[]> lastActionOrders(List<ActionRow> actions) {
+        Map<UUID, Integer> last = new LinkedHashMap<>();
+        actions.forEach(row -> last.merge(row.gameId(), row.actionOrder(), Math::max));
+        return last.entrySet().stream().map(entry -> new Object[] { entry.getValue(), entry.getKey() }).toList();
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty())
+            jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static Object[] params(GameRow row) {
+        return new Object[] { name(row.mode()), name(row.status()), name(row.phase()), row.currentPlayerIndex(),
+                row.turnNumber(), row.winnerPlayerIndex(), name(row.winnerVictoryType()), row.banishmentCount(),
+                row.recruitmentCount(), row.remainingTimeP0(), row.remainingTimeP1(),
+                timestamp(row.lastTimerUpdate()), row.eloChangeP0(), row.eloChangeP1(), row.scenarioId(),
+                name(row.aiDifficulty()), row.id() };
+    }
+
+    private static Object[] params(PieceRow row) {
+        return new Object[] { row.id(), row.gameId(), row.characterId(), row.ownerIndex(), row.q(), row.r(),
+                row.hasActedThisTurn() };
+    }
+
+    private static Object[] params(CardRow row) {
+        return new Object[] { row.id(), row.gameId(), row.characterId(), name(row.state()), row.deckOrder(),
+                row.visibleSlot(), row.recruitedByIndex(), row.bannedByIndex() };
+    }
+
+    private static Object[] params(ActionRow row) {
+        return new Object[] { row.id(), row.gameId(), row.turnNumber(), row.playerIndex(), row.actionOrder(),
+                name(row.actionType()), row.pieceId(), row.fromQ(), row.fromR(), row.toQ(), row.toR(),
+                row.targetPieceId(), row.abilityId(), row.characterId(), timestamp(row.createdAt()) };
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,146 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Journal des écritures validées en mémoire et pas encore en base : une ligne
+ * JSON ({@link GameWriteBatch}) par validation, dans des segments numérotés.
+ * Le segment courant est scellé à chaque vidage ; les segments scellés sont
+ * supprimés une fois leur contenu écrit en base. Au démarrage, les segments
+ * restants sont rejoués dans l'ordre.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.game.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class GameWriteAheadLog {
+
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final boolean fsync;
+
+    private final List<Path> sealed = new ArrayList<>();
+    private long segmentNumber;
+    private Path current;
+    private FileChannel channel;
+
+    public GameWriteAheadLog(ObjectMapper objectMapper,
+            @Value("${app.game.cache.wal-dir:data/wal}") String directory,
+            @Value("${app.game.cache.wal-fsync:false}") boolean fsync) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(this.directory);
+            List<Path> existing = segments();
+            sealed.addAll(existing);
+            segmentNumber = existing.isEmpty() ? 0 : number(existing.get(existing.size() - 1));
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'ouvrir le journal " + directory, e);
+        }
+    }
+
+    /** Ajoute une validation ; retourne une fois la ligne écrite (et synchronisée si configuré). */
+    public synchronized void append(GameWriteBatch batch) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(batch);
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            if (fsync)
+                channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture du journal impossible", e);
+        }
+    }
+
+    /** Scelle le segment courant : les validations suivantes vont dans un nouveau segment. */
+    public synchronized void rotate() {
+        try {
+            if (channel.size() == 0)
+                return;
+            channel.close();
+            sealed.add(current);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Rotation du journal impossible", e);
+        }
+    }
+
+    /** Supprime les segments scellés (leur contenu est en base). */
+    public synchronized void deleteSealed() {
+        for (Path segment : sealed) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Suppression du segment " + segment + " impossible", e);
+            }
+        }
+        sealed.clear();
+    }
+
+    /** Contenu des segments scellés, dans l'ordre d'écriture (rejeu au démarrage). */
+    public synchronized List<GameWriteBatch> readSealed() {
+        List<GameWriteBatch> batches = new ArrayList<>();
+        for (Path segment : sealed) {
+            try {
+                for (String line : Files.readAllLines(segment)) {
+                    if (!line.isBlank())
+                        batches.add(objectMapper.readValue(line, GameWriteBatch.class));
+                }
+            } catch (IOException e) {
+                // Dernière ligne tronquée par un arrêt brutal : le reste du segment est ignoré
+                log.warn("WAL : segment {} illisible en partie", segment, e);
+            }
+        }
+        return batches;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("WAL : fermeture impossible", e);
+        }
+    }
+
+    private void open() throws IOException {
+        current = directory.resolve(String.format("%s%020d%s", PREFIX, ++segmentNumber, SUFFIX));
+        channel = FileChannel.open(current, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(PREFIX)
+                    && file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long number(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
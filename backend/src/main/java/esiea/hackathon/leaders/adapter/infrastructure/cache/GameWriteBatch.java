@@ -0,0 +1,141 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
+import esiea.hackathon.leaders.domain.model.enums.AiDifficulty;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.model.enums.GameMode;
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.model.enums.VictoryType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Lignes à écrire en base pour une ou plusieurs parties, au format des tables.
+ * C'est aussi le format d'une entrée du journal (une ligne JSON par validation).
+ */
+public record GameWriteBatch(List<GameRow> games, List<PieceRow> pieces, List<PieceRow> deletedPieces,
+        List<CardRow> cards, List<ActionRow> actions) {
+
+    public static final GameWriteBatch EMPTY = new GameWriteBatch(List.of(), List.of(), List.of(), List.of(),
+            List.of());
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return games.size() + pieces.size() + deletedPieces.size() + cards.size() + actions.size();
+    }
+
+    /**
+     * Fusionne des lots dans l'ordre : pour une même ligne, la dernière version
+     * gagne ; une pièce supprimée n'est plus écrite.
+     */
+    public static GameWriteBatch merge(Collection<GameWriteBatch> batches) {
+        Map<UUID, GameRow> games = new LinkedHashMap<>();
+        Map<UUID, PieceRow> pieces = new LinkedHashMap<>();
+        Map<UUID, PieceRow> deleted = new LinkedHashMap<>();
+        Map<UUID, CardRow> cards = new LinkedHashMap<>();
+        Map<UUID, ActionRow> actions = new LinkedHashMap<>();
+        for (GameWriteBatch batch : batches) {
+            batch.games.forEach(row -> games.put(row.id(), row));
+            for (PieceRow row : batch.pieces) {
+                pieces.put(row.id(), row);
+                deleted.remove(row.id());
+            }
+            for (PieceRow row : batch.deletedPieces) {
+                pieces.remove(row.id());
+                deleted.put(row.id(), row);
+            }
+            batch.cards.forEach(row -> cards.put(row.id(), row));
+            batch.actions.forEach(row -> actions.putIfAbsent(row.id(), row));
+        }
+        return new GameWriteBatch(List.copyOf(games.values()), List.copyOf(pieces.values()),
+                List.copyOf(deleted.values()), List.copyOf(cards.values()), List.copyOf(actions.values()));
+    }
+
+    /** Découpe le lot par partie (pour isoler une partie dont l'écriture échoue). */
+    public Map<UUID, GameWriteBatch> byGame() {
+        Set<UUID> gameIds = new LinkedHashSet<>();
+        games.forEach(row -> gameIds.add(row.id()));
+        pieces.forEach(row -> gameIds.add(row.gameId()));
+        deletedPieces.forEach(row -> gameIds.add(row.gameId()));
+        cards.forEach(row -> gameIds.add(row.gameId()));
+        actions.forEach(row -> gameIds.add(row.gameId()));
+
+        Map<UUID, GameWriteBatch> result = new LinkedHashMap<>();
+        for (UUID gameId : gameIds) {
+            result.put(gameId, new GameWriteBatch(of(games, GameRow::id, gameId),
+                    of(pieces, PieceRow::gameId, gameId), of(deletedPieces, PieceRow::gameId, gameId),
+                    of(cards, CardRow::gameId, gameId), of(actions, ActionRow::gameId, gameId)));
+        }
+        return result;
+    }
+
+    private static <T> List<T> of(List<T> rows, Function<T, UUID> gameId, UUID id) {
+        return rows.stream().filter(row -> id.equals(gameId.apply(row))).toList();
+    }
+
+    // --- Lignes (colonnes des tables game, piece, recruitment_card, game_action) ---
+
+    public record GameRow(UUID id, GameMode mode, GameStatus status, GamePhase phase, int currentPlayerIndex,
+            int turnNumber, Integer winnerPlayerIndex, VictoryType winnerVictoryType, int banishmentCount,
+            int recruitmentCount, int remainingTimeP0, int remainingTimeP1, LocalDateTime lastTimerUpdate,
+            Integer eloChangeP0, Integer eloChangeP1, Integer scenarioId, AiDifficulty aiDifficulty) {
+
+        static GameRow of(GameEntity game) {
+            return new GameRow(game.getId(), game.getMode(), game.getStatus(), game.getPhase(),
+                    game.getCurrentPlayerIndex(), game.getTurnNumber(), game.getWinnerPlayerIndex(),
+                    game.getWinnerVictoryType(), game.getBanishmentCount(), game.getRecruitmentCount(),
+                    game.getRemainingTimeP0(), game.getRemainingTimeP1(), game.getLastTimerUpdate(),
+                    game.getEloChangeP0(), game.getEloChangeP1(), game.getScenarioId(), game.getAiDifficulty());
+        }
+    }
+
+    public record PieceRow(UUID id, UUID gameId, String characterId, Short ownerIndex, Short q, Short r,
+            Boolean hasActedThisTurn) {
+
+        static PieceRow of(PieceEntity piece) {
+            return new PieceRow(piece.getId(), piece.getGameId(), piece.getCharacterId(), piece.getOwnerIndex(),
+                    piece.getQ(), piece.getR(), piece.getHasActedThisTurn());
+        }
+    }
+
+    public record CardRow(UUID id, UUID gameId, String characterId, CardState state, Integer deckOrder,
+            Integer visibleSlot, Integer recruitedByIndex, Integer bannedByIndex) {
+
+        static CardRow of(UUID gameId, RecruitmentCardEntity card) {
+            return new CardRow(card.getId(), gameId,
+                    card.getCharacter() != null ? card.getCharacter().getId() : null, card.getState(),
+                    card.getDeckOrder(), card.getVisibleSlot(), card.getRecruitedByIndex(), card.getBannedByIndex());
+        }
+    }
+
+    public record ActionRow(UUID id, UUID gameId, int turnNumber, int playerIndex, int actionOrder,
+            ActionType actionType, UUID pieceId, Integer fromQ, Integer fromR, Integer toQ, Integer toR,
+            UUID targetPieceId, String abilityId, String characterId, LocalDateTime createdAt) {
+
+        static ActionRow of(UUID gameId, GameActionEntity action) {
+            return new ActionRow(action.getId(), gameId, action.getTurnNumber(), action.getPlayerIndex(),
+                    action.getActionOrder(), action.getActionType(), action.getPieceId(), action.getFromQ(),
+                    action.getFromR(), action.getToQ(), action.getToR(), action.getTargetPieceId(),
+                    action.getAbility() != null ? action.getAbility().getId() : null,
+                    action.getCharacter() != null ? action.getCharacter().getId() : null, action.getCreatedAt());
+        }
+    }
+}
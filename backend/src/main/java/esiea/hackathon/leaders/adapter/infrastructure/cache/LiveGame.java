@@ -0,0 +1,313 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * État d'une partie en cours, seule source de vérité tant qu'elle est en
+ * mémoire. Tous les accès se font sous {@link #lock} ; les objets rendus sont
+ * des copies, comme ceux lus en base. Les changements depuis la dernière
+ * validation sont suivis pour produire l'entrée de journal correspondante.
+ */
+final class LiveGame {
+
+    final UUID id;
+    final ReentrantLock lock = new ReentrantLock();
+
+    private GameEntity game; // Sans pièces, cartes ni actions
+    private Map<UUID, PieceEntity> pieces = new LinkedHashMap<>();
+    private Map<UUID, RecruitmentCardEntity> cards = new LinkedHashMap<>();
+    private final List<GameActionEntity> actions = new ArrayList<>(); // Ajout seulement
+    private int lastActionOrder;
+
+    // Changements non validés
+    private Changes changes = new Changes();
+    private final Deque<Snapshot> scopes = new ArrayDeque<>();
+
+    boolean evicted;
+    long lastAccessNanos = System.nanoTime();
+    long lastCommitSeq;
+
+    LiveGame(GameEntity game, List<PieceEntity> pieces, List<RecruitmentCardEntity> cards) {
+        this.id = game.getId();
+        this.game = copy(game);
+        this.game.setPieces(null);
+        this.game.setCards(null);
+        this.game.setActions(null);
+        if (game.getActions() != null) {
+            game.getActions().forEach(action -> actions.add(copy(action)));
+            actions.sort(Comparator.comparingInt(GameActionEntity::getActionOrder));
+        }
+        lastActionOrder = Math.max(game.getActionCount(),
+                actions.isEmpty() ? 0 : actions.get(actions.size() - 1).getActionOrder());
+        pieces.forEach(piece -> this.pieces.put(piece.getId(), copy(piece)));
+        cards.forEach(card -> this.cards.put(card.getId(), copy(card)));
+    }
+
+    // --- Lecture ---
+
+    GameEntity game() {
+        GameEntity copy = copy(game);
+        copy.setPieces(pieces());
+        copy.setCards(cards());
+        copy.setActionCount(lastActionOrder); // L'historique se lit par curseur : cf. actionsSince
+        return copy;
+    }
+
+    /** Au plus {@code limit} actions d'ordre supérieur à {@code afterOrder}. */
+    List<GameActionEntity> actionsSince(int afterOrder, int limit) {
+        // Les ordres sont croissants : recherche de la première action après le curseur
+        int low = 0;
+        int high = actions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (actions.get(mid).getActionOrder() <= afterOrder)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        List<GameActionEntity> result = new ArrayList<>();
+        for (int i = low; i < actions.size() && result.size() < limit; i++)
+            result.add(copy(actions.get(i)));
+        return result;
+    }
+
+    boolean inProgress() {
+        return game.getStatus() == GameStatus.IN_PROGRESS;
+    }
+
+    List<PieceEntity> pieces() {
+        List<PieceEntity> result = new ArrayList<>(pieces.size());
+        pieces.values().forEach(piece -> result.add(copy(piece)));
+        return result;
+    }
+
+    Optional<PieceEntity> piece(UUID pieceId) {
+        return Optional.ofNullable(pieces.get(pieceId)).map(LiveGame::copy);
+    }
+
+    Set<UUID> pieceIds() {
+        return pieces.keySet();
+    }
+
+    List<RecruitmentCardEntity> cards() {
+        List<RecruitmentCardEntity> result = new ArrayList<>(cards.size());
+        cards.values().forEach(card -> result.add(copy(card)));
+        return result;
+    }
+
+    Optional<RecruitmentCardEntity> card(UUID cardId) {
+        return Optional.ofNullable(cards.get(cardId)).map(LiveGame::copy);
+    }
+
+    Set<UUID> cardIds() {
+        return cards.keySet();
+    }
+
+    // --- Écriture ---
+
+    /** L'historique n'est pas modifié ici : cf. {@link #appendAction}. */
+    GameEntity saveGame(GameEntity updated) {
+        GameEntity stored = copy(updated);
+        stored.setPlayers(game.getPlayers()); // Les joueurs ne sont pas écrits par le cache
+        stored.setActions(null);
+        stored.setPieces(null);
+        stored.setCards(null);
+        game = stored;
+        changes.game = true;
+        return game();
+    }
+
+    /** Ajoute une action à l'historique, avec le numéro d'ordre suivant. */
+    GameActionEntity appendAction(GameActionEntity action) {
+        // L'id est attribué ici, comme le ferait la base
+        action.setId(UUID.randomUUID());
+        action.setActionOrder(++lastActionOrder);
+        if (action.getCreatedAt() == null)
+            action.setCreatedAt(LocalDateTime.now());
+        GameActionEntity stored = copy(action);
+        actions.add(stored);
+        changes.actions.add(GameWriteBatch.ActionRow.of(id, stored));
+        return copy(stored);
+    }
+
+    PieceEntity savePiece(PieceEntity piece) {
+        if (piece.getId() == null)
+            piece.setId(UUID.randomUUID());
+        piece.setGameId(id);
+        pieces.put(piece.getId(), copy(piece));
+        changes.pieces.add(piece.getId());
+        changes.deletedPieces.remove(piece.getId());
+        return copy(piece);
+    }
+
+    void deletePiece(UUID pieceId) {
+        PieceEntity removed = pieces.remove(pieceId);
+        if (removed == null)
+            return;
+        changes.pieces.remove(pieceId);
+        changes.deletedPieces.put(pieceId, removed);
+    }
+
+    RecruitmentCardEntity saveCard(RecruitmentCardEntity card) {
+        if (card.getId() == null)
+            card.setId(UUID.randomUUID());
+        cards.put(card.getId(), copy(card));
+        changes.cards.add(card.getId());
+        return copy(card);
+    }
+
+    // --- Validation / annulation ---
+
+    void beginScope() {
+        // Les objets stockés ne sont jamais modifiés en place : copier les tables suffit
+        // (l'historique n'étant jamais modifié, sa taille suffit)
+        scopes.push(new Snapshot(game, new LinkedHashMap<>(pieces), new LinkedHashMap<>(cards), actions.size(),
+                lastActionOrder, changes.copy()));
+    }
+
+    /** Retourne vrai si la portée la plus externe se termine. */
+    boolean endScope() {
+        scopes.pop();
+        return scopes.isEmpty();
+    }
+
+    void rollbackScope() {
+        Snapshot snapshot = scopes.pop();
+        game = snapshot.game;
+        pieces = snapshot.pieces;
+        cards = snapshot.cards;
+        actions.subList(snapshot.actionCount, actions.size()).clear();
+        lastActionOrder = snapshot.lastActionOrder;
+        changes = snapshot.changes;
+    }
+
+    boolean inScope() {
+        return !scopes.isEmpty();
+    }
+
+    /** Lignes correspondant aux changements non validés, qui sont ensuite oubliés. */
+    GameWriteBatch drainChanges() {
+        if (changes.isEmpty())
+            return GameWriteBatch.EMPTY;
+        List<GameWriteBatch.GameRow> gameRows = changes.game ? List.of(GameWriteBatch.GameRow.of(game)) : List.of();
+        List<GameWriteBatch.PieceRow> pieceRows = changes.pieces.stream()
+                .map(pieceId -> GameWriteBatch.PieceRow.of(pieces.get(pieceId))).toList();
+        List<GameWriteBatch.PieceRow> deletedRows = changes.deletedPieces.values().stream()
+                .map(GameWriteBatch.PieceRow::of).toList();
+        List<GameWriteBatch.CardRow> cardRows = changes.cards.stream()
+                .map(cardId -> GameWriteBatch.CardRow.of(id, cards.get(cardId))).toList();
+        GameWriteBatch batch = new GameWriteBatch(gameRows, pieceRows, deletedRows, cardRows,
+                List.copyOf(changes.actions));
+        changes = new Changes();
+        return batch;
+    }
+
+    // --- Copies ---
+
+    static GameEntity copy(GameEntity game) {
+        return GameEntity.builder()
+                .id(game.getId())
+                .mode(game.getMode())
+                .status(game.getStatus())
+                .phase(game.getPhase())
+                .currentPlayerIndex(game.getCurrentPlayerIndex())
+                .turnNumber(game.getTurnNumber())
+                .winnerPlayerIndex(game.getWinnerPlayerIndex())
+                .winnerVictoryType(game.getWinnerVictoryType())
+                .banishmentCount(game.getBanishmentCount())
+                .recruitmentCount(game.getRecruitmentCount())
+                .createdAt(game.getCreatedAt())
+                .updatedAt(game.getUpdatedAt())
+                .remainingTimeP0(game.getRemainingTimeP0())
+                .remainingTimeP1(game.getRemainingTimeP1())
+                .eloChangeP0(game.getEloChangeP0())
+                .eloChangeP1(game.getEloChangeP1())
+                .lastTimerUpdate(game.getLastTimerUpdate())
+                .scenarioId(game.getScenarioId())
+                .aiDifficulty(game.getAiDifficulty())
+                .players(game.getPlayers() != null ? new ArrayList<>(game.getPlayers()) : null)
+                .build();
+    }
+
+    static PieceEntity copy(PieceEntity piece) {
+        return new PieceEntity(piece.getId(), piece.getGameId(), piece.getCharacterId(), piece.getOwnerIndex(),
+                piece.getQ(), piece.getR(), piece.getHasActedThisTurn());
+    }
+
+    static RecruitmentCardEntity copy(RecruitmentCardEntity card) {
+        return RecruitmentCardEntity.builder()
+                .id(card.getId())
+                .game(card.getGame())
+                .character(card.getCharacter())
+                .state(card.getState())
+                .deckOrder(card.getDeckOrder())
+                .visibleSlot(card.getVisibleSlot())
+                .recruitedByIndex(card.getRecruitedByIndex())
+                .bannedByIndex(card.getBannedByIndex())
+                .build();
+    }
+
+    // Sans référence vers la partie
+    private static GameActionEntity copy(GameActionEntity action) {
+        return GameActionEntity.builder()
+                .id(action.getId())
+                .turnNumber(action.getTurnNumber())
+                .playerIndex(action.getPlayerIndex())
+                .actionOrder(action.getActionOrder())
+                .actionType(action.getActionType())
+                .pieceId(action.getPieceId())
+                .fromQ(action.getFromQ())
+                .fromR(action.getFromR())
+                .toQ(action.getToQ())
+                .toR(action.getToR())
+                .targetPieceId(action.getTargetPieceId())
+                .ability(action.getAbility())
+                .character(action.getCharacter())
+                .createdAt(action.getCreatedAt())
+                .build();
+    }
+
+    private static final class Changes {
+        boolean game;
+        final Set<UUID> pieces = new LinkedHashSet<>();
+        final Map<UUID, PieceEntity> deletedPieces = new LinkedHashMap<>();
+        final Set<UUID> cards = new LinkedHashSet<>();
+        final List<GameWriteBatch.ActionRow> actions = new ArrayList<>();
+
+        boolean isEmpty() {
+            return !game && pieces.isEmpty() && deletedPieces.isEmpty() && cards.isEmpty() && actions.isEmpty();
+        }
+
+        Changes copy() {
+            Changes copy = new Changes();
+            copy.game = game;
+            copy.pieces.addAll(pieces);
+            copy.deletedPieces.putAll(deletedPieces);
+            copy.cards.addAll(cards);
+            copy.actions.addAll(actions);
+            return copy;
+        }
+    }
+
+    private record Snapshot(GameEntity game, Map<UUID, PieceEntity> pieces, Map<UUID, RecruitmentCardEntity> cards,
+            int actionCount, int lastActionOrder, Changes changes) {
+    }
+}
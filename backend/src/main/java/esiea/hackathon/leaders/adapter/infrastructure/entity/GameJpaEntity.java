@@ -42,6 +42,10 @@ public class GameJpaEntity {
     @Column(name = "recruitment_count")
     private int recruitmentCount;
 
+    // Tenu par GameActionRepository (ajout seul) : jamais réécrit avec la partie
+    @Column(name = "action_count", insertable = false, updatable = false)
+    private Integer actionCount;
+
     @Column(name = "winner_player_index")
     private Integer winnerPlayerIndex;
 
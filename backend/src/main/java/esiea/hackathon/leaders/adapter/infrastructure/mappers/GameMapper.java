@@ -51,9 +51,8 @@ public class GameMapper {
                                 .scenarioId(entity.getScenarioId())
                                 .lastTimerUpdate(entity.getLastTimerUpdate())
                                 .aiDifficulty(entity.getAiDifficulty())
-                                .actions(entity.getActions() != null ? entity.getActions().stream()
-                                                .map(GameMapper::toActionDomain)
-                                                .collect(Collectors.toList()) : null)
+                                // L'historique n'est pas chargé avec la partie : cf. GameActionRepository.findSince
+                                .actionCount(entity.getActionCount() != null ? entity.getActionCount() : 0)
                                 .build();
         }
 
@@ -94,12 +93,7 @@ public class GameMapper {
                                         .collect(Collectors.toList()));
                 }
 
-                if (domain.getActions() != null) {
-                        entity.setActions(domain.getActions().stream()
-                                        .map(a -> toActionJpa(a, entity))
-                                        .collect(Collectors.toList()));
-                }
-
+                // Les actions ne sont pas réécrites avec la partie : cf. GameActionRepository (ajout seul)
                 return entity;
         }
 
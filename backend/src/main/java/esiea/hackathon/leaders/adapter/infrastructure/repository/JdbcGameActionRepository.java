@@ -0,0 +1,131 @@
+package esiea.hackathon.leaders.adapter.infrastructure.repository;
+
+import esiea.hackathon.leaders.domain.model.AbilityEntity;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Historique des actions en ajout seul : l'ordre vient du compteur
+ * {@code game.action_count} (une ligne verrouillée, pas de lecture de
+ * l'historique) et les insertions d'une transaction partent en un seul batch
+ * JDBC juste avant sa validation. La lecture se fait par curseur
+ * ({@code action_order}) sur l'index {@code (game_id, action_order)}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcGameActionRepository implements GameActionRepository {
+
+    static final String NEXT_ORDER = "UPDATE game SET action_count = COALESCE(action_count, 0) + 1 WHERE id = ? "
+            + "RETURNING action_count";
+
+    static final String INSERT_ACTION = "INSERT INTO game_action (id, game_id, turn_number, player_index, "
+            + "action_order, action_type, piece_id, from_q, from_r, to_q, to_r, target_piece_id, ability_id, "
+            + "character_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String FIND_SINCE = "SELECT id, turn_number, player_index, action_order, action_type, piece_id, "
+            + "from_q, from_r, to_q, to_r, target_piece_id, ability_id, character_id, created_at FROM game_action "
+            + "WHERE game_id = ? AND action_order > ? ORDER BY action_order LIMIT ?";
+
+    // Seuls les ids de la capacité et du personnage sont renvoyés au client
+    private static final RowMapper<GameActionEntity> ACTION_ROW = (rs, rowNum) -> {
+        String abilityId = rs.getString("ability_id");
+        String characterId = rs.getString("character_id");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return GameActionEntity.builder()
+                .id(rs.getObject("id", UUID.class))
+                .turnNumber(rs.getInt("turn_number"))
+                .playerIndex(rs.getInt("player_index"))
+                .actionOrder(rs.getInt("action_order"))
+                .actionType(ActionType.valueOf(rs.getString("action_type")))
+                .pieceId(rs.getObject("piece_id", UUID.class))
+                .fromQ(rs.getObject("from_q", Integer.class))
+                .fromR(rs.getObject("from_r", Integer.class))
+                .toQ(rs.getObject("to_q", Integer.class))
+                .toR(rs.getObject("to_r", Integer.class))
+                .targetPieceId(rs.getObject("target_piece_id", UUID.class))
+                .ability(abilityId != null ? AbilityEntity.builder().id(abilityId).build() : null)
+                .character(characterId != null ? RefCharacterEntity.builder().id(characterId).build() : null)
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public GameActionEntity append(UUID gameId, GameActionEntity action) {
+        Integer order;
+        try {
+            order = jdbcTemplate.queryForObject(NEXT_ORDER, Integer.class, gameId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("Game not found");
+        }
+        action.setId(UUID.randomUUID());
+        action.setActionOrder(order);
+        if (action.getCreatedAt() == null)
+            action.setCreatedAt(LocalDateTime.now());
+
+        Object[] row = params(gameId, action);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            pendingInserts().rows.add(row);
+        else
+            jdbcTemplate.update(INSERT_ACTION, row);
+        return action;
+    }
+
+    @Override
+    public List<GameActionEntity> findSince(UUID gameId, int afterOrder, int limit) {
+        return jdbcTemplate.query(FIND_SINCE, ACTION_ROW, gameId, afterOrder, limit);
+    }
+
+    private PendingInserts pendingInserts() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingInserts pending && pending.owner == this)
+                return pending;
+        }
+        PendingInserts pending = new PendingInserts(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private static Object[] params(UUID gameId, GameActionEntity action) {
+        return new Object[] { action.getId(), gameId, action.getTurnNumber(), action.getPlayerIndex(),
+                action.getActionOrder(), action.getActionType() != null ? action.getActionType().name() : null,
+                action.getPieceId(), action.getFromQ(), action.getFromR(), action.getToQ(), action.getToR(),
+                action.getTargetPieceId(), action.getAbility() != null ? action.getAbility().getId() : null,
+                action.getCharacter() != null ? action.getCharacter().getId() : null,
+                Timestamp.valueOf(action.getCreatedAt()) };
+    }
+
+    /** Insertions en attente de la transaction en cours. */
+    private static final class PendingInserts implements TransactionSynchronization {
+
+        private final JdbcGameActionRepository owner;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        PendingInserts(JdbcGameActionRepository owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!rows.isEmpty())
+                owner.jdbcTemplate.batchUpdate(INSERT_ACTION, rows);
+            rows.clear();
+        }
+    }
+}
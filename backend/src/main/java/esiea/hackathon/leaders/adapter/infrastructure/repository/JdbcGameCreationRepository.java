@@ -0,0 +1,158 @@
+package esiea.hackathon.leaders.adapter.infrastructure.repository;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.repository.GameCreationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Création des parties sans passer par JPA : l'agrégat complet (partie,
+ * joueurs, pièces, cartes) est construit en mémoire puis inséré en une
+ * requête JDBC batch par table, quel que soit le nombre de parties. Les ids
+ * manquants sont attribués ici.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcGameCreationRepository implements GameCreationRepository {
+
+    static final String INSERT_GAME = "INSERT INTO game (id, mode, status, phase, current_player_index, "
+            + "turn_number, banishment_count, recruitment_count, remaining_time_p0, remaining_time_p1, "
+            + "last_timer_update, scenario_id, ai_difficulty, action_count) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_PLAYER = "INSERT INTO game_player (id, game_id, user_id, player_index, "
+            + "is_first_turn_completed) VALUES (?, ?, ?, ?, ?)";
+
+    static final String INSERT_PIECE = "INSERT INTO piece (id, game_id, character_id, owner_index, q, r, "
+            + "has_acted_this_turn) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_CARD = "INSERT INTO recruitment_card (id, game_id, character_id, state, deck_order, "
+            + "visible_slot, recruited_by_index, banned_by_index) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Seule une partie encore en réserve peut démarrer : la réserve est partagée entre les nœuds
+    static final String CLAIM_GAME = "UPDATE game SET status = 'IN_PROGRESS', last_timer_update = ?, "
+            + "ai_difficulty = ?, updated_at = NOW() WHERE id = ? AND status = 'WAITING'";
+
+    static final String DELETE_WAITING = "DELETE FROM game WHERE id = ? AND status = 'WAITING'";
+
+    static final String DELETE_WAITING_BEFORE = "DELETE FROM game WHERE status = 'WAITING' AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<GameEntity> games) {
+        List<Object[]> gameRows = new ArrayList<>(games.size());
+        List<Object[]> playerRows = new ArrayList<>();
+        List<Object[]> pieceRows = new ArrayList<>();
+        List<Object[]> cardRows = new ArrayList<>();
+        for (GameEntity game : games) {
+            if (game.getId() == null)
+                game.setId(UUID.randomUUID());
+            UUID gameId = game.getId();
+            gameRows.add(params(game));
+            for (GamePlayerEntity player : nullSafe(game.getPlayers())) {
+                if (player.getId() == null)
+                    player.setId(UUID.randomUUID());
+                playerRows.add(new Object[] { player.getId(), gameId, player.getUserId(), player.getPlayerIndex(),
+                        player.isFirstTurnCompleted() });
+            }
+            for (PieceEntity piece : nullSafe(game.getPieces())) {
+                if (piece.getId() == null)
+                    piece.setId(UUID.randomUUID());
+                piece.setGameId(gameId);
+                pieceRows.add(new Object[] { piece.getId(), gameId, piece.getCharacterId(), piece.getOwnerIndex(),
+                        piece.getQ(), piece.getR(), Boolean.TRUE.equals(piece.getHasActedThisTurn()) });
+            }
+            for (RecruitmentCardEntity card : nullSafe(game.getCards())) {
+                if (card.getId() == null)
+                    card.setId(UUID.randomUUID());
+                cardRows.add(new Object[] { card.getId(), gameId, card.getCharacter().getId(),
+                        name(card.getState()), card.getDeckOrder(), card.getVisibleSlot(),
+                        card.getRecruitedByIndex(), card.getBannedByIndex() });
+            }
+        }
+        // Parent d'abord : les autres tables référencent game(id)
+        batch(INSERT_GAME, gameRows);
+        batch(INSERT_PLAYER, playerRows);
+        batch(INSERT_PIECE, pieceRows);
+        batch(INSERT_CARD, cardRows);
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(GameEntity game) {
+        int updated = jdbcTemplate.update(CLAIM_GAME, Timestamp.valueOf(game.getLastTimerUpdate()),
+                name(game.getAiDifficulty()), game.getId());
+        if (updated == 0)
+            return false;
+        List<Object[]> playerRows = new ArrayList<>();
+        for (GamePlayerEntity player : nullSafe(game.getPlayers())) {
+            if (player.getId() == null)
+                player.setId(UUID.randomUUID());
+            playerRows.add(new Object[] { player.getId(), game.getId(), player.getUserId(), player.getPlayerIndex(),
+                    player.isFirstTurnCompleted() });
+        }
+        batch(INSERT_PLAYER, playerRows);
+        return true;
+    }
+
+    @Override
+    public List<UUID> findWaiting(Collection<UUID> gameIds) {
+        if (gameIds.isEmpty())
+            return List.of();
+        String placeholders = String.join(", ", Collections.nCopies(gameIds.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT id FROM game WHERE status = 'WAITING' AND id IN (" + placeholders
+                + ")", UUID.class, gameIds.toArray());
+    }
+
+    @Override
+    public int deleteWaiting(Collection<UUID> gameIds) {
+        if (gameIds.isEmpty())
+            return 0;
+        int deleted = 0;
+        for (int count : jdbcTemplate.batchUpdate(DELETE_WAITING,
+                gameIds.stream().map(id -> new Object[] { id }).toList()))
+            deleted += Math.max(0, count);
+        return deleted;
+    }
+
+    @Override
+    public int deleteWaitingCreatedBefore(LocalDateTime date) {
+        return jdbcTemplate.update(DELETE_WAITING_BEFORE, Timestamp.valueOf(date));
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty())
+            jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static Object[] params(GameEntity game) {
+        return new Object[] { game.getId(), name(game.getMode()), name(game.getStatus()), name(game.getPhase()),
+                game.getCurrentPlayerIndex(), game.getTurnNumber(), game.getBanishmentCount(),
+                game.getRecruitmentCount(), game.getRemainingTimeP0(), game.getRemainingTimeP1(),
+                game.getLastTimerUpdate() != null ? Timestamp.valueOf(game.getLastTimerUpdate()) : null,
+                game.getScenarioId(), name(game.getAiDifficulty()), game.getActionCount() };
+    }
+
+    private static <T> List<T> nullSafe(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,116 @@
+package esiea.hackathon.leaders.adapter.infrastructure.repository;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.model.enums.VictoryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * État affichable d'une partie en une requête : la partie, ses joueurs, ses
+ * pièces et la rivière (cartes visibles), une ligne par élément, lus sans
+ * passer par les entités JPA. Ni le deck ni l'historique ne sont lus.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcGameStateProjection {
+
+    static final String FIND_STATE = "SELECT g.id, g.status, g.phase, g.current_player_index, g.turn_number, "
+            + "g.winner_player_index, g.winner_victory_type, g.recruitment_count, g.remaining_time_p0, "
+            + "g.remaining_time_p1, g.last_timer_update, g.elo_change_p0, g.elo_change_p1, g.action_count, "
+            + "x.kind, x.item_id, x.character_id, x.idx, x.q, x.r, x.has_acted "
+            + "FROM game g LEFT JOIN LATERAL ("
+            + "SELECT 1 AS kind, p.user_id AS item_id, CAST(NULL AS VARCHAR) AS character_id, "
+            + "p.player_index AS idx, CAST(NULL AS SMALLINT) AS q, CAST(NULL AS SMALLINT) AS r, "
+            + "CAST(NULL AS BOOLEAN) AS has_acted FROM game_player p WHERE p.game_id = g.id "
+            + "UNION ALL SELECT 2, pc.id, pc.character_id, pc.owner_index, pc.q, pc.r, pc.has_acted_this_turn "
+            + "FROM piece pc WHERE pc.game_id = g.id "
+            + "UNION ALL SELECT 3, c.id, c.character_id, c.visible_slot, NULL, NULL, NULL "
+            + "FROM recruitment_card c WHERE c.game_id = g.id AND c.state = 'VISIBLE'"
+            + ") x ON TRUE WHERE g.id = ? ORDER BY x.kind, x.idx";
+
+    private static final int PLAYER = 1;
+    private static final int PIECE = 2;
+    private static final int CARD = 3;
+
+    private static final ResultSetExtractor<GameEntity> STATE = rs -> {
+        GameEntity game = null;
+        while (rs.next()) {
+            if (game == null)
+                game = game(rs);
+            int kind = rs.getInt("kind");
+            if (rs.wasNull())
+                continue;
+            UUID itemId = rs.getObject("item_id", UUID.class);
+            if (kind == PLAYER) {
+                game.getPlayers().add(GamePlayerEntity.builder()
+                        .userId(itemId)
+                        .playerIndex(rs.getInt("idx"))
+                        .build());
+            } else if (kind == PIECE) {
+                game.getPieces().add(PieceEntity.builder()
+                        .id(itemId)
+                        .gameId(game.getId())
+                        .characterId(rs.getString("character_id"))
+                        .ownerIndex(rs.getShort("idx"))
+                        .q(rs.getShort("q"))
+                        .r(rs.getShort("r"))
+                        .hasActedThisTurn(rs.getBoolean("has_acted"))
+                        .build());
+            } else if (kind == CARD) {
+                game.getCards().add(RecruitmentCardEntity.builder()
+                        .id(itemId)
+                        .character(RefCharacterEntity.builder().id(rs.getString("character_id")).build())
+                        .state(CardState.VISIBLE)
+                        .visibleSlot(rs.getObject("idx", Integer.class))
+                        .build());
+            }
+        }
+        return game;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<GameEntity> findState(UUID gameId) {
+        return Optional.ofNullable(jdbcTemplate.query(FIND_STATE, STATE, gameId));
+    }
+
+    private static GameEntity game(ResultSet rs) throws SQLException {
+        String victoryType = rs.getString("winner_victory_type");
+        Timestamp lastTimerUpdate = rs.getTimestamp("last_timer_update");
+        return GameEntity.builder()
+                .id(rs.getObject("id", UUID.class))
+                .status(GameStatus.valueOf(rs.getString("status")))
+                .phase(GamePhase.valueOf(rs.getString("phase")))
+                .currentPlayerIndex(rs.getInt("current_player_index"))
+                .turnNumber(rs.getInt("turn_number"))
+                .winnerPlayerIndex(rs.getObject("winner_player_index", Integer.class))
+                .winnerVictoryType(victoryType != null ? VictoryType.valueOf(victoryType) : null)
+                .recruitmentCount(rs.getInt("recruitment_count"))
+                .remainingTimeP0(rs.getInt("remaining_time_p0"))
+                .remainingTimeP1(rs.getInt("remaining_time_p1"))
+                .lastTimerUpdate(lastTimerUpdate != null ? lastTimerUpdate.toLocalDateTime() : null)
+                .eloChangeP0(rs.getObject("elo_change_p0", Integer.class))
+                .eloChangeP1(rs.getObject("elo_change_p1", Integer.class))
+                .actionCount(rs.getInt("action_count"))
+                .players(new ArrayList<>())
+                .pieces(new ArrayList<>())
+                .cards(new ArrayList<>())
+                .build();
+    }
+}
@@ -3,10 +3,12 @@ package esiea.hackathon.leaders.adapter.infrastructure.repository;
 import esiea.hackathon.leaders.adapter.infrastructure.entity.GameJpaEntity;
 import esiea.hackathon.leaders.adapter.infrastructure.mappers.GameMapper;
 import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +17,7 @@ import java.util.UUID;
 public class JpaGameRepository implements GameRepository {
 
     private final SpringGameRepository jpaRepository;
+    private final JdbcGameStateProjection stateProjection;
 
     @Override
     public Optional<GameEntity> findById(UUID id) {
@@ -22,6 +25,11 @@ public class JpaGameRepository implements GameRepository {
                 .map(GameMapper::toDomain);
     }
 
+    @Override
+    public Optional<GameEntity> findStateById(UUID id) {
+        return stateProjection.findState(id);
+    }
+
     @Override
     public GameEntity save(GameEntity game) {
         // 1. Conversion Domaine -> JPA
@@ -33,4 +41,9 @@ public class JpaGameRepository implements GameRepository {
         // 3. Retour en Domaine
         return GameMapper.toDomain(savedEntity);
     }
+
+    @Override
+    public List<UUID> findIdsByStatus(GameStatus status) {
+        return jpaRepository.findIdsByStatus(status);
+    }
 }
\ No newline at end of file
@@ -6,7 +6,10 @@ import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,4 +38,13 @@ public class JpaRefCharacterRepository implements RefCharacterRepository {
                 .map(RefCharacterMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /** Personnages de chaque scénario (ids), pour le chargement du cache de référence. */
+    public Map<Integer, List<String>> findAllScenarioCharacterIds() {
+        Map<Integer, List<String>> result = new LinkedHashMap<>();
+        for (Object[] row : springRepository.findAllScenarioCharacterIds()) {
+            result.computeIfAbsent(((Number) row[0]).intValue(), id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package esiea.hackathon.leaders.adapter.infrastructure.repository;
 
 import esiea.hackathon.leaders.adapter.infrastructure.entity.GameJpaEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface SpringGameRepository extends JpaRepository<GameJpaEntity, UUID> {
+    @Query("SELECT g.id FROM GameJpaEntity g WHERE g.status = :status")
+    List<UUID> findIdsByStatus(@Param("status") GameStatus status);
 }
@@ -11,4 +11,8 @@ import java.util.List;
 interface SpringRefCharacterRepository extends JpaRepository<RefCharacterJpaEntity, String> {
     @Query(value = "SELECT c.* FROM ref_character c JOIN scenario_character sc ON c.id = sc.character_id WHERE sc.scenario_id = :scenarioId", nativeQuery = true)
     List<RefCharacterJpaEntity> findByScenarioId(@Param("scenarioId") Integer scenarioId);
+
+    // Lignes (scenario_id, character_id) de toute la table
+    @Query(value = "SELECT sc.scenario_id, sc.character_id FROM scenario_character sc ORDER BY sc.scenario_id, sc.character_id", nativeQuery = true)
+    List<Object[]> findAllScenarioCharacterIds();
 }
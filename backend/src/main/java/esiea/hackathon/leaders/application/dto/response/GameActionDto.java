@@ -6,6 +6,7 @@ import java.util.UUID;
 public record GameActionDto(
         int turnNumber,
         int playerIndex,
+        int actionOrder,
         ActionType actionType,
         UUID pieceId,
         Integer fromQ,
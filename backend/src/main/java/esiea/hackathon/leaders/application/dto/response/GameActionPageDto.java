@@ -0,0 +1,14 @@
+package esiea.hackathon.leaders.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Page de l'historique d'une partie : {@code nextCursor} est le dernier
+ * {@code actionOrder} renvoyé (le curseur de départ si la page est vide), à
+ * repasser en {@code since} pour la page suivante.
+ */
+public record GameActionPageDto(
+        List<GameActionDto> actions,
+        int nextCursor,
+        boolean hasMore) {
+}
@@ -0,0 +1,48 @@
+package esiea.hackathon.leaders.application.dto.response;
+
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.model.enums.VictoryType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changements entre deux versions de l'état d'une partie ({@code baseVersion}
+ * -> {@code version}). Les champs simples sont toujours présents ; les listes
+ * ne contiennent que ce qui a changé ({@code players} est null s'ils n'ont pas
+ * changé). Un client dont la version n'est pas {@code baseVersion} redemande
+ * l'état complet. {@code newActions} contient les actions d'ordre supérieur
+ * au curseur précédent (au plus une page) : si la dernière n'atteint pas
+ * {@code lastActionOrder}, le client lit la suite sur
+ * {@code GET /api/games/{id}/actions?since=}.
+ */
+public record GameStateDeltaDto(
+                String type,
+                UUID gameId,
+                long baseVersion,
+                long version,
+                GameStatus status,
+                GamePhase currentPhase,
+                int currentPlayerIndex,
+                int turnNumber,
+                boolean hasRecruitedThisTurn,
+                Integer winnerPlayerIndex,
+                VictoryType winnerVictoryType,
+                int remainingTimeP0,
+                int remainingTimeP1,
+                LocalDateTime lastTimerUpdate,
+                Integer eloChangeP0,
+                Integer eloChangeP1,
+
+                List<PieceDto> changedPieces,
+                List<UUID> removedPieceIds,
+                List<CardDto> changedRiver,
+                List<UUID> removedRiverCardIds,
+                List<PlayerDto> players,
+                int lastActionOrder,
+                List<GameActionDto> newActions) {
+
+        public static final String TYPE = "DELTA";
+}
@@ -25,5 +25,16 @@ public record GameStateDto(
                 List<PieceDto> pieces,
                 List<CardDto> river,
                 List<PlayerDto> players,
-                List<GameActionDto> actions) {
+                // Curseur de l'historique (dernier actionOrder) : cf. GET /api/games/{id}/actions?since=
+                int lastActionOrder,
+
+                // Version de l'état diffusé sur /topic/game/{id} (0 hors WebSocket)
+                long version) {
+
+        public GameStateDto withVersion(long version) {
+                return new GameStateDto(gameId, status, currentPhase, currentPlayerIndex, turnNumber,
+                                hasRecruitedThisTurn, winnerPlayerIndex, winnerVictoryType, remainingTimeP0,
+                                remainingTimeP1, lastTimerUpdate, eloChangeP0, eloChangeP1, pieces, river, players,
+                                lastActionOrder, version);
+        }
 }
\ No newline at end of file
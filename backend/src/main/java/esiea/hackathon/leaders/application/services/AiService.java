@@ -1,5 +1,14 @@
 package esiea.hackathon.leaders.application.services;
 
+import esiea.hackathon.leaders.application.services.ai.AiTurnScheduler;
+import esiea.hackathon.leaders.application.services.ai.AlphaBetaSearch;
+import esiea.hackathon.leaders.application.services.ai.MctsSearch;
+import esiea.hackathon.leaders.application.services.ai.PlayoutRiver;
+import esiea.hackathon.leaders.application.services.ai.SearchBoard;
+import esiea.hackathon.leaders.application.services.ai.SearchMove;
+import esiea.hackathon.leaders.application.services.ai.SearchResult;
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.GameEntity;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
@@ -8,8 +17,9 @@ import esiea.hackathon.leaders.domain.model.enums.CardState;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import esiea.hackathon.leaders.domain.repository.RecruitmentCardRepository;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementCounter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,13 +37,18 @@ public class AiService {
     private final GameRepository gameRepository;
     private final PieceRepository pieceRepository;
     private final MovementService movementService;
+    private final MoveGenerator moveGenerator;
     private final GameService gameService;
     private final GameQueryService gameQueryService;
     private final ActionService actionService;
     private final RecruitmentService recruitmentService;
     private final RecruitmentCardRepository cardRepository;
-    private final org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
+    private final GameStateBroadcaster broadcaster;
     private final AiSimulationService aiSimulationService;
+    private final AlphaBetaSearch alphaBetaSearch;
+    private final MctsSearch mctsSearch;
+    private final AiTurnScheduler turnScheduler;
+    private final SqlStatementCounter sqlStatements;
 
     @org.springframework.context.annotation.Lazy
     @org.springframework.beans.factory.annotation.Autowired
@@ -73,11 +88,27 @@ public class AiService {
         }
     }
 
-    @Async
+    /**
+     * Le tour est joué d'un bloc en tâche de fond ; les états intermédiaires sont
+     * ensuite diffusés à la cadence de l'animation par l'AiTurnScheduler.
+     */
     public void playTurn(UUID gameId) {
+        turnScheduler.playTurn(() -> {
+            // Requêtes SQL du tour comptées à part des requêtes HTTP
+            SqlStatementCounter.Measure measure = sqlStatements.begin();
+            try {
+                return planTurn(gameId);
+            } finally {
+                sqlStatements.end(measure, "AI turn");
+            }
+        }, state -> broadcaster.publish(state));
+    }
+
+    /** Joue tout le tour et retourne l'état de la partie après chaque étape. */
+    List<esiea.hackathon.leaders.application.dto.response.GameStateDto> planTurn(UUID gameId) {
+        List<esiea.hackathon.leaders.application.dto.response.GameStateDto> steps = new ArrayList<>();
         try {
             System.out.println("AI IS THINKING for game: " + gameId);
-            Thread.sleep(1000);
 
             // 1. Actions Loop (Move / Attack)
             int actionCount = 0;
@@ -87,7 +118,7 @@ public class AiService {
                     break;
                 }
                 actionCount++;
-                Thread.sleep(800); // Animation delay
+                snapshot(gameId, steps);
             }
 
             // 2. Recruitment
@@ -98,23 +129,25 @@ public class AiService {
                     break;
                 }
                 recruitAttempts++;
-                Thread.sleep(800);
+                snapshot(gameId, steps);
             }
 
             // 3. End Turn
-            self.endAiTurn(gameId);
+            if (self.endAiTurn(gameId)) {
+                snapshot(gameId, steps);
+            }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.err.println("AI Critical Error: " + e.getMessage());
             e.printStackTrace();
             // Try to force end turn to avoid blocking game
             try {
                 gameService.endTurn(gameId);
+                snapshot(gameId, steps);
             } catch (Exception ex) {
                 /* ignored */ }
         }
+        return steps;
     }
 
     @Transactional
@@ -139,6 +172,20 @@ public class AiService {
             return false;
         }
 
+        // EXPERT : recherche alpha-bêta, MASTER : MCTS ; l'heuristique reste le repli
+        if (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.EXPERT
+                && performSearchAction(gameId, allPieces)) {
+            return true;
+        }
+        if (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.MASTER
+                && performMctsAction(gameId, allPieces)) {
+            return true;
+        }
+
+        // Photo du plateau pour la génération de coups (aucun accès base dans la boucle)
+        BoardState board = BoardState.fromPieces(allPieces);
+        int[] moveBuffer = new int[MoveGenerator.MAX_MOVES];
+
         // HEURISTICS
         Move bestMove = null;
         double bestScore = -Double.MAX_VALUE;
@@ -146,8 +193,10 @@ public class AiService {
         for (PieceEntity piece : myPieces) {
             // A. Check Standard Moves
             try {
-                List<HexCoord> validMoves = movementService.getValidMovesForPiece(piece.getId());
-                for (HexCoord dest : validMoves) {
+                int cell = HexBitboards.cellIndex(piece.getQ(), piece.getR());
+                int moveCount = moveGenerator.generate(board, cell, moveBuffer);
+                for (int i = 0; i < moveCount; i++) {
+                    HexCoord dest = HexBitboards.coord(moveBuffer[i]);
                     double score = evaluateOmegaMove(piece, dest, allPieces, enemyPieces, difficulty);
 
                     if (score > bestScore) {
@@ -167,7 +216,7 @@ public class AiService {
                                 && distance(piece.getQ(), piece.getR(), enemy.getQ(), enemy.getR()) > 1
                                 && esiea.hackathon.leaders.domain.utils.HexUtils.isPathClear(
                                         new HexCoord(piece.getQ(), piece.getR()),
-                                        new HexCoord(enemy.getQ(), enemy.getR()), allPieces)) {
+                                        new HexCoord(enemy.getQ(), enemy.getR()), board)) {
                             double score = evaluateOmegaMove(piece,
                                     new HexCoord((short) enemy.getQ(), (short) enemy.getR()), allPieces, enemyPieces,
                                     difficulty);
@@ -186,14 +235,14 @@ public class AiService {
                         if (dist > 1 && dist <= 3 && isInLoS(piece, enemy)
                                 && esiea.hackathon.leaders.domain.utils.HexUtils.isPathClear(
                                         new HexCoord(piece.getQ(), piece.getR()),
-                                        new HexCoord(enemy.getQ(), enemy.getR()), allPieces)) {
+                                        new HexCoord(enemy.getQ(), enemy.getR()), board)) {
 
                             int dirQ = (enemy.getQ() - piece.getQ()) / dist;
                             int dirR = (enemy.getR() - piece.getR()) / dist;
                             HexCoord pullDest = new HexCoord((short) (piece.getQ() + dirQ),
                                     (short) (piece.getR() + dirR));
 
-                            if (isCellEmpty(pullDest, allPieces)) {
+                            if (!board.isOccupied(pullDest)) {
                                 // MODE 2: MOVE (Grappler moves to pullDest)
                                 double scoreMove = evaluateOmegaMove(piece, pullDest, allPieces, enemyPieces,
                                         difficulty);
@@ -233,7 +282,7 @@ public class AiService {
                     }
                     Collections.shuffle(candidates);
                     for (HexCoord d : candidates) {
-                        if (isCellEmpty(d, allPieces) && enemyPieces.stream()
+                        if (!board.isOccupied(d) && enemyPieces.stream()
                                 .noneMatch(e -> distance(d.q(), d.r(), e.getQ(), e.getR()) == 1)) {
                             double score = evaluateOmegaMove(piece, d, allPieces, enemyPieces, difficulty);
                             score += 80.0;
@@ -251,7 +300,7 @@ public class AiService {
                             int dirR = enemy.getR() - piece.getR();
                             HexCoord pushDest = new HexCoord((short) (enemy.getQ() + dirQ),
                                     (short) (enemy.getR() + dirR));
-                            if (pushDest.isValid() && isCellEmpty(pushDest, allPieces)) {
+                            if (pushDest.isValid() && !board.isOccupied(pushDest)) {
                                 double score = evaluateOmegaMove(piece,
                                         new HexCoord((short) enemy.getQ(), (short) enemy.getR()), allPieces,
                                         enemyPieces, difficulty);
@@ -271,7 +320,7 @@ public class AiService {
                     for (PieceEntity ally : allies) {
                         if (distance(piece.getQ(), piece.getR(), ally.getQ(), ally.getR()) == 1) {
                             for (HexCoord d : getAdjacentCoords(ally.getQ(), ally.getR())) {
-                                if (isCellEmpty(d, allPieces)) {
+                                if (d.isValid() && !board.isOccupied(d)) {
                                     double score = evaluateOmegaMove(piece, d, allPieces, enemyPieces, difficulty);
                                     score += 60.0;
                                     if (score > bestScore) {
@@ -291,7 +340,6 @@ public class AiService {
             log("AI ACTION: Using Ability " + bestMove.abilityId() + " with " + bestMove.piece().getCharacterId());
             actionService.useAbility(bestMove.piece().getId(), bestMove.targetId(), bestMove.abilityId(),
                     bestMove.abilityDest(), null, AI_PLAYER_ID);
-            notifyUpdate(gameId);
             return true;
         }
 
@@ -299,7 +347,6 @@ public class AiService {
             log("AI ACTION: Moving " + bestMove.piece().getCharacterId() + " to " + bestMove.dest().q() + ","
                     + bestMove.dest().r());
             movementService.movePiece(bestMove.piece().getId(), bestMove.dest().q(), bestMove.dest().r(), AI_PLAYER_ID);
-            notifyUpdate(gameId);
             return true;
         }
 
@@ -313,6 +360,56 @@ public class AiService {
         return false;
     }
 
+    private boolean performSearchAction(UUID gameId, List<PieceEntity> allPieces) {
+        SearchBoard root = SearchBoard.fromPieces(allPieces, 1);
+        SearchResult result = alphaBetaSearch.search(gameId, root);
+        log("AI SEARCH: " + SearchMove.toString(result.move()) + " score=" + result.score() + " depth="
+                + result.depth() + " nodes=" + result.nodes() + " nps="
+                + alphaBetaSearch.searchStats().lastNodesPerSecond() + " tt=" + alphaBetaSearch.transpositionStats());
+        return executeSearchMove(gameId, root, result);
+    }
+
+    private boolean performMctsAction(UUID gameId, List<PieceEntity> allPieces) {
+        SearchBoard root = SearchBoard.fromPieces(allPieces, 1);
+        PlayoutRiver river = PlayoutRiver.fromCards(cardRepository.findAllByGameId(gameId));
+        long start = System.nanoTime();
+        SearchResult result = mctsSearch.search(root, river);
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log("AI MCTS: " + SearchMove.toString(result.move()) + " winRate=" + result.score() / 10.0 + "% playouts="
+                + result.nodes() + " (" + result.nodes() * 1000 / elapsedMs + "/s)");
+        return executeSearchMove(gameId, root, result);
+    }
+
+    private boolean executeSearchMove(UUID gameId, SearchBoard root, SearchResult result) {
+        int move = result.move();
+        if (!result.hasMove() || SearchMove.kind(move) == SearchMove.PASS)
+            return false;
+
+        UUID pieceId = root.pieceIdAt(SearchMove.from(move));
+        String abilityId = SearchMove.abilityId(move);
+        if (abilityId == null) {
+            HexCoord dest = HexBitboards.coord(SearchMove.to(move));
+            movementService.movePiece(pieceId, dest.q(), dest.r(), AI_PLAYER_ID);
+        } else {
+            UUID targetId = root.pieceIdAt(SearchMove.target(move));
+            HexCoord dest = null;
+            HexCoord secondaryDest = null;
+            switch (SearchMove.kind(move)) {
+                case SearchMove.HOOK -> dest = HexBitboards.coord(SearchMove.to(move));
+                case SearchMove.PUSH -> {
+                    dest = HexBitboards.coord(SearchMove.target(move));
+                    secondaryDest = HexBitboards.coord(SearchMove.targetDest(move));
+                }
+                case SearchMove.MANIPULATE, SearchMove.ASSIST -> dest = HexBitboards.coord(SearchMove.targetDest(move));
+                default -> {
+                    // SWAP / PULL : aucune destination
+                }
+            }
+            actionService.useAbility(pieceId, targetId, abilityId, dest, secondaryDest, AI_PLAYER_ID);
+        }
+        return true;
+    }
+
     private List<HexCoord> getAdjacentCoords(short q, short r) {
         List<HexCoord> list = new ArrayList<>();
         list.add(new HexCoord((short) (q + 1), r));
@@ -324,10 +421,6 @@ public class AiService {
         return list;
     }
 
-    private boolean isCellEmpty(HexCoord c, List<PieceEntity> pieces) {
-        return pieces.stream().noneMatch(p -> p.getQ() == c.q() && p.getR() == c.r());
-    }
-
     @Transactional
     public boolean performRecruitment(UUID gameId) {
         GameEntity game = gameRepository.findById(gameId).orElse(null);
@@ -362,8 +455,9 @@ public class AiService {
 
         // Pick card logic
         RecruitmentCardEntity cardToBuy;
-        if (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.EXPERT) {
-            // EXPERT: Prioritize high value characters + aggressive deck building
+        if (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.EXPERT
+                || difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.MASTER) {
+            // EXPERT / MASTER: Prioritize high value characters + aggressive deck building
             cardToBuy = visibleCards.stream()
                     .max((c1, c2) -> {
                         double v1 = getPieceValue(c1.getCharacter().getId());
@@ -380,7 +474,8 @@ public class AiService {
         // Check if max units reached
         long myUnitCount = pieceRepository.findByGameId(gameId).stream().filter(p -> p.getOwnerIndex() == 1).count();
         // Expert AI needs 6 total pieces (1 leader + 5 units)
-        int maxUnits = (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.EXPERT) ? 6 : 5;
+        int maxUnits = (difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.EXPERT
+                || difficulty == esiea.hackathon.leaders.domain.model.enums.AiDifficulty.MASTER) ? 6 : 5;
         if (myUnitCount >= maxUnits) {
             log("DEBUG: AI cannot recruit (Max units reached: " + myUnitCount + ")");
             return false;
@@ -411,7 +506,6 @@ public class AiService {
 
             log("AI Recruiting: " + cardToBuy.getCharacter().getId() + " at " + placements);
             recruitmentService.recruit(gameId, (short) 1, cardToBuy.getId(), placements);
-            notifyUpdate(gameId);
             return true;
         } catch (Exception e) {
             log("AI Recruitment failed: " + e.getMessage());
@@ -421,12 +515,13 @@ public class AiService {
     }
 
     @Transactional
-    public void endAiTurn(UUID gameId) {
+    public boolean endAiTurn(UUID gameId) {
         GameEntity game = gameRepository.findById(gameId).orElse(null);
         if (validateGame(game)) {
             gameService.endTurn(gameId);
-            notifyUpdate(gameId);
+            return true;
         }
+        return false;
     }
 
     // --- Helpers ---
@@ -458,10 +553,9 @@ public class AiService {
                 .collect(Collectors.toList());
     }
 
-    private void notifyUpdate(UUID gameId) {
+    private void snapshot(UUID gameId, List<esiea.hackathon.leaders.application.dto.response.GameStateDto> steps) {
         try {
-            esiea.hackathon.leaders.application.dto.response.GameStateDto state = gameQueryService.getGameState(gameId);
-            messagingTemplate.convertAndSend("/topic/game/" + gameId, state);
+            steps.add(gameQueryService.getGameState(gameId));
         } catch (Exception e) {
             log("Failed to notify Update from AI: " + e.getMessage());
         }
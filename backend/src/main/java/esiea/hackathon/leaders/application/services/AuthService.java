@@ -18,6 +18,7 @@ import java.util.UUID;
 public class AuthService {
 
     private final UserCredentialsRepository userCredentialsRepository;
+    private final UserProfileCache userProfileCache;
 
     public LoginResponseDto register(RegisterRequestDto request) {
         if (userCredentialsRepository.findByEmail(request.email()).isPresent()) {
@@ -70,6 +71,7 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         user.setAvatar(avatar);
         user = userCredentialsRepository.save(user);
+        userProfileCache.invalidate(userId);
         return mapToDto(user);
     }
 
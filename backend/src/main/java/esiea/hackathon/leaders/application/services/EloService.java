@@ -17,6 +17,7 @@ public class EloService {
     }
 
     private final UserCredentialsRepository userCredentialsRepository;
+    private final UserProfileCache userProfileCache;
     private static final int K_FACTOR = 32;
 
     public EloResult calculateEloDelta(int winnerElo, int loserElo) {
@@ -53,6 +54,8 @@ public class EloService {
 
             userCredentialsRepository.save(winner);
             userCredentialsRepository.save(loser);
+            userProfileCache.invalidate(winner.getId());
+            userProfileCache.invalidate(loser.getId());
 
             System.out
                     .println("ELO UPDATED: " + winner.getUsername() + " (" + winnerElo + " -> "
@@ -0,0 +1,266 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.domain.SessionRepository;
+import esiea.hackathon.leaders.domain.model.enums.AiDifficulty;
+import esiea.hackathon.leaders.domain.repository.GameCreationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Réserve de parties prêtes à jouer (deck mélangé, rivière et leaders en
+ * place, statut WAITING en base), remplie en tâche de fond par lots : une
+ * réserve pour le mode standard et une par scénario configuré.
+ *
+ * <p>L'id d'une partie est aussi celui de sa session : il est réservé à la
+ * création de la session ({@link #reserve}) et la partie démarre quand la
+ * session devient active ({@link #start}), en une mise à jour et une
+ * insertion des joueurs. Une session terminée sans adversaire rend sa partie
+ * à la réserve. Si la réserve est vide (ou la partie déjà prise), la partie
+ * est créée sur le moment : c'est un raté de la réserve.
+ */
+@Service
+public class GamePoolService {
+
+    static final String STANDARD = "standard";
+
+    // Délai avant qu'une réservation sans session soit rendue (la session est enregistrée juste après)
+    private static final long RESERVATION_GRACE_MS = 5000;
+
+    private final GameSetupService setupService;
+    private final GameCreationRepository gameCreationRepository;
+    private final SessionRepository sessionRepository;
+    private final boolean enabled;
+    private final int refillBatch;
+    private final long maxAgeMs;
+
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+    private final Map<UUID, Reservation> reserved = new ConcurrentHashMap<>();
+    private final LongAdder expired = new LongAdder();
+
+    public GamePoolService(GameSetupService setupService, GameCreationRepository gameCreationRepository,
+            SessionRepository sessionRepository,
+            @Value("${app.game.pool.enabled:true}") boolean enabled,
+            @Value("${app.game.pool.depth:32}") int depth,
+            @Value("${app.game.pool.scenario-depths:}") String scenarioDepths,
+            @Value("${app.game.pool.refill-batch:16}") int refillBatch,
+            @Value("${app.game.pool.max-age-ms:3600000}") long maxAgeMs) {
+        this.setupService = setupService;
+        this.gameCreationRepository = gameCreationRepository;
+        this.sessionRepository = sessionRepository;
+        this.enabled = enabled;
+        this.refillBatch = Math.max(1, refillBatch);
+        this.maxAgeMs = Math.max(1, maxAgeMs);
+        pools.put(STANDARD, new Pool(null, Math.max(0, depth)));
+        parseDepths(scenarioDepths).forEach((scenarioId, scenarioDepth) -> pools.put(variantOf(scenarioId),
+                new Pool(scenarioId, scenarioDepth)));
+    }
+
+    /** Réserves d'une instance arrêtée sans les avoir vidées. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeStale() {
+        if (!enabled)
+            return;
+        int deleted = gameCreationRepository
+                .deleteWaitingCreatedBefore(LocalDateTime.now().minusNanos(maxAgeMs * 1_000_000));
+        System.out.println("GAME POOL: " + deleted + " stale pooled game(s) deleted");
+    }
+
+    @PreDestroy
+    public void drain() {
+        List<UUID> ids = new ArrayList<>();
+        for (Pool pool : pools.values()) {
+            for (Entry entry; (entry = pool.ready.poll()) != null;)
+                ids.add(entry.gameId);
+        }
+        try {
+            gameCreationRepository.deleteWaiting(ids);
+        } catch (RuntimeException e) {
+            System.err.println("GAME POOL: pooled games not deleted on shutdown: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Id de la prochaine partie de la réserve, mis de côté pour une session ;
+     * un id neuf si la réserve est vide.
+     */
+    public UUID reserve(Integer scenarioId) {
+        Pool pool = pools.get(variantOf(scenarioId));
+        Entry entry = enabled && pool != null ? pool.ready.poll() : null;
+        if (entry == null)
+            return UUID.randomUUID();
+        reserved.put(entry.gameId, new Reservation(pool, entry, System.currentTimeMillis()));
+        return entry.gameId;
+    }
+
+    /**
+     * Démarre la partie {@code gameId} avec ses joueurs : la partie en réserve
+     * si elle l'est toujours, une partie créée sur le moment sinon.
+     */
+    public UUID start(UUID gameId, Integer scenarioId, List<UUID> playerIds, AiDifficulty aiDifficulty) {
+        reserved.remove(gameId);
+        return start(gameId, enabled, scenarioId, playerIds, aiDifficulty);
+    }
+
+    /** Démarre une partie de la réserve sans session (partie contre l'IA, création par l'API). */
+    public UUID startNew(Integer scenarioId, List<UUID> playerIds, AiDifficulty aiDifficulty) {
+        Pool pool = pools.get(variantOf(scenarioId));
+        Entry entry = enabled && pool != null ? pool.ready.poll() : null;
+        UUID gameId = entry != null ? entry.gameId : UUID.randomUUID();
+        return start(gameId, entry != null, scenarioId, playerIds, aiDifficulty);
+    }
+
+    private UUID start(UUID gameId, boolean pooled, Integer scenarioId, List<UUID> playerIds,
+            AiDifficulty aiDifficulty) {
+        Pool pool = pools.get(variantOf(scenarioId));
+        if (pooled && setupService.startPooledGame(gameId, playerIds, aiDifficulty)) {
+            if (pool != null)
+                pool.hits.increment();
+            return gameId;
+        }
+        if (pool != null)
+            pool.misses.increment();
+        System.out.println("GAME POOL: miss for " + variantOf(scenarioId) + ", creating game " + gameId);
+        return setupService.createGames(List.of(
+                new GameSetupService.NewGame(gameId, null, scenarioId, playerIds, aiDifficulty))).get(0);
+    }
+
+    /**
+     * Retire les parties trop anciennes, rend à la réserve les parties des
+     * sessions terminées sans adversaire, puis complète les réserves d'au plus
+     * {@code refill-batch} parties par passage.
+     */
+    @Scheduled(fixedDelayString = "${app.game.pool.refill-interval-ms:500}")
+    public void refill() {
+        if (!enabled)
+            return;
+        try {
+            expireOld();
+            releaseAbandoned();
+            int budget = refillBatch;
+            for (Pool pool : pools.values()) {
+                int missing = Math.min(budget, pool.depth - pool.ready.size());
+                if (missing <= 0)
+                    continue;
+                long now = System.currentTimeMillis();
+                for (UUID gameId : setupService.createPooledGames(pool.scenarioId, missing))
+                    pool.ready.add(new Entry(gameId, now));
+                pool.created.add(missing);
+                budget -= missing;
+                if (budget == 0)
+                    break;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("ERROR: Game pool refill failed: " + e.getMessage());
+        }
+    }
+
+    private void expireOld() {
+        long limit = System.currentTimeMillis() - maxAgeMs;
+        List<UUID> ids = new ArrayList<>();
+        for (Pool pool : pools.values()) {
+            // File à peu près dans l'ordre de création (les parties rendues repassent en queue)
+            for (Entry head; (head = pool.ready.peek()) != null && head.createdAt < limit;) {
+                if (pool.ready.remove(head))
+                    ids.add(head.gameId);
+            }
+        }
+        if (ids.isEmpty())
+            return;
+        gameCreationRepository.deleteWaiting(ids);
+        expired.add(ids.size());
+    }
+
+    private void releaseAbandoned() {
+        long graceLimit = System.currentTimeMillis() - RESERVATION_GRACE_MS;
+        Map<UUID, Reservation> released = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Reservation> reservation : reserved.entrySet()) {
+            Optional<Session> session = sessionRepository.findById(reservation.getKey().toString());
+            if (session.isEmpty()) {
+                if (reservation.getValue().reservedAt < graceLimit)
+                    released.put(reservation.getKey(), reservation.getValue());
+            } else if (session.get().getStatus() == Session.SessionStatus.FINISHED
+                    && session.get().getPlayer2() == null) {
+                released.put(reservation.getKey(), reservation.getValue());
+            } else if (session.get().getStatus() == Session.SessionStatus.ACTIVE) {
+                // Démarrée (éventuellement sur un autre nœud)
+                reserved.remove(reservation.getKey());
+            }
+        }
+        if (released.isEmpty())
+            return;
+        // Seules les parties encore en réserve en base reviennent dans la file
+        List<UUID> waiting = gameCreationRepository.findWaiting(released.keySet());
+        for (Map.Entry<UUID, Reservation> reservation : released.entrySet()) {
+            if (reserved.remove(reservation.getKey(), reservation.getValue()) && waiting.contains(reservation.getKey()))
+                reservation.getValue().pool.ready.add(reservation.getValue().entry);
+        }
+    }
+
+    public Stats stats() {
+        List<VariantStats> variants = new ArrayList<>(pools.size());
+        pools.forEach((variant, pool) -> variants.add(new VariantStats(variant, pool.depth, pool.ready.size(),
+                pool.hits.sum(), pool.misses.sum(), pool.created.sum())));
+        return new Stats(enabled, variants, reserved.size(), expired.sum());
+    }
+
+    static String variantOf(Integer scenarioId) {
+        return scenarioId == null ? STANDARD : "scenario-" + scenarioId;
+    }
+
+    // "1:8,2:4" : profondeur de réserve par scénario
+    static Map<Integer, Integer> parseDepths(String value) {
+        Map<Integer, Integer> depths = new LinkedHashMap<>();
+        if (value == null || value.isBlank())
+            return depths;
+        for (String item : value.split(",")) {
+            String[] parts = item.trim().split(":");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Invalid app.game.pool.scenario-depths entry: " + item);
+            depths.put(Integer.parseInt(parts[0].trim()), Math.max(0, Integer.parseInt(parts[1].trim())));
+        }
+        return depths;
+    }
+
+    /** Par variante : profondeur visée, parties prêtes, démarrages servis par la réserve ou non. */
+    public record Stats(boolean enabled, List<VariantStats> variants, int reserved, long expired) {
+    }
+
+    public record VariantStats(String variant, int depth, int ready, long hits, long misses, long created) {
+    }
+
+    private static final class Pool {
+        private final Integer scenarioId;
+        private final int depth;
+        private final ConcurrentLinkedQueue<Entry> ready = new ConcurrentLinkedQueue<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder created = new LongAdder();
+
+        private Pool(Integer scenarioId, int depth) {
+            this.scenarioId = scenarioId;
+            this.depth = depth;
+        }
+    }
+
+    private record Entry(UUID gameId, long createdAt) {
+    }
+
+    private record Reservation(Pool pool, Entry entry, long reservedAt) {
+    }
+}
@@ -1,13 +1,15 @@
 package esiea.hackathon.leaders.application.services;
 
 import esiea.hackathon.leaders.application.dto.response.CardDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionPageDto;
 import esiea.hackathon.leaders.application.dto.response.GameStateDto;
 import esiea.hackathon.leaders.application.dto.response.PieceDto;
 import esiea.hackathon.leaders.application.dto.response.PlayerDto;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
 import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
-import esiea.hackathon.leaders.domain.repository.PieceRepository;
-import esiea.hackathon.leaders.domain.repository.RecruitmentCardRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,22 +17,25 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class GameQueryService {
 
+        public static final int MAX_ACTIONS_PAGE = 200;
+
         private final GameRepository gameRepository;
-        private final PieceRepository pieceRepository;
-        private final RecruitmentCardRepository cardRepository;
-        private final esiea.hackathon.leaders.domain.repository.UserCredentialsRepository userCredentialsRepository;
+        private final UserProfileCache userProfileCache;
+        private final GameActionRepository gameActionRepository;
 
         @Transactional(readOnly = true)
         public GameStateDto getGameState(UUID gameId) {
-                System.out.println("DEBUG: Fetching game state for ID: " + gameId);
-                // 1. Jeu
-                GameEntity game = gameRepository.findById(gameId)
+                // 1. Jeu, joueurs, pièces et rivière en une lecture (mémoire pour une partie en cache,
+                // sinon une requête), sans deck ni historique
+                GameEntity game = gameRepository.findStateById(gameId)
                                 .orElseThrow(() -> {
                                         System.out.println("ERROR: Game not found in DB for ID: " + gameId);
                                         return new esiea.hackathon.leaders.infrastructure.exception.GameNotFoundException(
@@ -38,7 +43,7 @@ public class GameQueryService {
                                 });
 
                 // 2. Pièces
-                List<PieceDto> pieces = pieceRepository.findByGameId(gameId).stream()
+                List<PieceDto> pieces = nullSafe(game.getPieces()).stream()
                                 .map(p -> new PieceDto(
                                                 p.getId(),
                                                 p.getCharacterId(),
@@ -49,7 +54,7 @@ public class GameQueryService {
                                 .toList();
 
                 // 3. Rivière
-                List<CardDto> river = cardRepository.findAllByGameId(gameId).stream()
+                List<CardDto> river = nullSafe(game.getCards()).stream()
                                 .filter(c -> c.getState() == esiea.hackathon.leaders.domain.model.enums.CardState.VISIBLE)
                                 .map(c -> new CardDto(
                                                 c.getId(),
@@ -58,14 +63,17 @@ public class GameQueryService {
                                                 c.getVisibleSlot()))
                                 .toList();
 
-                // 4. Joueurs
+                // 4. Joueurs (profils lus en une fois, via le cache)
+                Map<UUID, UserProfileCache.UserProfile> profiles = game.getPlayers() != null
+                                ? userProfileCache.findAll(game.getPlayers().stream()
+                                                .map(p -> p.getUserId())
+                                                .filter(Objects::nonNull)
+                                                .toList())
+                                : Map.of();
                 List<PlayerDto> players = game.getPlayers() != null
                                 ? game.getPlayers().stream()
                                                 .map(p -> {
                                                         UUID userId = p.getUserId();
-                                                        System.out.println("DEBUG: Resolving player with userId: "
-                                                                        + userId + " (playerIndex: "
-                                                                        + p.getPlayerIndex() + ")");
                                                         String username = "Guest "
                                                                         + (userId != null
                                                                                         ? userId.toString().substring(0,
@@ -77,28 +85,13 @@ public class GameQueryService {
                                                         }
                                                         Integer elo = null;
                                                         String avatar = null;
-                                                        if (userId != null) {
-                                                                var user = userCredentialsRepository.findById(userId);
-                                                                if (user.isPresent()) {
-                                                                        username = user.get().getUsername();
-                                                                        elo = user.get().getElo();
-                                                                        avatar = user.get().getAvatar();
-                                                                        System.out.println(
-                                                                                        "DEBUG: Found authenticated user: "
-                                                                                                        + username
-                                                                                                        + " (ELO: "
-                                                                                                        + elo
-                                                                                                        + ", AVATAR: "
-                                                                                                        + avatar + ")");
-                                                                } else {
-                                                                        System.out.println(
-                                                                                        "DEBUG: No UserCredentials found for UUID: "
-                                                                                                        + userId);
-                                                                }
-                                                        } else {
-                                                                System.out.println(
-                                                                                "DEBUG: Player userId is NULL for index: "
-                                                                                                + p.getPlayerIndex());
+                                                        UserProfileCache.UserProfile profile = userId != null
+                                                                        ? profiles.get(userId)
+                                                                        : null;
+                                                        if (profile != null) {
+                                                                username = profile.username();
+                                                                elo = profile.elo();
+                                                                avatar = profile.avatar();
                                                         }
                                                         Integer playerEloChange = (p.getPlayerIndex() == 0)
                                                                         ? game.getEloChangeP0()
@@ -128,28 +121,7 @@ public class GameQueryService {
                         }
                 }
 
-                // 6. DTO final
-                List<esiea.hackathon.leaders.application.dto.response.GameActionDto> actions = game.getActions() != null
-                                ? game.getActions().stream()
-                                                .map(a -> new esiea.hackathon.leaders.application.dto.response.GameActionDto(
-                                                                a.getTurnNumber(),
-                                                                a.getPlayerIndex(),
-                                                                a.getActionType(),
-                                                                a.getPieceId(),
-                                                                a.getFromQ(),
-                                                                a.getFromR(),
-                                                                a.getToQ(),
-                                                                a.getToR(),
-                                                                a.getTargetPieceId(),
-                                                                a.getAbility() != null
-                                                                                ? a.getAbility().getId().toString()
-                                                                                : null,
-                                                                a.getCharacter() != null
-                                                                                ? a.getCharacter().getId().toString()
-                                                                                : null))
-                                                .toList()
-                                : List.of();
-
+                // 6. DTO final (l'historique se lit à part : cf. getActions)
                 return new GameStateDto(
                                 game.getId(),
                                 game.getStatus(),
@@ -170,6 +142,46 @@ public class GameQueryService {
                                 pieces,
                                 river,
                                 players,
-                                actions);
+                                game.getActionCount(),
+                                0);
+        }
+
+        /**
+         * Historique par curseur : au plus {@code limit} actions d'ordre
+         * strictement supérieur à {@code since} (0 pour tout relire).
+         */
+        @Transactional(readOnly = true)
+        public GameActionPageDto getActions(UUID gameId, int since, int limit) {
+                int pageSize = Math.max(1, Math.min(limit, MAX_ACTIONS_PAGE));
+                // Une action de plus que la page pour savoir s'il en reste
+                List<GameActionEntity> found = gameActionRepository.findSince(gameId, Math.max(0, since),
+                                pageSize + 1);
+                boolean hasMore = found.size() > pageSize;
+                List<GameActionDto> actions = found.stream()
+                                .limit(pageSize)
+                                .map(GameQueryService::toDto)
+                                .toList();
+                int nextCursor = actions.isEmpty() ? Math.max(0, since) : actions.get(actions.size() - 1).actionOrder();
+                return new GameActionPageDto(actions, nextCursor, hasMore);
+        }
+
+        private static <T> List<T> nullSafe(List<T> values) {
+                return values != null ? values : List.of();
+        }
+
+        private static GameActionDto toDto(GameActionEntity a) {
+                return new GameActionDto(
+                                a.getTurnNumber(),
+                                a.getPlayerIndex(),
+                                a.getActionOrder(),
+                                a.getActionType(),
+                                a.getPieceId(),
+                                a.getFromQ(),
+                                a.getFromR(),
+                                a.getToQ(),
+                                a.getToR(),
+                                a.getTargetPieceId(),
+                                a.getAbility() != null ? a.getAbility().getId() : null,
+                                a.getCharacter() != null ? a.getCharacter().getId() : null);
         }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import esiea.hackathon.leaders.domain.model.GameEntity;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.VictoryCheckResult;
 import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import esiea.hackathon.leaders.domain.SessionRepository;
@@ -25,9 +26,11 @@ public class GameService {
 
     private final GameRepository gameRepository;
     private final PieceRepository pieceRepository;
+    private final GameActionRepository gameActionRepository;
     private final VictoryService victoryService;
     private final SessionRepository sessionRepository;
     private final EloService eloService;
+    private final TurnClockService turnClock;
 
     @Transactional
     public void finishGame(UUID gameId, Integer winnerIndex,
@@ -72,6 +75,7 @@ public class GameService {
         }
 
         gameRepository.save(game);
+        turnClock.cancel(gameId);
         updateSessionStatusToFinished(gameId);
     }
 
@@ -109,7 +113,10 @@ public class GameService {
         }
 
         game.setUpdatedAt(LocalDateTime.now());
-        return gameRepository.save(game);
+        GameEntity saved = gameRepository.save(game);
+        // Échéance du joueur suivant
+        turnClock.arm(saved);
+        return saved;
     }
 
     private boolean isVsAiGame(GameEntity game) {
@@ -145,17 +152,11 @@ public class GameService {
     public void logAction(UUID gameId, esiea.hackathon.leaders.domain.model.enums.ActionType type,
             int turn, int playerIndex, UUID pieceId, Integer fQ, Integer fR,
             Integer tQ, Integer tR, UUID targetId, String abilityId, String charId) {
-        GameEntity game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
-
-        int order = (game.getActions() != null) ? game.getActions().size() + 1 : 1;
-
+        // Ajout seul : ni l'historique ni la partie ne sont rechargés
         esiea.hackathon.leaders.domain.model.GameActionEntity action = esiea.hackathon.leaders.domain.model.GameActionEntity
                 .builder()
-                .game(game)
                 .turnNumber(turn)
                 .playerIndex(playerIndex)
-                .actionOrder(order)
                 .actionType(type)
                 .pieceId(pieceId)
                 .fromQ(fQ)
@@ -172,11 +173,7 @@ public class GameService {
                         : null)
                 .build();
 
-        if (game.getActions() == null) {
-            game.setActions(new java.util.ArrayList<>());
-        }
-        game.getActions().add(action);
-        gameRepository.save(game);
+        gameActionRepository.append(gameId, action);
     }
 
     private void updateSessionStatusToFinished(UUID gameId) {
@@ -185,6 +182,7 @@ public class GameService {
             sessionRepository.findById(gameId.toString()).ifPresent(session -> {
                 if (session.getStatus() == esiea.hackathon.leaders.domain.Session.SessionStatus.ACTIVE) {
                     session.finish();
+                    sessionRepository.save(session);
                     System.out.println("DEBUG: Session " + gameId + " marked as FINISHED.");
                 }
             });
@@ -210,14 +208,9 @@ public class GameService {
         }
     }
 
-    /**
-     * Calcule le temps écoulé depuis la dernière mise à jour et le soustrait au
-     * joueur actif.
-     * Vérifie également si le temps est écoulé (Timeout).
-     */
     /**
      * Vérifie si un joueur a perdu au temps.
-     * Cette méthode est appelée à chaque polling (getGameState).
+     * Appelée par {@link TurnClockService} à l'échéance du joueur courant.
      */
     @Transactional
     public void checkTimeout(UUID gameId) {
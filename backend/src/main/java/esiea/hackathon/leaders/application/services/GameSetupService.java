@@ -1,34 +1,48 @@
 package esiea.hackathon.leaders.application.services;
 
 import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
 import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.AiDifficulty;
 import esiea.hackathon.leaders.domain.model.enums.CardState;
 import esiea.hackathon.leaders.domain.model.enums.GameMode;
 import esiea.hackathon.leaders.domain.model.enums.GamePhase;
 import esiea.hackathon.leaders.domain.model.enums.GameStatus;
-import esiea.hackathon.leaders.domain.repository.GameRepository;
-import esiea.hackathon.leaders.domain.repository.PieceRepository;
-import esiea.hackathon.leaders.domain.repository.RecruitmentCardRepository;
+import esiea.hackathon.leaders.domain.repository.GameCreationRepository;
 import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Création des parties : l'agrégat complet (partie, joueurs, deck, leaders)
+ * est construit en mémoire puis inséré en une requête batch par table
+ * ({@link GameCreationRepository}), pour une ou plusieurs parties à la fois.
+ */
 @Service
 @RequiredArgsConstructor
 public class GameSetupService {
 
-    private final GameRepository gameRepository;
+    private static final int INITIAL_TIME_SECONDS = 420;
+
+    // Deck par défaut (sans scénario)
+    private static final List<String> DEFAULT_DECK = List.of(
+            "ACROBAT", "ARCHER", "ASSASSIN", "BRAWLER", "CAVALRY",
+            "GRAPPLER", "ILLUSIONIST", "INNKEEPER", "JAILER",
+            "MANIPULATOR", "NEMESIS", "PROTECTOR",
+            "PROWLER", "ROYAL_GUARD", "VIZIER", "OLD_BEAR");
+
+    private final GameCreationRepository gameCreationRepository;
     private final RefCharacterRepository characterRepository;
-    private final RecruitmentCardRepository cardRepository;
-    private final PieceRepository pieceRepository;
+    private final TurnClockService turnClock;
 
     @Transactional
     public UUID createGame(List<String> forcedDeck, Integer scenarioId) {
@@ -37,39 +51,118 @@ public class GameSetupService {
 
     @Transactional
     public UUID createGameWithId(UUID gameId, List<String> forcedDeck, Integer scenarioId) {
+        return createGames(List.of(new NewGame(gameId, forcedDeck, scenarioId, List.of(), null))).get(0);
+    }
+
+    /** Crée une partie standard avec ses joueurs (userId par index) en un seul aller-retour par table. */
+    @Transactional
+    public UUID createGameWithPlayers(UUID gameId, List<UUID> playerIds, AiDifficulty aiDifficulty) {
+        return createGames(List.of(new NewGame(gameId, null, null, playerIds, aiDifficulty))).get(0);
+    }
+
+    /** Crée toutes les parties demandées : une requête batch par table pour l'ensemble. */
+    @Transactional
+    public List<UUID> createGames(List<NewGame> requests) {
+        return insert(requests, GameStatus.IN_PROGRESS);
+    }
+
+    /**
+     * Crée {@code count} parties en réserve (statut WAITING, sans joueurs) :
+     * deck mélangé, rivière et leaders en place. La pendule n'est armée qu'au
+     * démarrage ({@link #startPooledGame}).
+     */
+    @Transactional
+    public List<UUID> createPooledGames(Integer scenarioId, int count) {
+        List<NewGame> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            requests.add(new NewGame(null, null, scenarioId, List.of(), null));
+        return insert(requests, GameStatus.WAITING);
+    }
+
+    /**
+     * Démarre une partie en réserve avec ses joueurs : le temps part de
+     * maintenant. {@code false} si la partie n'est pas (ou plus) en réserve.
+     */
+    @Transactional
+    public boolean startPooledGame(UUID gameId, List<UUID> playerIds, AiDifficulty aiDifficulty) {
+        LocalDateTime now = LocalDateTime.now();
+        GameEntity game = GameEntity.builder()
+                .id(gameId)
+                .status(GameStatus.IN_PROGRESS)
+                .currentPlayerIndex(0)
+                .remainingTimeP0(INITIAL_TIME_SECONDS)
+                .remainingTimeP1(INITIAL_TIME_SECONDS)
+                .lastTimerUpdate(now)
+                .aiDifficulty(aiDifficulty)
+                .build();
+        game.setPlayers(players(game, playerIds));
+        if (!gameCreationRepository.claim(game))
+            return false;
+        turnClock.arm(game);
+        return true;
+    }
+
+    private List<UUID> insert(List<NewGame> requests, GameStatus status) {
         try {
-            System.out.println("DEBUG: Starting createGameWithId for " + gameId + " with scenario " + scenarioId);
-            GameEntity game = GameEntity.builder()
-                    .id(gameId)
-                    .mode(GameMode.CLASSIC)
-                    .phase(GamePhase.ACTION)
-                    .status(GameStatus.IN_PROGRESS)
-                    .currentPlayerIndex(0)
-                    .turnNumber(1)
-                    .banishmentCount(0)
-                    .remainingTimeP0(420)
-                    .remainingTimeP1(420)
-                    .lastTimerUpdate(java.time.LocalDateTime.now())
-                    .build();
-
-            GameEntity savedGame = gameRepository.save(game);
-            System.out.println("DEBUG: Game entity saved");
-
-            initializeDeck(savedGame, forcedDeck, scenarioId);
-            System.out.println("DEBUG: Deck initialized");
-
-            placeLeaders(savedGame.getId());
-            System.out.println("DEBUG: Leaders placed");
-
-            return savedGame.getId();
+            List<GameEntity> games = new ArrayList<>(requests.size());
+            for (NewGame request : requests) {
+                GameEntity game = buildGame(request);
+                game.setStatus(status);
+                games.add(game);
+            }
+            gameCreationRepository.insertAll(games);
+            if (status == GameStatus.IN_PROGRESS) {
+                for (GameEntity game : games)
+                    turnClock.arm(game);
+            }
+            System.out.println("DEBUG: " + games.size() + " game(s) created (" + status + ")");
+            return games.stream().map(GameEntity::getId).toList();
         } catch (Exception e) {
-            System.err.println("CRITICAL ERROR in createGameWithId: " + e.getMessage());
+            System.err.println("CRITICAL ERROR in createGames: " + e.getMessage());
             e.printStackTrace();
             throw e;
         }
     }
 
-    private void initializeDeck(GameEntity game, List<String> forcedDeck, Integer scenarioId) {
+    // Agrégat complet d'une partie neuve, sans accès à la base
+    GameEntity buildGame(NewGame request) {
+        UUID gameId = request.gameId() != null ? request.gameId() : UUID.randomUUID();
+        GameEntity game = GameEntity.builder()
+                .id(gameId)
+                .mode(GameMode.CLASSIC)
+                .phase(GamePhase.ACTION)
+                .status(GameStatus.IN_PROGRESS)
+                .currentPlayerIndex(0)
+                .turnNumber(1)
+                .banishmentCount(0)
+                .remainingTimeP0(INITIAL_TIME_SECONDS)
+                .remainingTimeP1(INITIAL_TIME_SECONDS)
+                .lastTimerUpdate(LocalDateTime.now())
+                .scenarioId(request.scenarioId())
+                .aiDifficulty(request.aiDifficulty())
+                .build();
+        game.setPlayers(players(game, request.playerIds()));
+        game.setCards(initializeDeck(game, request.forcedDeck(), request.scenarioId()));
+        game.setPieces(placeLeaders(gameId));
+        return game;
+    }
+
+    private static List<GamePlayerEntity> players(GameEntity game, List<UUID> playerIds) {
+        List<GamePlayerEntity> players = new ArrayList<>();
+        if (playerIds == null)
+            return players;
+        for (int index = 0; index < playerIds.size(); index++) {
+            players.add(GamePlayerEntity.builder()
+                    .game(game)
+                    .userId(playerIds.get(index))
+                    .playerIndex(index)
+                    .isFirstTurnCompleted(false)
+                    .build());
+        }
+        return players;
+    }
+
+    private List<RecruitmentCardEntity> initializeDeck(GameEntity game, List<String> forcedDeck, Integer scenarioId) {
         // A. Liste des personnages à inclure dans le deck
         List<String> allCharacters;
 
@@ -83,11 +176,7 @@ public class GameSetupService {
             System.out.println("DEBUG: Using scenario " + scenarioId + " characters: " + allCharacters);
         } else {
             // Fallback to all characters if no scenario (LEGACY / DEFAULT)
-            allCharacters = new ArrayList<>(List.of(
-                    "ACROBAT", "ARCHER", "ASSASSIN", "BRAWLER", "CAVALRY",
-                    "GRAPPLER", "ILLUSIONIST", "INNKEEPER", "JAILER",
-                    "MANIPULATOR", "NEMESIS", "PROTECTOR",
-                    "PROWLER", "ROYAL_GUARD", "VIZIER", "OLD_BEAR"));
+            allCharacters = new ArrayList<>(DEFAULT_DECK);
         }
 
         List<String> finalDeckOrder = new ArrayList<>();
@@ -104,7 +193,8 @@ public class GameSetupService {
         // D. On complète le deck
         finalDeckOrder.addAll(allCharacters);
 
-        // --- Création des entités ---
+        // --- Création des entités (personnages lus dans le cache de référence) ---
+        List<RecruitmentCardEntity> cards = new ArrayList<>(finalDeckOrder.size());
         int order = 1;
         for (String charId : finalDeckOrder) {
             RefCharacterEntity character = characterRepository.findById(charId)
@@ -114,20 +204,19 @@ public class GameSetupService {
             CardState state = (order <= 3) ? CardState.VISIBLE : CardState.IN_DECK;
             Integer slot = (order <= 3) ? order : null;
 
-            RecruitmentCardEntity card = RecruitmentCardEntity.builder()
+            cards.add(RecruitmentCardEntity.builder()
                     .game(game)
                     .character(character)
                     .state(state)
                     .visibleSlot(slot)
                     .deckOrder(order)
-                    .build();
-
-            cardRepository.save(card);
+                    .build());
             order++;
         }
+        return cards;
     }
 
-    private void placeLeaders(UUID gameId) {
+    private List<PieceEntity> placeLeaders(UUID gameId) {
         // Placement du Leader Joueur 0 (BLEU) -> MAINTENANT EN BAS (0, 3)
         PieceEntity leaderP1 = PieceEntity.builder()
                 .gameId(gameId)
@@ -148,7 +237,14 @@ public class GameSetupService {
                 .hasActedThisTurn(false)
                 .build();
 
-        pieceRepository.save(leaderP1);
-        pieceRepository.save(leaderP2);
+        return new ArrayList<>(List.of(leaderP1, leaderP2));
+    }
+
+    /**
+     * Partie à créer : id imposé (ou null), deck forcé et scénario optionnels,
+     * joueurs par index (vide si les joueurs rejoignent plus tard).
+     */
+    public record NewGame(UUID gameId, List<String> forcedDeck, Integer scenarioId, List<UUID> playerIds,
+            AiDifficulty aiDifficulty) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.application.dto.response.CardDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDeltaDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.dto.response.PieceDto;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.BrokerRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diffusion de l'état des parties sur {@code /topic/game/{id}} : seule la
+ * première diffusion envoie l'état complet, les suivantes n'envoient que les
+ * changements ({@link GameStateDeltaDto}) avec un numéro de version croissant.
+ * Le dernier état diffusé est gardé pour calculer le delta suivant et pour
+ * servir l'état complet à l'abonnement (ou après un trou de version).
+ */
+@Service
+@RequiredArgsConstructor
+public class GameStateBroadcaster {
+
+    // Une partie terminée ou sans diffusion depuis ce délai est oubliée
+    private static final long RETENTION_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final GameQueryService gameQueryService;
+    private final BrokerRelay brokerRelay;
+
+    private final Map<UUID, Published> published = new ConcurrentHashMap<>();
+
+    /** Lit l'état courant de la partie et le diffuse. */
+    public GameStateDto publish(UUID gameId) {
+        return publish(gameQueryService.getGameState(gameId));
+    }
+
+    /** Diffuse {@code state} (déjà calculé) ; retourne l'état versionné. */
+    public GameStateDto publish(GameStateDto state) {
+        Published entry = published.computeIfAbsent(state.gameId(), id -> new Published());
+        // Nouvelles actions lues hors verrou (l'appelant peut tenir la partie) ;
+        // filtrées ensuite sur le curseur réellement diffusé
+        GameStateDto seen = entry.state;
+        List<GameActionDto> fetched = seen != null && state.lastActionOrder() > seen.lastActionOrder()
+                ? gameQueryService.getActions(state.gameId(), seen.lastActionOrder(),
+                        GameQueryService.MAX_ACTIONS_PAGE).actions()
+                : List.of();
+        Object message;
+        GameStateDto versioned;
+        synchronized (entry) {
+            GameStateDto previous = entry.state;
+            versioned = state.withVersion(previous != null ? previous.version() + 1 : 1);
+            // État complet pour la première diffusion (ou si l'historique a été réécrit)
+            message = previous != null && versioned.lastActionOrder() >= previous.lastActionOrder()
+                    ? diff(previous, versioned, fetched)
+                    : versioned;
+            entry.state = versioned;
+            entry.publishedAt = System.nanoTime();
+            // Envoi sous le verrou : les versions partent dans l'ordre
+            brokerRelay.publish("/topic/game/" + state.gameId(), message);
+        }
+        return versioned;
+    }
+
+    /** État complet correspondant à la dernière version diffusée. */
+    public GameStateDto snapshot(UUID gameId) {
+        Published entry = published.get(gameId);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.state != null)
+                    return entry.state;
+            }
+        }
+        // Rien encore diffusé : cet état devient la version de référence
+        GameStateDto state = gameQueryService.getGameState(gameId);
+        entry = published.computeIfAbsent(gameId, id -> new Published());
+        synchronized (entry) {
+            if (entry.state == null) {
+                entry.state = state.withVersion(1);
+                entry.publishedAt = System.nanoTime();
+            }
+            return entry.state;
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void forgetInactiveGames() {
+        long now = System.nanoTime();
+        published.entrySet().removeIf(e -> {
+            Published entry = e.getValue();
+            synchronized (entry) {
+                return entry.state == null || now - entry.publishedAt > RETENTION_NANOS
+                        || (entry.state.status() == GameStatus.FINISHED
+                                && now - entry.publishedAt > TimeUnit.MINUTES.toNanos(5));
+            }
+        });
+    }
+
+    static GameStateDeltaDto diff(GameStateDto previous, GameStateDto current, List<GameActionDto> actions) {
+        Map<UUID, PieceDto> previousPieces = new LinkedHashMap<>();
+        previous.pieces().forEach(piece -> previousPieces.put(piece.id(), piece));
+        List<PieceDto> changedPieces = new ArrayList<>();
+        for (PieceDto piece : current.pieces()) {
+            if (!piece.equals(previousPieces.remove(piece.id())))
+                changedPieces.add(piece);
+        }
+
+        Map<UUID, CardDto> previousRiver = new LinkedHashMap<>();
+        previous.river().forEach(card -> previousRiver.put(card.id(), card));
+        List<CardDto> changedRiver = new ArrayList<>();
+        for (CardDto card : current.river()) {
+            if (!card.equals(previousRiver.remove(card.id())))
+                changedRiver.add(card);
+        }
+
+        // Seules les actions entre les deux curseurs partent ; le client lit le reste par l'API
+        List<GameActionDto> newActions = actions.stream()
+                .filter(action -> action.actionOrder() > previous.lastActionOrder()
+                        && action.actionOrder() <= current.lastActionOrder())
+                .toList();
+
+        return new GameStateDeltaDto(
+                GameStateDeltaDto.TYPE,
+                current.gameId(),
+                previous.version(),
+                current.version(),
+                current.status(),
+                current.currentPhase(),
+                current.currentPlayerIndex(),
+                current.turnNumber(),
+                current.hasRecruitedThisTurn(),
+                current.winnerPlayerIndex(),
+                current.winnerVictoryType(),
+                current.remainingTimeP0(),
+                current.remainingTimeP1(),
+                current.lastTimerUpdate(),
+                current.eloChangeP0(),
+                current.eloChangeP1(),
+                changedPieces,
+                List.copyOf(previousPieces.keySet()),
+                changedRiver,
+                List.copyOf(previousRiver.keySet()),
+                Objects.equals(previous.players(), current.players()) ? null : current.players(),
+                current.lastActionOrder(),
+                newActions);
+    }
+
+    private static final class Published {
+        volatile GameStateDto state;
+        long publishedAt;
+    }
+}
@@ -0,0 +1,126 @@
+package esiea.hackathon.leaders.application.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Échéances indexées par clé dans une roue temporelle hiérarchique : quatre
+ * niveaux de 64 cases, chaque case d'un niveau couvrant un tour complet du
+ * niveau inférieur. Armer, réarmer ou annuler une échéance coûte O(1) ;
+ * {@link #advance} ne lit que la case du tic courant et, tous les 64 tics,
+ * redescend d'un niveau les échéances devenues proches.
+ *
+ * <p>Une clé n'a qu'une échéance : la réarmer remplace la précédente. Non
+ * synchronisée : l'appelant sérialise les accès.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private static final int LEVELS = 4;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMs;
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<Timer<K>>[][] levels = new ArrayDeque[LEVELS][SLOTS];
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMs, long startMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.currentTick = startMs / this.tickMs;
+        for (ArrayDeque<Timer<K>>[] level : levels) {
+            for (int slot = 0; slot < SLOTS; slot++)
+                level[slot] = new ArrayDeque<>();
+        }
+    }
+
+    /** Arme (ou réarme) l'échéance de {@code key} ; une date passée échoit au tic suivant. */
+    public void schedule(K key, long deadlineMs) {
+        cancel(key);
+        // Arrondi au tic supérieur : une échéance n'est jamais signalée en avance
+        Timer<K> timer = new Timer<>(key, (deadlineMs + tickMs - 1) / tickMs);
+        timers.put(key, timer);
+        place(timer, currentTick + 1);
+    }
+
+    /** Annule l'échéance de {@code key} ; elle est abandonnée au passage de sa case. */
+    public boolean cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer == null)
+            return false;
+        timer.cancelled = true;
+        return true;
+    }
+
+    public boolean isScheduled(K key) {
+        return timers.containsKey(key);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /** Avance jusqu'à {@code nowMs} et renvoie les clés échues, dans l'ordre des tics. */
+    public List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>();
+        long target = nowMs / tickMs;
+        while (currentTick < target) {
+            currentTick++;
+            // Du niveau le plus haut au plus bas : une échéance peut redescendre de plusieurs niveaux
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0)
+                    cascade(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+            }
+            ArrayDeque<Timer<K>> slot = levels[0][(int) (currentTick & MASK)];
+            for (int n = slot.size(); n > 0; n--) {
+                Timer<K> timer = slot.poll();
+                if (timer.cancelled)
+                    continue;
+                if (timer.deadlineTick <= currentTick) {
+                    timers.remove(timer.key);
+                    expired.add(timer.key);
+                } else
+                    place(timer, currentTick + 1);
+            }
+        }
+        return expired;
+    }
+
+    private void cascade(int level, int slotIndex) {
+        ArrayDeque<Timer<K>> slot = levels[level][slotIndex];
+        for (int n = slot.size(); n > 0; n--) {
+            Timer<K> timer = slot.poll();
+            // La case du tic courant n'est pas encore lue : une échéance de ce tic y est rangée
+            if (!timer.cancelled)
+                place(timer, currentTick);
+        }
+    }
+
+    private void place(Timer<K> timer, long earliestTick) {
+        long tick = Math.max(timer.deadlineTick, earliestTick);
+        long delta = tick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (BITS * (level + 1))) || level == LEVELS - 1) {
+                // Au-delà du dernier niveau, l'échéance est relue à chaque tour et replacée
+                int slot = (int) ((tick >>> (BITS * level)) & MASK);
+                levels[level][slot].add(timer);
+                return;
+            }
+        }
+    }
+
+    private static final class Timer<K> {
+        private final K key;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Timer(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package esiea.hackathon.leaders.application.services;
 
-import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
 import esiea.hackathon.leaders.application.strategies.action.NemesisBehavior;
-import esiea.hackathon.leaders.application.strategies.movement.MoveStrategyFactory;
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.GameEntity;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
@@ -12,6 +12,7 @@ import esiea.hackathon.leaders.domain.model.enums.GameStatus;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +29,7 @@ public class MovementService {
     private final PieceRepository pieceRepository;
     private final GameRepository gameRepository;
     private final GameService gameService;
-    private final MoveStrategyFactory strategyFactory;
+    private final MoveGenerator moveGenerator;
     private final NemesisBehavior nemesisBehavior;
     private final VictoryService victoryService; // 🆕 Injection du VictoryService
     private final RefCharacterRepository characterRepository;
@@ -154,49 +155,12 @@ public class MovementService {
                 .orElseThrow(() -> new IllegalStateException("Character definition not found"));
 
         List<PieceEntity> allPieces = pieceRepository.findByGameId(piece.getGameId());
-        List<HexCoord> validMoves = new ArrayList<>();
+        BoardState board = BoardState.fromPieces(allPieces);
+        int cell = HexBitboards.cellIndex(piece.getQ(), piece.getR());
 
-        // Règle : La Némésis ne bouge pas normalement
-        if (!"NEMESIS".equals(character.getId())) {
-            validMoves.addAll(getStandardMoves(piece, allPieces));
-        }
-
-        // Règle : Bonus du Vizir pour le Leader
-        // Règle : Bonus du Vizir pour le Leader
-        if ("LEADER".equals(character.getId())) {
-            MoveAbilityStrategy leaderStrat = strategyFactory.getStrategy("VIZIER_BOOST");
-            if (leaderStrat != null) {
-                validMoves.addAll(leaderStrat.getExtraMoves(piece, allPieces));
-            }
-        }
-
-        // Règle : L'Ourson ne peut pas capturer le Leader (aller sur sa case)
-        if ("CUB".equals(character.getId())) {
-            validMoves.removeIf(move -> allPieces.stream()
-                    .anyMatch(p -> p.getQ() == move.q() && p.getR() == move.r()
-                            && "LEADER".equals(p.getCharacterId())
-                            && !p.getOwnerIndex().equals(piece.getOwnerIndex())));
-        }
-
-        // Règle : L'Ourson ne peut pas capturer le Leader (aller sur sa case)
-        if ("CUB".equals(character.getId())) {
-            validMoves.removeIf(move -> allPieces.stream()
-                    .anyMatch(p -> p.getQ() == move.q() && p.getR() == move.r()
-                            && "LEADER".equals(p.getCharacterId())
-                            && !p.getOwnerIndex().equals(piece.getOwnerIndex())));
-        }
-
-        // Règle : Compétences de mouvement spéciales (Acrobate, etc.)
-        if (character.getAbilities() != null) {
-            for (var ability : character.getAbilities()) {
-                MoveAbilityStrategy strategy = strategyFactory.getStrategy(ability.getId());
-                if (strategy != null) {
-                    validMoves.addAll(strategy.getExtraMoves(piece, allPieces));
-                }
-            }
-        }
-
-        return validMoves;
+        // Règles (Némésis, Vizir, Ourson, compétences) : cf. MoveGenerator
+        long moves = moveGenerator.legalMoveMask(board, cell, moveGenerator.strategiesFor(character));
+        return HexBitboards.toCoords(moves);
     }
 
     // --- Helpers ---
@@ -218,12 +182,6 @@ public class MovementService {
                 });
     }
 
-    private List<HexCoord> getStandardMoves(PieceEntity piece, List<PieceEntity> allPieces) {
-        return getAdjacentCells(piece.getQ(), piece.getR()).stream()
-                .filter(coord -> isCellEmpty(coord.q(), coord.r(), allPieces))
-                .toList();
-    }
-
     public List<HexCoord> getAdjacentCells(short q, short r) {
         List<HexCoord> adjacent = new ArrayList<>();
         adjacent.add(new HexCoord((short) (q + 1), r));
@@ -238,8 +196,4 @@ public class MovementService {
                 .filter(HexCoord::isValid)
                 .toList();
     }
-
-    private boolean isCellEmpty(short q, short r, List<PieceEntity> allPieces) {
-        return allPieces.stream().noneMatch(p -> p.getQ() == q && p.getR() == r);
-    }
-}
\ No newline at end of file
+}
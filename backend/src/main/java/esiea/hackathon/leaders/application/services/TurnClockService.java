@@ -0,0 +1,167 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pendule des parties en cours : une échéance par partie (fin du temps du
+ * joueur courant) dans une {@link HierarchicalTimingWheel}, armée à la
+ * création et réarmée à chaque fin de tour. À l'échéance, le temps est
+ * décompté et la partie se termine par TIMEOUT via
+ * {@link GameService#checkTimeout}, puis le nouvel état est diffusé : une
+ * partie abandonnée se termine sans qu'aucun client ne l'interroge.
+ *
+ * <p>Le temps d'un joueur ne change pas pendant son tour (les actions ne
+ * font que reporter le décompte) : l'échéance reste valable jusqu'à la fin
+ * du tour.
+ *
+ * <p>La roue avance sur son propre thread : les tâches {@code @Scheduled}
+ * (vidage du cache, remplissage du pool de parties, appariement) partagent
+ * le planificateur de Spring et ne retardent pas les échéances.
+ */
+@Slf4j
+@Service
+public class TurnClockService {
+
+    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final GameStateBroadcaster broadcaster;
+    private final HierarchicalTimingWheel<UUID> wheel;
+    private final long tickMs;
+    private final LongAdder timeouts = new LongAdder();
+    private ScheduledExecutorService ticker;
+
+    public TurnClockService(@Lazy GameService gameService, GameRepository gameRepository,
+            GameStateBroadcaster broadcaster, @Value("${app.game.turn-clock.tick-ms:100}") long tickMs) {
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.broadcaster = broadcaster;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, System.currentTimeMillis());
+        this.tickMs = tickMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turn-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null)
+            ticker.shutdownNow();
+    }
+
+    /** Parties en cours avant le redémarrage. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void armInProgressGames() {
+        // État affichable seul (une requête, hors transaction) : statut, joueurs et temps suffisent
+        List<UUID> gameIds = gameRepository.findIdsByStatus(GameStatus.IN_PROGRESS);
+        for (UUID gameId : gameIds)
+            gameRepository.findStateById(gameId).ifPresent(this::arm);
+        log.info("Turn clock: {} in-progress game(s) armed", size());
+    }
+
+    /**
+     * Arme (ou réarme) l'échéance du joueur courant ; l'annule si la partie
+     * est terminée ou se joue contre l'IA (pas de pendule).
+     */
+    public void arm(GameEntity game) {
+        Long deadline = deadlineOf(game);
+        synchronized (wheel) {
+            if (deadline == null)
+                wheel.cancel(game.getId());
+            else
+                wheel.schedule(game.getId(), deadline);
+        }
+    }
+
+    public void cancel(UUID gameId) {
+        synchronized (wheel) {
+            wheel.cancel(gameId);
+        }
+    }
+
+    public boolean isArmed(UUID gameId) {
+        synchronized (wheel) {
+            return wheel.isScheduled(gameId);
+        }
+    }
+
+    public int size() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    public void tick() {
+        try {
+            List<UUID> expired;
+            synchronized (wheel) {
+                expired = wheel.advance(System.currentTimeMillis());
+            }
+            for (UUID gameId : expired)
+                expire(gameId);
+        } catch (RuntimeException e) {
+            // Une exception arrêterait les ticks suivants de l'exécuteur
+            log.error("Turn clock tick failed", e);
+        }
+    }
+
+    void expire(UUID gameId) {
+        try {
+            gameService.checkTimeout(gameId);
+            GameEntity game = gameRepository.findStateById(gameId).orElse(null);
+            if (game == null)
+                return;
+            if (game.getStatus() == GameStatus.FINISHED) {
+                timeouts.increment();
+                log.info("Turn clock: game {} ended on time", gameId);
+                broadcaster.publish(gameId);
+            } else {
+                // Joueurs arrivés entre-temps (partie contre l'IA) ou arrondi du décompte
+                arm(game);
+            }
+        } catch (RuntimeException e) {
+            log.error("Turn clock expiry failed for game {}", gameId, e);
+        }
+    }
+
+    // Fin du temps du joueur courant (epoch ms), ou null sans pendule
+    static Long deadlineOf(GameEntity game) {
+        if (game.getStatus() != GameStatus.IN_PROGRESS || game.getLastTimerUpdate() == null)
+            return null;
+        boolean isAiGame = game.getPlayers() != null && game.getPlayers().stream()
+                .anyMatch(p -> p.getUserId() == null || AiService.AI_PLAYER_ID.equals(p.getUserId()));
+        if (isAiGame)
+            return null;
+        int remaining = game.getCurrentPlayerIndex() == 0 ? game.getRemainingTimeP0() : game.getRemainingTimeP1();
+        long lastUpdate = game.getLastTimerUpdate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return lastUpdate + remaining * 1000L;
+    }
+}
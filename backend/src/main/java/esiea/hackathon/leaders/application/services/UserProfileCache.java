@@ -0,0 +1,147 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.model.UserCredentialsEntity;
+import esiea.hackathon.leaders.domain.repository.UserCredentialsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de lecture des profils (pseudo, ELO, avatar) affichés avec l'état des
+ * parties. Taille bornée (LRU) et durée de vie limitée ; un utilisateur
+ * inconnu (invité) est aussi mis en cache. Les écritures (ELO, avatar)
+ * invalident l'entrée, une seconde fois après la validation de la transaction
+ * pour ne pas garder une valeur relue entre-temps.
+ */
+@Service
+public class UserProfileCache {
+
+    public record UserProfile(UUID id, String username, Integer elo, String avatar) {
+    }
+
+    private final UserCredentialsRepository userCredentialsRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Ordre d'accès : la plus ancienne entrée lue part en premier
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // Incrémenté à chaque invalidation (sous le verrou de entries)
+    private long invalidations;
+
+    public UserProfileCache(UserCredentialsRepository userCredentialsRepository,
+            @Value("${app.user-profile-cache.max-size:10000}") int maxSize,
+            @Value("${app.user-profile-cache.ttl-ms:60000}") long ttlMs) {
+        this.userCredentialsRepository = userCredentialsRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    public Optional<UserProfile> find(UUID userId) {
+        if (userId == null)
+            return Optional.empty();
+        return Optional.ofNullable(findAll(List.of(userId)).get(userId));
+    }
+
+    /** Profils connus parmi {@code userIds} ; les absents du cache sont lus en une requête. */
+    public Map<UUID, UserProfile> findAll(Collection<UUID> userIds) {
+        Map<UUID, UserProfile> result = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        long now = System.nanoTime();
+        long generation;
+        synchronized (entries) {
+            generation = invalidations;
+            for (UUID userId : userIds) {
+                if (userId == null || result.containsKey(userId) || missing.contains(userId))
+                    continue;
+                Entry entry = entries.get(userId);
+                if (entry != null && now - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    if (entry.profile != null)
+                        result.put(userId, entry.profile);
+                } else {
+                    misses.increment();
+                    missing.add(userId);
+                }
+            }
+        }
+        if (missing.isEmpty())
+            return result;
+
+        Map<UUID, UserProfile> loaded = new HashMap<>();
+        for (UserCredentialsEntity user : userCredentialsRepository.findAllById(missing))
+            loaded.put(user.getId(), new UserProfile(user.getId(), user.getUsername(), user.getElo(), user.getAvatar()));
+        synchronized (entries) {
+            // Une invalidation pendant la lecture : la valeur lue est peut-être déjà périmée
+            if (generation == invalidations) {
+                for (UUID userId : missing)
+                    put(userId, loaded.get(userId), now);
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /** À appeler à chaque écriture d'un profil (ELO, avatar...). */
+    public void invalidate(UUID userId) {
+        if (userId == null)
+            return;
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    public Stats stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(size, maxSize, h, m, evictions.sum(), h + m == 0 ? 0.0 : (double) h / (h + m));
+    }
+
+    public record Stats(int size, int capacity, long hits, long misses, long evictions, double hitRate) {
+    }
+
+    private void put(UUID userId, UserProfile profile, long loadedAt) {
+        entries.put(userId, new Entry(profile, loadedAt));
+        var eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(UUID userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+            invalidations++;
+        }
+    }
+
+    private record Entry(UserProfile profile, long loadedAt) {
+    }
+}
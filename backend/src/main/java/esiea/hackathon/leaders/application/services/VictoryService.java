@@ -3,10 +3,12 @@ package esiea.hackathon.leaders.application.services;
 import esiea.hackathon.leaders.application.strategies.passive.ArcherCaptureStrategy;
 import esiea.hackathon.leaders.application.strategies.passive.AssassinSoloStrategy;
 import esiea.hackathon.leaders.application.strategies.passive.PassiveFactory;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.VictoryCheckResult;
 import esiea.hackathon.leaders.domain.model.enums.VictoryType;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +28,7 @@ public class VictoryService {
      */
     public VictoryCheckResult checkVictory(UUID gameId) {
         List<PieceEntity> allPieces = pieceRepository.findByGameId(gameId);
+        BoardState board = BoardState.fromPieces(allPieces);
 
         // Récupérer les Leaders
         List<PieceEntity> leaders = allPieces.stream()
@@ -43,7 +46,7 @@ public class VictoryService {
             }
 
             // 2. Condition d'Encerclement (Bloqué de tous les côtés)
-            if (isEncircled(leader, allPieces)) {
+            if (isEncircled(leader, board)) {
                 return VictoryCheckResult.victory(winnerIndex, VictoryType.ENCIRCLEMENT);
             }
         }
@@ -102,30 +105,12 @@ public class VictoryService {
     }
 
     /**
-     * Logique d'Encerclement : Les 6 cases autour sont bloquées.
+     * Logique d'Encerclement : Les 6 cases autour sont bloquées (pièce ou bord du
+     * plateau).
      */
-    private boolean isEncircled(PieceEntity leader, List<PieceEntity> allPieces) {
-        int[][] directions = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }, { 1, -1 }, { -1, 1 } };
-        int blockedSides = 0;
-
-        for (int[] dir : directions) {
-            short q = (short) (leader.getQ() + dir[0]);
-            short r = (short) (leader.getR() + dir[1]);
-
-            // Bloqué si hors plateau (Mur)
-            if (!isValidHexCoord(q, r)) {
-                blockedSides++;
-                continue;
-            }
-
-            // Bloqué si case occupée par n'importe qui
-            boolean occupied = allPieces.stream().anyMatch(p -> p.getQ() == q && p.getR() == r);
-            if (occupied) {
-                blockedSides++;
-            }
-        }
-
-        return blockedSides == 6;
+    private boolean isEncircled(PieceEntity leader, BoardState board) {
+        int cell = HexBitboards.cellIndex(leader.getQ(), leader.getR());
+        return cell >= 0 && board.isEncircled(cell);
     }
 
     // --- Helpers ---
@@ -138,8 +123,4 @@ public class VictoryService {
                 + Math.abs(p1.getR() - p2.getR())
                 + Math.abs((p1.getQ() + p1.getR()) - (p2.getQ() + p2.getR()))) / 2;
     }
-
-    private boolean isValidHexCoord(short q, short r) {
-        return Math.abs(q) <= 3 && Math.abs(r) <= 3 && Math.abs(q + r) <= 3;
-    }
 }
\ No newline at end of file
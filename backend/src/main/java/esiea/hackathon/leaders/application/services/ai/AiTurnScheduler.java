@@ -0,0 +1,86 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Cadence des tours de l'IA, sans thread bloqué en attente : le tour est
+ * calculé d'un bloc sur le pool de planification, puis les états
+ * intermédiaires sont diffusés par un timer (1 s avant la première action,
+ * puis 800 ms entre deux étapes, comme l'animation côté client).
+ * Avec {@code spring.threads.virtual.enabled}, chaque tour est calculé sur son
+ * propre thread virtuel (les accès JDBC bloquants ne monopolisent plus un
+ * thread système).
+ */
+@Component
+public class AiTurnScheduler {
+
+    private final long firstStepDelayMs;
+    private final long stepDelayMs;
+    private final ExecutorService planner;
+    private final ScheduledExecutorService timer;
+
+    public AiTurnScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.ai.turn.planner-threads:0}") int plannerThreads,
+            @Value("${app.ai.turn.first-step-delay-ms:1000}") long firstStepDelayMs,
+            @Value("${app.ai.turn.step-delay-ms:800}") long stepDelayMs) {
+        this.firstStepDelayMs = firstStepDelayMs;
+        this.stepDelayMs = stepDelayMs;
+        if (virtualThreads) {
+            this.planner = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-turn-", 1).factory());
+        } else {
+            int threads = plannerThreads > 0 ? plannerThreads : Runtime.getRuntime().availableProcessors();
+            this.planner = Executors.newFixedThreadPool(threads, named("ai-turn-"));
+        }
+        // Le timer ne fait qu'envoyer des messages : un seul thread suffit
+        this.timer = Executors.newSingleThreadScheduledExecutor(named("ai-pacing-"));
+    }
+
+    /**
+     * Calcule le tour en tâche de fond puis diffuse chaque étape produite par
+     * {@code turn} via {@code emitter}, à la cadence d'animation.
+     */
+    public <T> void playTurn(Planner<T> turn, Consumer<T> emitter) {
+        long plannedAt = System.nanoTime();
+        planner.execute(() -> {
+            List<T> steps = turn.plan();
+            // Le temps de calcul est déduit de la première attente
+            long elapsedMs = (System.nanoTime() - plannedAt) / 1_000_000;
+            for (int i = 0; i < steps.size(); i++) {
+                T step = steps.get(i);
+                long delay = Math.max(0, firstStepDelayMs - elapsedMs) + i * stepDelayMs;
+                timer.schedule(() -> emitter.accept(step), delay, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface Planner<T> {
+        List<T> plan();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        planner.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
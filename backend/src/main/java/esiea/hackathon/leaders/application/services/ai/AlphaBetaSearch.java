@@ -0,0 +1,327 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Recherche négamax avec élagage alpha-bêta et approfondissement itératif,
+ * bornée par un budget de temps. Les positions déjà vues (par un autre ordre
+ * de coups) sont reprises de la {@link TranspositionTable}. Les actions sont
+ * triées : coup de la table, victoire immédiate, menace sur le Leader adverse,
+ * puis coups "killer" ayant provoqué une coupure à la même profondeur.
+ * <p>
+ * Mode parallèle (lazy SMP) : des threads auxiliaires du {@link SearchThreadPool}
+ * explorent la même position en partageant la table de transposition ; le
+ * thread appelant garde la main et donne le coup joué. Le nombre
+ * d'auxiliaires suit la part de la partie dans le pool : complété avant
+ * chaque itération, réduit quand d'autres parties se mettent à chercher.
+ */
+@Component
+public class AlphaBetaSearch {
+
+    public static final int WIN = 1_000_000;
+    private static final int INFINITY = WIN + 1;
+
+    // Priorités de tri
+    private static final int ORDER_HASH_MOVE = 4_000_000;
+    private static final int ORDER_WIN = 2_000_000;
+    private static final int ORDER_LEADER_THREAT = 10_000;
+    private static final int ORDER_KILLER = 5_000;
+
+    // Vérification de l'horloge tous les 1024 noeuds
+    private static final long TIME_CHECK_MASK = 1023;
+
+    private final SearchMoveGenerator moveGenerator;
+    private final PositionEvaluator evaluator;
+    private final TranspositionTable transpositionTable;
+    private final SearchThreadPool threadPool;
+    private final long timeBudgetMs;
+    private final int maxDepth;
+
+    public AlphaBetaSearch(SearchMoveGenerator moveGenerator, PositionEvaluator evaluator,
+            TranspositionTable transpositionTable, SearchThreadPool threadPool,
+            @Value("${app.ai.search.time-budget-ms:800}") long timeBudgetMs,
+            @Value("${app.ai.search.max-depth:16}") int maxDepth) {
+        this.moveGenerator = moveGenerator;
+        this.evaluator = evaluator;
+        this.transpositionTable = transpositionTable;
+        this.threadPool = threadPool;
+        this.timeBudgetMs = timeBudgetMs;
+        this.maxDepth = maxDepth;
+    }
+
+    public SearchResult search(UUID gameId, SearchBoard root) {
+        return search(gameId, root, timeBudgetMs, maxDepth);
+    }
+
+    public SearchResult search(UUID gameId, SearchBoard root, long budgetMs, int depthLimit) {
+        long start = System.nanoTime();
+        SearchControl control = new SearchControl(gameId, start + budgetMs * 1_000_000L,
+                transpositionTable.newSearch());
+        int limit = Math.min(depthLimit, SearchBoard.MAX_PLY - 1);
+
+        threadPool.acquire(gameId);
+        List<ForkJoinTask<SearchResult>> helpers = new ArrayList<>();
+        try {
+            Worker mainWorker = new Worker(root.copy(), control, 0);
+            // Avant chaque itération : auxiliaires complétés jusqu'à la part actuelle de la partie
+            mainWorker.beforeIteration = () -> {
+                while (!control.stopped && threadPool.tryAddHelper(gameId)) {
+                    Worker helper = new Worker(root.copy(), control, helpers.size() + 1);
+                    helpers.add(threadPool.submit(() -> {
+                        try {
+                            return helper.iterate(limit);
+                        } finally {
+                            if (!helper.retired)
+                                threadPool.helperDone(gameId);
+                        }
+                    }));
+                }
+            };
+
+            SearchResult main = mainWorker.iterate(limit);
+            control.stopped = true;
+
+            long nodes = main.nodes();
+            for (ForkJoinTask<SearchResult> helper : helpers) {
+                nodes += helper.join().nodes();
+            }
+            threadPool.record(helpers.size() + 1, nodes, System.nanoTime() - start);
+            return new SearchResult(main.move(), main.score(), main.depth(), nodes);
+        } finally {
+            // Aucun auxiliaire ne survit à la recherche, même en cas d'erreur
+            control.stopped = true;
+            helpers.forEach(ForkJoinTask::quietlyJoin);
+            threadPool.release(gameId);
+        }
+    }
+
+    public SearchThreadPool.Stats searchStats() {
+        return threadPool.stats();
+    }
+
+    public TranspositionTable.Stats transpositionStats() {
+        return transpositionTable.stats();
+    }
+
+    static boolean isWinScore(int score) {
+        return Math.abs(score) >= WIN - SearchBoard.MAX_PLY;
+    }
+
+    // Les scores de victoire sont stockés relativement au noeud, pas à la racine
+    private static int toTable(int score, int ply) {
+        return !isWinScore(score) ? score : score > 0 ? score + ply : score - ply;
+    }
+
+    private static int fromTable(int score, int ply) {
+        return !isWinScore(score) ? score : score > 0 ? score - ply : score + ply;
+    }
+
+    /** Arrêt et génération de table partagés par les threads d'une même recherche. */
+    private static final class SearchControl {
+
+        private final UUID gameId;
+        private final long deadline;
+        private final int generation;
+        private volatile boolean stopped;
+
+        SearchControl(UUID gameId, long deadline, int generation) {
+            this.gameId = gameId;
+            this.deadline = deadline;
+            this.generation = generation;
+        }
+    }
+
+    /** État propre à un thread de recherche : plateau, buffers par profondeur, killers. */
+    private final class Worker {
+
+        private final SearchBoard board;
+        private final SearchControl control;
+        private final int id;
+        private final int[][] moves = new int[SearchBoard.MAX_PLY][SearchMoveGenerator.MAX_ACTIONS];
+        private final int[][] orderScores = new int[SearchBoard.MAX_PLY][SearchMoveGenerator.MAX_ACTIONS];
+        private final int[][] killers = new int[SearchBoard.MAX_PLY][2];
+        private long nodes;
+        private boolean stopped;
+        // Auxiliaire arrêté car la partie dépassait sa part (place déjà rendue)
+        private boolean retired;
+        private Runnable beforeIteration;
+        private int rootBest = SearchMove.NULL_MOVE;
+
+        Worker(SearchBoard board, SearchControl control, int id) {
+            this.board = board;
+            this.control = control;
+            this.id = id;
+            for (int[] k : killers) {
+                k[0] = SearchMove.NULL_MOVE;
+                k[1] = SearchMove.NULL_MOVE;
+            }
+        }
+
+        SearchResult iterate(int depthLimit) {
+            int bestMove = SearchMove.NULL_MOVE;
+            int bestScore = 0;
+            int completedDepth = 0;
+
+            // Les auxiliaires impairs démarrent un cran plus profond pour diversifier
+            for (int depth = 1 + (id & 1); depth <= depthLimit && !control.stopped; depth++) {
+                if (beforeIteration != null)
+                    beforeIteration.run();
+                // Auxiliaire en file ou entre deux itérations : la part a pu baisser
+                if (id != 0 && threadPool.retireHelper(control.gameId)) {
+                    retired = true;
+                    break;
+                }
+                int score = negamax(depth, -INFINITY, INFINITY);
+                if (stopped) {
+                    // Itération interrompue : on garde son meilleur coup s'il n'y en a pas d'autre
+                    if (bestMove == SearchMove.NULL_MOVE)
+                        bestMove = rootBest;
+                    break;
+                }
+                bestMove = rootBest;
+                bestScore = score;
+                completedDepth = depth;
+                if (isWinScore(score))
+                    break; // Issue forcée trouvée
+            }
+            return new SearchResult(bestMove, bestScore, completedDepth, nodes);
+        }
+
+        private int negamax(int depth, int alpha, int beta) {
+            if ((++nodes & TIME_CHECK_MASK) == 0) {
+                if (control.stopped || System.nanoTime() > control.deadline) {
+                    stopped = true;
+                    control.stopped = true;
+                } else if (id != 0 && threadPool.retireHelper(control.gameId)) {
+                    // Place rendue à une autre partie ; l'itération en cours est abandonnée
+                    stopped = true;
+                    retired = true;
+                }
+            }
+            if (stopped)
+                return 0;
+
+            int ply = board.ply();
+            int side = board.sideToMove();
+            int winner = board.winner();
+            if (winner >= 0)
+                return winner == side ? WIN - ply : -(WIN - ply);
+            if (depth == 0 || ply >= SearchBoard.MAX_PLY - 1)
+                return evaluator.evaluate(board, side);
+
+            long key = board.hash();
+            long entry = transpositionTable.probe(key);
+            int hashMove = entry == TranspositionTable.MISS ? SearchMove.NULL_MOVE : TranspositionTable.move(entry);
+            if (ply == 0 && rootBest != SearchMove.NULL_MOVE)
+                hashMove = rootBest; // Meilleur coup de l'itération précédente
+            if (entry != TranspositionTable.MISS && ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int stored = fromTable(TranspositionTable.score(entry), ply);
+                switch (TranspositionTable.bound(entry)) {
+                    case TranspositionTable.EXACT -> {
+                        return stored;
+                    }
+                    case TranspositionTable.LOWER -> alpha = Math.max(alpha, stored);
+                    default -> beta = Math.min(beta, stored);
+                }
+                if (alpha >= beta)
+                    return stored;
+            }
+
+            int[] list = moves[ply];
+            int count = moveGenerator.generate(board, list);
+            scoreMoves(ply, side, list, count, hashMove);
+
+            int alphaOrigin = alpha;
+            int best = -INFINITY;
+            int bestMove = SearchMove.NULL_MOVE;
+            for (int i = 0; i < count; i++) {
+                int move = pickNext(ply, list, i, count);
+                board.make(move);
+                int score = -negamax(depth - 1, -beta, -alpha);
+                board.unmake();
+                if (stopped)
+                    return 0;
+
+                if (score > best) {
+                    best = score;
+                    bestMove = move;
+                    if (ply == 0)
+                        rootBest = move;
+                }
+                if (score > alpha)
+                    alpha = score;
+                if (alpha >= beta) {
+                    storeKiller(ply, move);
+                    break;
+                }
+            }
+
+            int bound = best <= alphaOrigin ? TranspositionTable.UPPER
+                    : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            transpositionTable.store(key, bestMove, toTable(best, ply), depth, bound, control.generation);
+            return best;
+        }
+
+        private void scoreMoves(int ply, int side, int[] list, int count, int hashMove) {
+            int[] scores = orderScores[ply];
+            int enemyLeader = board.leaderCell(1 - side);
+            for (int i = 0; i < count; i++) {
+                int move = list[i];
+                int score = 0;
+                if (move == hashMove) {
+                    score += ORDER_HASH_MOVE;
+                } else if (enemyLeader >= 0 && nearLeader(move, enemyLeader)) {
+                    board.make(move);
+                    boolean wins = board.winner() == side;
+                    board.unmake();
+                    score += wins ? ORDER_WIN : ORDER_LEADER_THREAT;
+                }
+                if (move == killers[ply][0] || move == killers[ply][1])
+                    score += ORDER_KILLER;
+                scores[i] = score;
+            }
+        }
+
+        // L'action approche une pièce du Leader adverse, ou déplace ce Leader
+        private boolean nearLeader(int move, int enemyLeader) {
+            if (SearchMove.kind(move) == SearchMove.PASS)
+                return false;
+            int target = SearchMove.target(move);
+            return HexBitboards.distance(SearchMove.to(move), enemyLeader) <= 2
+                    || target == enemyLeader
+                    || (target != SearchMove.NONE && SearchMove.targetDest(move) != SearchMove.NONE
+                            && HexBitboards.distance(SearchMove.targetDest(move), enemyLeader) <= 2);
+        }
+
+        // Tri par sélection : les coupures arrivent tôt, inutile de tout trier
+        private int pickNext(int ply, int[] list, int index, int count) {
+            int[] scores = orderScores[ply];
+            int bestIndex = index;
+            for (int j = index + 1; j < count; j++) {
+                if (scores[j] > scores[bestIndex])
+                    bestIndex = j;
+            }
+            int move = list[bestIndex];
+            list[bestIndex] = list[index];
+            list[index] = move;
+            int score = scores[bestIndex];
+            scores[bestIndex] = scores[index];
+            scores[index] = score;
+            return move;
+        }
+
+        private void storeKiller(int ply, int move) {
+            if (killers[ply][0] != move) {
+                killers[ply][1] = killers[ply][0];
+                killers[ply][0] = move;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Monte Carlo Tree Search (UCT) avec élargissement progressif : un noeud visité
+ * n fois n'a droit qu'à environ {@code PW_C * n^PW_ALPHA} enfants, ajoutés dans
+ * l'ordre d'un a priori (victoire immédiate, menace sur le Leader adverse).
+ * Chaque feuille est évaluée par une partie simulée du {@link PlayoutEngine}.
+ * La force se règle par le nombre de simulations ({@code app.ai.mcts.playouts}).
+ */
+@Component
+public class MctsSearch {
+
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final double PW_C = 2.0;
+    private static final double PW_ALPHA = 0.5;
+
+    private static final int PRIOR_WIN = 2;
+    private static final int PRIOR_THREAT = 1;
+
+    private final SearchMoveGenerator moveGenerator;
+    private final PlayoutEngine playoutEngine;
+    private final int playoutBudget;
+    private final long timeBudgetMs;
+
+    public MctsSearch(SearchMoveGenerator moveGenerator, PlayoutEngine playoutEngine,
+            @Value("${app.ai.mcts.playouts:20000}") int playoutBudget,
+            @Value("${app.ai.mcts.time-budget-ms:2000}") long timeBudgetMs) {
+        this.moveGenerator = moveGenerator;
+        this.playoutEngine = playoutEngine;
+        this.playoutBudget = playoutBudget;
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    public SearchResult search(SearchBoard root, PlayoutRiver river) {
+        return search(root, river, playoutBudget, timeBudgetMs, System.nanoTime());
+    }
+
+    /**
+     * Lance au plus {@code playouts} simulations (borné aussi par le temps). Le
+     * score retourné est le taux de victoire du coup choisi, en pour mille.
+     */
+    public SearchResult search(SearchBoard root, PlayoutRiver river, int playouts, long budgetMs, long seed) {
+        long deadline = System.nanoTime() + budgetMs * 1_000_000L;
+        SearchBoard board = root.copy();
+        PlayoutEngine.Scratch scratch = new PlayoutEngine.Scratch(root, seed);
+        int[] buffer = new int[SearchMoveGenerator.MAX_ACTIONS];
+        Node rootNode = new Node(null, SearchMove.NULL_MOVE, 1 - board.sideToMove());
+
+        int done = 0;
+        while (done < playouts && ((done & 63) != 0 || System.nanoTime() < deadline)) {
+            Node node = rootNode;
+
+            // 1. Sélection / expansion
+            while (board.winner() < 0 && board.ply() < SearchBoard.MAX_PLY - 1) {
+                if (node.untried == null)
+                    node.expand(board, buffer);
+                if (node.canWiden()) {
+                    node = node.addChild(board.sideToMove());
+                    board.make(node.move);
+                    break;
+                }
+                if (node.childCount == 0)
+                    break;
+                node = node.select();
+                board.make(node.move);
+            }
+
+            // 2. Simulation
+            int winner = board.winner();
+            if (winner < 0)
+                winner = playoutEngine.playout(board, river, scratch);
+
+            // 3. Rétropropagation
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                if (winner == n.side)
+                    n.wins += 1.0;
+                else if (winner == PlayoutEngine.DRAW)
+                    n.wins += 0.5;
+            }
+            while (board.ply() > 0)
+                board.unmake();
+            done++;
+        }
+
+        Node best = rootNode.mostVisited();
+        if (best == null)
+            return new SearchResult(SearchMove.NULL_MOVE, 0, 0, done);
+        return new SearchResult(best.move, (int) (1000 * best.wins / Math.max(1, best.visits)), 1, done);
+    }
+
+    private final class Node {
+
+        private final Node parent;
+        private final int move;
+        private final int side; // Camp qui a joué {@code move}
+        private int visits;
+        private double wins;
+
+        private int[] untried;
+        private int nextUntried;
+        private Node[] children = new Node[4];
+        private int childCount;
+
+        Node(Node parent, int move, int side) {
+            this.parent = parent;
+            this.move = move;
+            this.side = side;
+        }
+
+        // Actions triées par a priori décroissant, à égalité dans un ordre aléatoire
+        void expand(SearchBoard board, int[] buffer) {
+            int count = moveGenerator.generate(board, buffer);
+            int side = board.sideToMove();
+            int enemyLeader = board.leaderCell(1 - side);
+            long[] keyed = new long[count];
+            for (int i = 0; i < count; i++) {
+                int prior = prior(board, buffer[i], side, enemyLeader);
+                int jitter = (buffer[i] * 0x9E3779B1) >>> 8;
+                keyed[i] = ((long) (PRIOR_WIN - prior) << 56) | ((long) jitter << 32) | (buffer[i] & 0xFFFF_FFFFL);
+            }
+            Arrays.sort(keyed);
+            untried = new int[count];
+            for (int i = 0; i < count; i++)
+                untried[i] = (int) keyed[i];
+        }
+
+        private int prior(SearchBoard board, int move, int side, int enemyLeader) {
+            if (enemyLeader < 0 || SearchMove.kind(move) == SearchMove.PASS)
+                return 0;
+            long around = HexBitboards.neighbors(enemyLeader) | HexBitboards.ring2(enemyLeader);
+            if ((around & HexBitboards.bit(SearchMove.to(move))) == 0 && SearchMove.target(move) != enemyLeader)
+                return 0;
+            board.make(move);
+            boolean wins = board.winner() == side;
+            board.unmake();
+            return wins ? PRIOR_WIN : PRIOR_THREAT;
+        }
+
+        boolean canWiden() {
+            if (nextUntried >= untried.length)
+                return false;
+            return childCount < 1 + (int) (PW_C * Math.pow(visits, PW_ALPHA));
+        }
+
+        Node addChild(int sideToMove) {
+            Node child = new Node(this, untried[nextUntried++], sideToMove);
+            if (childCount == children.length)
+                children = Arrays.copyOf(children, childCount * 2);
+            children[childCount++] = child;
+            return child;
+        }
+
+        Node select() {
+            double logVisits = Math.log(Math.max(1, visits));
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < childCount; i++) {
+                Node child = children[i];
+                double value = child.visits == 0 ? Double.MAX_VALUE
+                        : child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        Node mostVisited() {
+            Node best = null;
+            for (int i = 0; i < childCount; i++) {
+                if (best == null || children[i].visits > best.visits)
+                    best = children[i];
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+
+/**
+ * Simulation rapide d'une fin de partie en mémoire, pour le MCTS.
+ * À chaque demi-coup, une pièce du camp qui joue est tirée au hasard et joue une
+ * de ses actions (déplacement ou compétence) ; une action qui menace le Leader
+ * adverse est préférée une fois sur deux. Quand toutes les pièces d'un camp
+ * ont agi, il recrute une carte de la rivière sur sa zone de départ.
+ * La partie s'arrête sur capture / encerclement (mêmes règles que
+ * VictoryService) ou après {@link #MAX_PLAYOUT_PLIES} demi-coups (nulle).
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayoutEngine {
+
+    public static final int MAX_PLAYOUT_PLIES = 300;
+    public static final int DRAW = -1;
+
+    // Règle : 4 unités maximum hors Leader et Ourson
+    private static final int MAX_UNITS = 4;
+
+    // Zones de recrutement (cf. RecruitmentService)
+    static final long[] SPAWN = new long[2];
+
+    static {
+        for (int q = -3; q <= 3; q++) {
+            for (int r = -3; r <= 3; r++) {
+                int cell = HexBitboards.cellIndex(q, r);
+                if (cell < 0)
+                    continue;
+                if ((r == 3 && q <= 0) || (q + r == 3 && q >= 0))
+                    SPAWN[0] |= HexBitboards.bit(cell);
+                if ((r == -3 && q >= 0) || (q + r == -3 && q <= 0))
+                    SPAWN[1] |= HexBitboards.bit(cell);
+            }
+        }
+    }
+
+    private final SearchMoveGenerator moveGenerator;
+
+    /** Tampons d'une simulation : un par thread, jamais partagé. */
+    public static final class Scratch {
+
+        private final SearchBoard board;
+        private final PlayoutRiver river = new PlayoutRiver();
+        private final int[] actions = new int[SearchMoveGenerator.MAX_ACTIONS];
+        private final int[] threats = new int[SearchMoveGenerator.MAX_ACTIONS];
+        private final SplittableRandom random;
+
+        public Scratch(SearchBoard template, long seed) {
+            this.board = template.copy();
+            this.random = new SplittableRandom(seed);
+        }
+
+        SearchBoard board() {
+            return board;
+        }
+    }
+
+    /**
+     * Joue une partie aléatoire depuis {@code start} (non modifié) et retourne le
+     * camp vainqueur, ou {@link #DRAW}.
+     */
+    public int playout(SearchBoard start, PlayoutRiver river, Scratch scratch) {
+        SearchBoard board = scratch.board;
+        board.copyFrom(start);
+        scratch.river.copyFrom(river);
+        SplittableRandom random = scratch.random;
+
+        int winner = board.winner();
+        for (int plies = 0; winner < 0 && plies < MAX_PLAYOUT_PLIES; plies++) {
+            int side = board.sideToMove();
+            long actors = board.actors(side);
+            if (actors == 0) {
+                board.play(SearchMove.pass()); // Plus que la Némésis
+                continue;
+            }
+
+            int from = nthBit(actors, random.nextInt(Long.bitCount(actors)));
+            boolean endsTurn = Long.bitCount(actors) == 1;
+            board.play(chooseAction(board, from, side, scratch));
+
+            if (endsTurn)
+                recruit(board, side, scratch.river, random);
+            winner = board.winner();
+        }
+        return winner < 0 ? DRAW : winner;
+    }
+
+    private int chooseAction(SearchBoard board, int from, int side, Scratch scratch) {
+        int[] actions = scratch.actions;
+        int count = moveGenerator.generate(board, from, actions, 0);
+        if (count == 0)
+            return SearchMove.move(from, from); // La pièce passe son tour
+
+        int enemyLeader = board.leaderCell(1 - side);
+        if (enemyLeader >= 0 && scratch.random.nextBoolean()) {
+            long aroundLeader = HexBitboards.neighbors(enemyLeader);
+            int threatCount = 0;
+            for (int i = 0; i < count; i++) {
+                int action = actions[i];
+                if ((aroundLeader & HexBitboards.bit(SearchMove.to(action))) != 0
+                        || SearchMove.target(action) == enemyLeader)
+                    scratch.threats[threatCount++] = action;
+            }
+            if (threatCount > 0)
+                return scratch.threats[scratch.random.nextInt(threatCount)];
+        }
+        return actions[scratch.random.nextInt(count)];
+    }
+
+    private void recruit(SearchBoard board, int side, PlayoutRiver river, SplittableRandom random) {
+        if (river.visibleCount() == 0)
+            return;
+        long units = board.owner(side) & ~board.character(BoardState.LEADER) & ~board.character(BoardState.CUB);
+        if (Long.bitCount(units) >= MAX_UNITS)
+            return;
+        long spawn = SPAWN[side] & board.empty();
+        int free = Long.bitCount(spawn);
+        if (free == 0)
+            return;
+
+        int index = random.nextInt(river.visibleCount());
+        int code = river.visible(index);
+        if (code == BoardState.OLD_BEAR) {
+            // Le Vieil Ours arrive avec l'Ourson : deux cases libres
+            if (free < 2)
+                return;
+            int bear = nthBit(spawn, random.nextInt(free));
+            spawn &= ~HexBitboards.bit(bear);
+            board.put(bear, side, BoardState.OLD_BEAR, null);
+            board.put(nthBit(spawn, random.nextInt(free - 1)), side, BoardState.CUB, null);
+        } else {
+            board.put(nthBit(spawn, random.nextInt(free)), side, code, null);
+        }
+        river.take(index, random);
+    }
+
+    static int nthBit(long mask, int n) {
+        for (int i = 0; i < n; i++)
+            mask &= mask - 1;
+        return Long.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,66 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Rivière de recrutement simplifiée pour les simulations : cartes visibles et
+ * pioche, en codes personnage (cf. {@link BoardState}). L'ordre de la pioche
+ * n'est pas connu de l'IA : la carte qui remplace une carte recrutée est tirée
+ * au hasard.
+ */
+public final class PlayoutRiver {
+
+    private static final int MAX_CARDS = BoardState.CHARACTER_COUNT * 2;
+
+    private final int[] visible = new int[MAX_CARDS];
+    private final int[] deck = new int[MAX_CARDS];
+    private int visibleCount;
+    private int deckCount;
+
+    public static PlayoutRiver fromCards(List<RecruitmentCardEntity> cards) {
+        PlayoutRiver river = new PlayoutRiver();
+        for (RecruitmentCardEntity card : cards) {
+            if (card.getCharacter() == null)
+                continue;
+            int code = BoardState.characterCode(card.getCharacter().getId());
+            if (code == BoardState.OTHER)
+                continue;
+            if (card.getState() == CardState.VISIBLE && river.visibleCount < MAX_CARDS)
+                river.visible[river.visibleCount++] = code;
+            else if (card.getState() == CardState.IN_DECK && river.deckCount < MAX_CARDS)
+                river.deck[river.deckCount++] = code;
+        }
+        return river;
+    }
+
+    public void copyFrom(PlayoutRiver other) {
+        System.arraycopy(other.visible, 0, visible, 0, other.visibleCount);
+        System.arraycopy(other.deck, 0, deck, 0, other.deckCount);
+        visibleCount = other.visibleCount;
+        deckCount = other.deckCount;
+    }
+
+    public int visibleCount() {
+        return visibleCount;
+    }
+
+    public int visible(int index) {
+        return visible[index];
+    }
+
+    /** Retire la carte visible {@code index} et la remplace depuis la pioche. */
+    public void take(int index, SplittableRandom random) {
+        if (deckCount > 0) {
+            int drawn = random.nextInt(deckCount);
+            visible[index] = deck[drawn];
+            deck[drawn] = deck[--deckCount];
+        } else {
+            visible[index] = visible[--visibleCount];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Évaluation statique d'une position, en entiers, du point de vue d'un camp.
+ * Reprend les critères de l'heuristique EXPERT de l'AiService : matériel,
+ * approche du Leader adverse, contrôle du centre, garde rapprochée du Leader,
+ * pression de capture et risque d'encerclement.
+ */
+@Component
+public class PositionEvaluator {
+
+    private static final int CENTER = HexBitboards.cellIndex(0, 0);
+
+    // Valeurs alignées sur AiService.getPieceValue (hors Leader)
+    private static final int[] PIECE_VALUE = new int[BoardState.CHARACTER_COUNT];
+
+    static {
+        Arrays.fill(PIECE_VALUE, 60);
+        PIECE_VALUE[BoardState.LEADER] = 0;
+        PIECE_VALUE[BoardState.ASSASSIN] = 150;
+        PIECE_VALUE[BoardState.CAVALRY] = 120;
+        PIECE_VALUE[BoardState.ILLUSIONIST] = 110;
+        PIECE_VALUE[BoardState.ARCHER] = 90;
+        PIECE_VALUE[BoardState.BRAWLER] = 70;
+        PIECE_VALUE[BoardState.OLD_BEAR] = 100;
+        PIECE_VALUE[BoardState.VIZIER] = 95;
+        PIECE_VALUE[BoardState.PROWLER] = 90;
+        PIECE_VALUE[BoardState.GRAPPLER] = 85;
+    }
+
+    private static final int CAPTURE_POINT = 400;
+    private static final int GUARD_BONUS = 50;
+    private static final int LEADER_DISTANCE = 20;
+    private static final int CENTER_DISTANCE = 10;
+    private static final int LAST_EXIT = 300;
+
+    /** Score de {@code side} moins celui de l'adversaire. */
+    public int evaluate(SearchBoard board, int side) {
+        return score(board, side) - score(board, 1 - side);
+    }
+
+    private int score(SearchBoard board, int side) {
+        int score = 0;
+        int enemyLeader = board.leaderCell(1 - side);
+        int myLeader = board.leaderCell(side);
+
+        for (long pieces = board.owner(side); pieces != 0; pieces &= pieces - 1) {
+            int cell = Long.numberOfTrailingZeros(pieces);
+            int code = board.characterAt(cell);
+            score += PIECE_VALUE[code];
+            if (code == BoardState.LEADER)
+                continue;
+            if (enemyLeader >= 0)
+                score -= LEADER_DISTANCE * HexBitboards.distance(cell, enemyLeader);
+            score -= CENTER_DISTANCE * HexBitboards.distance(cell, CENTER);
+        }
+
+        // Pression sur le Leader adverse (1 point de plus = victoire)
+        score += CAPTURE_POINT * board.capturePoints(1 - side);
+
+        if (myLeader >= 0) {
+            score += GUARD_BONUS * Long.bitCount(HexBitboards.neighbors(myLeader) & board.owner(side));
+            // Une seule case libre autour du Leader : encerclement imminent
+            if (Long.bitCount(board.emptyNeighbors(myLeader)) == 1)
+                score -= LAST_EXIT;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,385 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.BoardView;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.enums.VictoryType;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plateau mutable utilisé par la recherche IA : les actions sont appliquées
+ * avec {@link #make(int)} puis annulées avec {@link #unmake()}, sans
+ * allocation.
+ * Reprend les règles du serveur : réaction de la Némésis quand un Leader est
+ * déplacé, capture (Assassin = 2 points, Archère à distance 2, Ourson exclu)
+ * et encerclement.
+ * Un demi-coup = une action d'une pièce ; chaque pièce n'agit qu'une fois
+ * avant que son camp ne retrouve toutes ses pièces (approximation du tour).
+ * La clé de Zobrist est tenue à jour à chaque modification, dans les deux sens.
+ */
+public final class SearchBoard implements BoardView {
+
+    public static final int MAX_PLY = 128;
+
+    private static final int CELLS = HexBitboards.CELL_COUNT;
+
+    private final long[] owners = new long[2];
+    private final long[] characters = new long[BoardState.CHARACTER_COUNT];
+    private final byte[] cellCharacter = new byte[CELLS];
+    private final UUID[] pieceIds = new UUID[CELLS];
+    private final long[] acted = new long[2];
+    private int sideToMove;
+    private int ply;
+    private long hash;
+
+    // Pile d'annulation
+    private final int[] undoMove = new int[MAX_PLY];
+    private final int[] undoNemesis = new int[MAX_PLY * 2];
+    private final long[] undoActed = new long[MAX_PLY * 2];
+
+    // Parcours en largeur de la Némésis
+    private final int[] bfsQueue = new int[CELLS];
+    private final int[] bfsDepth = new int[CELLS];
+
+    private SearchBoard() {
+        Arrays.fill(cellCharacter, (byte) -1);
+    }
+
+    /**
+     * Construit le plateau depuis les pièces de la partie. Les pièces ayant déjà
+     * agi ce tour sont reprises pour le camp qui joue.
+     */
+    public static SearchBoard fromPieces(List<PieceEntity> pieces, int sideToMove) {
+        SearchBoard board = new SearchBoard();
+        for (PieceEntity piece : pieces) {
+            int cell = HexBitboards.cellIndex(piece.getQ(), piece.getR());
+            if (cell < 0)
+                continue;
+            int owner = piece.getOwnerIndex() != null && piece.getOwnerIndex() == 1 ? 1 : 0;
+            board.put(cell, owner, BoardState.characterCode(piece.getCharacterId()), piece.getId());
+            if (owner == sideToMove && Boolean.TRUE.equals(piece.getHasActedThisTurn()))
+                board.setActed(owner, board.acted[owner] | HexBitboards.bit(cell));
+        }
+        board.sideToMove = sideToMove;
+        if (sideToMove == 1)
+            board.hash ^= Zobrist.SIDE;
+        return board;
+    }
+
+    public SearchBoard copy() {
+        SearchBoard copy = new SearchBoard();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /** Recopie {@code other} dans ce plateau (réutilisé par les simulations). */
+    public void copyFrom(SearchBoard other) {
+        System.arraycopy(other.owners, 0, owners, 0, owners.length);
+        System.arraycopy(other.characters, 0, characters, 0, characters.length);
+        System.arraycopy(other.cellCharacter, 0, cellCharacter, 0, CELLS);
+        System.arraycopy(other.pieceIds, 0, pieceIds, 0, CELLS);
+        System.arraycopy(other.acted, 0, acted, 0, 2);
+        sideToMove = other.sideToMove;
+        hash = other.hash;
+        ply = 0;
+    }
+
+    void put(int cell, int owner, int code, UUID id) {
+        long bit = HexBitboards.bit(cell);
+        owners[owner] |= bit;
+        characters[code] |= bit;
+        cellCharacter[cell] = (byte) code;
+        pieceIds[cell] = id;
+        hash ^= Zobrist.piece(owner, code, cell);
+    }
+
+    // --- BoardView ---
+
+    @Override
+    public long owner(int ownerIndex) {
+        return owners[ownerIndex];
+    }
+
+    @Override
+    public long character(int code) {
+        return characters[code];
+    }
+
+    @Override
+    public int characterAt(int cell) {
+        return cellCharacter[cell];
+    }
+
+    public UUID pieceIdAt(int cell) {
+        return pieceIds[cell];
+    }
+
+    public int sideToMove() {
+        return sideToMove;
+    }
+
+    public int ply() {
+        return ply;
+    }
+
+    /** Clé de Zobrist de la position (pièces, pièces ayant agi, camp qui joue). */
+    public long hash() {
+        return hash;
+    }
+
+    /** Recalcule la clé depuis zéro (contrôle de la mise à jour incrémentale). */
+    long computeHash() {
+        long key = sideToMove == 1 ? Zobrist.SIDE : 0L;
+        for (int owner = 0; owner < 2; owner++) {
+            for (long m = owners[owner]; m != 0; m &= m - 1) {
+                int cell = Long.numberOfTrailingZeros(m);
+                key ^= Zobrist.piece(owner, cellCharacter[cell], cell);
+            }
+            key ^= Zobrist.acted(owner, acted[owner]);
+        }
+        return key;
+    }
+
+    /** Pièces du camp pouvant encore agir avant la fin de son "tour". */
+    public long actors(int side) {
+        return owners[side] & ~characters[BoardState.NEMESIS] & ~acted[side];
+    }
+
+    // --- Make / Unmake ---
+
+    public void make(int move) {
+        int side = sideToMove;
+        undoMove[ply] = move;
+        undoActed[ply * 2] = acted[0];
+        undoActed[ply * 2 + 1] = acted[1];
+        undoNemesis[ply * 2] = -1;
+        undoNemesis[ply * 2 + 1] = -1;
+
+        int kind = SearchMove.kind(move);
+        if (kind != SearchMove.PASS) {
+            int from = SearchMove.from(move);
+            int to = SearchMove.to(move);
+            int target = SearchMove.target(move);
+            int targetDest = SearchMove.targetDest(move);
+
+            if (kind == SearchMove.SWAP) {
+                swap(from, target);
+            } else {
+                // La cible bouge d'abord (ex: Cogneur qui prend sa place)
+                if (target != SearchMove.NONE && targetDest != SearchMove.NONE)
+                    relocate(target, targetDest);
+                if (to != from)
+                    relocate(from, to);
+            }
+
+            setActed(side, acted[side] | HexBitboards.bit(to));
+            if (actors(side) == 0)
+                setActed(side, 0L); // Toutes les pièces ont agi : nouveau tour
+
+            // Némésis : réagit au déplacement d'un Leader (source puis cible)
+            int slot = 0;
+            if (to != from && cellCharacter[to] == BoardState.LEADER)
+                slot = react(to, slot);
+            int movedTarget = kind == SearchMove.SWAP ? from : targetDest;
+            if (movedTarget != SearchMove.NONE && cellCharacter[movedTarget] == BoardState.LEADER)
+                react(movedTarget, slot);
+        } else {
+            setActed(side, 0L);
+        }
+
+        sideToMove ^= 1;
+        hash ^= Zobrist.SIDE;
+        ply++;
+    }
+
+    /** Applique l'action sans pouvoir l'annuler (simulations de fin de partie). */
+    public void play(int move) {
+        make(move);
+        ply--;
+    }
+
+    public void unmake() {
+        ply--;
+        sideToMove ^= 1;
+        hash ^= Zobrist.SIDE;
+        int move = undoMove[ply];
+
+        for (int slot = 1; slot >= 0; slot--) {
+            int nemesis = undoNemesis[ply * 2 + slot];
+            if (nemesis >= 0)
+                relocate(nemesis >>> 6, nemesis & 63);
+        }
+
+        int kind = SearchMove.kind(move);
+        if (kind != SearchMove.PASS) {
+            int from = SearchMove.from(move);
+            int to = SearchMove.to(move);
+            int target = SearchMove.target(move);
+            int targetDest = SearchMove.targetDest(move);
+
+            if (kind == SearchMove.SWAP) {
+                swap(from, target);
+            } else {
+                if (to != from)
+                    relocate(to, from);
+                if (target != SearchMove.NONE && targetDest != SearchMove.NONE)
+                    relocate(targetDest, target);
+            }
+        }
+
+        setActed(0, undoActed[ply * 2]);
+        setActed(1, undoActed[ply * 2 + 1]);
+    }
+
+    private void setActed(int side, long mask) {
+        hash ^= Zobrist.acted(side, acted[side] ^ mask);
+        acted[side] = mask;
+    }
+
+    /** Dernière action jouée (ou NULL_MOVE à la racine). */
+    public int lastMove() {
+        return ply == 0 ? SearchMove.NULL_MOVE : undoMove[ply - 1];
+    }
+
+    private void relocate(int from, int to) {
+        long change = HexBitboards.bit(from) | HexBitboards.bit(to);
+        int owner = (owners[0] & HexBitboards.bit(from)) != 0 ? 0 : 1;
+        int code = cellCharacter[from];
+        owners[owner] ^= change;
+        characters[code] ^= change;
+        hash ^= Zobrist.piece(owner, code, from) ^ Zobrist.piece(owner, code, to);
+        if ((acted[owner] & HexBitboards.bit(from)) != 0)
+            setActed(owner, acted[owner] ^ change);
+        cellCharacter[to] = (byte) code;
+        cellCharacter[from] = -1;
+        pieceIds[to] = pieceIds[from];
+        pieceIds[from] = null;
+    }
+
+    private void swap(int a, int b) {
+        long change = HexBitboards.bit(a) | HexBitboards.bit(b);
+        int ownerA = ownerAt(a);
+        int ownerB = ownerAt(b);
+        if (ownerA != ownerB) {
+            owners[ownerA] ^= change;
+            owners[ownerB] ^= change;
+        }
+        int codeA = cellCharacter[a];
+        int codeB = cellCharacter[b];
+        if (codeA != codeB) {
+            characters[codeA] ^= change;
+            characters[codeB] ^= change;
+        }
+        hash ^= Zobrist.piece(ownerA, codeA, a) ^ Zobrist.piece(ownerB, codeB, b)
+                ^ Zobrist.piece(ownerA, codeA, b) ^ Zobrist.piece(ownerB, codeB, a);
+        for (int side = 0; side < 2; side++) {
+            long diff = ((acted[side] >>> a) ^ (acted[side] >>> b)) & 1L;
+            setActed(side, acted[side] ^ ((diff << a) | (diff << b)));
+        }
+        cellCharacter[a] = (byte) codeB;
+        cellCharacter[b] = (byte) codeA;
+        UUID id = pieceIds[a];
+        pieceIds[a] = pieceIds[b];
+        pieceIds[b] = id;
+    }
+
+    /**
+     * Réaction de la Némésis adverse au déplacement du Leader posé sur
+     * {@code leader} (même parcours que NemesisBehavior : 2 pas maximum, au plus
+     * près du Leader puis le plus loin possible).
+     */
+    private int react(int leader, int slot) {
+        long nemesis = pieces(1 - ownerAt(leader), BoardState.NEMESIS);
+        if (nemesis == 0)
+            return slot;
+        int start = Long.numberOfTrailingZeros(nemesis);
+
+        long visited = HexBitboards.bit(start);
+        long occupied = occupied();
+        int head = 0;
+        int tail = 0;
+        bfsQueue[tail] = start;
+        bfsDepth[tail++] = 0;
+
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int bestSteps = -1;
+        while (head < tail) {
+            int cell = bfsQueue[head];
+            int depth = bfsDepth[head++];
+
+            if (depth > 0 && cell != leader) {
+                int d = HexBitboards.distance(cell, leader);
+                if (d < bestDistance || (d == bestDistance && depth > bestSteps)) {
+                    best = cell;
+                    bestDistance = d;
+                    bestSteps = depth;
+                }
+            }
+
+            if (depth < 2) {
+                for (int dir = 0; dir < HexBitboards.DIRECTIONS.length; dir++) {
+                    int n = HexBitboards.neighbor(cell, dir);
+                    if (n < 0 || (visited & HexBitboards.bit(n)) != 0)
+                        continue;
+                    if (n == leader || (occupied & HexBitboards.bit(n)) == 0) {
+                        visited |= HexBitboards.bit(n);
+                        bfsQueue[tail] = n;
+                        bfsDepth[tail++] = depth + 1;
+                    }
+                }
+            }
+        }
+
+        if (best < 0)
+            return slot;
+        relocate(start, best);
+        undoNemesis[(ply) * 2 + slot] = (best << 6) | start;
+        return slot + 1;
+    }
+
+    // --- Victoire ---
+
+    /** Points de capture accumulés contre le Leader de {@code leaderOwner}. */
+    public int capturePoints(int leaderOwner) {
+        int leader = leaderCell(leaderOwner);
+        if (leader < 0)
+            return 0;
+        long enemies = owners[1 - leaderOwner];
+        long adjacent = HexBitboards.neighbors(leader) & enemies & ~characters[BoardState.CUB];
+        long assassins = adjacent & characters[BoardState.ASSASSIN];
+        long archersAtRange = HexBitboards.ring2(leader) & HexBitboards.aligned(leader) & enemies
+                & characters[BoardState.ARCHER];
+        return Long.bitCount(adjacent & ~characters[BoardState.ARCHER] & ~assassins)
+                + 2 * Long.bitCount(assassins)
+                + Long.bitCount(archersAtRange);
+    }
+
+    /** Type de défaite du Leader de {@code leaderOwner}, ou null. */
+    public VictoryType defeatOf(int leaderOwner) {
+        int leader = leaderCell(leaderOwner);
+        if (leader < 0)
+            return null;
+        if (capturePoints(leaderOwner) >= 2)
+            return VictoryType.CAPTURE;
+        if (isEncircled(leader))
+            return VictoryType.ENCIRCLEMENT;
+        return null;
+    }
+
+    /**
+     * Vainqueur de la position, ou -1. Le Leader du camp qui vient de subir
+     * l'action est examiné en premier.
+     */
+    public int winner() {
+        if (defeatOf(sideToMove) != null)
+            return 1 - sideToMove;
+        if (defeatOf(1 - sideToMove) != null)
+            return sideToMove;
+        return -1;
+    }
+}
@@ -0,0 +1,81 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+/**
+ * Encodage d'une action de recherche dans un {@code int} (aucune allocation) :
+ * <pre>
+ * bits  0-5  : case de la pièce qui agit
+ * bits  6-11 : case d'arrivée de cette pièce (= départ si elle ne bouge pas)
+ * bits 12-17 : case de la pièce ciblée (NONE sinon)
+ * bits 18-23 : case d'arrivée de la cible (NONE sinon)
+ * bits 24-27 : type d'action
+ * </pre>
+ */
+public final class SearchMove {
+
+    public static final int MOVE = 0; // Déplacement (standard ou compétence de mouvement)
+    public static final int SWAP = 1; // ILLUSIONIST_SWAP
+    public static final int PULL = 2; // GRAPPLE_HOOK, la cible est attirée
+    public static final int HOOK = 3; // GRAPPLE_HOOK, le Grappler se déplace
+    public static final int PUSH = 4; // BRAWLER_PUSH
+    public static final int MANIPULATE = 5; // MANIPULATOR_MOVE
+    public static final int ASSIST = 6; // INNKEEPER_ASSIST
+    public static final int PASS = 7; // Aucune action possible
+
+    public static final int NONE = 63;
+    public static final int NULL_MOVE = -1;
+
+    private SearchMove() {
+    }
+
+    public static int encode(int kind, int from, int to, int target, int targetDest) {
+        return from | (to << 6) | (target << 12) | (targetDest << 18) | (kind << 24);
+    }
+
+    public static int move(int from, int to) {
+        return encode(MOVE, from, to, NONE, NONE);
+    }
+
+    public static int pass() {
+        return encode(PASS, NONE, NONE, NONE, NONE);
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int target(int move) {
+        return (move >>> 12) & 63;
+    }
+
+    public static int targetDest(int move) {
+        return (move >>> 18) & 63;
+    }
+
+    public static int kind(int move) {
+        return (move >>> 24) & 15;
+    }
+
+    /** Compétence à transmettre à l'ActionService, ou null pour un déplacement. */
+    public static String abilityId(int move) {
+        return switch (kind(move)) {
+            case SWAP -> "ILLUSIONIST_SWAP";
+            case PULL, HOOK -> "GRAPPLE_HOOK";
+            case PUSH -> "BRAWLER_PUSH";
+            case MANIPULATE -> "MANIPULATOR_MOVE";
+            case ASSIST -> "INNKEEPER_ASSIST";
+            default -> null;
+        };
+    }
+
+    public static String toString(int move) {
+        if (move == NULL_MOVE)
+            return "none";
+        String name = abilityId(move) == null ? (kind(move) == PASS ? "PASS" : "MOVE") : abilityId(move);
+        return name + "[" + from(move) + "->" + to(move)
+                + (target(move) == NONE ? "" : ", " + target(move) + "->" + targetDest(move)) + "]";
+    }
+}
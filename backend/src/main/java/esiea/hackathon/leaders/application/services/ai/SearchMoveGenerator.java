@@ -0,0 +1,126 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Génère toutes les actions du camp qui joue sur un {@link SearchBoard} :
+ * déplacements (via le {@link MoveGenerator}) et compétences actives qui
+ * déplacent des pièces (Illusionniste, Lance-Grappin, Manipulatrice, Cogneur,
+ * Tavernier). Les contrôles reprennent ceux de l'ActionService : Geôlier
+ * adjacent, aura du Protecteur, ligne de vue.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMoveGenerator {
+
+    // Borne large : 7 pièces x 37 cases + compétences
+    public static final int MAX_ACTIONS = 512;
+
+    private final MoveGenerator moveGenerator;
+
+    /**
+     * Écrit les actions dans {@code out} et retourne leur nombre. S'il n'y a
+     * aucune action possible, un PASS est produit.
+     */
+    public int generate(SearchBoard board, int[] out) {
+        int count = 0;
+        for (long actors = board.actors(board.sideToMove()); actors != 0; actors &= actors - 1) {
+            count = generate(board, Long.numberOfTrailingZeros(actors), out, count);
+        }
+
+        if (count == 0)
+            out[count++] = SearchMove.pass();
+        return count;
+    }
+
+    /**
+     * Ajoute à {@code out}, à partir de l'indice {@code count}, les actions de la
+     * seule pièce posée sur {@code from}. Retourne le nouveau nombre d'actions.
+     */
+    public int generate(SearchBoard board, int from, int[] out, int count) {
+        int side = board.ownerAt(from);
+
+        long moves = moveGenerator.legalMoveMask(board, from);
+        for (; moves != 0; moves &= moves - 1) {
+            out[count++] = SearchMove.move(from, Long.numberOfTrailingZeros(moves));
+        }
+
+        // Geôlier ennemi adjacent : compétence active bloquée
+        if ((HexBitboards.neighbors(from) & board.pieces(1 - side, BoardState.JAILER)) == 0) {
+            count = generateAbilities(board, from, side, out, count);
+        }
+        return count;
+    }
+
+    private int generateAbilities(SearchBoard board, int from, int side, int[] out, int count) {
+        long occupied = board.occupied();
+        long enemies = board.owner(1 - side);
+        // Cibles visibles en ligne droite et non-adjacentes
+        long farTargets = occupied & HexBitboards.aligned(from) & ~HexBitboards.neighbors(from);
+
+        switch (board.characterAt(from)) {
+            case BoardState.ILLUSIONIST -> {
+                for (long t = farTargets; t != 0; t &= t - 1) {
+                    int target = Long.numberOfTrailingZeros(t);
+                    if (board.isPathClear(from, target) && !board.isProtected(target))
+                        out[count++] = SearchMove.encode(SearchMove.SWAP, from, target, target, from);
+                }
+            }
+            case BoardState.GRAPPLER -> {
+                for (long t = farTargets; t != 0; t &= t - 1) {
+                    int target = Long.numberOfTrailingZeros(t);
+                    if (!board.isPathClear(from, target))
+                        continue;
+                    int dir = HexBitboards.direction(from, target);
+                    // Le chemin est libre : les deux cases d'arrivée sont vides
+                    int landing = HexBitboards.neighbor(target, dir ^ 1);
+                    out[count++] = SearchMove.encode(SearchMove.HOOK, from, landing, target, SearchMove.NONE);
+                    if (!board.isProtected(target)) {
+                        int pulled = HexBitboards.neighbor(from, dir);
+                        out[count++] = SearchMove.encode(SearchMove.PULL, from, from, target, pulled);
+                    }
+                }
+            }
+            case BoardState.MANIPULATOR -> {
+                for (long t = farTargets & enemies; t != 0; t &= t - 1) {
+                    int target = Long.numberOfTrailingZeros(t);
+                    if (!board.isPathClear(from, target) || board.isProtected(target))
+                        continue;
+                    for (long d = board.emptyNeighbors(target); d != 0; d &= d - 1) {
+                        out[count++] = SearchMove.encode(SearchMove.MANIPULATE, from, from, target,
+                                Long.numberOfTrailingZeros(d));
+                    }
+                }
+            }
+            case BoardState.BRAWLER -> {
+                long inReach = (HexBitboards.neighbors(from) | HexBitboards.ring2(from)) & enemies;
+                for (long t = inReach; t != 0; t &= t - 1) {
+                    int target = Long.numberOfTrailingZeros(t);
+                    if (board.isProtected(target))
+                        continue;
+                    for (long d = board.emptyNeighbors(target); d != 0; d &= d - 1) {
+                        out[count++] = SearchMove.encode(SearchMove.PUSH, from, target, target,
+                                Long.numberOfTrailingZeros(d));
+                    }
+                }
+            }
+            case BoardState.INNKEEPER -> {
+                long allies = HexBitboards.neighbors(from) & board.owner(side);
+                for (long t = allies; t != 0; t &= t - 1) {
+                    int target = Long.numberOfTrailingZeros(t);
+                    for (long d = board.emptyNeighbors(target); d != 0; d &= d - 1) {
+                        out[count++] = SearchMove.encode(SearchMove.ASSIST, from, from, target,
+                                Long.numberOfTrailingZeros(d));
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+/**
+ * Résultat d'une recherche : meilleure action (encodée, cf. {@link SearchMove}),
+ * score du point de vue du camp qui joue, profondeur complète atteinte et
+ * nombre de positions visitées.
+ */
+public record SearchResult(int move, int score, int depth, long nodes) {
+
+    public boolean hasMove() {
+        return move != SearchMove.NULL_MOVE;
+    }
+}
@@ -0,0 +1,161 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool borné dédié aux threads auxiliaires de la recherche IA.
+ * Équité : les threads sont répartis entre les parties qui cherchent en même
+ * temps, une partie EXPERT ne peut donc pas monopoliser le pool. La part de
+ * chaque partie est recalculée à chaque arrivée ou départ : une recherche
+ * complète ses auxiliaires entre deux itérations ({@link #tryAddHelper}) et
+ * ceux en trop s'arrêtent d'eux-mêmes ({@link #retireHelper}), y compris ceux
+ * encore en file.
+ */
+@Component
+public class SearchThreadPool {
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    // Parties en cours de recherche -> recherches et auxiliaires en cours ou en file
+    private final Map<UUID, GameShare> activeGames = new ConcurrentHashMap<>();
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder totalNodes = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong lastNodesPerSecond = new AtomicLong();
+    private final AtomicInteger lastThreads = new AtomicInteger();
+
+    public SearchThreadPool(@Value("${app.ai.search.threads:0}") int threads) {
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("ai-search-" + counter.incrementAndGet());
+            return thread;
+        };
+        // Taille maximale = parallélisme : aucun thread de compensation
+        this.pool = new ForkJoinPool(parallelism, factory, null, false,
+                0, parallelism, 1, null, 60, TimeUnit.SECONDS);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Enregistre une recherche pour la partie et retourne le nombre de threads
+     * auquel elle a droit (thread appelant compris).
+     */
+    public int acquire(UUID gameId) {
+        activeGames.compute(gameId, (id, share) -> {
+            GameShare current = share != null ? share : new GameShare();
+            current.searches++;
+            return current;
+        });
+        return share(gameId);
+    }
+
+    public void release(UUID gameId) {
+        activeGames.computeIfPresent(gameId, (id, share) -> --share.searches == 0 ? null : share);
+    }
+
+    /** Part actuelle de la partie (thread appelant compris). */
+    public int share(UUID gameId) {
+        return Math.max(1, parallelism / Math.max(1, activeGames.size()));
+    }
+
+    /** Réserve un auxiliaire si la partie est sous sa part ; à rendre par {@link #helperDone}. */
+    public boolean tryAddHelper(UUID gameId) {
+        GameShare share = activeGames.get(gameId);
+        if (share == null)
+            return false;
+        int allowed = share(gameId) - 1;
+        for (int helpers = share.helpers.get(); helpers < allowed; helpers = share.helpers.get()) {
+            if (share.helpers.compareAndSet(helpers, helpers + 1))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Vrai si la partie dépasse sa part : l'auxiliaire appelant doit s'arrêter,
+     * sa place est déjà rendue.
+     */
+    public boolean retireHelper(UUID gameId) {
+        GameShare share = activeGames.get(gameId);
+        if (share == null)
+            return false;
+        int allowed = share(gameId) - 1;
+        for (int helpers = share.helpers.get(); helpers > allowed; helpers = share.helpers.get()) {
+            if (share.helpers.compareAndSet(helpers, helpers - 1))
+                return true;
+        }
+        return false;
+    }
+
+    public void helperDone(UUID gameId) {
+        GameShare share = activeGames.get(gameId);
+        if (share != null)
+            share.helpers.decrementAndGet();
+    }
+
+    /** Auxiliaires de la partie en cours ou en file. */
+    public int helpers(UUID gameId) {
+        GameShare share = activeGames.get(gameId);
+        return share != null ? share.helpers.get() : 0;
+    }
+
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    public void record(int threads, long nodes, long nanos) {
+        searches.increment();
+        totalNodes.add(nodes);
+        totalNanos.add(nanos);
+        lastThreads.set(threads);
+        lastNodesPerSecond.set(nodesPerSecond(nodes, nanos));
+    }
+
+    public Stats stats() {
+        long nanos = totalNanos.sum();
+        long nodes = totalNodes.sum();
+        return new Stats(parallelism, pool.getPoolSize(), pool.getActiveThreadCount(), activeGames.size(),
+                searches.sum(), nodes, nodesPerSecond(nodes, nanos),
+                lastThreads.get(), lastNodesPerSecond.get());
+    }
+
+    private static long nodesPerSecond(long nodes, long nanos) {
+        return nanos == 0 ? 0 : (long) (nodes * 1e9 / nanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class GameShare {
+        // Modifié sous compute() de la map
+        int searches;
+        final AtomicInteger helpers = new AtomicInteger();
+    }
+
+    public record Stats(int parallelism, int poolSize, int activeThreads, int activeGames, long searches,
+            long nodes, long nodesPerSecond, int lastSearchThreads, long lastNodesPerSecond) {
+    }
+}
@@ -0,0 +1,134 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Table de transposition de taille fixe, sans verrou, partagée par toutes les
+ * recherches (les clés de Zobrist ne dépendent que de la position).
+ * <p>
+ * Chaque entrée occupe deux {@code long} : {@code clé ^ données} puis
+ * {@code données}. Une écriture concurrente déchirée donne une clé
+ * incohérente : l'entrée est alors simplement vue comme absente.
+ * <p>
+ * Données : coup (bits 0-27), score décalé (28-49), profondeur (50-57),
+ * borne (58-59), génération de recherche (60-63).
+ * Remplacement : on garde l'entrée la plus profonde, sauf si elle vient d'une
+ * autre recherche. Chaque recherche reçoit sa génération de {@link #newSearch()}
+ * et la passe à {@link #store} : les recherches des autres parties, lancées
+ * entre-temps, ne vieillissent pas ses entrées.
+ */
+@Component
+public class TranspositionTable {
+
+    public static final int EXACT = 1;
+    public static final int LOWER = 2; // Score >= valeur (coupure beta)
+    public static final int UPPER = 3; // Score <= valeur (aucun coup n'a amélioré alpha)
+
+    public static final long MISS = 0L;
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    private static final long MOVE_MASK = 0xFFF_FFFFL;
+    private static final int SCORE_OFFSET = 1 << 21;
+    private static final long SCORE_MASK = (1L << 22) - 1;
+
+    private final long[] table;
+    private final int indexMask;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public TranspositionTable(@Value("${app.ai.search.tt-size-mb:16}") int sizeMb) {
+        long bytes = Math.max(1, sizeMb) * 1024L * 1024L;
+        // Nombre d'entrées arrondi à la puissance de 2 inférieure
+        int entries = Integer.highestOneBit((int) Math.min(bytes / ENTRY_BYTES, 1 << 26));
+        this.table = new long[entries * 2];
+        this.indexMask = entries - 1;
+    }
+
+    public int capacity() {
+        return indexMask + 1;
+    }
+
+    /** Génération d'une nouvelle recherche : les entrées des autres deviennent remplaçables par elle. */
+    public int newSearch() {
+        return generation.incrementAndGet() & 15;
+    }
+
+    /** Données de l'entrée associée à {@code key}, ou {@link #MISS}. */
+    public long probe(long key) {
+        int index = index(key);
+        long data = table[index + 1];
+        if (data != MISS && (table[index] ^ data) == key) {
+            hits.increment();
+            return data;
+        }
+        misses.increment();
+        return MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound, int searchGeneration) {
+        int index = index(key);
+        long current = table[index + 1];
+        if (current != MISS && (table[index] ^ current) != key
+                && generation(current) == searchGeneration && depth(current) > depth) {
+            return; // Entrée plus profonde de la recherche en cours : conservée
+        }
+        long data = (move & MOVE_MASK)
+                | (((long) (score + SCORE_OFFSET) & SCORE_MASK) << 28)
+                | ((long) Math.min(depth, 255) << 50)
+                | ((long) bound << 58)
+                | ((long) searchGeneration << 60);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+        stores.increment();
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & indexMask) << 1;
+    }
+
+    // --- Décodage ---
+
+    public static int move(long data) {
+        int move = (int) (data & MOVE_MASK);
+        return move == MOVE_MASK ? SearchMove.NULL_MOVE : move;
+    }
+
+    public static int score(long data) {
+        return (int) ((data >>> 28) & SCORE_MASK) - SCORE_OFFSET;
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> 50) & 255);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> 58) & 3);
+    }
+
+    private static int generation(long data) {
+        return (int) (data >>> 60);
+    }
+
+    // --- Statistiques ---
+
+    public Stats stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        return new Stats(capacity(), h, m, stores.sum(), h + m == 0 ? 0.0 : (double) h / (h + m));
+    }
+
+    public record Stats(int capacity, long hits, long misses, long stores, double hitRate) {
+    }
+}
@@ -0,0 +1,49 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+
+import java.util.SplittableRandom;
+
+/**
+ * Clés de Zobrist : une clé par (personnage, propriétaire, case), une par pièce
+ * ayant déjà agi (le tour en cours change les actions possibles) et une pour le
+ * camp qui joue. Graine fixe : les clés sont identiques d'un démarrage à
+ * l'autre.
+ */
+final class Zobrist {
+
+    private static final int CELLS = HexBitboards.CELL_COUNT;
+
+    private static final long[] PIECE = new long[2 * BoardState.CHARACTER_COUNT * CELLS];
+    private static final long[] ACTED = new long[2 * CELLS];
+    static final long SIDE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x1EAD3B5L);
+        for (int i = 0; i < PIECE.length; i++)
+            PIECE[i] = random.nextLong();
+        for (int i = 0; i < ACTED.length; i++)
+            ACTED[i] = random.nextLong();
+        SIDE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    static long piece(int owner, int code, int cell) {
+        return PIECE[(owner * BoardState.CHARACTER_COUNT + code) * CELLS + cell];
+    }
+
+    static long acted(int side, int cell) {
+        return ACTED[side * CELLS + cell];
+    }
+
+    /** Clé cumulée des cases d'un masque "a déjà agi". */
+    static long acted(int side, long mask) {
+        long key = 0L;
+        for (long m = mask; m != 0; m &= m - 1)
+            key ^= acted(side, Long.numberOfTrailingZeros(m));
+        return key;
+    }
+}
@@ -1,10 +1,26 @@
 package esiea.hackathon.leaders.application.strategies;
 
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.BoardView;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+
 import java.util.List;
 
 public interface MoveAbilityStrategy {
     String getAbilityId();
-    List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces);
-}
\ No newline at end of file
+
+    /**
+     * Cases supplémentaires accessibles à la pièce posée sur {@code cell}, sous
+     * forme de masque (cf. {@link HexBitboards}).
+     */
+    long getExtraMoveMask(BoardView board, int cell);
+
+    default List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces) {
+        int cell = HexBitboards.cellIndex(piece.getQ(), piece.getR());
+        if (cell < 0)
+            return List.of();
+        return HexBitboards.toCoords(getExtraMoveMask(BoardState.fromPieces(allPieces), cell));
+    }
+}
@@ -1,6 +1,7 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
 import esiea.hackathon.leaders.application.strategies.ActionAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import org.springframework.stereotype.Component;
@@ -63,7 +64,7 @@ public class BrawlerPushAction implements ActionAbilityStrategy {
         if (!secondaryDestination.isValid()) {
             throw new IllegalArgumentException("Push destination is off-board");
         }
-        if (HexUtils.isOccupied(secondaryDestination, allPieces)) {
+        if (BoardState.fromPieces(allPieces).isOccupied(secondaryDestination)) {
             throw new IllegalArgumentException("Push destination cell is occupied");
         }
 
@@ -1,6 +1,7 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
 import esiea.hackathon.leaders.application.strategies.ActionAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import org.springframework.stereotype.Component;
@@ -50,7 +51,8 @@ public class GrappleHookAction implements ActionAbilityStrategy {
         }
 
         // Vérifier visibilité (chemin libre + alignement)
-        if (!HexUtils.isPathClear(sourceCoord, targetCoord, allPieces)) {
+        BoardState board = BoardState.fromPieces(allPieces);
+        if (!HexUtils.isPathClear(sourceCoord, targetCoord, board)) {
             throw new IllegalArgumentException("Path to target is blocked or not in line");
         }
 
@@ -77,7 +79,7 @@ public class GrappleHookAction implements ActionAbilityStrategy {
                 throw new IllegalArgumentException("Grappler must move strictly towards the target");
             }
 
-            if (HexUtils.isOccupied(dest, allPieces)) {
+            if (board.isOccupied(dest)) {
                 throw new IllegalArgumentException("Cannot move: destination is occupied");
             }
 
@@ -91,7 +93,7 @@ public class GrappleHookAction implements ActionAbilityStrategy {
             short pullDestQ = (short) (source.getQ() + dirQ);
             short pullDestR = (short) (source.getR() + dirR);
 
-            if (HexUtils.isOccupied(pullDestQ, pullDestR, allPieces)) {
+            if (board.isOccupied(new HexCoord(pullDestQ, pullDestR))) {
                 throw new IllegalArgumentException("Cannot pull: cell adjacent to you is occupied");
             }
 
@@ -1,6 +1,7 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
 import esiea.hackathon.leaders.application.strategies.ActionAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import org.springframework.stereotype.Component;
@@ -34,7 +35,7 @@ public class IllusionistSwapAction implements ActionAbilityStrategy {
         if (!esiea.hackathon.leaders.domain.utils.HexUtils.isPathClear(
                 new HexCoord(source.getQ(), source.getR()),
                 new HexCoord(target.getQ(), target.getR()),
-                allPieces)) {
+                BoardState.fromPieces(allPieces))) {
             throw new IllegalArgumentException("Path to target is blocked or not in line");
         }
 
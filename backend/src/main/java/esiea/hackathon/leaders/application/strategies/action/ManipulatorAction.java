@@ -1,6 +1,7 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
 import esiea.hackathon.leaders.application.strategies.ActionAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import org.springframework.stereotype.Component;
@@ -39,7 +40,8 @@ public class ManipulatorAction implements ActionAbilityStrategy {
         }
 
         // VISIBILITÉ STRICTE (Ligne droite + Pas d'obstacle)
-        if (!HexUtils.isPathClear(sourceCoord, targetCoord, allPieces)) {
+        BoardState board = BoardState.fromPieces(allPieces);
+        if (!HexUtils.isPathClear(sourceCoord, targetCoord, board)) {
             throw new IllegalArgumentException("Target must be visible to Manipulator (Straight line & No obstacles)");
         }
 
@@ -48,7 +50,7 @@ public class ManipulatorAction implements ActionAbilityStrategy {
             throw new IllegalArgumentException("Destination must be adjacent to the target");
         }
 
-        if (HexUtils.isOccupied(destination, allPieces)) {
+        if (board.isOccupied(destination)) {
             throw new IllegalArgumentException("Destination is occupied");
         }
 
@@ -1,5 +1,6 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.utils.HexUtils;
@@ -26,6 +27,8 @@ public class NemesisBehavior {
         queue.add(new PathNode(start, 0));
 
         List<PathNode> candidates = new ArrayList<>();
+        // Occupation lue une fois pour tout le parcours
+        BoardState board = BoardState.fromPieces(allPieces);
 
         while (!queue.isEmpty()) {
             PathNode current = queue.poll();
@@ -46,7 +49,7 @@ public class NemesisBehavior {
                     if (n.isValid() && !visited.contains(n)) {
                         // Est-ce que la case est libre ? (Ou c'est la case cible pour s'en approcher)
                         boolean isTarget = n.equals(target);
-                        if (isTarget || !HexUtils.isOccupied(n.q(), n.r(), allPieces)) {
+                        if (isTarget || !board.isOccupied(n)) {
                             visited.add(n);
                             queue.add(new PathNode(n, current.distFromStart + 1));
                         }
@@ -1,6 +1,7 @@
 package esiea.hackathon.leaders.application.strategies.action;
 
 import esiea.hackathon.leaders.application.strategies.ActionAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.utils.HexUtils;
@@ -37,7 +38,7 @@ public class RoyalGuardAction implements ActionAbilityStrategy {
         }
 
         // 3. Vérifier que la case est VIDE
-        if (HexUtils.isOccupied(dest.q(), dest.r(), allPieces)) {
+        if (BoardState.fromPieces(allPieces).isOccupied(dest)) {
             throw new IllegalArgumentException("Destination cell is occupied.");
         }
 
@@ -1,11 +1,9 @@
 package esiea.hackathon.leaders.application.strategies.movement;
 
 import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
-import esiea.hackathon.leaders.domain.model.HexCoord;
-import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.BoardView;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
 import org.springframework.stereotype.Component;
-import java.util.ArrayList;
-import java.util.List;
 
 @Component
 public class AcrobatJumpStrategy implements MoveAbilityStrategy {
@@ -16,27 +14,24 @@ public class AcrobatJumpStrategy implements MoveAbilityStrategy {
     }
 
     @Override
-    public List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces) {
-        List<HexCoord> moves = new ArrayList<>();
-        int[][] directions = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }, { 1, -1 }, { -1, 1 } };
+    public long getExtraMoveMask(BoardView board, int cell) {
+        long occupied = board.occupied();
+        long moves = 0L;
 
         // 1er saut
-        for (int[] dir : directions) {
-            HexCoord jump1 = getJumpLanding(piece.getQ(), piece.getR(), dir, allPieces);
+        for (int dir = 0; dir < HexBitboards.DIRECTIONS.length; dir++) {
+            int jump1 = getJumpLanding(cell, dir, occupied);
 
-            if (jump1 != null) {
+            if (jump1 >= 0) {
                 // Ajout du 1er saut
-                moves.add(jump1);
-
-                // 2ème saut (depuis jump1)
-                for (int[] dir2 : directions) {
-                    // On ne repart pas en arrière immédiatement si c'est pour revenir sur la case
-                    // de départ (optionnel, mais souvent logique)
-                    // Ici on autorise tout car le joueur peut vouloir revenir.
-
-                    HexCoord jump2 = getJumpLanding(jump1.q(), jump1.r(), dir2, allPieces);
-                    if (jump2 != null && !jump2.equals(new HexCoord(piece.getQ(), piece.getR()))) {
-                        moves.add(jump2);
+                moves |= HexBitboards.bit(jump1);
+
+                // 2ème saut (depuis jump1). Le joueur peut repartir dans n'importe quelle
+                // direction, sauf pour revenir sur sa case de départ.
+                for (int dir2 = 0; dir2 < HexBitboards.DIRECTIONS.length; dir2++) {
+                    int jump2 = getJumpLanding(jump1, dir2, occupied);
+                    if (jump2 >= 0 && jump2 != cell) {
+                        moves |= HexBitboards.bit(jump2);
                     }
                 }
             }
@@ -44,27 +39,19 @@ public class AcrobatJumpStrategy implements MoveAbilityStrategy {
         return moves;
     }
 
-    private HexCoord getJumpLanding(short startQ, short startR, int[] dir, List<PieceEntity> allPieces) {
-        short neighborQ = (short) (startQ + dir[0]);
-        short neighborR = (short) (startR + dir[1]);
+    private int getJumpLanding(int start, int dir, long occupied) {
+        int neighbor = HexBitboards.neighbor(start, dir);
+        if (neighbor < 0)
+            return -1;
 
         // Atterrissage
-        short jumpQ = (short) (startQ + (dir[0] * 2));
-        short jumpR = (short) (startR + (dir[1] * 2));
-
-        HexCoord landing = new HexCoord(jumpQ, jumpR);
+        int landing = HexBitboards.neighbor(neighbor, dir);
 
         // Conditions : Obstacle à sauter + Atterrissage valide + Atterrissage vide
-        boolean hasObstacle = !isFree(neighborQ, neighborR, allPieces);
-        boolean landingIsFree = isFree(jumpQ, jumpR, allPieces);
-
-        if (landing.isValid() && hasObstacle && landingIsFree) {
+        boolean hasObstacle = (occupied & HexBitboards.bit(neighbor)) != 0;
+        if (landing >= 0 && hasObstacle && (occupied & HexBitboards.bit(landing)) == 0) {
             return landing;
         }
-        return null;
-    }
-
-    private boolean isFree(short q, short r, List<PieceEntity> pieces) {
-        return pieces.stream().noneMatch(p -> p.getQ() == q && p.getR() == r);
+        return -1;
     }
-}
\ No newline at end of file
+}
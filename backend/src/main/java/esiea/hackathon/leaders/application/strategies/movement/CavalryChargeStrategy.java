@@ -1,11 +1,9 @@
 package esiea.hackathon.leaders.application.strategies.movement;
 
 import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
-import esiea.hackathon.leaders.domain.model.HexCoord;
-import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.BoardView;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
 import org.springframework.stereotype.Component;
-import java.util.ArrayList;
-import java.util.List;
 
 @Component
 public class CavalryChargeStrategy implements MoveAbilityStrategy {
@@ -16,31 +14,25 @@ public class CavalryChargeStrategy implements MoveAbilityStrategy {
     }
 
     @Override
-    public List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces) {
-        List<HexCoord> moves = new ArrayList<>();
-        // Directions : E, W, SE, NW, SW, NE
-        int[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, -1}, {-1, 1}};
-
-        for (int[] dir : directions) {
-            // Case à distance 2 (Charge)
-            short targetQ = (short) (piece.getQ() + (dir[0] * 2));
-            short targetR = (short) (piece.getR() + (dir[1] * 2));
+    public long getExtraMoveMask(BoardView board, int cell) {
+        long empty = board.empty();
+        long moves = 0L;
 
+        // Directions : E, W, SE, NW, SW, NE
+        for (int dir = 0; dir < HexBitboards.DIRECTIONS.length; dir++) {
             // Case intermédiaire (doit être vide pour charger à travers)
-            short midQ = (short) (piece.getQ() + dir[0]);
-            short midR = (short) (piece.getR() + dir[1]);
+            int mid = HexBitboards.neighbor(cell, dir);
+            if (mid < 0)
+                continue;
 
-            HexCoord target = new HexCoord(targetQ, targetR);
+            // Case à distance 2 (Charge)
+            int target = HexBitboards.neighbor(mid, dir);
 
             // Conditions : Cible valide + Cible vide + Passage vide
-            if (target.isValid() && isFree(targetQ, targetR, allPieces) && isFree(midQ, midR, allPieces)) {
-                moves.add(target);
+            if (target >= 0 && (empty & HexBitboards.bit(mid)) != 0 && (empty & HexBitboards.bit(target)) != 0) {
+                moves |= HexBitboards.bit(target);
             }
         }
         return moves;
     }
-
-    private boolean isFree(short q, short r, List<PieceEntity> pieces) {
-        return pieces.stream().noneMatch(p -> p.getQ() == q && p.getR() == r);
-    }
-}
\ No newline at end of file
+}
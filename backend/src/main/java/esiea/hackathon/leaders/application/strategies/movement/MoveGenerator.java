@@ -0,0 +1,149 @@
+package esiea.hackathon.leaders.application.strategies.movement;
+
+import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.BoardView;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import esiea.hackathon.leaders.domain.repository.ReferenceDataReloadedEvent;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Générateur de déplacements en mémoire, partagé par le MovementService et l'IA.
+ * Travaille sur un {@link BoardView} : aucune allocation ni accès base pendant
+ * la génération (hors première résolution des compétences d'un personnage).
+ */
+@Component
+public class MoveGenerator {
+
+    // Au plus une destination par case du plateau
+    public static final int MAX_MOVES = HexBitboards.CELL_COUNT;
+
+    private static final MoveAbilityStrategy[] NO_STRATEGY = new MoveAbilityStrategy[0];
+
+    private final MoveStrategyFactory strategyFactory;
+    private final RefCharacterRepository characterRepository;
+    private final MoveAbilityStrategy leaderBoost;
+
+    // Stratégies de mouvement par code personnage (cf. BoardState), résolues une
+    // seule fois
+    private final AtomicReferenceArray<MoveAbilityStrategy[]> strategiesByCharacter = new AtomicReferenceArray<>(
+            BoardState.CHARACTER_COUNT);
+
+    public MoveGenerator(MoveStrategyFactory strategyFactory, RefCharacterRepository characterRepository) {
+        this.strategyFactory = strategyFactory;
+        this.characterRepository = characterRepository;
+        this.leaderBoost = strategyFactory.getStrategy("VIZIER_BOOST");
+    }
+
+    /**
+     * Destinations légales de la pièce posée sur {@code cell}, sous forme de
+     * masque.
+     */
+    public long legalMoveMask(BoardView board, int cell) {
+        int code = board.characterAt(cell);
+        if (code < 0)
+            return 0L;
+        return legalMoveMask(board, cell, strategiesFor(code));
+    }
+
+    public long legalMoveMask(BoardView board, int cell, MoveAbilityStrategy[] extraStrategies) {
+        int code = board.characterAt(cell);
+        if (code < 0)
+            return 0L;
+
+        long moves = 0L;
+
+        // Règle : La Némésis ne bouge pas normalement
+        if (code != BoardState.NEMESIS) {
+            moves |= board.emptyNeighbors(cell);
+        }
+
+        // Règle : Bonus du Vizir pour le Leader
+        if (code == BoardState.LEADER && leaderBoost != null) {
+            moves |= leaderBoost.getExtraMoveMask(board, cell);
+        }
+
+        // Règle : Compétences de mouvement spéciales (Acrobate, etc.)
+        for (MoveAbilityStrategy strategy : extraStrategies) {
+            moves |= strategy.getExtraMoveMask(board, cell);
+        }
+
+        // Règle : L'Ourson ne peut pas capturer le Leader (aller sur sa case)
+        if (code == BoardState.CUB) {
+            moves &= ~board.pieces(1 - board.ownerAt(cell), BoardState.LEADER);
+        }
+
+        return moves;
+    }
+
+    /**
+     * Écrit les destinations légales (index de case) dans {@code buffer}, qui doit
+     * contenir au moins {@link #MAX_MOVES} entrées. Retourne le nombre de coups.
+     */
+    public int generate(BoardView board, int cell, int[] buffer) {
+        return writeCells(legalMoveMask(board, cell), buffer);
+    }
+
+    public static int writeCells(long mask, int[] buffer) {
+        int count = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            buffer[count++] = Long.numberOfTrailingZeros(m);
+        }
+        return count;
+    }
+
+    /**
+     * Stratégies de mouvement d'un personnage déjà chargé. Le résultat est mis en
+     * cache pour les personnages connus du {@link BoardState}.
+     */
+    public MoveAbilityStrategy[] strategiesFor(RefCharacterEntity character) {
+        int code = BoardState.characterCode(character.getId());
+        MoveAbilityStrategy[] cached = code == BoardState.OTHER ? null : strategiesByCharacter.get(code);
+        if (cached != null)
+            return cached;
+
+        MoveAbilityStrategy[] resolved = resolve(character);
+        if (code != BoardState.OTHER)
+            strategiesByCharacter.set(code, resolved);
+        return resolved;
+    }
+
+    private MoveAbilityStrategy[] strategiesFor(int code) {
+        if (code == BoardState.OTHER)
+            return NO_STRATEGY;
+        MoveAbilityStrategy[] cached = strategiesByCharacter.get(code);
+        if (cached != null)
+            return cached;
+
+        RefCharacterEntity character = characterRepository.findById(BoardState.CHARACTER_IDS[code])
+                .orElseThrow(() -> new IllegalStateException("Character definition not found"));
+        return strategiesFor(character);
+    }
+
+    /** Les capacités des personnages ont pu changer : les stratégies seront résolues à nouveau. */
+    @EventListener
+    public void onReferenceDataReloaded(ReferenceDataReloadedEvent event) {
+        for (int code = 0; code < strategiesByCharacter.length(); code++)
+            strategiesByCharacter.set(code, null);
+    }
+
+    private MoveAbilityStrategy[] resolve(RefCharacterEntity character) {
+        if (character.getAbilities() == null)
+            return NO_STRATEGY;
+        List<MoveAbilityStrategy> strategies = new ArrayList<>();
+        for (var ability : character.getAbilities()) {
+            MoveAbilityStrategy strategy = strategyFactory.getStrategy(ability.getId());
+            if (strategy != null) {
+                strategies.add(strategy);
+            }
+        }
+        return strategies.toArray(NO_STRATEGY);
+    }
+}
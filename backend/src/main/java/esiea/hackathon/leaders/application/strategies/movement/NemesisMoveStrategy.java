@@ -1,13 +1,9 @@
 package esiea.hackathon.leaders.application.strategies.movement;
 
 import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
-import esiea.hackathon.leaders.domain.model.HexCoord;
-import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.BoardView;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.List;
-
 @Component
 public class NemesisMoveStrategy implements MoveAbilityStrategy {
 
@@ -17,9 +13,9 @@ public class NemesisMoveStrategy implements MoveAbilityStrategy {
     }
 
     @Override
-    public List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces) {
+    public long getExtraMoveMask(BoardView board, int cell) {
         // La Némésis ne peut pas agir normalement à son tour.
         // Elle se déplace uniquement en réaction (géré ailleurs).
-        return Collections.emptyList();
+        return 0L;
     }
-}
\ No newline at end of file
+}
@@ -1,46 +1,22 @@
 package esiea.hackathon.leaders.application.strategies.movement;
 
 import esiea.hackathon.leaders.application.strategies.MoveAbilityStrategy;
-import esiea.hackathon.leaders.domain.model.HexCoord;
-import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.BoardView;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Component
 public class RoyalGuardStrategy implements MoveAbilityStrategy {
     @Override
     public String getAbilityId() { return "ROYAL_GUARD_PROTECT"; }
 
     @Override
-    public List<HexCoord> getExtraMoves(PieceEntity piece, List<PieceEntity> allPieces) {
-        List<HexCoord> moves = new ArrayList<>();
-
+    public long getExtraMoveMask(BoardView board, int cell) {
         // 1. Trouver le Leader allié
-        PieceEntity leader = allPieces.stream()
-                .filter(p -> p.getOwnerIndex().equals(piece.getOwnerIndex())) // Même équipe
-                .filter(p -> "LEADER".equals(p.getCharacterId()))
-                .findFirst()
-                .orElse(null);
-
-        if (leader == null) return moves; // Pas de leader, pas de pouvoir
+        int leader = board.leaderCell(board.ownerAt(cell));
 
-        // 2. Ajouter toutes les cases vides autour du leader
-        int[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, -1}, {-1, 1}};
-        for (int[] dir : directions) {
-            short adjQ = (short) (leader.getQ() + dir[0]);
-            short adjR = (short) (leader.getR() + dir[1]);
-            HexCoord target = new HexCoord(adjQ, adjR);
-
-            if (target.isValid() && isFree(target.q(), target.r(), allPieces)) {
-                moves.add(target);
-            }
-        }
-        return moves;
-    }
+        if (leader < 0) return 0L; // Pas de leader, pas de pouvoir
 
-    private boolean isFree(short q, short r, List<PieceEntity> pieces) {
-        return pieces.stream().noneMatch(p -> p.getQ() == q && p.getR() == r);
+        // 2. Toutes les cases vides autour du leader
+        return board.emptyNeighbors(leader);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,6 @@
+package esiea.hackathon.leaders.domain;
+
+// Diffusion aux clients abonnés à une destination (/topic/...), quel que soit le nœud où ils sont connectés
+public interface BrokerRelay {
+    void publish(String destination, Object payload);
+}
@@ -2,6 +2,7 @@ package esiea.hackathon.leaders.domain;
 
 import java.util.Optional;
 
+// Les index (code, joueur, statut) sont mis à jour par save : toute modification d'une session doit être sauvegardée
 public interface SessionRepository {
     void save(Session session);
 
@@ -13,7 +14,34 @@ public interface SessionRepository {
 
     Optional<Session> findSuitableSession(String excludedPlayerId);
 
+    // Dernière session (quel que soit son statut) où le joueur est présent
+    Optional<Session> findByPlayerId(String playerId);
+
+    java.util.List<Session> findByStatus(Session.SessionStatus status);
+
     java.util.List<Session> findAll();
 
     void deleteAll();
+
+    Stats stats();
+
+    /** Signe de vie d'une session en cours ; {@code false} si elle n'est pas (ou plus) suivie. */
+    boolean heartbeat(String sessionId);
+
+    // Abonnement WebSocket ouvert ou fermé sur la session : signe de vie implicite tant qu'il est ouvert
+    void connected(String sessionId);
+
+    void disconnected(String sessionId);
+
+    /** Sessions en cours sans signe de vie depuis le délai d'expiration (renvoyées une seule fois). */
+    java.util.List<Session> pollTimedOut();
+
+    /**
+     * Sessions en cours (en attente ou actives) et sessions terminées encore
+     * conservées ; {@code estimatedBytes} est un ordre de grandeur de la
+     * mémoire occupée.
+     */
+    record Stats(int live, int retained, int capacity, long evicted, long evictedOverCapacity,
+            long estimatedBytes) {
+    }
 }
@@ -0,0 +1,143 @@
+package esiea.hackathon.leaders.domain.model;
+
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Photo immuable du plateau sous forme de bitboards (1 bit par case, cf.
+ * {@link HexBitboards}).
+ * Un masque par joueur et un masque par personnage : les tests d'occupation,
+ * d'adjacence et de ligne de vue deviennent de simples opérations binaires.
+ */
+public final class BoardState implements BoardView {
+
+    public static final String[] CHARACTER_IDS = {
+            "LEADER", "ACROBAT", "ARCHER", "ASSASSIN", "BRAWLER", "CAVALRY", "GRAPPLER", "ILLUSIONIST",
+            "INNKEEPER", "JAILER", "MANIPULATOR", "NEMESIS", "OLD_BEAR", "CUB", "PROTECTOR", "PROWLER",
+            "ROYAL_GUARD", "VIZIER"
+    };
+
+    public static final int LEADER = 0;
+    public static final int ACROBAT = 1;
+    public static final int ARCHER = 2;
+    public static final int ASSASSIN = 3;
+    public static final int BRAWLER = 4;
+    public static final int CAVALRY = 5;
+    public static final int GRAPPLER = 6;
+    public static final int ILLUSIONIST = 7;
+    public static final int INNKEEPER = 8;
+    public static final int JAILER = 9;
+    public static final int MANIPULATOR = 10;
+    public static final int NEMESIS = 11;
+    public static final int OLD_BEAR = 12;
+    public static final int CUB = 13;
+    public static final int PROTECTOR = 14;
+    public static final int PROWLER = 15;
+    public static final int ROYAL_GUARD = 16;
+    public static final int VIZIER = 17;
+    // Personnage inconnu du référentiel (ex: données de test)
+    public static final int OTHER = CHARACTER_IDS.length;
+    public static final int CHARACTER_COUNT = OTHER + 1;
+
+    private final long[] ownerMasks;
+    private final long[] characterMasks;
+    private final long actedMask;
+    private final byte[] cellCharacter;
+    private final UUID[] pieceIds;
+
+    private BoardState(long[] ownerMasks, long[] characterMasks, long actedMask, byte[] cellCharacter,
+            UUID[] pieceIds) {
+        this.ownerMasks = ownerMasks;
+        this.characterMasks = characterMasks;
+        this.actedMask = actedMask;
+        this.cellCharacter = cellCharacter;
+        this.pieceIds = pieceIds;
+    }
+
+    public static BoardState fromPieces(List<PieceEntity> pieces) {
+        long[] owners = new long[2];
+        long[] characters = new long[CHARACTER_COUNT];
+        long acted = 0L;
+        byte[] cellCharacter = new byte[HexBitboards.CELL_COUNT];
+        UUID[] ids = new UUID[HexBitboards.CELL_COUNT];
+        Arrays.fill(cellCharacter, (byte) -1);
+
+        for (PieceEntity piece : pieces) {
+            int cell = HexBitboards.cellIndex(piece.getQ(), piece.getR());
+            if (cell < 0)
+                continue;
+            long bit = HexBitboards.bit(cell);
+            int code = characterCode(piece.getCharacterId());
+            owners[piece.getOwnerIndex() != null && piece.getOwnerIndex() == 1 ? 1 : 0] |= bit;
+            characters[code] |= bit;
+            if (Boolean.TRUE.equals(piece.getHasActedThisTurn()))
+                acted |= bit;
+            cellCharacter[cell] = (byte) code;
+            ids[cell] = piece.getId();
+        }
+        return new BoardState(owners, characters, acted, cellCharacter, ids);
+    }
+
+    public static int characterCode(String characterId) {
+        for (int i = 0; i < CHARACTER_IDS.length; i++) {
+            if (CHARACTER_IDS[i].equals(characterId))
+                return i;
+        }
+        return OTHER;
+    }
+
+    // --- Masques ---
+
+    @Override
+    public long owner(int ownerIndex) {
+        return ownerMasks[ownerIndex];
+    }
+
+    @Override
+    public long character(int code) {
+        return characterMasks[code];
+    }
+
+    public long acted() {
+        return actedMask;
+    }
+
+    // --- Requêtes par case ---
+
+    public boolean isOccupied(HexCoord coord) {
+        return isOccupied(HexBitboards.cellIndex(coord));
+    }
+
+    @Override
+    public int characterAt(int cell) {
+        return cellCharacter[cell];
+    }
+
+    public UUID pieceIdAt(int cell) {
+        return pieceIds[cell];
+    }
+
+    /** Nouvel état avec la pièce de {@code from} déplacée sur {@code to} (case vide). */
+    public BoardState withMove(int from, int to) {
+        long fromBit = HexBitboards.bit(from);
+        long toBit = HexBitboards.bit(to);
+        long[] owners = ownerMasks.clone();
+        long[] characters = characterMasks.clone();
+        byte[] cells = cellCharacter.clone();
+        UUID[] ids = pieceIds.clone();
+
+        int owner = ownerAt(from);
+        int code = cellCharacter[from];
+        owners[owner] = (owners[owner] & ~fromBit) | toBit;
+        characters[code] = (characters[code] & ~fromBit) | toBit;
+        long acted = (actedMask & fromBit) != 0 ? (actedMask & ~fromBit) | toBit : actedMask;
+        cells[to] = cells[from];
+        cells[from] = -1;
+        ids[to] = ids[from];
+        ids[from] = null;
+        return new BoardState(owners, characters, acted, cells, ids);
+    }
+}
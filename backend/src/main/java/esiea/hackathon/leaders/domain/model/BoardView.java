@@ -0,0 +1,83 @@
+package esiea.hackathon.leaders.domain.model;
+
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+
+/**
+ * Lecture d'un plateau sous forme de bitboards. Implémentée par la photo
+ * immuable {@link BoardState} et par le plateau mutable de la recherche IA.
+ * Les codes personnage sont ceux de {@link BoardState}.
+ */
+public interface BoardView {
+
+    long owner(int ownerIndex);
+
+    long character(int code);
+
+    /** Code personnage de la pièce sur la case, ou -1 si vide. */
+    int characterAt(int cell);
+
+    default long occupied() {
+        return owner(0) | owner(1);
+    }
+
+    default long empty() {
+        return HexBitboards.ALL_CELLS & ~occupied();
+    }
+
+    default long pieces(int ownerIndex, int code) {
+        return owner(ownerIndex) & character(code);
+    }
+
+    default boolean isOccupied(int cell) {
+        return cell >= 0 && (occupied() & HexBitboards.bit(cell)) != 0;
+    }
+
+    /** Propriétaire de la pièce sur la case, ou -1 si vide. */
+    default int ownerAt(int cell) {
+        long bit = HexBitboards.bit(cell);
+        if ((owner(0) & bit) != 0)
+            return 0;
+        if ((owner(1) & bit) != 0)
+            return 1;
+        return -1;
+    }
+
+    default int leaderCell(int ownerIndex) {
+        long leader = pieces(ownerIndex, BoardState.LEADER);
+        return leader == 0 ? -1 : Long.numberOfTrailingZeros(leader);
+    }
+
+    default boolean areAdjacent(int a, int b) {
+        return (HexBitboards.neighbors(a) & HexBitboards.bit(b)) != 0;
+    }
+
+    default long emptyNeighbors(int cell) {
+        return HexBitboards.neighbors(cell) & ~occupied();
+    }
+
+    /**
+     * Ligne droite sans obstacle entre a et b (extrémités exclues).
+     * Deux cases adjacentes sont toujours visibles.
+     */
+    default boolean isPathClear(int a, int b) {
+        return HexBitboards.isAligned(a, b) && (HexBitboards.between(a, b) & occupied()) == 0;
+    }
+
+    default boolean hasLineOfSight(int a, int b) {
+        return isPathClear(a, b);
+    }
+
+    /** Les 6 côtés sont bloqués (pièce ou bord du plateau). */
+    default boolean isEncircled(int cell) {
+        return emptyNeighbors(cell) == 0;
+    }
+
+    /** Protecteur lui-même ou allié adjacent à un Protecteur (cf. HexUtils.isProtected). */
+    default boolean isProtected(int cell) {
+        int owner = ownerAt(cell);
+        if (owner < 0)
+            return false;
+        long protectors = pieces(owner, BoardState.PROTECTOR);
+        return (protectors & (HexBitboards.bit(cell) | HexBitboards.neighbors(cell))) != 0;
+    }
+}
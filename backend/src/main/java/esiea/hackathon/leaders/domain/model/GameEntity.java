@@ -41,4 +41,5 @@ public class GameEntity {
     private List<PieceEntity> pieces;
     private List<RecruitmentCardEntity> cards;
     private List<GameActionEntity> actions;
+    private int actionCount; // Dernier actionOrder attribué (curseur de l'historique)
 }
\ No newline at end of file
@@ -3,5 +3,6 @@ package esiea.hackathon.leaders.domain.model.enums;
 public enum AiDifficulty {
     EASY,
     HARD,
-    EXPERT
+    EXPERT,
+    MASTER // Monte Carlo Tree Search
 }
@@ -0,0 +1,15 @@
+package esiea.hackathon.leaders.domain.repository;
+
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GameActionRepository {
+
+    // Ajout seul : l'id et l'ordre (compteur de la partie) sont attribués ici
+    GameActionEntity append(UUID gameId, GameActionEntity action);
+
+    // Actions d'ordre strictement supérieur à afterOrder, dans l'ordre, au plus limit
+    List<GameActionEntity> findSince(UUID gameId, int afterOrder, int limit);
+}
@@ -0,0 +1,26 @@
+package esiea.hackathon.leaders.domain.repository;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface GameCreationRepository {
+
+    // Insère les parties neuves avec leurs joueurs, pièces et cartes : une requête batch par table
+    void insertAll(List<GameEntity> games);
+
+    // Passe une partie en réserve (WAITING) en cours, avec ses joueurs ; false si elle n'est plus en réserve
+    boolean claim(GameEntity game);
+
+    // Parties de la liste encore en réserve
+    List<UUID> findWaiting(Collection<UUID> gameIds);
+
+    // Supprime les parties de la liste encore en réserve
+    int deleteWaiting(Collection<UUID> gameIds);
+
+    // Supprime les parties en réserve créées avant la date (réserves d'une instance arrêtée)
+    int deleteWaitingCreatedBefore(LocalDateTime date);
+}
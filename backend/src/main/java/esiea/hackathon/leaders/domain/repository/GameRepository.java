@@ -1,10 +1,17 @@
 package esiea.hackathon.leaders.domain.repository;
 
 import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface GameRepository {
     Optional<GameEntity> findById(UUID id);
+
+    // Partie avec joueurs, pièces et rivière (cartes visibles), sans deck ni historique : lecture de l'état affiché
+    Optional<GameEntity> findStateById(UUID id);
+
     GameEntity save(GameEntity game);
+    List<UUID> findIdsByStatus(GameStatus status);
 }
\ No newline at end of file
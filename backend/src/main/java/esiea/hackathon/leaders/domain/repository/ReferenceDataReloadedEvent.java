@@ -0,0 +1,8 @@
+package esiea.hackathon.leaders.domain.repository;
+
+/**
+ * Publié après le rechargement des données de référence (personnages,
+ * capacités, scénarios) : les caches dérivés doivent être vidés.
+ */
+public record ReferenceDataReloadedEvent(int characters, int abilities, int scenarios) {
+}
@@ -0,0 +1,168 @@
+package esiea.hackathon.leaders.domain.utils;
+
+import esiea.hackathon.leaders.domain.model.HexCoord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tables précalculées du plateau hexagonal (rayon 3 = 37 cases).
+ * Chaque case reçoit un index 0..36, ce qui permet de représenter un ensemble
+ * de cases par un simple {@code long} (bit i = case i).
+ */
+public final class HexBitboards {
+
+    public static final int RADIUS = HexCoord.BOARD_RADIUS;
+    public static final int CELL_COUNT = 37;
+    public static final long ALL_CELLS = (1L << CELL_COUNT) - 1;
+
+    // Même ordre que partout ailleurs : E, W, SE, NW, NE, SW
+    public static final int[][] DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }, { 1, -1 }, { -1, 1 } };
+
+    private static final int SIDE = 2 * RADIUS + 1;
+
+    private static final int[] INDEX_BY_COORD = new int[SIDE * SIDE];
+    private static final short[] CELL_Q = new short[CELL_COUNT];
+    private static final short[] CELL_R = new short[CELL_COUNT];
+    private static final HexCoord[] COORDS = new HexCoord[CELL_COUNT];
+
+    // NEIGHBOR[cell][dir] = case voisine ou -1 (hors plateau)
+    private static final int[][] NEIGHBOR = new int[CELL_COUNT][DIRECTIONS.length];
+    private static final long[] NEIGHBOR_MASK = new long[CELL_COUNT];
+    private static final long[] RING2_MASK = new long[CELL_COUNT];
+    // RAY[cell][dir] = toutes les cases dans la direction, case de départ exclue
+    private static final long[][] RAY = new long[CELL_COUNT][DIRECTIONS.length];
+    private static final long[] ALIGNED_MASK = new long[CELL_COUNT];
+    // BETWEEN[a * 37 + b] = cases strictement entre a et b (0 si non alignées)
+    private static final long[] BETWEEN = new long[CELL_COUNT * CELL_COUNT];
+    private static final byte[] DISTANCE = new byte[CELL_COUNT * CELL_COUNT];
+
+    static {
+        java.util.Arrays.fill(INDEX_BY_COORD, -1);
+        int index = 0;
+        for (int q = -RADIUS; q <= RADIUS; q++) {
+            for (int r = -RADIUS; r <= RADIUS; r++) {
+                if (Math.abs(q + r) > RADIUS)
+                    continue;
+                INDEX_BY_COORD[(q + RADIUS) * SIDE + (r + RADIUS)] = index;
+                CELL_Q[index] = (short) q;
+                CELL_R[index] = (short) r;
+                COORDS[index] = new HexCoord((short) q, (short) r);
+                index++;
+            }
+        }
+
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            for (int dir = 0; dir < DIRECTIONS.length; dir++) {
+                int n = cellIndex(CELL_Q[cell] + DIRECTIONS[dir][0], CELL_R[cell] + DIRECTIONS[dir][1]);
+                NEIGHBOR[cell][dir] = n;
+                if (n >= 0)
+                    NEIGHBOR_MASK[cell] |= bit(n);
+
+                long ray = 0L;
+                long between = 0L;
+                for (int step = 1; step <= 2 * RADIUS; step++) {
+                    int target = cellIndex(CELL_Q[cell] + DIRECTIONS[dir][0] * step,
+                            CELL_R[cell] + DIRECTIONS[dir][1] * step);
+                    if (target < 0)
+                        break;
+                    ray |= bit(target);
+                    BETWEEN[cell * CELL_COUNT + target] = between;
+                    between |= bit(target);
+                }
+                RAY[cell][dir] = ray;
+                ALIGNED_MASK[cell] |= ray;
+            }
+
+            for (int other = 0; other < CELL_COUNT; other++) {
+                int d = HexUtils.getDistance(CELL_Q[cell], CELL_R[cell], CELL_Q[other], CELL_R[other]);
+                DISTANCE[cell * CELL_COUNT + other] = (byte) d;
+                if (d == 2)
+                    RING2_MASK[cell] |= bit(other);
+            }
+        }
+    }
+
+    private HexBitboards() {
+    }
+
+    public static long bit(int cell) {
+        return 1L << cell;
+    }
+
+    /** Index de la case (q, r) ou -1 si elle est hors plateau. */
+    public static int cellIndex(int q, int r) {
+        if (Math.abs(q) > RADIUS || Math.abs(r) > RADIUS || Math.abs(q + r) > RADIUS)
+            return -1;
+        return INDEX_BY_COORD[(q + RADIUS) * SIDE + (r + RADIUS)];
+    }
+
+    public static int cellIndex(HexCoord coord) {
+        return cellIndex(coord.q(), coord.r());
+    }
+
+    public static short q(int cell) {
+        return CELL_Q[cell];
+    }
+
+    public static short r(int cell) {
+        return CELL_R[cell];
+    }
+
+    public static HexCoord coord(int cell) {
+        return COORDS[cell];
+    }
+
+    public static int neighbor(int cell, int dir) {
+        return NEIGHBOR[cell][dir];
+    }
+
+    public static long neighbors(int cell) {
+        return NEIGHBOR_MASK[cell];
+    }
+
+    /** Cases à distance exactement 2. */
+    public static long ring2(int cell) {
+        return RING2_MASK[cell];
+    }
+
+    public static long ray(int cell, int dir) {
+        return RAY[cell][dir];
+    }
+
+    /** Toutes les cases en ligne droite avec {@code cell} (case elle-même exclue). */
+    public static long aligned(int cell) {
+        return ALIGNED_MASK[cell];
+    }
+
+    public static boolean isAligned(int a, int b) {
+        return (ALIGNED_MASK[a] & bit(b)) != 0;
+    }
+
+    /** Cases strictement entre a et b. N'a de sens que si a et b sont alignées. */
+    public static long between(int a, int b) {
+        return BETWEEN[a * CELL_COUNT + b];
+    }
+
+    public static int distance(int a, int b) {
+        return DISTANCE[a * CELL_COUNT + b];
+    }
+
+    /** Direction (index dans DIRECTIONS) allant de a vers b, ou -1 si non alignées. */
+    public static int direction(int a, int b) {
+        long target = bit(b);
+        for (int dir = 0; dir < DIRECTIONS.length; dir++) {
+            if ((RAY[a][dir] & target) != 0)
+                return dir;
+        }
+        return -1;
+    }
+
+    public static List<HexCoord> toCoords(long mask) {
+        List<HexCoord> coords = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) {
+            coords.add(COORDS[Long.numberOfTrailingZeros(m)]);
+        }
+        return coords;
+    }
+}
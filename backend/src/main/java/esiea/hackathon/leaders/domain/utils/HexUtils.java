@@ -1,5 +1,6 @@
 package esiea.hackathon.leaders.domain.utils;
 
+import esiea.hackathon.leaders.domain.model.BoardState;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 
@@ -19,48 +20,15 @@ public class HexUtils {
         return a.q() == b.q() || a.r() == b.r() || (a.q() + a.r()) == (b.q() + b.r());
     }
 
-    public static boolean isPathClear(HexCoord start, HexCoord end, List<PieceEntity> allPieces) {
-        if (!isAligned(start, end))
+    public static boolean isPathClear(HexCoord start, HexCoord end, BoardState board) {
+        int from = HexBitboards.cellIndex(start);
+        int to = HexBitboards.cellIndex(end);
+        if (from < 0 || to < 0)
             return false;
-
-        int dist = getDistance(start, end);
-        if (dist <= 1)
-            return true; // Adjacents are always visible
-
-        int dq = end.q() - start.q();
-        int dr = end.r() - start.r();
-
-        // Unit direction
-        int stepQ = dq == 0 ? 0 : dq / dist;
-        int stepR = dr == 0 ? 0 : dr / dist;
-
-        // Check strict interpolation (should prevent floating point issues as we use
-        // hex int coords)
-        // But for hex grids, if aligned on axis, dq/dist or dr/dist should be -1, 0, or
-        // 1 precisely.
-        // Let's verify manual consistency.
-        // On Q axis: dq=0. stepQ=0.
-        // On R axis: dr=0. stepR=0.
-        // On S axis: dq = -dr. stepQ = -stepR.
-
-        // Check all intermediate cells
-        for (int i = 1; i < dist; i++) {
-            short nextQ = (short) (start.q() + stepQ * i);
-            short nextR = (short) (start.r() + stepR * i);
-
-            if (isOccupied(nextQ, nextR, allPieces)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    public static boolean isOccupied(short q, short r, List<PieceEntity> pieces) {
-        return pieces.stream().anyMatch(p -> p.getQ() == q && p.getR() == r);
-    }
-
-    public static boolean isOccupied(HexCoord coord, List<PieceEntity> pieces) {
-        return isOccupied(coord.q(), coord.r(), pieces);
+        if (from == to)
+            return true;
+        // Cases adjacentes toujours visibles : between() est vide
+        return board.isPathClear(from, to);
     }
 
     public static boolean isProtected(PieceEntity target, List<PieceEntity> allPieces) {
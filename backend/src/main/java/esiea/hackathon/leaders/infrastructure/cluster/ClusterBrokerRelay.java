@@ -0,0 +1,38 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.domain.BrokerRelay;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chaque nœud garde son broker STOMP simple : un message est remis aux
+ * abonnés locaux puis relayé aux autres nœuds, qui le remettent aux leurs.
+ * Un broker externe (relais STOMP) rendrait ce relais inutile.
+ */
+@Component
+public class ClusterBrokerRelay implements BrokerRelay {
+
+    static final String RELAY = "broker.relay";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterNode clusterNode;
+
+    public ClusterBrokerRelay(SimpMessagingTemplate messagingTemplate, ClusterNode clusterNode) {
+        this.messagingTemplate = messagingTemplate;
+        this.clusterNode = clusterNode;
+        clusterNode.on(RELAY, command -> {
+            Relayed relayed = (Relayed) command.payload();
+            messagingTemplate.convertAndSend(relayed.destination(), relayed.payload());
+            return null;
+        });
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        clusterNode.broadcast(RELAY, new Relayed(destination, payload));
+    }
+
+    record Relayed(String destination, Object payload) {
+    }
+}
@@ -0,0 +1,8 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+/**
+ * Message échangé entre nœuds : {@code type} choisit le traitement enregistré
+ * sur le nœud destinataire, {@code key} est la clé de routage.
+ */
+public record ClusterCommand(String type, String key, Object payload) {
+}
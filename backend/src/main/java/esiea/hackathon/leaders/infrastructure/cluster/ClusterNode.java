@@ -0,0 +1,105 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Ce nœud dans le cluster. Une partie (et la session du même identifiant)
+ * appartient à un seul nœud, choisi par l'anneau de hachage : les commandes
+ * qui la concernent y sont exécutées, localement ou via le transport. Sans
+ * liste de nœuds configurée, le nœud est seul et tout reste local.
+ */
+@Component
+public class ClusterNode {
+
+    private final String nodeId;
+    private final ConsistentHashRing ring;
+    private final ClusterTransport transport;
+    private final Map<String, Function<ClusterCommand, Object>> handlers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClusterNode(@Value("${app.cluster.node-id:local}") String nodeId,
+            @Value("${app.cluster.nodes:}") String nodes,
+            @Value("${app.cluster.virtual-nodes:128}") int virtualNodes,
+            ClusterTransport transport) {
+        this(nodeId, Arrays.stream(nodes.split(",")).map(String::trim).filter(node -> !node.isEmpty()).toList(),
+                virtualNodes, transport);
+    }
+
+    public ClusterNode(String nodeId, List<String> nodes, int virtualNodes, ClusterTransport transport) {
+        this.nodeId = nodeId;
+        List<String> members = new ArrayList<>(nodes);
+        if (!members.contains(nodeId))
+            members.add(nodeId);
+        this.ring = new ConsistentHashRing(members, virtualNodes);
+        this.transport = transport;
+        transport.join(nodeId, this::handle);
+    }
+
+    @PreDestroy
+    void leave() {
+        transport.leave(nodeId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public List<String> nodes() {
+        return ring.nodes();
+    }
+
+    public String ownerOf(String key) {
+        return ring.ownerOf(key);
+    }
+
+    public boolean isLocal(String key) {
+        return nodeId.equals(ownerOf(key));
+    }
+
+    /** Enregistre le traitement des commandes {@code type} reçues par ce nœud. */
+    public void on(String type, Function<ClusterCommand, Object> handler) {
+        handlers.put(type, handler);
+    }
+
+    /** Exécute la commande sur le nœud propriétaire de {@code key}. */
+    @SuppressWarnings("unchecked")
+    public <T> T send(String type, String key, Object payload) {
+        return (T) sendTo(ownerOf(key), type, key, payload);
+    }
+
+    public Object sendTo(String targetNodeId, String type, String key, Object payload) {
+        ClusterCommand command = new ClusterCommand(type, key, payload);
+        return nodeId.equals(targetNodeId) ? handle(command) : transport.forward(targetNodeId, command);
+    }
+
+    /** Exécute la commande sur chaque nœud (celui-ci compris) et renvoie les réponses. */
+    public List<Object> sendToAll(String type, Object payload) {
+        List<Object> replies = new ArrayList<>(ring.nodes().size());
+        for (String node : ring.nodes())
+            replies.add(sendTo(node, type, null, payload));
+        return replies;
+    }
+
+    /** Envoie la commande aux autres nœuds, sans attendre de réponse. */
+    public void broadcast(String type, Object payload) {
+        if (ring.nodes().size() > 1)
+            transport.broadcast(nodeId, new ClusterCommand(type, null, payload));
+    }
+
+    private Object handle(ClusterCommand command) {
+        Function<ClusterCommand, Object> handler = handlers.get(command.type());
+        if (handler == null)
+            throw new IllegalStateException("No handler for cluster command " + command.type() + " on node " + nodeId);
+        return handler.apply(command);
+    }
+}
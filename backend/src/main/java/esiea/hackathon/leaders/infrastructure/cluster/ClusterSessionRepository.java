@@ -0,0 +1,188 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.domain.SessionRepository;
+import esiea.hackathon.leaders.infrastructure.repository.InMemorySessionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sessions réparties entre les nœuds : chaque session est rangée sur le nœud
+ * propriétaire de son identifiant (celui de sa partie), dans son
+ * {@link InMemorySessionRepository} local. Les recherches par identifiant vont
+ * directement au propriétaire ; les autres (code, joueur, statut)
+ * interrogent tous les nœuds.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterSessionRepository implements SessionRepository {
+
+    private static final String SAVE = "session.save";
+    private static final String FIND_BY_ID = "session.find-by-id";
+    private static final String FIND_BY_CODE = "session.find-by-code";
+    private static final String FIND_BY_PLAYER = "session.find-by-player";
+    private static final String FIND_BY_STATUS = "session.find-by-status";
+    private static final String FIND_SUITABLE = "session.find-suitable";
+    private static final String FIND_ALL = "session.find-all";
+    private static final String DELETE_ALL = "session.delete-all";
+    private static final String STATS = "session.stats";
+    private static final String HEARTBEAT = "session.heartbeat";
+    private static final String CONNECTED = "session.connected";
+    private static final String DISCONNECTED = "session.disconnected";
+
+    private final InMemorySessionRepository local;
+    private final ClusterNode clusterNode;
+
+    public ClusterSessionRepository(InMemorySessionRepository local, ClusterNode clusterNode) {
+        this.local = local;
+        this.clusterNode = clusterNode;
+        clusterNode.on(SAVE, command -> {
+            local.save((Session) command.payload());
+            return null;
+        });
+        clusterNode.on(FIND_BY_ID, command -> local.findById((String) command.payload()).orElse(null));
+        clusterNode.on(FIND_BY_CODE, command -> local.findByCode((String) command.payload()).orElse(null));
+        clusterNode.on(FIND_BY_PLAYER, command -> local.findByPlayerId((String) command.payload()).orElse(null));
+        clusterNode.on(FIND_BY_STATUS, command -> local.findByStatus((Session.SessionStatus) command.payload()));
+        clusterNode.on(FIND_SUITABLE, command -> local.findSuitableSession((String) command.payload()).orElse(null));
+        clusterNode.on(FIND_ALL, command -> local.findAll());
+        clusterNode.on(DELETE_ALL, command -> {
+            local.deleteAll();
+            return null;
+        });
+        clusterNode.on(STATS, command -> local.stats());
+        clusterNode.on(HEARTBEAT, command -> local.heartbeat((String) command.payload()));
+        clusterNode.on(CONNECTED, command -> {
+            local.connected((String) command.payload());
+            return null;
+        });
+        clusterNode.on(DISCONNECTED, command -> {
+            local.disconnected((String) command.payload());
+            return null;
+        });
+    }
+
+    @Override
+    public void save(Session session) {
+        clusterNode.send(SAVE, session.getId(), session);
+    }
+
+    @Override
+    public Optional<Session> findById(String id) {
+        if (id == null)
+            return Optional.empty();
+        return Optional.ofNullable(clusterNode.send(FIND_BY_ID, id, id));
+    }
+
+    @Override
+    public Optional<Session> findFirstByStatusAndIsPrivateFalse(Session.SessionStatus status) {
+        return findByStatus(status).stream().filter(session -> !session.isPrivate()).findFirst();
+    }
+
+    @Override
+    public Optional<Session> findByCode(String code) {
+        if (code == null)
+            return Optional.empty();
+        return first(FIND_BY_CODE, code);
+    }
+
+    @Override
+    public Optional<Session> findSuitableSession(String excludedPlayerId) {
+        return first(FIND_SUITABLE, excludedPlayerId);
+    }
+
+    @Override
+    public Optional<Session> findByPlayerId(String playerId) {
+        if (playerId == null)
+            return Optional.empty();
+        // Une session en cours l'emporte sur une session terminée d'un autre nœud
+        Session found = null;
+        for (Object reply : clusterNode.sendToAll(FIND_BY_PLAYER, playerId)) {
+            Session session = (Session) reply;
+            if (session != null && (found == null || found.getStatus() == Session.SessionStatus.FINISHED))
+                found = session;
+        }
+        return Optional.ofNullable(found);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Session> findByStatus(Session.SessionStatus status) {
+        List<Session> sessions = new ArrayList<>();
+        for (Object reply : clusterNode.sendToAll(FIND_BY_STATUS, status))
+            sessions.addAll((List<Session>) reply);
+        return sessions;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Session> findAll() {
+        List<Session> sessions = new ArrayList<>();
+        for (Object reply : clusterNode.sendToAll(FIND_ALL, null))
+            sessions.addAll((List<Session>) reply);
+        return sessions;
+    }
+
+    @Override
+    public void deleteAll() {
+        clusterNode.sendToAll(DELETE_ALL, null);
+    }
+
+    @Override
+    public Stats stats() {
+        int live = 0;
+        int retained = 0;
+        int capacity = 0;
+        long evicted = 0;
+        long evictedOverCapacity = 0;
+        long estimatedBytes = 0;
+        for (Object reply : clusterNode.sendToAll(STATS, null)) {
+            Stats stats = (Stats) reply;
+            live += stats.live();
+            retained += stats.retained();
+            capacity += stats.capacity();
+            evicted += stats.evicted();
+            evictedOverCapacity += stats.evictedOverCapacity();
+            estimatedBytes += stats.estimatedBytes();
+        }
+        return new Stats(live, retained, capacity, evicted, evictedOverCapacity, estimatedBytes);
+    }
+
+    @Override
+    public boolean heartbeat(String sessionId) {
+        if (sessionId == null)
+            return false;
+        Boolean alive = clusterNode.send(HEARTBEAT, sessionId, sessionId);
+        return Boolean.TRUE.equals(alive);
+    }
+
+    @Override
+    public void connected(String sessionId) {
+        clusterNode.send(CONNECTED, sessionId, sessionId);
+    }
+
+    @Override
+    public void disconnected(String sessionId) {
+        clusterNode.send(DISCONNECTED, sessionId, sessionId);
+    }
+
+    // Chaque nœud surveille les sessions qu'il détient
+    @Override
+    public List<Session> pollTimedOut() {
+        return local.pollTimedOut();
+    }
+
+    private Optional<Session> first(String type, String payload) {
+        for (Object reply : clusterNode.sendToAll(type, payload)) {
+            if (reply != null)
+                return Optional.of((Session) reply);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,24 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+/**
+ * Transport entre les nœuds du cluster : appel d'un nœud précis (avec réponse)
+ * et diffusion à tous les autres. {@link LocalClusterTransport} relie des
+ * nœuds d'une même JVM ; un transport réseau se branche en déclarant un autre
+ * bean avec {@code app.cluster.transport} différent de {@code local}.
+ */
+public interface ClusterTransport {
+
+    void join(String nodeId, Endpoint endpoint);
+
+    void leave(String nodeId);
+
+    /** Exécute la commande sur {@code nodeId} et renvoie sa réponse. */
+    Object forward(String nodeId, ClusterCommand command);
+
+    /** Envoie la commande à tous les nœuds sauf {@code fromNodeId}, sans réponse. */
+    void broadcast(String fromNodeId, ClusterCommand command);
+
+    interface Endpoint {
+        Object handle(ClusterCommand command);
+    }
+}
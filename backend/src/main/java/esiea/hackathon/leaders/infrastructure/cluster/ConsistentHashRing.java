@@ -0,0 +1,53 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Anneau de hachage cohérent : chaque clé (identifiant de partie ou de
+ * session) appartient au premier nœud rencontré après elle sur l'anneau.
+ * Chaque nœud y figure plusieurs fois (nœuds virtuels) pour répartir les clés ;
+ * l'ajout ou le retrait d'un nœud ne déplace que les clés de ses portions.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty())
+            throw new IllegalArgumentException("A cluster needs at least one node");
+        this.nodes = nodeIds.stream().distinct().sorted().toList();
+        for (String node : nodes) {
+            for (int i = 0; i < Math.max(1, virtualNodes); i++)
+                ring.put(hash(node + "#" + i), node);
+        }
+    }
+
+    public String ownerOf(String key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++)
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
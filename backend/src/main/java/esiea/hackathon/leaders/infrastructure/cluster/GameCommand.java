@@ -0,0 +1,39 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.domain.model.HexCoord;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Commande de jeu, exécutée par le nœud propriétaire de la partie. Les
+ * commandes sont de simples données : elles peuvent traverser un transport
+ * réseau.
+ */
+public sealed interface GameCommand {
+
+    UUID gameId();
+
+    record EndTurn(UUID gameId) implements GameCommand {
+    }
+
+    record Surrender(UUID gameId, String playerId) implements GameCommand {
+    }
+
+    record Move(UUID gameId, UUID pieceId, short toQ, short toR, UUID playerId) implements GameCommand {
+    }
+
+    record UseAbility(UUID gameId, UUID sourceId, UUID targetId, String abilityId, HexCoord destination,
+            HexCoord secondaryDestination, UUID playerId) implements GameCommand {
+    }
+
+    record SkipActions(UUID gameId, UUID playerId) implements GameCommand {
+    }
+
+    record Recruit(UUID gameId, UUID cardId, List<HexCoord> placements) implements GameCommand {
+    }
+
+    /** Lecture de l'état complet à la dernière version diffusée par le propriétaire. */
+    record Snapshot(UUID gameId) implements GameCommand {
+    }
+}
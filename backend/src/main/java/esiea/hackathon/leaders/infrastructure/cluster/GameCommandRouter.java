@@ -0,0 +1,112 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.dto.response.PlayerDto;
+import esiea.hackathon.leaders.application.services.ActionService;
+import esiea.hackathon.leaders.application.services.AiService;
+import esiea.hackathon.leaders.application.services.GameService;
+import esiea.hackathon.leaders.application.services.GameStateBroadcaster;
+import esiea.hackathon.leaders.application.services.MovementService;
+import esiea.hackathon.leaders.application.services.RecruitmentService;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Point d'entrée des actions de jeu : chaque commande est envoyée au nœud
+ * propriétaire de la partie, qui l'applique, diffuse le nouvel état et
+ * déclenche l'IA si c'est son tour. Toutes les écritures d'une partie ont
+ * donc lieu sur le même nœud, quel que soit celui qui a reçu la requête.
+ */
+@Component
+public class GameCommandRouter {
+
+    static final String GAME = "game";
+
+    private final ClusterNode clusterNode;
+    private final GameService gameService;
+    private final MovementService movementService;
+    private final ActionService actionService;
+    private final RecruitmentService recruitmentService;
+    private final GameRepository gameRepository;
+    private final GameStateBroadcaster broadcaster;
+    private final AiService aiService;
+
+    public GameCommandRouter(ClusterNode clusterNode, GameService gameService, MovementService movementService,
+            ActionService actionService, RecruitmentService recruitmentService, GameRepository gameRepository,
+            GameStateBroadcaster broadcaster, AiService aiService) {
+        this.clusterNode = clusterNode;
+        this.gameService = gameService;
+        this.movementService = movementService;
+        this.actionService = actionService;
+        this.recruitmentService = recruitmentService;
+        this.gameRepository = gameRepository;
+        this.broadcaster = broadcaster;
+        this.aiService = aiService;
+        clusterNode.on(GAME, command -> execute((GameCommand) command.payload()));
+    }
+
+    /**
+     * Exécute la commande sur le nœud propriétaire de la partie et renvoie son
+     * résultat (état diffusé, ou pièce déplacée pour {@link GameCommand.Move}).
+     */
+    public <T> T send(GameCommand command) {
+        return clusterNode.send(GAME, command.gameId().toString(), command);
+    }
+
+    /**
+     * État complet de la partie, servi par son propriétaire : seul ce nœud
+     * diffuse les deltas, sa version est celle que les abonnés attendent.
+     */
+    public GameStateDto snapshot(UUID gameId) {
+        return send(new GameCommand.Snapshot(gameId));
+    }
+
+    Object execute(GameCommand command) {
+        if (command instanceof GameCommand.Snapshot snapshot)
+            return broadcaster.snapshot(snapshot.gameId());
+        if (command instanceof GameCommand.EndTurn endTurn) {
+            gameService.endTurn(endTurn.gameId());
+            GameStateDto state = broadcaster.publish(endTurn.gameId());
+            triggerAi(state);
+            return state;
+        }
+        if (command instanceof GameCommand.Surrender surrender) {
+            gameService.surrender(surrender.gameId(), surrender.playerId());
+        } else if (command instanceof GameCommand.Move move) {
+            PieceEntity piece = movementService.movePiece(move.pieceId(), move.toQ(), move.toR(), move.playerId());
+            broadcaster.publish(move.gameId());
+            return piece;
+        } else if (command instanceof GameCommand.UseAbility ability) {
+            actionService.useAbility(ability.sourceId(), ability.targetId(), ability.abilityId(),
+                    ability.destination(), ability.secondaryDestination(), ability.playerId());
+        } else if (command instanceof GameCommand.SkipActions skip) {
+            actionService.skipActions(skip.gameId(), skip.playerId());
+        } else if (command instanceof GameCommand.Recruit recruit) {
+            // Le recrutement est toujours celui du joueur courant (état seul : la commande peut arriver
+            // d'un autre nœud, hors de toute session JPA)
+            GameEntity game = gameRepository.findStateById(recruit.gameId())
+                    .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+            recruitmentService.recruit(recruit.gameId(), (short) game.getCurrentPlayerIndex(), recruit.cardId(),
+                    recruit.placements());
+        }
+        return broadcaster.publish(command.gameId());
+    }
+
+    // Après la transaction de fin de tour : l'IA joue si c'est à elle
+    private void triggerAi(GameStateDto state) {
+        if (state.status() != GameStatus.IN_PROGRESS)
+            return;
+        PlayerDto currentPlayer = state.players().stream()
+                .filter(p -> p.playerIndex() == state.currentPlayerIndex())
+                .findFirst().orElse(null);
+        if (currentPlayer != null && AiService.AI_PLAYER_ID.equals(currentPlayer.userId())) {
+            System.out.println("DEBUG: Triggering AI interaction for game " + state.gameId());
+            aiService.playTurn(state.gameId());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transport en mémoire : les nœuds sont dans la même JVM et les commandes
+ * sont exécutées directement, sur le thread de l'appelant. Suffit pour un
+ * nœud unique et pour les tests à plusieurs nœuds.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.transport", havingValue = "local", matchIfMissing = true)
+public class LocalClusterTransport implements ClusterTransport {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(String nodeId, Endpoint endpoint) {
+        endpoints.put(nodeId, endpoint);
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        endpoints.remove(nodeId);
+    }
+
+    @Override
+    public Object forward(String nodeId, ClusterCommand command) {
+        Endpoint endpoint = endpoints.get(nodeId);
+        if (endpoint == null)
+            throw new IllegalStateException("Cluster node unavailable: " + nodeId);
+        return endpoint.handle(command);
+    }
+
+    @Override
+    public void broadcast(String fromNodeId, ClusterCommand command) {
+        endpoints.forEach((nodeId, endpoint) -> {
+            if (!nodeId.equals(fromNodeId)) {
+                try {
+                    endpoint.handle(command);
+                } catch (RuntimeException e) {
+                    System.err.println("WARN: Cluster broadcast " + command.type() + " failed on node " + nodeId
+                            + ": " + e.getMessage());
+                }
+            }
+        });
+    }
+}
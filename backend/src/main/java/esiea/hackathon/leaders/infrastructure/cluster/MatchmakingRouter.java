@@ -0,0 +1,38 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.usecase.MatchmakingUseCase;
+import org.springframework.stereotype.Component;
+
+/**
+ * La file du matchmaking public est tenue par un seul nœud (propriétaire de
+ * la clé {@code matchmaking}) : deux joueurs arrivés sur des nœuds
+ * différents peuvent ainsi être appariés. Les sessions créées sont rangées,
+ * comme les autres, sur le nœud de leur partie.
+ */
+@Component
+public class MatchmakingRouter {
+
+    private static final String KEY = "matchmaking";
+    private static final String FIND = "matchmaking.find";
+    private static final String CANCEL = "matchmaking.cancel";
+
+    private final ClusterNode clusterNode;
+
+    public MatchmakingRouter(ClusterNode clusterNode, MatchmakingUseCase matchmakingUseCase) {
+        this.clusterNode = clusterNode;
+        clusterNode.on(FIND, command -> matchmakingUseCase.findOrCreatePublicSession((String) command.payload()));
+        clusterNode.on(CANCEL, command -> {
+            matchmakingUseCase.removePlayerFromQueue((String) command.payload());
+            return null;
+        });
+    }
+
+    public Session findOrCreatePublicSession(String playerId) {
+        return clusterNode.send(FIND, KEY, playerId);
+    }
+
+    public void removePlayerFromQueue(String playerId) {
+        clusterNode.send(CANCEL, KEY, playerId);
+    }
+}
@@ -1,21 +1,27 @@
 package esiea.hackathon.leaders.infrastructure.config;
 
+import esiea.hackathon.leaders.domain.BrokerRelay;
 import esiea.hackathon.leaders.domain.SessionRepository;
 import esiea.hackathon.leaders.usecase.ConnectPlayerUseCase;
 import esiea.hackathon.leaders.usecase.CreateGameSessionUseCase;
+import esiea.hackathon.leaders.usecase.EloMatchmakingQueue;
 import esiea.hackathon.leaders.usecase.MatchmakingUseCase;
 import esiea.hackathon.leaders.usecase.JoinPrivateSessionUseCase;
 import esiea.hackathon.leaders.usecase.LeaveSessionUseCase;
 import esiea.hackathon.leaders.usecase.HeartbeatUseCase;
 import esiea.hackathon.leaders.usecase.StatsUseCase;
+import esiea.hackathon.leaders.application.services.GamePoolService;
 import esiea.hackathon.leaders.application.services.GameSetupService;
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGamePlayerRepository;
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGameRepository;
+import esiea.hackathon.leaders.application.services.UserProfileCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class ApplicationConfig implements WebMvcConfigurer {
 
@@ -33,13 +39,39 @@ public class ApplicationConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public MatchmakingUseCase matchmakingUseCase(SessionRepository sessionRepository,
             CreateGameSessionUseCase createGameSessionUseCase, ConnectPlayerUseCase connectPlayerUseCase,
             GameSetupService gameSetupService,
-            org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate) {
+            BrokerRelay brokerRelay, EloMatchmakingQueue eloMatchmakingQueue, UserProfileCache userProfileCache,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.matchmaking.start-threads:4}") int startThreads) {
         return new MatchmakingUseCase(sessionRepository, createGameSessionUseCase, connectPlayerUseCase,
-                gameSetupService, messagingTemplate);
+                gameSetupService, brokerRelay, eloMatchmakingQueue, userProfileCache,
+                matchStarter(virtualThreads, startThreads));
+    }
+
+    // Démarrage des parties appariées (réservation dans le pool, diffusion), hors du tick de matchmaking.
+    // Pas un bean : un Executor déclaré remplacerait l'exécuteur @Async de Spring Boot
+    private static ExecutorService matchStarter(boolean virtualThreads, int startThreads) {
+        if (virtualThreads)
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("match-start-", 1).factory());
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(startThreads, runnable -> {
+            Thread thread = new Thread(runnable, "match-start-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public EloMatchmakingQueue eloMatchmakingQueue(
+            @Value("${app.matchmaking.bucket-width:50}") int bucketWidth,
+            @Value("${app.matchmaking.initial-band:100}") int initialBand,
+            @Value("${app.matchmaking.widen-per-second:25}") int widenPerSecond,
+            @Value("${app.matchmaking.max-band:800}") int maxBand,
+            @Value("${app.matchmaking.min-wait-ms:500}") long minWaitMs) {
+        return new EloMatchmakingQueue(bucketWidth, initialBand, widenPerSecond, maxBand, minWaitMs);
     }
 
     @Bean
@@ -49,19 +81,17 @@ public class ApplicationConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public CreateGameSessionUseCase createGameSessionUseCase(SessionRepository sessionRepository) {
-        return new CreateGameSessionUseCase(sessionRepository);
+    public CreateGameSessionUseCase createGameSessionUseCase(SessionRepository sessionRepository,
+            GamePoolService gamePool) {
+        return new CreateGameSessionUseCase(sessionRepository, gamePool);
     }
 
     @Bean
     public ConnectPlayerUseCase connectPlayerUseCase(SessionRepository sessionRepository,
-            GameSetupService gameSetupService,
-            esiea.hackathon.leaders.application.services.GameQueryService gameQueryService,
-            org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate,
-            SpringGamePlayerRepository gamePlayerRepository,
-            SpringGameRepository springGameRepository) {
-        return new ConnectPlayerUseCase(sessionRepository, gameSetupService, gameQueryService, messagingTemplate,
-                gamePlayerRepository, springGameRepository);
+            GamePoolService gamePool,
+            esiea.hackathon.leaders.application.services.GameStateBroadcaster broadcaster,
+            BrokerRelay brokerRelay) {
+        return new ConnectPlayerUseCase(sessionRepository, gamePool, broadcaster, brokerRelay);
     }
 
     @Bean
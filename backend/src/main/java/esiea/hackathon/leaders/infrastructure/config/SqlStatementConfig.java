@@ -0,0 +1,28 @@
+package esiea.hackathon.leaders.infrastructure.config;
+
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementCounter;
+import esiea.hackathon.leaders.infrastructure.sql.StatementCountingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatementConfig {
+
+    // Toutes les connexions (JPA, JdbcTemplate) passent par la source de données comptée
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource)
+                    return bean;
+                SqlStatementCounter statements = counter.getObject();
+                return statements.enabled() ? new StatementCountingDataSource(dataSource, statements) : bean;
+            }
+        };
+    }
+}
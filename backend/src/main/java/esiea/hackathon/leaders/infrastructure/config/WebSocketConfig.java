@@ -1,8 +1,13 @@
 package esiea.hackathon.leaders.infrastructure.config;
 
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementChannelInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,12 +19,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${app.allowed-origins}")
     private String[] allowedOrigins;
 
+    @Value("${app.websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    private final SqlStatementChannelInterceptor sqlStatementInterceptor;
+
+    public WebSocketConfig(SqlStatementChannelInterceptor sqlStatementInterceptor) {
+        this.sqlStatementInterceptor = sqlStatementInterceptor;
+    }
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // Heartbeats STOMP : une connexion muette est fermée, ce qui met fin à la présence de ses sessions
+        config.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+                .setTaskScheduler(messageBrokerTaskScheduler);
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Requêtes SQL comptées par message traité
+        registration.interceptors(sqlStatementInterceptor);
+    }
+
     @Override
     public void registerStompEndpoints(
             org.springframework.web.socket.config.annotation.StompEndpointRegistry registry) {
@@ -1,30 +1,47 @@
 package esiea.hackathon.leaders.infrastructure.controller;
 
 import esiea.hackathon.leaders.application.dto.chat.ChatMessageDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.domain.BrokerRelay;
 import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.infrastructure.cluster.GameCommandRouter;
 import esiea.hackathon.leaders.usecase.ConnectPlayerUseCase;
 import esiea.hackathon.leaders.usecase.CreateGameSessionUseCase;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.Map;
+import java.util.UUID;
 
 @Controller
 public class WebSocketController {
 
     private final CreateGameSessionUseCase createGameSessionUseCase;
     private final ConnectPlayerUseCase connectPlayerUseCase;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BrokerRelay brokerRelay;
+    private final GameCommandRouter commandRouter;
 
     public WebSocketController(CreateGameSessionUseCase createGameSessionUseCase,
             ConnectPlayerUseCase connectPlayerUseCase,
-            SimpMessagingTemplate messagingTemplate) {
+            BrokerRelay brokerRelay,
+            GameCommandRouter commandRouter) {
         this.createGameSessionUseCase = createGameSessionUseCase;
         this.connectPlayerUseCase = connectPlayerUseCase;
-        this.messagingTemplate = messagingTemplate;
+        this.brokerRelay = brokerRelay;
+        this.commandRouter = commandRouter;
+    }
+
+    /**
+     * Abonnement à /app/game/{gameId} : état complet et versionné, envoyé au seul
+     * abonné. Les deltas suivants arrivent sur /topic/game/{gameId} ; l'état est
+     * lu sur le nœud propriétaire, qui les numérote.
+     */
+    @SubscribeMapping("/game/{gameId}")
+    public GameStateDto gameSnapshot(@DestinationVariable String gameId) {
+        return commandRouter.snapshot(UUID.fromString(gameId));
     }
 
     @MessageMapping("/create")
@@ -66,7 +83,7 @@ public class WebSocketController {
                 "Processing chat message for session[" + sessionId + "] from[" + message.getSenderName() + "]");
         try {
             message.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/chat/" + sessionId, message);
+            brokerRelay.publish("/topic/chat/" + sessionId, message);
             System.out.println("Chat message broadcasted to /topic/chat/" + sessionId);
         } catch (Exception e) {
             System.err.println("Error broadcasting chat message: " + e.getMessage());
@@ -0,0 +1,69 @@
+package esiea.hackathon.leaders.infrastructure.controller;
+
+import esiea.hackathon.leaders.domain.SessionRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Signe de vie implicite : tant qu'un client est abonné au topic d'une
+ * session (ou de sa partie), la session ne peut pas expirer. La fermeture de
+ * la connexion, détectée par les heartbeats STOMP, vaut dernier signe de vie.
+ */
+@Component
+public class WebSocketPresenceListener {
+
+    private static final Pattern SESSION_TOPIC = Pattern.compile("^/topic/(?:session|game)/([^/]+)$");
+
+    private final SessionRepository sessionRepository;
+    // Connexion WebSocket -> (abonnement STOMP -> session)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+    public WebSocketPresenceListener(SessionRepository sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = sessionIdOf(headers.getDestination());
+        if (sessionId == null || headers.getSessionId() == null || headers.getSubscriptionId() == null)
+            return;
+        subscriptions.computeIfAbsent(headers.getSessionId(), connection -> new ConcurrentHashMap<>())
+                .put(headers.getSubscriptionId(), sessionId);
+        sessionRepository.connected(sessionId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(event.getMessage());
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null)
+            return;
+        Map<String, String> open = subscriptions.get(headers.getSessionId());
+        String sessionId = open != null ? open.remove(headers.getSubscriptionId()) : null;
+        if (sessionId != null)
+            sessionRepository.disconnected(sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> open = subscriptions.remove(event.getSessionId());
+        if (open != null)
+            open.values().forEach(sessionRepository::disconnected);
+    }
+
+    private static String sessionIdOf(String destination) {
+        if (destination == null)
+            return null;
+        Matcher matcher = SESSION_TOPIC.matcher(destination);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,157 @@
+package esiea.hackathon.leaders.infrastructure.repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Derniers signes de vie des sessions suivies et détection de leur expiration
+ * par une roue temporelle hachée.
+ *
+ * <p>Un signe de vie ne fait qu'écrire la date dans l'entrée de la session
+ * (écriture volatile, sans verrou ni allocation). La roue range chaque entrée
+ * dans la case de son échéance supposée ; {@link #advance} ne lit que les
+ * cases échues et, pour chaque entrée, relit la date : la session a expiré,
+ * ou l'entrée est replacée à sa nouvelle échéance. Une session qui envoie
+ * des signes de vie n'est donc déplacée qu'une fois par délai d'expiration,
+ * quelle que soit leur fréquence.
+ *
+ * <p>Une session avec une connexion ouverte (abonnement WebSocket) n'expire
+ * pas ; sa fermeture compte comme dernier signe de vie.
+ */
+public class HeartbeatWheel {
+
+    private final long timeoutMs;
+    private final long tickMs;
+    private final ArrayDeque<Entry>[] wheel;
+    private final int mask;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // Protège la roue ; les signes de vie ne le prennent pas
+    private final Object lock = new Object();
+    // Dernière case traitée (numéro absolu : date / tickMs)
+    private long tick = Long.MIN_VALUE;
+
+    @SuppressWarnings("unchecked")
+    public HeartbeatWheel(long timeoutMs, long tickMs, int slots) {
+        this.timeoutMs = Math.max(1, timeoutMs);
+        this.tickMs = Math.max(1, tickMs);
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++)
+            wheel[i] = new ArrayDeque<>();
+        this.mask = size - 1;
+    }
+
+    /** Suit la session à partir de {@code lastSeenMs} ; sans effet si elle l'est déjà. */
+    public void register(String id, long lastSeenMs) {
+        Entry entry = new Entry(id, lastSeenMs);
+        if (entries.putIfAbsent(id, entry) != null)
+            return;
+        synchronized (lock) {
+            if (tick == Long.MIN_VALUE)
+                tick = lastSeenMs / tickMs;
+            schedule(entry, lastSeenMs + timeoutMs);
+        }
+    }
+
+    /** Ne suit plus la session ; son entrée est abandonnée au passage de la roue. */
+    public void unregister(String id) {
+        Entry entry = entries.remove(id);
+        if (entry != null)
+            entry.cancelled = true;
+    }
+
+    /** Signe de vie ; {@code false} si la session n'est pas (ou plus) suivie. */
+    public boolean touch(String id, long nowMs) {
+        Entry entry = entries.get(id);
+        if (entry == null)
+            return false;
+        entry.lastSeen = nowMs;
+        return true;
+    }
+
+    public boolean connected(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null)
+            return false;
+        entry.connections.incrementAndGet();
+        return true;
+    }
+
+    public boolean disconnected(String id, long nowMs) {
+        Entry entry = entries.get(id);
+        if (entry == null)
+            return false;
+        entry.lastSeen = nowMs;
+        entry.connections.updateAndGet(count -> Math.max(0, count - 1));
+        return true;
+    }
+
+    /**
+     * Traite les cases échues jusqu'à {@code nowMs} et renvoie les sessions
+     * expirées, qui ne sont plus suivies.
+     */
+    public List<String> advance(long nowMs) {
+        List<String> expired = new ArrayList<>();
+        synchronized (lock) {
+            if (tick == Long.MIN_VALUE)
+                return expired;
+            long target = nowMs / tickMs;
+            // Après une longue pause, un tour de roue suffit à relire toutes les entrées
+            long from = Math.max(tick + 1, target - mask);
+            for (long t = from; t <= target; t++) {
+                tick = t;
+                ArrayDeque<Entry> slot = wheel[(int) (t & mask)];
+                for (int n = slot.size(); n > 0; n--) {
+                    Entry entry = slot.poll();
+                    if (entry.cancelled)
+                        continue;
+                    long deadline = entry.lastSeen + timeoutMs;
+                    if (entry.connections.get() > 0)
+                        schedule(entry, nowMs + timeoutMs);
+                    else if (deadline <= nowMs) {
+                        if (entries.remove(entry.id, entry))
+                            expired.add(entry.id);
+                    } else
+                        schedule(entry, deadline);
+                }
+            }
+            tick = Math.max(tick, target);
+        }
+        return expired;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+            for (ArrayDeque<Entry> slot : wheel)
+                slot.clear();
+        }
+    }
+
+    // Appelé sous lock ; une échéance au-delà d'un tour est relue puis replacée
+    private void schedule(Entry entry, long deadlineMs) {
+        long slot = Math.max(tick + 1, (deadlineMs + tickMs - 1) / tickMs);
+        wheel[(int) (slot & mask)].add(entry);
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final AtomicInteger connections = new AtomicInteger();
+        private volatile long lastSeen;
+        private volatile boolean cancelled;
+
+        private Entry(String id, long lastSeen) {
+            this.id = id;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
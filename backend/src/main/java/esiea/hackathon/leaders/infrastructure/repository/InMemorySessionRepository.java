@@ -1,31 +1,168 @@
 package esiea.hackathon.leaders.infrastructure.repository;
 
+import esiea.hackathon.leaders.domain.Player;
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Sessions en mémoire avec index secondaires (code, joueur, statut et file
+ * FIFO des sessions publiques en attente), mis à jour ensemble à chaque
+ * {@link #save}. Les recherches du matchmaking ne parcourent donc plus
+ * l'historique des sessions.
+ *
+ * <p>Une session terminée est conservée pendant un délai de grâce (reconnexion,
+ * affichage du résultat) puis retirée. Le délai étant le même pour toutes,
+ * la file des sessions terminées (ordre de fin) est aussi leur ordre
+ * d'expiration : chaque passage ne lit que les sessions arrivées à échéance.
+ * Au-delà du nombre maximal de sessions, les plus anciennes sessions terminées
+ * sont retirées sans attendre ; les sessions en cours ne le sont jamais.
+ *
+ * <p>Les signes de vie des sessions en cours sont suivis par une
+ * {@link HeartbeatWheel} : un ping n'écrit que la date, sans sauvegarde ni
+ * mise à jour des index.
+ */
 @Repository
 public class InMemorySessionRepository implements SessionRepository {
     private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
+    private final Map<String, Session> sessionsByCode = new ConcurrentHashMap<>();
+    // Dernière session sauvegardée de chaque joueur
+    private final Map<String, Session> sessionsByPlayer = new ConcurrentHashMap<>();
+    private final Map<Session.SessionStatus, Set<Session>> sessionsByStatus = new EnumMap<>(
+            Session.SessionStatus.class);
+
+    // Protège les index ci-dessous et les écritures sur tous les index
+    private final Object indexLock = new Object();
+    // Sessions publiques en attente, dans l'ordre de création
+    private final LinkedHashMap<String, Session> waitingPublic = new LinkedHashMap<>();
+    // Valeurs indexées à la dernière sauvegarde (pour retirer les anciennes entrées)
+    private final Map<String, Indexed> indexed = new HashMap<>();
+    // Sessions terminées, dans l'ordre de fin, avec leur date de fin
+    private final LinkedHashMap<String, Long> retained = new LinkedHashMap<>();
+
+    private final long retentionMs;
+    private final int maxSessions;
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder evictedOverCapacity = new LongAdder();
+    private final HeartbeatWheel heartbeats;
+
+    public InMemorySessionRepository() {
+        this(60000, 100000, 30000);
+    }
+
+    @Autowired
+    public InMemorySessionRepository(@Value("${app.session.retention-ms:60000}") long retentionMs,
+            @Value("${app.session.max-sessions:100000}") int maxSessions,
+            @Value("${app.session.heartbeat-timeout-ms:30000}") long heartbeatTimeoutMs) {
+        this.retentionMs = Math.max(0, retentionMs);
+        this.maxSessions = Math.max(1, maxSessions);
+        // Cases d'une seconde au plus : l'expiration est détectée à une case près
+        long tickMs = Math.max(1, Math.min(1000, heartbeatTimeoutMs / 16));
+        this.heartbeats = new HeartbeatWheel(heartbeatTimeoutMs, tickMs, 64);
+        for (Session.SessionStatus status : Session.SessionStatus.values())
+            sessionsByStatus.put(status, ConcurrentHashMap.newKeySet());
+    }
+
     @Override
     public void save(Session session) {
-        System.out.println("DEBUG: Saving session " + session.getId() + " status=" + session.getStatus() + " private="
-                + session.isPrivate());
-        sessions.put(session.getId(), session);
+        synchronized (indexLock) {
+            sessions.put(session.getId(), session);
+            Indexed previous = indexed.get(session.getId());
+            Indexed current = Indexed.of(session);
+            if (previous != null)
+                unindex(session, previous);
+            index(session, current);
+            indexed.put(session.getId(), current);
+
+            if (current.status == Session.SessionStatus.FINISHED) {
+                retained.putIfAbsent(session.getId(), System.currentTimeMillis());
+                heartbeats.unregister(session.getId());
+            } else {
+                retained.remove(session.getId());
+                heartbeats.register(session.getId(), session.getLastHeartbeat());
+            }
+            if (sessions.size() > maxSessions)
+                evictOverCapacity();
+        }
+    }
+
+    /** Retire les sessions terminées depuis plus que le délai de grâce. */
+    @Scheduled(fixedDelayString = "${app.session.eviction-interval-ms:1000}")
+    public int evictExpired() {
+        long deadline = System.currentTimeMillis() - retentionMs;
+        int count = 0;
+        synchronized (indexLock) {
+            Iterator<Map.Entry<String, Long>> oldest = retained.entrySet().iterator();
+            while (oldest.hasNext()) {
+                Map.Entry<String, Long> entry = oldest.next();
+                if (entry.getValue() > deadline)
+                    break;
+                oldest.remove();
+                remove(entry.getKey());
+                count++;
+            }
+        }
+        evicted.add(count);
+        return count;
+    }
+
+    @Override
+    public Stats stats() {
+        synchronized (indexLock) {
+            int total = sessions.size();
+            int retainedCount = retained.size();
+            return new Stats(total - retainedCount, retainedCount, maxSessions, evicted.sum(),
+                    evictedOverCapacity.sum(), (long) total * ESTIMATED_BYTES_PER_SESSION);
+        }
+    }
+
+    @Override
+    public boolean heartbeat(String sessionId) {
+        return sessionId != null && heartbeats.touch(sessionId, System.currentTimeMillis());
+    }
+
+    @Override
+    public void connected(String sessionId) {
+        heartbeats.connected(sessionId);
+    }
+
+    @Override
+    public void disconnected(String sessionId) {
+        heartbeats.disconnected(sessionId, System.currentTimeMillis());
+    }
+
+    @Override
+    public List<Session> pollTimedOut() {
+        List<Session> timedOut = new ArrayList<>();
+        for (String id : heartbeats.advance(System.currentTimeMillis())) {
+            Session session = sessions.get(id);
+            if (session != null && session.getStatus() != Session.SessionStatus.FINISHED)
+                timedOut.add(session);
+        }
+        return timedOut;
     }
 
     @Override
     public Optional<Session> findFirstByStatusAndIsPrivateFalse(Session.SessionStatus status) {
-        System.out
-                .println("DEBUG: Searching for status=" + status + " private=false. Total sessions=" + sessions.size());
-        sessions.values().forEach(s -> System.out
-                .println("DEBUG: Candidate " + s.getId() + " status=" + s.getStatus() + " private=" + s.isPrivate()));
-        return sessions.values().stream()
+        if (status == Session.SessionStatus.WAITING_FOR_PLAYER)
+            return findSuitableSession(null);
+        return sessionsByStatus.get(status).stream()
                 .filter(s -> s.getStatus() == status && !s.isPrivate())
                 .findFirst();
     }
@@ -34,9 +171,7 @@ public class InMemorySessionRepository implements SessionRepository {
     public Optional<Session> findByCode(String code) {
         if (code == null)
             return Optional.empty();
-        return sessions.values().stream()
-                .filter(s -> code.equals(s.getCode()))
-                .findFirst();
+        return Optional.ofNullable(sessionsByCode.get(code));
     }
 
     @Override
@@ -44,6 +179,21 @@ public class InMemorySessionRepository implements SessionRepository {
         return Optional.ofNullable(sessions.get(id));
     }
 
+    @Override
+    public Optional<Session> findByPlayerId(String playerId) {
+        if (playerId == null)
+            return Optional.empty();
+        return Optional.ofNullable(sessionsByPlayer.get(playerId))
+                .filter(s -> hasPlayer(s.getPlayer1(), playerId) || hasPlayer(s.getPlayer2(), playerId));
+    }
+
+    @Override
+    public List<Session> findByStatus(Session.SessionStatus status) {
+        return sessionsByStatus.get(status).stream()
+                .filter(s -> s.getStatus() == status)
+                .toList();
+    }
+
     @Override
     public java.util.List<Session> findAll() {
         return new java.util.ArrayList<>(sessions.values());
@@ -51,25 +201,116 @@ public class InMemorySessionRepository implements SessionRepository {
 
     @Override
     public Optional<Session> findSuitableSession(String excludedPlayerId) {
-        System.out.println("DEBUG: Finding suitable session (any waiting public session)");
-        return sessions.values().stream()
-                .filter(s -> {
-                    boolean isWaiting = s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER;
-                    boolean notPrivate = !s.isPrivate();
-
-                    if (isWaiting && notPrivate)
-                        return true;
-
-                    // Log rejection reason for debugging
-                    System.out.println("DEBUG: Rejected " + s.getId() + " Waiting=" + isWaiting +
-                            " Public=" + notPrivate);
-                    return false;
-                })
-                .findFirst();
+        synchronized (indexLock) {
+            Iterator<Session> waiting = waitingPublic.values().iterator();
+            while (waiting.hasNext()) {
+                Session candidate = waiting.next();
+                // Session modifiée sans save : elle n'attend plus personne
+                if (candidate.getStatus() != Session.SessionStatus.WAITING_FOR_PLAYER || candidate.isPrivate()) {
+                    waiting.remove();
+                    continue;
+                }
+                if (excludedPlayerId != null && hasPlayer(candidate.getPlayer1(), excludedPlayerId))
+                    continue;
+                return Optional.of(candidate);
+            }
+            return Optional.empty();
+        }
     }
 
     @Override
     public void deleteAll() {
-        sessions.clear();
+        synchronized (indexLock) {
+            sessions.clear();
+            sessionsByCode.clear();
+            sessionsByPlayer.clear();
+            sessionsByStatus.values().forEach(Set::clear);
+            waitingPublic.clear();
+            indexed.clear();
+            retained.clear();
+            heartbeats.clear();
+        }
+    }
+
+    // Appelé sous indexLock
+    private void evictOverCapacity() {
+        Iterator<String> oldest = retained.keySet().iterator();
+        while (sessions.size() > maxSessions && oldest.hasNext()) {
+            String id = oldest.next();
+            oldest.remove();
+            remove(id);
+            evictedOverCapacity.increment();
+        }
+        if (sessions.size() > maxSessions)
+            System.err.println("WARN: " + sessions.size() + " live sessions exceed app.session.max-sessions="
+                    + maxSessions);
+    }
+
+    // Appelé sous indexLock
+    private void remove(String id) {
+        Session session = sessions.remove(id);
+        Indexed values = indexed.remove(id);
+        if (session != null && values != null)
+            unindex(session, values);
+        waitingPublic.remove(id);
+        heartbeats.unregister(id);
+    }
+
+    private void index(Session session, Indexed values) {
+        if (values.code != null)
+            sessionsByCode.put(values.code, session);
+        if (values.player1 != null)
+            indexPlayer(values.player1, session, values.status);
+        if (values.player2 != null)
+            indexPlayer(values.player2, session, values.status);
+        if (values.status != null)
+            sessionsByStatus.get(values.status).add(session);
+        // putIfAbsent : une session déjà en attente garde sa place dans la file
+        if (values.waitingPublic())
+            waitingPublic.putIfAbsent(session.getId(), session);
+        else
+            waitingPublic.remove(session.getId());
+    }
+
+    // Une session terminée ne remplace pas une session en cours du même joueur
+    private void indexPlayer(String playerId, Session session, Session.SessionStatus status) {
+        if (status != Session.SessionStatus.FINISHED) {
+            sessionsByPlayer.put(playerId, session);
+            return;
+        }
+        sessionsByPlayer.compute(playerId, (id, current) -> current == null
+                || current.getStatus() == Session.SessionStatus.FINISHED ? session : current);
+    }
+
+    private void unindex(Session session, Indexed values) {
+        if (values.code != null)
+            sessionsByCode.remove(values.code, session);
+        if (values.player1 != null)
+            sessionsByPlayer.remove(values.player1, session);
+        if (values.player2 != null)
+            sessionsByPlayer.remove(values.player2, session);
+        if (values.status != null)
+            sessionsByStatus.get(values.status).remove(session);
+    }
+
+    // Session, joueurs et entrées d'index (ordre de grandeur, pour les statistiques)
+    private static final int ESTIMATED_BYTES_PER_SESSION = 600;
+
+    private static boolean hasPlayer(Player player, String playerId) {
+        return player != null && playerId.equals(player.getId());
+    }
+
+    private record Indexed(Session.SessionStatus status, boolean isPrivate, String code, String player1,
+            String player2) {
+
+        static Indexed of(Session session) {
+            return new Indexed(session.getStatus(), session.isPrivate(), session.getCode(),
+                    session.getPlayer1() != null ? session.getPlayer1().getId() : null,
+                    session.getPlayer2() != null ? session.getPlayer2().getId() : null);
+        }
+
+        boolean waitingPublic() {
+            return status == Session.SessionStatus.WAITING_FOR_PLAYER && !isPrivate;
+        }
     }
 }
@@ -0,0 +1,51 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Une mesure {@link SqlStatementCounter} par message STOMP traité par les
+ * contrôleurs ({@code @MessageMapping}, {@code @SubscribeMapping}), sur le
+ * thread qui le traite. Le broker reçoit les mêmes messages sans accès à la
+ * base : ils ne sont pas mesurés.
+ */
+@Component
+public class SqlStatementChannelInterceptor implements ExecutorChannelInterceptor {
+
+    // Identifiants de partie ou de session dans la destination : /app/game/{id}
+    private static final Pattern ID_SEGMENT = Pattern
+            .compile("(?<=/)([0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}|\\d+)(?=/|$)");
+
+    private final SqlStatementCounter counter;
+
+    public SqlStatementChannelInterceptor(SqlStatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler)
+            counter.begin();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler)
+            counter.end(counter.current(), nameOf(message));
+    }
+
+    static String nameOf(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return "STOMP " + SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) + " "
+                + (destination != null ? ID_SEGMENT.matcher(destination).replaceAll("{id}") : SqlStatementCounter.OTHER);
+    }
+}
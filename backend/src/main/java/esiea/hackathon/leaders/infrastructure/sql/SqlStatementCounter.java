@@ -0,0 +1,170 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requêtes SQL par unité de travail (requête HTTP, message STOMP, tour de
+ * l'IA) : instructions exécutées, lignes lues ou modifiées et temps passé en
+ * base, relevés par {@link StatementCountingDataSource}.
+ *
+ * <p>Une mesure est propre au thread qui l'a démarrée ({@link #begin}) ; une
+ * mesure imbriquée suspend la mesure englobante jusqu'à sa fin. Chaque mesure
+ * terminée est agrégée sous son nom ({@code POST /games/{gameId}/move}...) et
+ * signalée si elle dépasse le budget d'instructions. Les requêtes hors de
+ * toute mesure (écritures par lots du cache, tâches planifiées) sont comptées
+ * à part.
+ */
+@Component
+public class SqlStatementCounter {
+
+    static final String OTHER = "other";
+
+    private final boolean enabled;
+    private final int warnStatements;
+    private final int maxNames;
+
+    private final ThreadLocal<Measure> current = new ThreadLocal<>();
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+    private final Totals unscoped = new Totals();
+    private final LongAdder overBudget = new LongAdder();
+
+    public SqlStatementCounter(@Value("${app.sql-budget.enabled:true}") boolean enabled,
+            @Value("${app.sql-budget.warn-statements:25}") int warnStatements,
+            @Value("${app.sql-budget.max-names:256}") int maxNames) {
+        this.enabled = enabled;
+        this.warnStatements = warnStatements;
+        this.maxNames = Math.max(1, maxNames);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Démarre une mesure sur ce thread ; {@code null} si le comptage est désactivé. */
+    public Measure begin() {
+        if (!enabled)
+            return null;
+        Measure measure = new Measure(current.get());
+        current.set(measure);
+        return measure;
+    }
+
+    /** Mesure en cours sur ce thread, ou {@code null}. */
+    public Measure current() {
+        return current.get();
+    }
+
+    /** Termine la mesure, l'agrège sous {@code name} et rétablit la mesure englobante. */
+    public void end(Measure measure, String name) {
+        if (measure == null)
+            return;
+        if (current.get() == measure) {
+            if (measure.outer == null)
+                current.remove();
+            else
+                current.set(measure.outer);
+        }
+        // Noms en nombre borné : au-delà, les mesures sont réunies sous "other"
+        String key = totals.size() < maxNames || totals.containsKey(name) ? name : OTHER;
+        totals.computeIfAbsent(key, k -> new Totals()).add(measure);
+        if (warnStatements > 0 && measure.statements > warnStatements) {
+            overBudget.increment();
+            System.err.println("SQL BUDGET: " + name + " issued " + measure.statements + " statements (budget "
+                    + warnStatements + "), " + measure.rows + " rows, " + measure.timeMs() + " ms");
+        }
+    }
+
+    void statement(long nanos, long rows) {
+        Measure measure = current.get();
+        if (measure != null) {
+            measure.statements++;
+            measure.rows += rows;
+            measure.nanos += nanos;
+        } else {
+            unscoped.statements.increment();
+            unscoped.rows.add(rows);
+            unscoped.nanos.add(nanos);
+        }
+    }
+
+    void rows(long rows) {
+        Measure measure = current.get();
+        if (measure != null)
+            measure.rows += rows;
+        else
+            unscoped.rows.add(rows);
+    }
+
+    /** Par nom, les plus coûteux en instructions d'abord. */
+    public Stats stats() {
+        List<ScopeStats> scopes = new ArrayList<>(totals.size());
+        totals.forEach((name, total) -> scopes.add(total.toStats(name)));
+        scopes.sort(Comparator.comparingLong(ScopeStats::statements).reversed());
+        return new Stats(enabled, warnStatements, overBudget.sum(), scopes, unscoped.toStats("unscoped"));
+    }
+
+    public record Stats(boolean enabled, int warnStatements, long overBudget, List<ScopeStats> scopes,
+            ScopeStats unscoped) {
+    }
+
+    /** {@code count} mesures ; moyenne et maximum d'instructions par mesure. */
+    public record ScopeStats(String name, long count, long statements, long rows, double timeMs,
+            double avgStatements, long maxStatements) {
+    }
+
+    /** Compteurs d'une mesure en cours (un seul thread). */
+    public static final class Measure {
+        private final Measure outer;
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        private Measure(Measure outer) {
+            this.outer = outer;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        public long timeMs() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    private static final class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+
+        private void add(Measure measure) {
+            count.increment();
+            statements.add(measure.statements);
+            rows.add(measure.rows);
+            nanos.add(measure.nanos);
+            maxStatements.accumulate(measure.statements);
+        }
+
+        private ScopeStats toStats(String name) {
+            long n = count.sum();
+            long s = statements.sum();
+            return new ScopeStats(name, n, s, rows.sum(), nanos.sum() / 1_000_000.0, n == 0 ? 0.0 : (double) s / n,
+                    maxStatements.get());
+        }
+    }
+}
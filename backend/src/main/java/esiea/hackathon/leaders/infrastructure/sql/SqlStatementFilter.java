@@ -0,0 +1,119 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Une mesure {@link SqlStatementCounter} par requête HTTP, agrégée sous la
+ * méthode et le chemin de l'endpoint ({@code GET /games/{gameId}}). En dev
+ * ({@code app.sql-budget.headers}), la réponse porte les compteurs relevés
+ * avant l'écriture de son corps : {@code X-Sql-Statements},
+ * {@code X-Sql-Rows} et {@code X-Sql-Time-Ms}.
+ */
+@Component
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    static final String ROWS_HEADER = "X-Sql-Rows";
+    static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final SqlStatementCounter counter;
+    private final boolean headers;
+
+    public SqlStatementFilter(SqlStatementCounter counter,
+            @Value("${app.sql-budget.headers:false}") boolean headers) {
+        this.counter = counter;
+        this.headers = headers;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Measure measure = counter.begin();
+        if (measure == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, headers ? new MeasuredResponse(response, measure) : response);
+        } finally {
+            if (headers && !response.isCommitted())
+                writeHeaders(response, measure);
+            counter.end(measure, nameOf(request));
+        }
+    }
+
+    static String nameOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : SqlStatementCounter.OTHER);
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatementCounter.Measure measure) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(measure.statements()));
+        response.setHeader(ROWS_HEADER, String.valueOf(measure.rows()));
+        response.setHeader(TIME_HEADER, String.valueOf(measure.timeMs()));
+    }
+
+    // Les en-têtes partent avec le premier octet : ils sont posés juste avant
+    private static final class MeasuredResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter.Measure measure;
+
+        private MeasuredResponse(HttpServletResponse response, SqlStatementCounter.Measure measure) {
+            super(response);
+            this.measure = measure;
+        }
+
+        private void beforeCommit() {
+            if (!isCommitted())
+                writeHeaders((HttpServletResponse) getResponse(), measure);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit();
+            super.sendRedirect(location);
+        }
+    }
+}
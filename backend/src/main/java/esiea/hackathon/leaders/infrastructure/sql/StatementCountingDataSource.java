@@ -0,0 +1,102 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Source de données qui relève chaque instruction exécutée (JPA comme
+ * JdbcTemplate) pour {@link SqlStatementCounter} : temps d'exécution, lignes
+ * modifiées ou lues. Connexions, instructions et résultats sont enveloppés
+ * dans des proxys ; un lot ({@code executeBatch}) compte pour une
+ * instruction, un aller-retour.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementCounter counter;
+
+    public StatementCountingDataSource(DataSource target, SqlStatementCounter counter) {
+        super(target);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            // createStatement, prepareStatement, prepareCall
+            return result instanceof Statement statement ? statement(statement, method.getReturnType()) : result;
+        });
+    }
+
+    private Object statement(Statement target, Class<?> type) {
+        return proxy(type, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute"))
+                return resultSet(invoke(target, method, args));
+            long start = System.nanoTime();
+            Object result = invoke(target, method, args);
+            counter.statement(System.nanoTime() - start, updatedRows(result));
+            return resultSet(result);
+        });
+    }
+
+    // Lignes lues comptées au fil de la lecture du résultat
+    private Object resultSet(Object result) {
+        if (!(result instanceof ResultSet target))
+            return result;
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object value = invoke(target, method, args);
+            if (Boolean.TRUE.equals(value) && method.getName().equals("next"))
+                counter.rows(1);
+            return value;
+        });
+    }
+
+    // executeUpdate, executeBatch (lignes par instruction du lot, négatives si inconnues)
+    static long updatedRows(Object result) {
+        if (result instanceof Integer count)
+            return Math.max(0, count);
+        if (result instanceof Long count)
+            return Math.max(0, count);
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts)
+                rows += Math.max(0, count);
+        } else if (result instanceof long[] counts) {
+            for (long count : counts)
+                rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,15 +1,13 @@
 package esiea.hackathon.leaders.usecase;
 
+import esiea.hackathon.leaders.domain.BrokerRelay;
 import esiea.hackathon.leaders.domain.Player;
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
-import esiea.hackathon.leaders.application.dto.response.GameStateDto;
-import esiea.hackathon.leaders.application.services.GameQueryService;
-import esiea.hackathon.leaders.adapter.infrastructure.entity.GameJpaEntity;
-import esiea.hackathon.leaders.adapter.infrastructure.entity.GamePlayerJpaEntity;
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGamePlayerRepository;
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGameRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import esiea.hackathon.leaders.application.services.GamePoolService;
+import esiea.hackathon.leaders.application.services.GameStateBroadcaster;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -17,24 +15,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 public class ConnectPlayerUseCase {
     private final SessionRepository sessionRepository;
-    private final esiea.hackathon.leaders.application.services.GameSetupService gameSetupService;
-    private final GameQueryService gameQueryService;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final SpringGamePlayerRepository gamePlayerRepository;
-    private final SpringGameRepository springGameRepository;
+    private final GamePoolService gamePool;
+    private final GameStateBroadcaster broadcaster;
+    private final BrokerRelay brokerRelay;
 
     public ConnectPlayerUseCase(SessionRepository sessionRepository,
-            esiea.hackathon.leaders.application.services.GameSetupService gameSetupService,
-            GameQueryService gameQueryService,
-            SimpMessagingTemplate messagingTemplate,
-            SpringGamePlayerRepository gamePlayerRepository,
-            SpringGameRepository springGameRepository) {
+            GamePoolService gamePool,
+            GameStateBroadcaster broadcaster,
+            BrokerRelay brokerRelay) {
         this.sessionRepository = sessionRepository;
-        this.gameSetupService = gameSetupService;
-        this.gameQueryService = gameQueryService;
-        this.messagingTemplate = messagingTemplate;
-        this.gamePlayerRepository = gamePlayerRepository;
-        this.springGameRepository = springGameRepository;
+        this.gamePool = gamePool;
+        this.broadcaster = broadcaster;
+        this.brokerRelay = brokerRelay;
     }
 
     @Transactional
@@ -57,74 +49,26 @@ public class ConnectPlayerUseCase {
         if (session.getStatus() == Session.SessionStatus.ACTIVE) {
             System.out.println("DEBUG: Creating game with ID: " + session.getId());
             UUID gameId = UUID.fromString(session.getId());
-            gameSetupService.createGameWithId(gameId, null, null);
-            System.out.println("DEBUG: Game created successfully!");
 
-            // Save players to game_player table and notify
-            try {
-                GameJpaEntity gameRef = springGameRepository.findById(gameId)
-                        .orElseThrow(() -> new RuntimeException("Game not found after creation"));
-
-                // Ensure players list is initialized (for memory cache consistency)
-                if (gameRef.getPlayers() == null) {
-                    gameRef.setPlayers(new java.util.ArrayList<>());
-                }
-
-                // Helper for UUID parsing
-                java.util.function.Function<String, UUID> safeUuid = (id) -> {
-                    try {
-                        return UUID.fromString(id);
-                    } catch (IllegalArgumentException e) {
-                        return UUID.nameUUIDFromBytes(id.getBytes());
-                    }
-                };
-
-                // Player 1 (host)
-                if (session.getPlayer1() != null) {
-                    String p1IdStr = session.getPlayer1().getId();
-                    UUID player1Id = safeUuid.apply(p1IdStr);
-                    System.out.println("DEBUG: Connection - Player 1 ID from session: " + p1IdStr
-                            + " -> mapped to UUID: " + player1Id);
-                    GamePlayerJpaEntity gp1 = GamePlayerJpaEntity.builder()
-                            .game(gameRef)
-                            .userId(player1Id)
-                            .playerIndex(0)
-                            .isFirstTurnCompleted(false)
-                            .build();
-                    gamePlayerRepository.save(gp1);
-                    gameRef.getPlayers().add(gp1);
-                }
-
-                // Player 2 (joiner)
-                UUID player2Id = safeUuid.apply(actualPlayerId);
-                System.out.println("DEBUG: Connection - Player 2 ID actual: " + actualPlayerId + " -> mapped to UUID: "
-                        + player2Id);
-                GamePlayerJpaEntity gp2 = GamePlayerJpaEntity.builder()
-                        .game(gameRef)
-                        .userId(player2Id)
-                        .playerIndex(1)
-                        .isFirstTurnCompleted(false)
-                        .build();
-                gamePlayerRepository.save(gp2);
-                gameRef.getPlayers().add(gp2);
-
-                // Send game state via WebSocket ONLY if players were saved successfully
+            // Partie réservée à la création de la session (même id) : démarrée avec les joueurs
+            List<UUID> playerIds = new ArrayList<>(2);
+            playerIds.add(session.getPlayer1() != null ? toUserId(session.getPlayer1().getId()) : null);
+            playerIds.add(toUserId(actualPlayerId));
+            System.out.println("DEBUG: Connection - players " + playerIds);
+            gamePool.start(gameId, null, playerIds, null);
+            System.out.println("DEBUG: Game started successfully!");
 
+            try {
                 // 1. Notify Lobby that session is ACTIVE
-                messagingTemplate.convertAndSend("/topic/session/" + session.getId(), session);
+                brokerRelay.publish("/topic/session/" + session.getId(), session);
                 System.out.println("DEBUG: Session update sent via WebSocket to /topic/session/" + session.getId());
 
-                // 2. Notify Game components with initial state
-                GameStateDto gameState = gameQueryService.getGameState(gameId);
-                System.out
-                        .println("DEBUG: Sending game state to /topic/game/" + session.getId() + " for game " + gameId);
-                messagingTemplate.convertAndSend("/topic/game/" + session.getId(), gameState);
+                // 2. Notify Game components with initial state (first version: full state)
+                broadcaster.publish(gameId);
                 System.out.println("DEBUG: Game state sent successfully.");
-
             } catch (Exception e) {
-                System.err.println("ERROR: Failed to save players or send game state: " + e.getMessage());
+                System.err.println("ERROR: Failed to send game state: " + e.getMessage());
                 e.printStackTrace();
-                // Potentially rethrow or handle connection failure
             }
         } else {
             System.out.println("DEBUG: Session not ACTIVE, status is: " + session.getStatus());
@@ -132,4 +76,13 @@ public class ConnectPlayerUseCase {
 
         return session;
     }
+
+    // Identifiants de joueurs non UUID (invités) : UUID dérivé, stable
+    private static UUID toUserId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(id.getBytes());
+        }
+    }
 }
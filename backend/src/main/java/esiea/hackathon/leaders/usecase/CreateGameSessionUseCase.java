@@ -1,5 +1,6 @@
 package esiea.hackathon.leaders.usecase;
 
+import esiea.hackathon.leaders.application.services.GamePoolService;
 import esiea.hackathon.leaders.domain.Player;
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
@@ -7,13 +8,20 @@ import java.util.UUID;
 
 public class CreateGameSessionUseCase {
     private final SessionRepository sessionRepository;
+    private final GamePoolService gamePool;
 
     public CreateGameSessionUseCase(SessionRepository sessionRepository) {
+        this(sessionRepository, null);
+    }
+
+    public CreateGameSessionUseCase(SessionRepository sessionRepository, GamePoolService gamePool) {
         this.sessionRepository = sessionRepository;
+        this.gamePool = gamePool;
     }
 
     public Session createSession(boolean isPrivate, String playerId) {
-        String sessionId = UUID.randomUUID().toString();
+        // La session prend l'id d'une partie de la réserve, démarrée quand l'adversaire arrive
+        String sessionId = (gamePool != null ? gamePool.reserve(null) : UUID.randomUUID()).toString();
         // If playerId is not provided, generate one (fallback)
         String actualPlayerId = (playerId != null) ? playerId : UUID.randomUUID().toString();
         Player player1 = new Player(actualPlayerId);
@@ -0,0 +1,263 @@
+package esiea.hackathon.leaders.usecase;
+
+import esiea.hackathon.leaders.domain.Session;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Joueurs en attente d'une partie publique, rangés par tranche d'ELO. Chaque
+ * joueur accepte un écart d'ELO qui s'élargit avec son temps d'attente ; un
+ * appariement n'est retenu que si l'écart convient aux deux joueurs.
+ *
+ * <p>{@link #pair} apparie par lots : les joueurs sont parcourus dans l'ordre
+ * des ELO (tranches triées, puis tri de chaque tranche) et une programmation
+ * dynamique choisit, parmi les couples de joueurs proches dans cet ordre, le
+ * plus grand nombre de parties puis le plus petit écart total. Sur une ligne,
+ * des couples qui ne se croisent pas suffisent à minimiser la somme des
+ * écarts : le calcul est linéaire en nombre de joueurs.
+ *
+ * <p>Les requêtes ne prennent aucun verrou : un ticket est publié dans une
+ * file sans verrou que le tick vide avant d'apparier, et seul le tick touche
+ * aux tranches. Un ticket passe de l'attente à « apparié » ou « annulé » par
+ * compare-and-set : un départ qui croise un appariement en cours ne peut pas
+ * terminer une session déjà promise à une partie, et un joueur n'est apparié
+ * qu'une fois.
+ */
+public class EloMatchmakingQueue {
+
+    // Nombre de voisins (dans l'ordre des ELO) examinés pour chaque joueur
+    private static final int WINDOW = 8;
+
+    private final int bucketWidth;
+    private final int initialBand;
+    private final int widenPerSecond;
+    private final int maxBand;
+    private final long minWaitNanos;
+
+    // Ticket en cours de chaque joueur (en attente, ou pas encore vu par le tick)
+    private final Map<String, Ticket> byPlayer = new ConcurrentHashMap<>();
+    // Tickets publiés depuis le dernier tick
+    private final Queue<Ticket> inbox = new ConcurrentLinkedQueue<>();
+    // Tranches : propriété du tick (pair est le seul à les lire ou les modifier)
+    private final TreeMap<Integer, List<Ticket>> buckets = new TreeMap<>();
+
+    public EloMatchmakingQueue(int bucketWidth, int initialBand, int widenPerSecond, int maxBand, long minWaitMs) {
+        this.bucketWidth = Math.max(1, bucketWidth);
+        this.initialBand = Math.max(0, initialBand);
+        this.widenPerSecond = Math.max(0, widenPerSecond);
+        this.maxBand = Math.max(this.initialBand, maxBand);
+        this.minWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minWaitMs));
+    }
+
+    /** Ajoute le joueur (ou remplace son ticket précédent). */
+    public Ticket enqueue(String playerId, int elo, Session session, long nowNanos) {
+        Ticket ticket = new Ticket(playerId, elo, session, nowNanos);
+        Ticket previous = byPlayer.put(playerId, ticket);
+        if (previous != null)
+            previous.cancel();
+        inbox.add(ticket);
+        return ticket;
+    }
+
+    /** Retire le joueur ; {@code false} s'il n'attendait plus (déjà apparié). */
+    public boolean remove(String playerId) {
+        Ticket ticket = byPlayer.get(playerId);
+        if (ticket == null || !ticket.cancel())
+            return false;
+        byPlayer.remove(playerId, ticket);
+        return true;
+    }
+
+    public Ticket find(String playerId) {
+        return byPlayer.get(playerId);
+    }
+
+    public int size() {
+        return byPlayer.size();
+    }
+
+    /**
+     * Forme les parties possibles à l'instant {@code nowNanos} et retire les
+     * joueurs appariés. L'hôte de chaque partie est le joueur qui attend
+     * depuis le plus longtemps. Un seul tick à la fois ; les requêtes ne
+     * l'attendent jamais.
+     */
+    public synchronized List<Match> pair(long nowNanos) {
+        for (Ticket ticket; (ticket = inbox.poll()) != null;)
+            buckets.computeIfAbsent(bucketOf(ticket.elo), key -> new ArrayList<>()).add(ticket);
+
+        List<Ticket> sorted = new ArrayList<>(byPlayer.size());
+        boolean removed = false;
+        for (List<Ticket> bucket : buckets.values()) {
+            int start = sorted.size();
+            for (Ticket ticket : bucket) {
+                if (!ticket.waiting()) {
+                    removed = true; // Annulé ou remplacé depuis le tick précédent
+                } else if (ticket.session.getStatus() != Session.SessionStatus.WAITING_FOR_PLAYER) {
+                    // Session terminée ailleurs (départ, expiration)
+                    if (ticket.cancel())
+                        byPlayer.remove(ticket.playerId, ticket);
+                    removed = true;
+                } else if (nowNanos - ticket.enqueuedAt >= minWaitNanos) {
+                    sorted.add(ticket);
+                }
+            }
+            sorted.subList(start, sorted.size()).sort(Comparator.comparingInt(ticket -> ticket.elo));
+        }
+
+        int n = sorted.size();
+        if (n < 2) {
+            if (removed)
+                prune();
+            return List.of();
+        }
+
+        // Meilleur appariement des i premiers joueurs : nombre de parties, puis écart total.
+        // Le i-ème joueur peut rejoindre l'un des WINDOW précédents, ceux d'entre eux restant seuls
+        // (joueur récent dont l'écart accepté est encore étroit, par exemple).
+        int[] elos = new int[n];
+        int[] bands = new int[n];
+        for (int k = 0; k < n; k++) {
+            elos[k] = sorted.get(k).elo;
+            bands[k] = band(sorted.get(k), nowNanos);
+        }
+        int[] pairs = new int[n + 1];
+        long[] gaps = new long[n + 1];
+        int[] partner = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            pairs[i] = pairs[i - 1];
+            gaps[i] = gaps[i - 1];
+            partner[i] = -1;
+            for (int j = i - 1; j >= Math.max(1, i - WINDOW); j--) {
+                int gap = elos[i - 1] - elos[j - 1];
+                if (gap > bands[i - 1])
+                    break;
+                if (gap > bands[j - 1])
+                    continue;
+                int candidatePairs = pairs[j - 1] + 1;
+                long candidateGaps = gaps[j - 1] + gap;
+                if (candidatePairs > pairs[i] || (candidatePairs == pairs[i] && candidateGaps < gaps[i])) {
+                    pairs[i] = candidatePairs;
+                    gaps[i] = candidateGaps;
+                    partner[i] = j;
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(pairs[n]);
+        for (int i = n; i >= 1;) {
+            int j = partner[i];
+            if (j < 0) {
+                i--;
+                continue;
+            }
+            Ticket a = sorted.get(j - 1);
+            Ticket b = sorted.get(i - 1);
+            i = j - 1;
+            // Un joueur parti depuis le parcours n'est pas apparié ; l'autre reste en attente
+            if (!claim(a, b))
+                continue;
+            Ticket host = a.enqueuedAt <= b.enqueuedAt ? a : b;
+            Ticket guest = host == a ? b : a;
+            byPlayer.remove(a.playerId, a);
+            byPlayer.remove(b.playerId, b);
+            matches.add(new Match(host, guest, b.elo - a.elo));
+        }
+        // Appariés, et joueurs partis pendant le tick
+        if (removed || pairs[n] > 0)
+            prune();
+        return matches;
+    }
+
+    // Les deux tickets passent à « apparié », ou aucun
+    private static boolean claim(Ticket a, Ticket b) {
+        if (!a.state.compareAndSet(Ticket.WAITING, Ticket.CLAIMING))
+            return false;
+        boolean matched = b.state.compareAndSet(Ticket.WAITING, Ticket.MATCHED);
+        a.state.set(matched ? Ticket.MATCHED : Ticket.WAITING);
+        return matched;
+    }
+
+    // Retrait des tickets qui n'attendent plus : un passage par tranche plutôt qu'une recherche par joueur
+    private void prune() {
+        buckets.values().removeIf(bucket -> {
+            bucket.removeIf(ticket -> !ticket.waiting());
+            return bucket.isEmpty();
+        });
+    }
+
+    // Écart d'ELO accepté par le joueur après son temps d'attente
+    int band(Ticket ticket, long nowNanos) {
+        long waitedSeconds = TimeUnit.NANOSECONDS.toSeconds(nowNanos - ticket.enqueuedAt);
+        return (int) Math.min(maxBand, initialBand + waitedSeconds * widenPerSecond);
+    }
+
+    private int bucketOf(int elo) {
+        return Math.floorDiv(elo, bucketWidth);
+    }
+
+    public record Match(Ticket host, Ticket guest, int ratingGap) {
+    }
+
+    public static final class Ticket {
+        private static final int WAITING = 0;
+        private static final int CLAIMING = 1; // Appariement en cours de validation par le tick
+        private static final int MATCHED = 2;
+        private static final int CANCELLED = 3;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final String playerId;
+        private final int elo;
+        private final Session session;
+        private final long enqueuedAt;
+
+        private Ticket(String playerId, int elo, Session session, long enqueuedAt) {
+            this.playerId = playerId;
+            this.elo = elo;
+            this.session = session;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public String playerId() {
+            return playerId;
+        }
+
+        public int elo() {
+            return elo;
+        }
+
+        public Session session() {
+            return session;
+        }
+
+        public long enqueuedAt() {
+            return enqueuedAt;
+        }
+
+        boolean waiting() {
+            return state.get() == WAITING;
+        }
+
+        // Annulation ; échoue si le ticket est déjà apparié (ou annulé)
+        private boolean cancel() {
+            while (true) {
+                int current = state.get();
+                if (current == WAITING && state.compareAndSet(WAITING, CANCELLED))
+                    return true;
+                if (current == CLAIMING)
+                    Thread.onSpinWait(); // Issue décidée dans quelques instructions
+                else if (current != WAITING)
+                    return false;
+            }
+        }
+    }
+}
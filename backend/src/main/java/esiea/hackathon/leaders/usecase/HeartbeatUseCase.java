@@ -9,11 +9,8 @@ import org.springframework.stereotype.Service;
 public class HeartbeatUseCase {
     private final SessionRepository sessionRepository;
 
+    // Ping REST facultatif : un abonnement WebSocket ouvert maintient déjà la session en vie
     public void heartbeat(String sessionId) {
-        sessionRepository.findById(sessionId).ifPresent(session -> {
-            session.setLastHeartbeat(System.currentTimeMillis());
-            // Since it's in-memory, save is redundant but good for abstraction
-            sessionRepository.save(session);
-        });
+        sessionRepository.heartbeat(sessionId);
     }
 }
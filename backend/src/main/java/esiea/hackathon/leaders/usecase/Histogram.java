@@ -0,0 +1,42 @@
+package esiea.hackathon.leaders.usecase;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme à bornes fixes : {@code counts[i]} compte les valeurs
+ * inférieures ou égales à {@code bounds[i]}, la dernière case celles au-delà.
+ */
+public class Histogram {
+
+    private final long[] bounds;
+    private final LongAdder[] counts;
+    private final LongAdder sum = new LongAdder();
+
+    public Histogram(long... bounds) {
+        this.bounds = bounds.clone();
+        Arrays.sort(this.bounds);
+        this.counts = new LongAdder[this.bounds.length + 1];
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = new LongAdder();
+    }
+
+    public void record(long value) {
+        int slot = Arrays.binarySearch(bounds, value);
+        counts[slot >= 0 ? slot : -slot - 1].increment();
+        sum.add(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] values = new long[counts.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            values[i] = counts[i].sum();
+            total += values[i];
+        }
+        return new Snapshot(bounds.clone(), values, total, total == 0 ? 0.0 : (double) sum.sum() / total);
+    }
+
+    public record Snapshot(long[] bounds, long[] counts, long total, double mean) {
+    }
+}
@@ -1,163 +1,230 @@
 package esiea.hackathon.leaders.usecase;
 
 import esiea.hackathon.leaders.application.services.GameSetupService;
+import esiea.hackathon.leaders.application.services.UserProfileCache;
+import esiea.hackathon.leaders.domain.BrokerRelay;
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Matchmaking public par niveau : chaque demande crée la session du joueur et
+ * l'inscrit dans la file par ELO ; {@link #matchTick()} forme les parties par
+ * lots. L'hôte garde sa session, celle de son adversaire est terminée et
+ * l'adversaire reçoit la session de l'hôte sur son propre topic. Le tick ne
+ * fait qu'apparier : chaque partie formée démarre sur {@code starter}, sans
+ * retenir le planificateur partagé par les autres tâches.
+ */
+@Slf4j
 @RequiredArgsConstructor
 public class MatchmakingUseCase {
+    // ELO d'un invité ou d'un joueur inconnu (valeur par défaut de user_credentials)
+    private static final int DEFAULT_ELO = 1000;
+
     private final SessionRepository sessionRepository;
     private final CreateGameSessionUseCase createGameSessionUseCase;
     private final ConnectPlayerUseCase connectPlayerUseCase;
     private final GameSetupService gameSetupService;
-    private final SimpMessagingTemplate messagingTemplate;
-
-    // Global lock for matchmaking to prevent multiple players from joining the same
-    // session simultaneously
-    private static final Object GLOBAL_MATCHMAKING_LOCK = new Object();
-
-    public Session findOrCreatePublicSession(String playerId) {
-        synchronized (GLOBAL_MATCHMAKING_LOCK) {
-
-            System.out.println("DEBUG: Matchmaking request for player: " + playerId);
-
-            // 0. Check if player is already in a session
-            // This prevents creating a second session if the first request succeeded
-            // locally but the frontend retried
-            // 0. Only rejoin if in a WAITING session (handles UI retries/page refresh while
-            // in queue)
-            // If the session is ACTIVE, we allow the player to find a NEW match
-            // unless they specifically want to reconnect (handled by another logic)
-            Optional<Session> currentSession = sessionRepository.findAll().stream()
-                    .filter(s -> s != null && s.getPlayer1() != null)
-                    .filter(s -> (s.getPlayer1().getId() != null && s.getPlayer1().getId().equals(playerId))
-                            || (s.getPlayer2() != null && s.getPlayer2().getId() != null
-                                    && s.getPlayer2().getId().equals(playerId)))
-                    .filter(s -> s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER)
-                    .findFirst();
-
-            if (currentSession.isPresent()) {
-                System.out.println("DEBUG: Player " + playerId + " already in session " + currentSession.get().getId());
-                return currentSession.get();
+    private final BrokerRelay brokerRelay;
+    private final EloMatchmakingQueue queue;
+    private final UserProfileCache userProfileCache;
+    private final Executor starter;
+
+    // Requête en cours par joueur : une requête répétée attend le même résultat
+    private final Map<String, CompletableFuture<Session>> inFlight = new ConcurrentHashMap<>();
+    // Joueurs appariés dont la partie démarre : hors file, mais pas à y remettre
+    private final Set<String> starting = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder matches = new LongAdder();
+    private final Histogram waitTimeMs = new Histogram(500, 1000, 2000, 5000, 10000, 30000, 60000, 120000);
+    private final Histogram ratingGap = new Histogram(25, 50, 100, 200, 300, 400);
+    private volatile long lastTickMicros;
+
+    public Session findOrCreatePublicSession(String requestedPlayerId) {
+        // If playerId is not provided, generate one (fallback)
+        String playerId = requestedPlayerId != null ? requestedPlayerId : UUID.randomUUID().toString();
+        CompletableFuture<Session> request = new CompletableFuture<>();
+        CompletableFuture<Session> pending = inFlight.putIfAbsent(playerId, request);
+        if (pending != null) {
+            log.debug("Matchmaking request for player {} already in progress", playerId);
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
             }
+        }
+        try {
+            Session session = matchmake(playerId);
+            request.complete(session);
+            return session;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(playerId, request);
+        }
+    }
+
+    private Session matchmake(String playerId) {
+        log.debug("Matchmaking request for player: {}", playerId);
+
+        // 0. Only rejoin if in a WAITING session (handles UI retries/page refresh while
+        // in queue)
+        // If the session is ACTIVE, we allow the player to find a NEW match
+        // unless they specifically want to reconnect (handled by another logic)
+        Optional<Session> currentSession = sessionRepository.findByPlayerId(playerId)
+                .filter(s -> s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER)
+                .filter(s -> !s.isPrivate());
+
+        if (currentSession.isPresent()) {
+            Session session = currentSession.get();
+            log.debug("Player {} already in session {}", playerId, session.getId());
+            if (queue.find(playerId) == null && !starting.contains(playerId) && isHost(session, playerId))
+                queue.enqueue(playerId, eloOf(playerId), session, System.nanoTime());
+            return session;
+        }
+
+        Session session = createGameSessionUseCase.createSession(false, playerId);
+        queue.enqueue(playerId, eloOf(playerId), session, System.nanoTime());
+        log.debug("Player {} queued with session {}", playerId, session.getId());
+        return session;
+    }
 
-            System.out.println("DEBUG: Player " + playerId + " not in any session. Proceeding to find/create.");
-
-            int maxRetries = 3;
-            for (int i = 0; i < maxRetries; i++) {
-                try {
-                    // 1. Try to find a waiting public session excluding self
-                    Optional<Session> existingSession = sessionRepository.findSuitableSession(playerId);
-
-                    if (existingSession.isPresent()) {
-                        System.out.println("DEBUG: Found suitable session " + existingSession.get().getId()
-                                + " for player " + playerId);
-                        // 2. Join it
-                        return connectPlayerUseCase.connect(existingSession.get().getId(), playerId);
-                    } else {
-                        // 3. Create a new public session
-                        System.out.println("DEBUG: No suitable session found. Creating new one for player " + playerId);
-                        return createGameSessionUseCase.createSession(false, playerId);
-                    }
-                } catch (Exception e) {
-                    System.err.println("CRITICAL Matchmaking error during attempt " + i + ": " + e.getMessage());
-                    e.printStackTrace();
-
-                    if (e instanceof org.springframework.orm.ObjectOptimisticLockingFailureException) {
-                        System.out.println("DEBUG: Optimistic locking failure. Retrying...");
-                    } else {
-                        throw new RuntimeException("Matchmaking failed: " + e.getMessage(), e);
-                    }
-
-                    // Re-check if player actually joined despite the exception
-                    Optional<Session> recheckSession = sessionRepository.findAll().stream()
-                            .filter(s -> s != null && s.getPlayer1() != null)
-                            .filter(s -> (s.getPlayer1().getId() != null && s.getPlayer1().getId().equals(playerId))
-                                    || (s.getPlayer2() != null && s.getPlayer2().getId() != null
-                                            && s.getPlayer2().getId().equals(playerId)))
-                            .filter(s -> s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER
-                                    || s.getStatus() == Session.SessionStatus.ACTIVE)
-                            .findFirst();
-
-                    if (recheckSession.isPresent()) {
-                        Session session = recheckSession.get();
-                        System.out.println("DEBUG: Player " + playerId + " actually joined session "
-                                + session.getId() + " despite exception");
-
-                        // IMPORTANT: If session is ACTIVE, we need to create the game!
-                        if (session.getStatus() == Session.SessionStatus.ACTIVE) {
-                            System.out.println("DEBUG: Session is ACTIVE, checking if game exists...");
-                            try {
-                                // Try to create the game - it might already exist
-                                UUID gameId = java.util.UUID.fromString(session.getId());
-                                gameSetupService.createGameWithId(gameId, null, null);
-                                System.out.println("DEBUG: Game created for session " + session.getId());
-
-                                // FIX: Notification manquante dans le cas de récupération (Bug Synchronisation
-                                // Matchmaking)
-                                // On s'assure que le créateur et le joigneur reçoivent l'événement
-                                try {
-                                    // 1. Notifier Lobby
-                                    messagingTemplate.convertAndSend("/topic/session/" + session.getId(), session);
-
-                                    // 2. Notifier Game avec l'état actuel (si possible)
-                                    // Note: On utilise connectPlayerUseCase ou autowiré messagingTemplate ?
-                                    // MatchmakingUseCase n'a pas messagingTemplate par défaut ? Vérifions...
-                                } catch (Exception e_ws) {
-                                    System.err.println(
-                                            "WARN: Could not send recovery WS notification: " + e_ws.getMessage());
-                                }
-
-                            } catch (Exception gameEx) {
-                                // Game might already exist, that's okay
-                                System.out.println(
-                                        "DEBUG: Game creation failed (might already exist): " + gameEx.getMessage());
-                            }
-                        }
-
-                        return session;
-                    }
-
-                    // Retry if optimistic locking failure occurs
-                    if (i == maxRetries - 1) {
-                        throw e;
-                    }
-                    try {
-                        Thread.sleep(100); // Small delay to reduce contention
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(ie);
-                    }
-                }
+    /** Forme les parties possibles et confie leur démarrage à {@code starter}. */
+    @Scheduled(fixedDelayString = "${app.matchmaking.tick-ms:500}")
+    public void matchTick() {
+        long now = System.nanoTime();
+        List<EloMatchmakingQueue.Match> formed = queue.pair(now);
+        lastTickMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - now);
+
+        for (EloMatchmakingQueue.Match match : formed) {
+            matches.increment();
+            ratingGap.record(match.ratingGap());
+            waitTimeMs.record(TimeUnit.NANOSECONDS.toMillis(now - match.host().enqueuedAt()));
+            waitTimeMs.record(TimeUnit.NANOSECONDS.toMillis(now - match.guest().enqueuedAt()));
+            starting.add(match.host().playerId());
+            starting.add(match.guest().playerId());
+            try {
+                starter.execute(() -> start(match));
+            } catch (RejectedExecutionException e) {
+                // Arrêt en cours : les joueurs restent en file
+                starting.remove(match.host().playerId());
+                starting.remove(match.guest().playerId());
+                requeue(match.host());
+                requeue(match.guest());
             }
-            throw new RuntimeException("Failed to join or create a session after retries");
         }
     }
 
+    private void start(EloMatchmakingQueue.Match match) {
+        try {
+            connect(match);
+        } finally {
+            starting.remove(match.host().playerId());
+            starting.remove(match.guest().playerId());
+        }
+    }
+
+    private void connect(EloMatchmakingQueue.Match match) {
+        Session host = match.host().session();
+        Session guestSession = match.guest().session();
+        String guestId = match.guest().playerId();
+        log.debug("Matching {} into session {} (ELO gap {})", guestId, host.getId(), match.ratingGap());
+        Session session;
+        try {
+            session = connectPlayerUseCase.connect(host.getId(), guestId);
+        } catch (Exception e) {
+            log.error("Matchmaking error for session {}", host.getId(), e);
+            if (host.getStatus() != Session.SessionStatus.ACTIVE) {
+                // Rien n'a démarré : les deux joueurs reprennent leur place dans la file
+                requeue(match.host());
+                requeue(match.guest());
+                return;
+            }
+            // The guest joined despite the exception: make sure the game exists
+            session = host;
+            try {
+                gameSetupService.createGameWithId(UUID.fromString(session.getId()), null, null);
+                brokerRelay.publish("/topic/session/" + session.getId(), session);
+            } catch (Exception gameEx) {
+                // Game might already exist, that's okay
+                log.debug("Game creation failed (might already exist): {}", gameEx.getMessage());
+            }
+        }
+
+        guestSession.finish();
+        sessionRepository.save(guestSession);
+        // L'adversaire attend sur le topic de sa propre session : on lui envoie celle de l'hôte
+        brokerRelay.publish("/topic/session/" + guestSession.getId(), session);
+    }
+
+    private void requeue(EloMatchmakingQueue.Ticket ticket) {
+        if (ticket.session().getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER)
+            queue.enqueue(ticket.playerId(), ticket.elo(), ticket.session(), ticket.enqueuedAt());
+    }
+
+    private int eloOf(String playerId) {
+        try {
+            return userProfileCache.find(UUID.fromString(playerId))
+                    .map(UserProfileCache.UserProfile::elo)
+                    .orElse(DEFAULT_ELO);
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_ELO;
+        }
+    }
+
+    private static boolean isHost(Session session, String playerId) {
+        return session.getPlayer1() != null && playerId.equals(session.getPlayer1().getId());
+    }
+
     public void removePlayerFromQueue(String playerId) {
-        synchronized (GLOBAL_MATCHMAKING_LOCK) {
-            System.out.println("DEBUG: Removing player " + playerId + " from queue");
-            sessionRepository.findAll().stream()
-                    .filter(s -> s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER)
-                    .filter(s -> s.getPlayer1() != null && s.getPlayer1().getId().equals(playerId))
-                    .findFirst()
-                    .ifPresent(session -> {
-                        System.out.println("DEBUG: Found waiting session " + session.getId() + " for player " + playerId
-                                + ". Marking as FINISHED (cancelled).");
-                        session.finish();
-                        // Note: In a real DB we would delete it, but marking as FINISHED is safer for
-                        // in-memory
-                        // to avoid concurrent modification issues if we tried to remove from the map
-                        // directly
-                        // without a repository delete method.
-                        // Actually sessionRepository has no delete.
-                        // Marking as FINISHED effectively removes it from "WAITING_FOR_PLAYER" queries.
-                    });
+        log.debug("Removing player {} from queue", playerId);
+        // Retiré de la file avant que sa session soit terminée ; s'il vient d'être
+        // apparié, la partie démarre et l'annulation arrive trop tard
+        if (!queue.remove(playerId)) {
+            log.debug("Player {} is not queued (already matched?)", playerId);
+            return;
         }
+        sessionRepository.findByPlayerId(playerId)
+                .filter(s -> s.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER)
+                .filter(s -> isHost(s, playerId))
+                .ifPresent(session -> {
+                    log.debug("Found waiting session {} for player {}. Marking as FINISHED (cancelled).",
+                            session.getId(), playerId);
+                    session.finish();
+                    // Sauvegarde : retire la session de la file d'attente et de l'index des statuts
+                    sessionRepository.save(session);
+                });
+    }
+
+    /** Arrêt : les parties déjà confiées finissent de démarrer. */
+    public void shutdown() {
+        if (starter instanceof ExecutorService service)
+            service.shutdown();
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), matches.sum(), lastTickMicros, waitTimeMs.snapshot(), ratingGap.snapshot());
+    }
+
+    /** Temps d'attente en millisecondes, qualité des parties en écart d'ELO. */
+    public record Stats(int queued, long matches, long lastTickMicros, Histogram.Snapshot waitTimeMs,
+            Histogram.Snapshot ratingGap) {
     }
 }
@@ -4,42 +4,37 @@ import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 public class StatsUseCase {
     private final SessionRepository sessionRepository;
 
     public GameStats getGameStats() {
-        List<Session> sessions = sessionRepository.findAll();
-        System.out.println("STATS DEBUG: Found " + sessions.size() + " total sessions");
-
+        // Seules les sessions actives ou en attente comptent : index par statut
         int inGame = 0;
         int inQueue = 0;
 
-        for (Session session : sessions) {
-            System.out.println("STATS DEBUG: Session " + session.getId() + " Status=" + session.getStatus() + " P1="
-                    + (session.getPlayer1() != null) + " P2=" + (session.getPlayer2() != null));
-            if (session.getStatus() == Session.SessionStatus.ACTIVE) {
-                // In active game, likely 2 players
-                int count = 0;
-                if (session.getPlayer1() != null)
-                    count++;
-                if (session.getPlayer2() != null)
-                    count++;
-                inGame += count;
-            } else if (session.getStatus() == Session.SessionStatus.WAITING_FOR_PLAYER) {
-                // In queue, likely 1 player
-                if (session.getPlayer1() != null)
-                    inQueue++;
-                if (session.getPlayer2() != null)
-                    inQueue++;
-            }
+        for (Session session : sessionRepository.findByStatus(Session.SessionStatus.ACTIVE)) {
+            // In active game, likely 2 players
+            if (session.getPlayer1() != null)
+                inGame++;
+            if (session.getPlayer2() != null)
+                inGame++;
+        }
+        for (Session session : sessionRepository.findByStatus(Session.SessionStatus.WAITING_FOR_PLAYER)) {
+            // In queue, likely 1 player
+            if (session.getPlayer1() != null)
+                inQueue++;
+            if (session.getPlayer2() != null)
+                inQueue++;
         }
 
         return new GameStats(inGame, inQueue);
     }
 
+    public SessionRepository.Stats getSessionStats() {
+        return sessionRepository.stats();
+    }
+
     public static class GameStats {
         private final int inGame;
         private final int inQueue;
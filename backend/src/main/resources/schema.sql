@@ -117,7 +117,8 @@ CREATE TABLE IF NOT EXISTS game (
     scenario_id SMALLINT REFERENCES ref_scenario(id),
     elo_change_p0 INT,
     elo_change_p1 INT,
-    ai_difficulty VARCHAR(50) DEFAULT 'EASY'
+    ai_difficulty VARCHAR(50) DEFAULT 'EASY',
+    action_count INT DEFAULT 0                       -- Dernier action_order attribué (cf. game_action)
     );
 
 -- On s'assure que les colonnes ajoutées récemment existent (pour les environnements où la table est déjà créée)
@@ -181,6 +182,15 @@ CREATE TABLE IF NOT EXISTS game_action (
     created_at TIMESTAMP DEFAULT NOW()
     );
 
+-- Compteur d'actions par partie : initialisé depuis l'historique pour les parties existantes
+ALTER TABLE game ADD COLUMN IF NOT EXISTS action_count INT;
+UPDATE game g SET action_count = (SELECT COALESCE(MAX(a.action_order), 0) FROM game_action a WHERE a.game_id = g.id)
+WHERE g.action_count IS NULL;
+ALTER TABLE game ALTER COLUMN action_count SET DEFAULT 0;
+
+-- Lecture de l'historique par curseur (WHERE game_id = ? AND action_order > ?)
+CREATE INDEX IF NOT EXISTS idx_game_action_game_order ON game_action (game_id, action_order);
+
 -- ==================================================================================
 -- 3. DONNÉES DE RÉFÉRENCE (IDs ANGLAIS pour Java)
 -- ==================================================================================
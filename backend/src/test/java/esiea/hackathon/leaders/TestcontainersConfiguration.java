@@ -0,0 +1,24 @@
+package esiea.hackathon.leaders;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Base Postgres des tests qui exécutent du vrai SQL : un conteneur de la même
+ * image que compose-dev.yaml, qui remplace {@code spring.datasource.*}. Le
+ * schéma est créé par schema.sql au démarrage du contexte. Les classes qui
+ * l'importent portent {@code @Testcontainers(disabledWithoutDocker = true)} :
+ * sans Docker, elles sont ignorées.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+    }
+}
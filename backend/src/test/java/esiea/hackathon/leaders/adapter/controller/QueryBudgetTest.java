@@ -0,0 +1,173 @@
+package esiea.hackathon.leaders.adapter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import esiea.hackathon.leaders.TestcontainersConfiguration;
+import esiea.hackathon.leaders.application.dto.request.ActionRequestDto;
+import esiea.hackathon.leaders.application.dto.request.MoveRequestDto;
+import esiea.hackathon.leaders.application.dto.request.RecruitmentRequestDto;
+import esiea.hackathon.leaders.domain.model.HexCoord;
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Nombre maximal d'instructions SQL par endpoint de jeu, sur une vraie base
+ * Postgres : chaque requête HTTP passe par {@link SqlStatementFilter}, et
+ * l'en-tête {@code X-Sql-Statements} porte les instructions relevées par la
+ * source de données comptée. Chargements paresseux, cascades JPA et lectures
+ * dans une boucle (N+1) comptent comme en production. Le cache des parties
+ * est désactivé ({@code app.game.cache.enabled=false}) : chaque accès va en
+ * base, c'est le pire cas (premier accès à une partie). Une instruction de
+ * trop dépasse le budget et fait échouer le build. Les données de référence
+ * (personnages) sont en mémoire et ne comptent pas. En production :
+ * GET /stats/sql.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = { "app.game.cache.enabled=false", "app.game.pool.enabled=false",
+        "app.sql-budget.headers=true" })
+@AutoConfigureMockMvc
+@Import(TestcontainersConfiguration.class)
+class QueryBudgetTest {
+
+    // En-tête posé par SqlStatementFilter (app.sql-budget.headers=true)
+    private static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    // Budgets (relevés sur Postgres, cache désactivé) : instructions de la commande + lecture de l'état
+    // diffusé (partie, profils)
+    private static final int MOVE_BUDGET = 15;
+    private static final int ACTION_BUDGET = 17;
+    private static final int RECRUIT_BUDGET = 22;
+    private static final int END_TURN_BUDGET = 14;
+    private static final int GET_STATE_BUDGET = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID player0 = UUID.randomUUID();
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID archer = UUID.randomUUID();
+    private final UUID brawler = UUID.randomUUID();
+    private final UUID enemyArcher = UUID.randomUUID();
+    private final UUID visibleCard = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user_credentials (id, email, password, username) VALUES (?, ?, 'x', 'p0'), "
+                + "(?, ?, 'x', 'p1')", player0, player0 + "@test", player1, player1 + "@test");
+        jdbcTemplate.update("INSERT INTO game (id, mode, status, phase, current_player_index, turn_number, "
+                + "remaining_time_p0, remaining_time_p1, last_timer_update) "
+                + "VALUES (?, 'CLASSIC', 'IN_PROGRESS', 'ACTION', 0, 3, 420, 420, ?)",
+                gameId, Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("INSERT INTO game_player (game_id, user_id, player_index) VALUES (?, ?, 0), (?, ?, 1)",
+                gameId, player0, gameId, player1);
+        piece(UUID.randomUUID(), "LEADER", 0, 0, 3);
+        piece(archer, "ARCHER", 0, -1, 2);
+        piece(brawler, "BRAWLER", 0, 0, 1);
+        piece(UUID.randomUUID(), "LEADER", 1, 0, -3);
+        piece(enemyArcher, "ARCHER", 1, 0, 0);
+        jdbcTemplate.update("INSERT INTO recruitment_card (id, game_id, character_id, state, deck_order, visible_slot) "
+                + "VALUES (?, ?, 'CAVALRY', 'VISIBLE', NULL, 1), (?, ?, 'CAVALRY', 'IN_DECK', 1, NULL)",
+                visibleCard, gameId, UUID.randomUUID(), gameId);
+    }
+
+    @Test
+    @DisplayName("Déplacement : pièce, partie, plateau, écriture, historique, victoire, état diffusé")
+    void move_staysWithinBudget() throws Exception {
+        int statements = perform(post("/games/{gameId}/move", gameId),
+                new MoveRequestDto(archer, hex(-1, 1), player0));
+
+        assertThat(position(archer)).isEqualTo(hex(-1, 1));
+        assertThat(statements).isLessThanOrEqualTo(MOVE_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Compétence : source, cible, plateau, écritures, historique, victoire, état diffusé")
+    void action_staysWithinBudget() throws Exception {
+        int statements = perform(post("/games/{gameId}/action", gameId),
+                new ActionRequestDto(brawler, enemyArcher, "BRAWLER_PUSH", hex(0, 0), hex(0, -1), player0));
+
+        assertThat(position(enemyArcher)).isEqualTo(hex(0, -1));
+        assertThat(statements).isLessThanOrEqualTo(ACTION_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Recrutement : partie, plateau, carte, pièce posée, rivière, état diffusé")
+    void recruit_staysWithinBudget() throws Exception {
+        jdbcTemplate.update("UPDATE piece SET has_acted_this_turn = TRUE WHERE game_id = ? AND owner_index = 0", gameId);
+
+        int statements = perform(post("/games/{gameId}/recruit", gameId),
+                new RecruitmentRequestDto(visibleCard, List.of(hex(-1, 3))));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT state FROM recruitment_card WHERE id = ?", String.class,
+                visibleCard)).isEqualTo("RECRUITED");
+        assertThat(statements).isLessThanOrEqualTo(RECRUIT_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Fin de tour : partie, victoire, pièces remises à zéro en un lot, état diffusé")
+    void endTurn_staysWithinBudget() throws Exception {
+        jdbcTemplate.update("UPDATE piece SET has_acted_this_turn = TRUE WHERE id = ?", archer);
+
+        int statements = perform(post("/games/{gameId}/end-turn", gameId), null);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT current_player_index FROM game WHERE id = ?", Integer.class,
+                gameId)).isEqualTo(1);
+        assertThat(statements).isLessThanOrEqualTo(END_TURN_BUDGET);
+    }
+
+    @Test
+    @DisplayName("État de la partie : une requête pour la partie, une pour les profils")
+    void getState_staysWithinBudget() throws Exception {
+        int statements = perform(get("/games/{gameId}", gameId), null);
+
+        assertThat(statements).isLessThanOrEqualTo(GET_STATE_BUDGET);
+    }
+
+    // Instructions SQL de la requête, relevées par SqlStatementFilter
+    private int perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        if (body != null)
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return Integer.parseInt(result.getResponse().getHeader(STATEMENTS_HEADER));
+    }
+
+    private void piece(UUID id, String characterId, int owner, int q, int r) {
+        jdbcTemplate.update("INSERT INTO piece (id, game_id, character_id, owner_index, q, r, has_acted_this_turn) "
+                + "VALUES (?, ?, ?, ?, ?, ?, FALSE)", id, gameId, characterId, owner, q, r);
+    }
+
+    private HexCoord position(UUID pieceId) {
+        return jdbcTemplate.queryForObject("SELECT q, r FROM piece WHERE id = ?",
+                (rs, row) -> hex(rs.getShort("q"), rs.getShort("r")), pieceId);
+    }
+
+    private static HexCoord hex(int q, int r) {
+        return new HexCoord((short) q, (short) r);
+    }
+}
@@ -0,0 +1,178 @@
+package esiea.hackathon.leaders.adapter.controller;
+
+import esiea.hackathon.leaders.TestcontainersConfiguration;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de charge (hors build par défaut, Docker requis : lancer avec
+ * {@code mvn test -Dtest=VirtualThreadRequestLoadIT}) : l'application démarre
+ * sur un port aléatoire, {@code spring.threads.virtual.enabled} désactivé puis
+ * activé, et reçoit des requêtes HTTP simultanées sur l'état d'une partie
+ * (une lecture en base chacune, cache désactivé). Sans threads virtuels,
+ * Tomcat sert chaque requête sur un thread de son pool, qui grossit avec la
+ * charge ; avec, chaque requête a son thread virtuel et le pic de threads
+ * système n'en dépend plus.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class VirtualThreadRequestLoadIT {
+
+    private static final int REQUESTS = 400;
+
+    // Pic de threads système sans threads virtuels, comparé au mode virtuel
+    private static final AtomicInteger platformPeak = new AtomicInteger(-1);
+
+    @Nested
+    @Order(1)
+    @DisplayName("spring.threads.virtual.enabled=false")
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "app.game.cache.enabled=false", "app.game.pool.enabled=false", "spring.threads.virtual.enabled=false" })
+    @Import({ TestcontainersConfiguration.class, RequestThreads.class })
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+        @Autowired
+        private RequestThreads requestThreads;
+
+        @Test
+        @DisplayName("Les requêtes sont servies par le pool de threads de Tomcat")
+        void requests() throws Exception {
+            Load load = load(port, jdbcTemplate, requestThreads);
+
+            assertThat(load.virtualRequests()).isZero();
+            platformPeak.set(load.peakThreads());
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("spring.threads.virtual.enabled=true")
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "app.game.cache.enabled=false", "app.game.pool.enabled=false", "spring.threads.virtual.enabled=true" })
+    @Import({ TestcontainersConfiguration.class, RequestThreads.class })
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+        @Autowired
+        private RequestThreads requestThreads;
+
+        @Test
+        @DisplayName("Chaque requête a son thread virtuel ; moins de threads système qu'avec le pool")
+        void requests() throws Exception {
+            Load load = load(port, jdbcTemplate, requestThreads);
+
+            assertThat(load.virtualRequests()).isEqualTo(REQUESTS);
+            if (platformPeak.get() >= 0)
+                assertThat(load.peakThreads()).as("Pic de threads système (pool Tomcat : %d)", platformPeak.get())
+                        .isLessThan(platformPeak.get());
+        }
+    }
+
+    // REQUESTS lectures simultanées de l'état d'une partie ; pic de threads système pendant la charge
+    private static Load load(int port, JdbcTemplate jdbcTemplate, RequestThreads requestThreads) throws Exception {
+        UUID gameId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO game (id, status, phase, last_timer_update) VALUES (?, 'IN_PROGRESS', "
+                + "'ACTION', ?)", gameId, Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("INSERT INTO game_player (game_id, user_id, player_index) VALUES (?, ?, 0), (?, ?, 1)",
+                gameId, UUID.randomUUID(), gameId, UUID.randomUUID());
+        URI uri = URI.create("http://localhost:" + port + "/api/games/" + gameId);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        requestThreads.reset();
+        // Clients sur threads virtuels : seuls les threads du serveur font varier le pic
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clients)
+                        .build()) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return http.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                            .statusCode();
+                }));
+            }
+            threads.resetPeakThreadCount();
+            start.countDown();
+            for (Future<Integer> response : responses)
+                assertThat(response.get(60, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+        return new Load(threads.getPeakThreadCount(), requestThreads.virtual.sum());
+    }
+
+    private record Load(int peakThreads, long virtualRequests) {
+    }
+
+    /** Relève le type de thread qui sert chaque requête. */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RequestThreads {
+
+        private final LongAdder virtual = new LongAdder();
+
+        void reset() {
+            virtual.reset();
+        }
+
+        @Bean
+        OncePerRequestFilter requestThreadFilter() {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                        FilterChain chain) throws ServletException, IOException {
+                    if (Thread.currentThread().isVirtual())
+                        virtual.increment();
+                    chain.doFilter(request, response);
+                }
+            };
+        }
+    }
+}
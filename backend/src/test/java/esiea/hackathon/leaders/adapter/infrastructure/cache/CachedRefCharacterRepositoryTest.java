@@ -0,0 +1,81 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaRefCharacterRepository;
+import esiea.hackathon.leaders.domain.model.AbilityEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.repository.ReferenceDataReloadedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedRefCharacterRepositoryTest {
+
+    private final JpaRefCharacterRepository jpaRepository = mock(JpaRefCharacterRepository.class);
+    private final ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+
+    private final AbilityEntity jump = AbilityEntity.builder().id("ACROBAT_JUMP").build();
+    private final RefCharacterEntity acrobat = RefCharacterEntity.builder()
+            .id("ACROBAT").recruitmentSlots(1).abilities(new HashSet<>(Set.of(jump))).build();
+    private final RefCharacterEntity leader = RefCharacterEntity.builder()
+            .id("LEADER").isLeader(true).abilities(new HashSet<>()).build();
+
+    private CachedRefCharacterRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        when(jpaRepository.findAll()).thenReturn(List.of(leader, acrobat));
+        when(jpaRepository.findAllScenarioCharacterIds()).thenReturn(Map.of(1, List.of("ACROBAT", "LEADER")));
+        repository = new CachedRefCharacterRepository(jpaRepository, events);
+        repository.load();
+    }
+
+    @Test
+    @DisplayName("Les lectures sont servies en mémoire, sans requête après le chargement")
+    void findById_servedFromMemory() {
+        repository.findById("ACROBAT");
+        repository.findById("ACROBAT");
+        repository.findByScenarioId(1);
+
+        assertThat(repository.findById("ACROBAT")).get().extracting(RefCharacterEntity::getAbilities)
+                .isEqualTo(Set.of(jump));
+        assertThat(repository.findByScenarioId(1)).extracting(RefCharacterEntity::getId)
+                .containsExactly("ACROBAT", "LEADER");
+        assertThat(repository.findByScenarioId(2)).isEmpty();
+        verify(jpaRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Les capacités d'un personnage en cache ne sont pas modifiables")
+    void abilities_areImmutable() {
+        Set<AbilityEntity> abilities = repository.findById("ACROBAT").orElseThrow().getAbilities();
+
+        assertThatThrownBy(() -> abilities.add(AbilityEntity.builder().id("OTHER").build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Le rechargement relit les tables et prévient les caches dérivés")
+    void reload_replacesSnapshot() {
+        RefCharacterEntity cavalry = RefCharacterEntity.builder().id("CAVALRY").abilities(Set.of()).build();
+        when(jpaRepository.findAll()).thenReturn(List.of(leader, acrobat, cavalry));
+
+        ReferenceDataReloadedEvent event = repository.reload();
+
+        assertThat(event).isEqualTo(new ReferenceDataReloadedEvent(3, 1, 1));
+        assertThat(repository.findById("CAVALRY")).isPresent();
+        verify(events).publishEvent(event);
+    }
+}
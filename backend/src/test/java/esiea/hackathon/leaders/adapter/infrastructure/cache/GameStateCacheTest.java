@@ -0,0 +1,195 @@
+package esiea.hackathon.leaders.adapter.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JdbcGameActionRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaGameRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaPieceRepository;
+import esiea.hackathon.leaders.adapter.infrastructure.repository.JpaRecruitmentCardRepository;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GameStateCacheTest {
+
+    @TempDir
+    Path walDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JpaGameRepository jpaGames = mock(JpaGameRepository.class);
+    private final JpaPieceRepository jpaPieces = mock(JpaPieceRepository.class);
+    private final JpaRecruitmentCardRepository jpaCards = mock(JpaRecruitmentCardRepository.class);
+    private final JdbcGameActionRepository jdbcActions = mock(JdbcGameActionRepository.class);
+    private final GameStateWriter writer = mock(GameStateWriter.class);
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID pieceId = UUID.randomUUID();
+
+    private GameWriteAheadLog wal;
+    private GameStateCache cache;
+    private CachedGameRepository games;
+    private CachedPieceRepository pieces;
+
+    @BeforeEach
+    void setUp() {
+        GameEntity game = GameEntity.builder()
+                .id(gameId)
+                .status(GameStatus.IN_PROGRESS)
+                .turnNumber(1)
+                .players(List.of(GamePlayerEntity.builder().playerIndex(0).build(),
+                        GamePlayerEntity.builder().playerIndex(1).build()))
+                .pieces(List.of(new PieceEntity(pieceId, gameId, "LEADER", (short) 0, (short) 0, (short) 3, false)))
+                .cards(List.of())
+                .actions(new ArrayList<>())
+                .build();
+        when(jpaGames.findById(gameId)).thenReturn(Optional.of(game));
+        start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wal.close();
+    }
+
+    private void start() {
+        wal = new GameWriteAheadLog(objectMapper, walDir.toString(), false);
+        cache = new GameStateCache(jpaGames, jpaPieces, jpaCards, jdbcActions, writer, wal, 1000, 600000);
+        cache.recover();
+        games = new CachedGameRepository(cache, jpaGames);
+        pieces = new CachedPieceRepository(cache, jpaPieces);
+    }
+
+    @Test
+    @DisplayName("Une partie en cours est lue une seule fois en base")
+    void findById_loadsOnce() {
+        games.findById(gameId);
+        pieces.findByGameId(gameId);
+        pieces.findById(pieceId);
+
+        verify(jpaGames, times(1)).findById(gameId);
+        verify(jpaPieces, never()).findByGameId(any());
+        verify(jpaPieces, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("L'état affiché d'une partie hors cache est lu en une requête, sans la charger")
+    void findStateById_doesNotLoad() {
+        UUID otherId = UUID.randomUUID();
+        when(jpaGames.findStateById(otherId)).thenReturn(Optional.of(GameEntity.builder().id(otherId).build()));
+
+        assertThat(games.findStateById(otherId)).isPresent();
+        verify(jpaGames).findStateById(otherId);
+        verify(jpaGames, never()).findById(otherId);
+
+        // Partie en cache : servie depuis la mémoire, avec ses pièces
+        games.findById(gameId);
+        assertThat(games.findStateById(gameId).orElseThrow().getPieces()).extracting(PieceEntity::getId)
+                .containsExactly(pieceId);
+        verify(jpaGames, never()).findStateById(gameId);
+    }
+
+    @Test
+    @DisplayName("Les changements sont écrits en base au vidage, en un seul lot")
+    void flush_writesMergedBatch() {
+        PieceEntity piece = pieces.findByGameId(gameId).get(0);
+        piece.setR((short) 2);
+        pieces.save(piece);
+        piece.setHasActedThisTurn(true);
+        pieces.save(piece);
+        GameEntity game = games.findById(gameId).orElseThrow();
+        game.setTurnNumber(2);
+        games.save(game);
+
+        verify(writer, never()).write(any());
+        cache.flush();
+
+        ArgumentCaptor<GameWriteBatch> batch = ArgumentCaptor.forClass(GameWriteBatch.class);
+        verify(writer).write(batch.capture());
+        assertThat(batch.getValue().games()).singleElement().satisfies(row -> assertThat(row.turnNumber()).isEqualTo(2));
+        assertThat(batch.getValue().pieces()).singleElement().satisfies(row -> {
+            assertThat(row.r()).isEqualTo((short) 2);
+            assertThat(row.hasActedThisTurn()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Les actions sont numérotées en mémoire, sans relire l'historique")
+    void appendAction_assignsOrder() {
+        CachedGameActionRepository actions = new CachedGameActionRepository(cache, jdbcActions);
+        games.findById(gameId);
+
+        GameActionEntity first = actions.append(gameId, GameActionEntity.builder().actionType(ActionType.MOVE).build());
+        GameActionEntity second = actions.append(gameId, GameActionEntity.builder().actionType(ActionType.MOVE).build());
+        cache.flush();
+
+        assertThat(first.getActionOrder()).isEqualTo(1);
+        assertThat(second.getActionOrder()).isEqualTo(2);
+        assertThat(games.findById(gameId).orElseThrow().getActionCount()).isEqualTo(2);
+        assertThat(actions.findSince(gameId, 1, 10)).extracting(GameActionEntity::getActionOrder).containsExactly(2);
+        verifyNoInteractions(jdbcActions);
+        ArgumentCaptor<GameWriteBatch> batch = ArgumentCaptor.forClass(GameWriteBatch.class);
+        verify(writer).write(batch.capture());
+        assertThat(batch.getValue().games()).isEmpty();
+        assertThat(batch.getValue().actions()).extracting(GameWriteBatch.ActionRow::actionOrder).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Une opération en échec ne laisse aucun changement")
+    void failedOperation_rollsBack() {
+        // Chargée hors de l'opération : une partie chargée dans une portée annulée est évincée
+        games.findById(gameId);
+        assertThatThrownBy(() -> cache.read(gameId, live -> {
+            live.deletePiece(pieceId);
+            throw new IllegalStateException("boom");
+        }, () -> null)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(pieces.findById(pieceId)).isPresent();
+        cache.flush();
+        verify(writer, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Les validations non écrites en base sont rejouées au redémarrage")
+    void recover_replaysJournal() {
+        doThrow(new IllegalStateException("db down")).when(writer).write(any());
+        PieceEntity piece = pieces.findByGameId(gameId).get(0);
+        piece.setQ((short) 1);
+        pieces.save(piece);
+        cache.flush();
+
+        // Redémarrage : le journal est relu et écrit en base
+        wal.close();
+        reset(writer);
+        start();
+
+        ArgumentCaptor<GameWriteBatch> batch = ArgumentCaptor.forClass(GameWriteBatch.class);
+        verify(writer).write(batch.capture());
+        assertThat(batch.getValue().pieces()).singleElement().satisfies(row -> assertThat(row.q()).isEqualTo((short) 1));
+    }
+}
@@ -0,0 +1,121 @@
+package esiea.hackathon.leaders.adapter.infrastructure.repository;
+
+import esiea.hackathon.leaders.TestcontainersConfiguration;
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.services.GameQueryService;
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.infrastructure.sql.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Requête d'état exécutée sur Postgres : la requête (LATERAL, UNION ALL,
+ * conversions) et la lecture de ses colonnes sont vérifiées sur de vraies
+ * lignes, instructions relevées par la source de données comptée.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = { "app.game.cache.enabled=false", "app.game.pool.enabled=false" })
+@Import(TestcontainersConfiguration.class)
+class JdbcGameStateProjectionTest {
+
+    @Autowired
+    private JdbcGameStateProjection projection;
+    @Autowired
+    private GameQueryService gameQueryService;
+    @Autowired
+    private SqlStatementCounter statements;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID player0 = UUID.randomUUID();
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID leaderId = UUID.randomUUID();
+    private final UUID archerId = UUID.randomUUID();
+    private final UUID visibleCardId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user_credentials (id, email, password, username, elo) VALUES (?, ?, 'x', ?, ?)",
+                player0, player0 + "@test", "alice", 1210);
+        jdbcTemplate.update("INSERT INTO game (id, status, phase, current_player_index, turn_number, "
+                + "recruitment_count, remaining_time_p0, remaining_time_p1, last_timer_update, action_count) "
+                + "VALUES (?, 'IN_PROGRESS', 'ACTION', 1, 4, 0, 300, 250, ?, 7)",
+                gameId, Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("INSERT INTO game_player (game_id, user_id, player_index) VALUES (?, ?, 0), (?, ?, 1)",
+                gameId, player0, gameId, player1);
+        jdbcTemplate.update("INSERT INTO piece (id, game_id, character_id, owner_index, q, r, has_acted_this_turn) "
+                + "VALUES (?, ?, 'LEADER', 0, 0, 3, FALSE), (?, ?, 'ARCHER', 1, 1, -2, TRUE)",
+                leaderId, gameId, archerId, gameId);
+        jdbcTemplate.update("INSERT INTO recruitment_card (id, game_id, character_id, state, deck_order, visible_slot) "
+                + "VALUES (?, ?, 'CAVALRY', 'VISIBLE', NULL, 2), (?, ?, 'ASSASSIN', 'IN_DECK', 1, NULL)",
+                visibleCardId, gameId, UUID.randomUUID(), gameId);
+    }
+
+    @Test
+    @DisplayName("L'état d'une partie est lu en une seule requête : partie, joueurs, pièces et rivière")
+    void findState_usesOneStatement() {
+        SqlStatementCounter.Measure measure = statements.begin();
+        Optional<GameEntity> state = projection.findState(gameId);
+        statements.end(measure, "findState");
+
+        assertThat(measure.statements()).isEqualTo(1);
+        GameEntity game = state.orElseThrow();
+        assertThat(game.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+        assertThat(game.getActionCount()).isEqualTo(7);
+        assertThat(game.getPlayers()).extracting(p -> p.getUserId(), p -> p.getPlayerIndex())
+                .containsExactly(tuple(player0, 0), tuple(player1, 1));
+        assertThat(game.getPieces()).extracting(p -> p.getId(), p -> p.getOwnerIndex(), p -> p.getR(),
+                p -> p.getHasActedThisTurn())
+                .containsExactlyInAnyOrder(tuple(leaderId, (short) 0, (short) 3, false),
+                        tuple(archerId, (short) 1, (short) -2, true));
+        // Le deck n'est pas lu
+        assertThat(game.getCards()).extracting(c -> c.getId(), c -> c.getCharacter().getId(), c -> c.getVisibleSlot())
+                .containsExactly(tuple(visibleCardId, "CAVALRY", 2));
+    }
+
+    @Test
+    @DisplayName("L'état affiché est construit depuis la requête d'état et les profils des joueurs")
+    void getGameState_mapsProjection() {
+        GameStateDto dto = gameQueryService.getGameState(gameId);
+
+        assertThat(dto.gameId()).isEqualTo(gameId);
+        assertThat(dto.status()).isEqualTo(GameStatus.IN_PROGRESS);
+        assertThat(dto.currentPhase()).isEqualTo(GamePhase.ACTION);
+        assertThat(dto.currentPlayerIndex()).isEqualTo(1);
+        assertThat(dto.turnNumber()).isEqualTo(4);
+        assertThat(dto.remainingTimeP0()).isEqualTo(300);
+        assertThat(dto.lastActionOrder()).isEqualTo(7);
+        assertThat(dto.pieces()).extracting(p -> p.id(), p -> p.characterId(), p -> p.q(), p -> p.r(), p -> p.hasActed())
+                .containsExactlyInAnyOrder(tuple(leaderId, "LEADER", (short) 0, (short) 3, false),
+                        tuple(archerId, "ARCHER", (short) 1, (short) -2, true));
+        assertThat(dto.river()).extracting(c -> c.id(), c -> c.characterId(), c -> c.state(), c -> c.visibleSlot())
+                .containsExactly(tuple(visibleCardId, "CAVALRY", CardState.VISIBLE, 2));
+        assertThat(dto.players()).extracting(p -> p.userId(), p -> p.username(), p -> p.elo(), p -> p.playerIndex())
+                .containsExactly(tuple(player0, "alice", 1210, 0), tuple(player1, "Guest " + player1.toString()
+                        .substring(0, 4), null, 1));
+    }
+
+    @Test
+    @DisplayName("Une partie inconnue donne un résultat vide")
+    void findState_unknownGame() {
+        assertThat(projection.findState(UUID.randomUUID())).isEmpty();
+    }
+}
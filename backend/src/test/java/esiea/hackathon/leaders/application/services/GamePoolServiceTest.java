@@ -0,0 +1,127 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.Player;
+import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.domain.SessionRepository;
+import esiea.hackathon.leaders.domain.repository.GameCreationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GamePoolServiceTest {
+
+    @Mock
+    private GameSetupService setupService;
+    @Mock
+    private GameCreationRepository gameCreationRepository;
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private GamePoolService pool;
+
+    @BeforeEach
+    void setUp() {
+        when(setupService.createPooledGames(any(), anyInt())).thenAnswer(invocation -> {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < (int) invocation.getArgument(1); i++)
+                ids.add(UUID.randomUUID());
+            return ids;
+        });
+        when(setupService.createGames(anyList()))
+                .thenAnswer(invocation -> List.of(((List<GameSetupService.NewGame>) invocation.getArgument(0))
+                        .get(0).gameId()));
+        pool = new GamePoolService(setupService, gameCreationRepository, sessionRepository, true, 3, "2:2", 4,
+                3600000);
+    }
+
+    @Test
+    @DisplayName("Le remplissage est limité par passage et la réserve standard passe en premier")
+    void refill_isThrottled() {
+        pool.refill();
+
+        assertThat(pool.stats().variants()).extracting(v -> v.variant(), v -> v.ready())
+                .containsExactly(tuple("standard", 3), tuple("scenario-2", 1));
+
+        pool.refill();
+        assertThat(pool.stats().variants()).extracting(v -> v.ready()).containsExactly(3, 2);
+        verify(setupService).createPooledGames(null, 3);
+        verify(setupService, times(2)).createPooledGames(2, 1);
+    }
+
+    @Test
+    @DisplayName("Une session réserve une partie prête, démarrée avec les joueurs quand la session devient active")
+    void reserveThenStart_usesPooledGame() {
+        pool.refill();
+        List<UUID> players = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        UUID gameId = pool.reserve(null);
+        when(setupService.startPooledGame(gameId, players, null)).thenReturn(true);
+
+        assertThat(pool.start(gameId, null, players, null)).isEqualTo(gameId);
+        verify(setupService, never()).createGames(anyList());
+        assertThat(pool.stats().variants().get(0)).extracting(v -> v.ready(), v -> v.hits(), v -> v.misses())
+                .containsExactly(2, 1L, 0L);
+        assertThat(pool.stats().reserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("Réserve vide : la partie est créée sur le moment et le raté est compté")
+    void start_createsGameOnMiss() {
+        UUID gameId = pool.reserve(null);
+        List<UUID> players = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(pool.start(gameId, null, players, null)).isEqualTo(gameId);
+
+        verify(setupService).createGames(List.of(new GameSetupService.NewGame(gameId, null, null, players, null)));
+        assertThat(pool.stats().variants().get(0).misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("La partie d'une session terminée sans adversaire revient dans la réserve")
+    void refill_releasesAbandonedReservation() {
+        pool.refill();
+        UUID gameId = pool.reserve(null);
+        Session session = new Session(gameId.toString(), new Player("p1"));
+        session.finish();
+        when(sessionRepository.findById(gameId.toString())).thenReturn(Optional.of(session));
+        when(gameCreationRepository.findWaiting(any())).thenReturn(List.of(gameId));
+
+        pool.refill();
+
+        assertThat(pool.stats().reserved()).isZero();
+        assertThat(pool.stats().variants().get(0).ready()).isEqualTo(3);
+        // Rendue, elle n'a pas été recréée
+        verify(setupService, never()).createPooledGames(eq(null), eq(1));
+    }
+
+    @Test
+    @DisplayName("Profondeurs par scénario au format id:profondeur")
+    void parseDepths() {
+        assertThat(GamePoolService.parseDepths(" 1:8, 2:4")).isEqualTo(Map.of(1, 8, 2, 4));
+        assertThat(GamePoolService.parseDepths("")).isEmpty();
+    }
+}
@@ -1,13 +1,18 @@
 package esiea.hackathon.leaders.application.services;
 
+import esiea.hackathon.leaders.application.dto.response.GameActionDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionPageDto;
 import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.domain.model.GameActionEntity;
 import esiea.hackathon.leaders.domain.model.GameEntity;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
 import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
 import esiea.hackathon.leaders.domain.model.enums.CardState;
 import esiea.hackathon.leaders.domain.model.enums.GamePhase;
 import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import esiea.hackathon.leaders.domain.repository.RecruitmentCardRepository;
@@ -24,6 +29,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +47,8 @@ class GameQueryServiceTest {
     private GameRepository gameRepository;
     @Mock
     private RecruitmentCardRepository cardRepository;
+    @Mock
+    private GameActionRepository gameActionRepository;
 
     private final UUID gameId = UUID.randomUUID();
     private final UUID pieceId = UUID.randomUUID();
@@ -82,10 +93,9 @@ class GameQueryServiceTest {
                 .state(CardState.IN_DECK)
                 .build()
         ;
-        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
-        when(pieceRepository.findByGameId(gameId)).thenReturn(List.of(piece));
-        when(cardRepository.findAllByGameId(gameId))
-                .thenReturn(List.of(visibleCard, inDeckCard));
+        game.setPieces(List.of(piece));
+        game.setCards(List.of(visibleCard, inDeckCard));
+        when(gameRepository.findStateById(gameId)).thenReturn(Optional.of(game));
 
         GameStateDto result = gameQueryService.getGameState(gameId);
 
@@ -95,8 +105,25 @@ class GameQueryServiceTest {
         assertThat(result.pieces().get(0).characterId()).isEqualTo("BRAWLER");
         assertThat(result.river()).hasSize(1);
 
+        // Une seule lecture : ni entité complète, ni lecture séparée des pièces et des cartes
+        verify(gameRepository, times(1)).findStateById(gameId);
+        verifyNoMoreInteractions(gameRepository);
+        verifyNoInteractions(pieceRepository, cardRepository, gameActionRepository);
+    }
+
+    @Test
+    @DisplayName("L'historique est lu par curseur, une action de plus pour savoir s'il en reste")
+    void getActions_pagesFromCursor() {
+        when(gameActionRepository.findSince(gameId, 4, 3)).thenReturn(List.of(
+                GameActionEntity.builder().actionOrder(5).actionType(ActionType.MOVE).build(),
+                GameActionEntity.builder().actionOrder(6).actionType(ActionType.ABILITY).build(),
+                GameActionEntity.builder().actionOrder(7).actionType(ActionType.MOVE).build()));
 
+        GameActionPageDto page = gameQueryService.getActions(gameId, 4, 2);
 
+        assertThat(page.actions()).extracting(GameActionDto::actionOrder).containsExactly(5, 6);
+        assertThat(page.nextCursor()).isEqualTo(6);
+        assertThat(page.hasMore()).isTrue();
     }
 
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package esiea.hackathon.leaders.application.services;
 
 import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.VictoryCheckResult; // <--- Import nécessaire
 import esiea.hackathon.leaders.domain.model.enums.GamePhase;
 import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
+import esiea.hackathon.leaders.domain.repository.GameActionRepository;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -19,7 +22,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +40,10 @@ class GameServiceTest {
     private PieceRepository pieceRepository;
     @Mock
     private VictoryService victoryService;
+    @Mock
+    private GameActionRepository gameActionRepository;
+    @Mock
+    private TurnClockService turnClock;
 
     private final UUID gameId = UUID.randomUUID();
 
@@ -47,6 +57,11 @@ class GameServiceTest {
                 .phase(GamePhase.ACTION)
                 .currentPlayerIndex(0)
                 .turnNumber(3)
+                .remainingTimeP0(420)
+                .remainingTimeP1(420)
+                .players(List.of(
+                        GamePlayerEntity.builder().userId(UUID.randomUUID()).playerIndex(0).build(),
+                        GamePlayerEntity.builder().userId(UUID.randomUUID()).playerIndex(1).build()))
                 .build();
 
         // Pièces
@@ -84,5 +99,15 @@ class GameServiceTest {
 
         verify(gameRepository).save(game);
         verify(victoryService).checkVictory(gameId); // Vérifie qu'on a bien appelé la victoire
+        verify(turnClock).arm(game); // Pendule réarmée pour le joueur suivant
+    }
+
+    @Test
+    @DisplayName("L'action est ajoutée sans recharger la partie ni son historique")
+    void logAction_appendsWithoutLoadingGame() {
+        gameService.logAction(gameId, ActionType.MOVE, 3, 0, UUID.randomUUID(), 0, 3, 0, 2, null, null, "LEADER");
+
+        verify(gameActionRepository).append(eq(gameId), any());
+        verifyNoInteractions(gameRepository);
     }
-}
\ No newline at end of file
+}
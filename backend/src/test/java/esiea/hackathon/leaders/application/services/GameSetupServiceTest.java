@@ -0,0 +1,100 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.AiDifficulty;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameCreationRepository;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GameSetupServiceTest {
+
+    @InjectMocks
+    private GameSetupService setupService;
+
+    @Mock
+    private GameCreationRepository gameCreationRepository;
+    @Mock
+    private RefCharacterRepository characterRepository;
+    @Mock
+    private TurnClockService turnClock;
+
+    @BeforeEach
+    void setUp() {
+        when(characterRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.of(RefCharacterEntity.builder().id(invocation.getArgument(0))
+                        .recruitmentSlots(1).build()));
+    }
+
+    @Test
+    @DisplayName("Les parties sont construites en mémoire puis insérées ensemble, en un seul appel")
+    void createGames_insertsAllAggregatesAtOnce() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        List<UUID> ids = setupService.createGames(List.of(
+                new GameSetupService.NewGame(first, null, null, List.of(), null),
+                new GameSetupService.NewGame(second, List.of("VIZIER", "ARCHER"), null, List.of(), null)));
+
+        assertThat(ids).containsExactly(first, second);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameCreationRepository, times(1)).insertAll(captor.capture());
+        List<GameEntity> games = captor.getValue();
+        assertThat(games).extracting(GameEntity::getId).containsExactly(first, second);
+
+        GameEntity game = games.get(1);
+        assertThat(game.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+        assertThat(game.getCards()).hasSize(16);
+        assertThat(game.getCards()).extracting(card -> card.getCharacter().getId()).startsWith("VIZIER", "ARCHER")
+                .doesNotHaveDuplicates();
+        assertThat(game.getCards()).filteredOn(card -> card.getState() == CardState.VISIBLE)
+                .extracting(RecruitmentCardEntity::getVisibleSlot).containsExactly(1, 2, 3);
+        assertThat(game.getPieces()).extracting(piece -> piece.getCharacterId(), piece -> piece.getOwnerIndex())
+                .containsExactly(tuple("LEADER", (short) 0), tuple("LEADER", (short) 1));
+        verify(turnClock, times(2)).arm(any(GameEntity.class));
+    }
+
+    @Test
+    @DisplayName("Les joueurs font partie de l'agrégat inséré, avec leur index")
+    void createGameWithPlayers_includesPlayers() {
+        UUID human = UUID.randomUUID();
+
+        setupService.createGameWithPlayers(UUID.randomUUID(), List.of(human, AiService.AI_PLAYER_ID),
+                AiDifficulty.HARD);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(gameCreationRepository).insertAll(captor.capture());
+        GameEntity game = captor.getValue().get(0);
+        assertThat(game.getAiDifficulty()).isEqualTo(AiDifficulty.HARD);
+        assertThat(game.getPlayers()).extracting(p -> p.getUserId(), p -> p.getPlayerIndex())
+                .containsExactly(tuple(human, 0), tuple(AiService.AI_PLAYER_ID, 1));
+    }
+}
@@ -0,0 +1,111 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.application.dto.response.CardDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionDto;
+import esiea.hackathon.leaders.application.dto.response.GameActionPageDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDeltaDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.dto.response.PieceDto;
+import esiea.hackathon.leaders.domain.model.enums.ActionType;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.BrokerRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateBroadcasterTest {
+
+    @InjectMocks
+    private GameStateBroadcaster broadcaster;
+
+    @Mock
+    private GameQueryService gameQueryService;
+    @Mock
+    private BrokerRelay brokerRelay;
+
+    private final UUID gameId = UUID.randomUUID();
+    private final PieceDto leader = new PieceDto(UUID.randomUUID(), "LEADER", 0, (short) 0, (short) 3, false);
+    private final PieceDto archer = new PieceDto(UUID.randomUUID(), "ARCHER", 1, (short) 0, (short) -2, false);
+    private final CardDto card = new CardDto(UUID.randomUUID(), "ACROBAT", CardState.VISIBLE, 1);
+
+    @Test
+    @DisplayName("Après l'état complet, seuls les changements sont diffusés")
+    void publish_sendsDeltaAfterFirstState() {
+        GameActionDto move = new GameActionDto(1, 0, 1, ActionType.MOVE, leader.id(), 0, 3, 0, 2, null, null,
+                "LEADER");
+        PieceDto movedLeader = new PieceDto(leader.id(), "LEADER", 0, (short) 0, (short) 2, true);
+        when(gameQueryService.getActions(gameId, 0, GameQueryService.MAX_ACTIONS_PAGE))
+                .thenReturn(new GameActionPageDto(List.of(move), 1, false));
+
+        broadcaster.publish(state(List.of(leader, archer), 0));
+        GameStateDto second = broadcaster.publish(state(List.of(movedLeader, archer), 1));
+
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(brokerRelay, times(2)).publish(eq("/topic/game/" + gameId), messages.capture());
+        assertThat(messages.getAllValues().get(0)).isInstanceOf(GameStateDto.class);
+        GameStateDeltaDto delta = (GameStateDeltaDto) messages.getAllValues().get(1);
+        assertThat(delta.baseVersion()).isEqualTo(1);
+        assertThat(delta.version()).isEqualTo(2).isEqualTo(second.version());
+        assertThat(delta.changedPieces()).containsExactly(movedLeader);
+        assertThat(delta.removedPieceIds()).isEmpty();
+        assertThat(delta.changedRiver()).isEmpty();
+        assertThat(delta.players()).isNull();
+        assertThat(delta.lastActionOrder()).isEqualTo(1);
+        assertThat(delta.newActions()).containsExactly(move);
+    }
+
+    @Test
+    @DisplayName("Sans nouvelle action, l'historique n'est pas relu")
+    void publish_skipsHistoryWhenCursorUnchanged() {
+        broadcaster.publish(state(List.of(leader, archer), 3));
+        broadcaster.publish(state(List.of(leader), 3));
+
+        verify(gameQueryService, never()).getActions(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Une pièce capturée est signalée comme retirée")
+    void diff_reportsRemovedPieces() {
+        GameStateDeltaDto delta = GameStateBroadcaster.diff(state(List.of(leader, archer), 0).withVersion(4),
+                state(List.of(leader), 0).withVersion(5), List.of());
+
+        assertThat(delta.changedPieces()).isEmpty();
+        assertThat(delta.removedPieceIds()).containsExactly(archer.id());
+    }
+
+    @Test
+    @DisplayName("L'état servi à l'abonnement est celui de la dernière version diffusée")
+    void snapshot_returnsLastPublishedVersion() {
+        broadcaster.publish(state(List.of(leader), 0));
+        broadcaster.publish(state(List.of(leader, archer), 0));
+
+        GameStateDto snapshot = broadcaster.snapshot(gameId);
+
+        assertThat(snapshot.version()).isEqualTo(2);
+        assertThat(snapshot.pieces()).containsExactly(leader, archer);
+    }
+
+    private GameStateDto state(List<PieceDto> pieces, int lastActionOrder) {
+        return new GameStateDto(gameId, GameStatus.IN_PROGRESS, GamePhase.ACTION, 0, 1, false, null, null, 420, 420,
+                null, null, null, pieces, List.of(card), List.of(), lastActionOrder, 0);
+    }
+}
@@ -0,0 +1,62 @@
+package esiea.hackathon.leaders.application.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 0);
+
+    @Test
+    @DisplayName("Une échéance lointaine redescend les niveaux et échoit au tic de son heure, pas avant")
+    void advance_firesOnDeadlineTick() {
+        wheel.schedule("game", 420_000);
+
+        assertThat(wheel.advance(419_999)).isEmpty();
+        assertThat(wheel.advance(420_000)).containsExactly("game");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Réarmer remplace l'échéance ; annuler la supprime")
+    void schedule_replacesAndCancel() {
+        wheel.schedule("a", 10_000);
+        wheel.schedule("a", 30_000);
+        wheel.schedule("b", 20_000);
+        wheel.cancel("b");
+
+        assertThat(wheel.advance(29_900)).isEmpty();
+        assertThat(wheel.advance(30_000)).containsExactly("a");
+        assertThat(wheel.advance(100_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Des échéances quelconques sur tous les niveaux échoient toutes à leur tic exact")
+    void advance_randomDeadlines() {
+        Random random = new Random(42);
+        Map<String, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = 1 + (long) (random.nextDouble() * 3_000_000);
+            deadlines.put("k" + i, deadline);
+            wheel.schedule("k" + i, deadline);
+        }
+
+        List<String> fired = new ArrayList<>();
+        for (long now = 0; now <= 3_000_100; now += 100) {
+            for (String key : wheel.advance(now)) {
+                long deadline = deadlines.get(key);
+                assertThat(now).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + 100);
+                fired.add(key);
+            }
+        }
+        assertThat(fired).hasSize(2000).doesNotHaveDuplicates();
+    }
+}
@@ -1,11 +1,14 @@
 package esiea.hackathon.leaders.application.services;
 
 import esiea.hackathon.leaders.application.strategies.action.NemesisBehavior;
+import esiea.hackathon.leaders.application.strategies.movement.LeaderBoostStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
 import esiea.hackathon.leaders.application.strategies.movement.MoveStrategyFactory;
 import esiea.hackathon.leaders.domain.model.GameEntity;
 import esiea.hackathon.leaders.domain.model.HexCoord;
 import esiea.hackathon.leaders.domain.model.PieceEntity;
 import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.VictoryCheckResult;
 import esiea.hackathon.leaders.domain.repository.GameRepository;
 import esiea.hackathon.leaders.domain.repository.PieceRepository;
 import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
 import esiea.hackathon.leaders.domain.model.AbilityEntity;
@@ -40,6 +44,12 @@ class MovementServiceTest {
     private RefCharacterRepository characterRepository;
     @Mock
     private GameRepository gameRepository;
+    @Mock
+    private GameService gameService;
+    @Mock
+    private NemesisBehavior nemesisBehavior;
+    @Mock
+    private VictoryService victoryService;
 
     @InjectMocks
     private MovementService movementService;
@@ -66,10 +76,15 @@ class MovementServiceTest {
         game = GameEntity.builder()
                 .id(gameId)
                 .currentPlayerIndex(0)
+                .players(List.of(GamePlayerEntity.builder().playerIndex(0).userId(UUID.randomUUID()).build()))
                 .build();
 
         character = new RefCharacterEntity();
         character.setId(characterId);
+
+        // Le générateur de coups est un composant pur : on utilise la vraie implémentation
+        ReflectionTestUtils.setField(movementService, "moveGenerator",
+                new MoveGenerator(new MoveStrategyFactory(List.of(new LeaderBoostStrategy())), characterRepository));
     }
 
     @Test
@@ -106,6 +121,7 @@ class MovementServiceTest {
         when(pieceRepository.findByGameId(gameId)).thenReturn(Collections.singletonList(piece));
 
         when(pieceRepository.save(any(PieceEntity.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(victoryService.checkVictory(gameId)).thenReturn(VictoryCheckResult.noVictory());
 
         // WHEN
         PieceEntity result = movementService.movePiece(pieceId, targetQ, targetR, null);
@@ -146,7 +162,7 @@ class MovementServiceTest {
 
         // WHEN / THEN
         assertThrows(IllegalArgumentException.class, () -> {
-            movementService.movePiece(piece.getId(), (short) 2, (short) 2, null);
+            movementService.movePiece(piece.getId(), (short) 0, (short) 2, null);
         });
     }
 
@@ -201,6 +217,7 @@ class MovementServiceTest {
         when(characterRepository.findById("LEADER")).thenReturn(Optional.of(createCharacter("LEADER")));
         when(pieceRepository.findByGameId(gameId)).thenReturn(List.of(leader));
         when(pieceRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(victoryService.checkVictory(gameId)).thenReturn(VictoryCheckResult.noVictory());
 
         // WHEN
         movementService.movePiece(leader.getId(), (short) 0, (short) 1, null);
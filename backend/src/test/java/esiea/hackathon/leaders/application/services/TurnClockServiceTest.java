@@ -0,0 +1,125 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.model.GameEntity;
+import esiea.hackathon.leaders.domain.model.GamePlayerEntity;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TurnClockServiceTest {
+
+    private final GameService gameService = mock(GameService.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameStateBroadcaster broadcaster = mock(GameStateBroadcaster.class);
+    private final TurnClockService turnClock = new TurnClockService(gameService, gameRepository, broadcaster, 10);
+
+    @Test
+    @DisplayName("Sans aucune requête, le temps écoulé termine la partie par TIMEOUT et diffuse l'état")
+    void tick_endsExpiredGameWithoutPolling() throws InterruptedException {
+        GameEntity game = game(LocalDateTime.now().minusSeconds(420), UUID.randomUUID());
+        when(gameRepository.findStateById(game.getId())).thenReturn(Optional.of(game));
+        doAnswer(invocation -> {
+            game.setStatus(GameStatus.FINISHED);
+            return null;
+        }).when(gameService).checkTimeout(game.getId());
+        turnClock.arm(game);
+
+        Thread.sleep(30);
+        turnClock.tick();
+
+        verify(gameService).checkTimeout(game.getId());
+        verify(broadcaster).publish(game.getId());
+        assertThat(turnClock.isArmed(game.getId())).isFalse();
+        assertThat(turnClock.timeouts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("La pendule avance seule sur son thread, hors du planificateur de Spring")
+    void start_ticksOnOwnThread() {
+        GameEntity game = game(LocalDateTime.now().minusSeconds(420), UUID.randomUUID());
+        when(gameRepository.findStateById(game.getId())).thenReturn(Optional.of(game));
+        AtomicReference<String> thread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            game.setStatus(GameStatus.FINISHED);
+            return null;
+        }).when(gameService).checkTimeout(game.getId());
+        turnClock.arm(game);
+
+        turnClock.start();
+        try {
+            verify(broadcaster, timeout(1000)).publish(game.getId());
+        } finally {
+            turnClock.shutdown();
+        }
+
+        assertThat(thread.get()).isEqualTo("turn-clock");
+    }
+
+    @Test
+    @DisplayName("Une partie dont le temps court encore n'est pas touchée")
+    void tick_ignoresRunningGame() {
+        GameEntity game = game(LocalDateTime.now(), UUID.randomUUID());
+        turnClock.arm(game);
+
+        turnClock.tick();
+
+        assertThat(turnClock.isArmed(game.getId())).isTrue();
+        verify(gameService, never()).checkTimeout(game.getId());
+    }
+
+    @Test
+    @DisplayName("Pas de pendule pour une partie contre l'IA ou terminée")
+    void arm_skipsAiAndFinishedGames() {
+        GameEntity aiGame = game(LocalDateTime.now(), AiService.AI_PLAYER_ID);
+        GameEntity finished = game(LocalDateTime.now(), UUID.randomUUID());
+        finished.setStatus(GameStatus.FINISHED);
+
+        turnClock.arm(aiGame);
+        turnClock.arm(finished);
+
+        assertThat(turnClock.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Au démarrage, les parties en cours sont armées depuis leur état, sans chargement complet")
+    void armInProgressGames_readsStateOnly() {
+        GameEntity game = game(LocalDateTime.now(), UUID.randomUUID());
+        when(gameRepository.findIdsByStatus(GameStatus.IN_PROGRESS)).thenReturn(List.of(game.getId()));
+        when(gameRepository.findStateById(game.getId())).thenReturn(Optional.of(game));
+
+        turnClock.armInProgressGames();
+
+        assertThat(turnClock.isArmed(game.getId())).isTrue();
+        verify(gameRepository, never()).findById(game.getId());
+    }
+
+    private static GameEntity game(LocalDateTime lastTimerUpdate, UUID opponent) {
+        return GameEntity.builder()
+                .id(UUID.randomUUID())
+                .status(GameStatus.IN_PROGRESS)
+                .currentPlayerIndex(0)
+                .remainingTimeP0(420)
+                .remainingTimeP1(420)
+                .lastTimerUpdate(lastTimerUpdate)
+                .players(List.of(
+                        GamePlayerEntity.builder().userId(UUID.randomUUID()).playerIndex(0).build(),
+                        GamePlayerEntity.builder().userId(opponent).playerIndex(1).build()))
+                .build();
+    }
+}
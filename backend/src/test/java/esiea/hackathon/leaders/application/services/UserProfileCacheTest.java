@@ -0,0 +1,91 @@
+package esiea.hackathon.leaders.application.services;
+
+import esiea.hackathon.leaders.domain.model.UserCredentialsEntity;
+import esiea.hackathon.leaders.domain.repository.UserCredentialsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserProfileCacheTest {
+
+    private final UserCredentialsRepository repository = mock(UserCredentialsRepository.class);
+
+    private final UserCredentialsEntity alice = UserCredentialsEntity.builder()
+            .id(UUID.randomUUID()).username("alice").elo(1200).avatar("a.png").build();
+    private final UserCredentialsEntity bob = UserCredentialsEntity.builder()
+            .id(UUID.randomUUID()).username("bob").elo(900).build();
+
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserProfileCache(repository, 2, 60000);
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<UUID> ids = invocation.getArgument(0);
+            return List.of(alice, bob).stream()
+                    .filter(user -> contains(ids, user.getId()))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Les profils manquants sont lus en une requête, puis servis par le cache")
+    void findAll_batchesMissesThenHits() {
+        UUID guest = UUID.randomUUID();
+
+        Map<UUID, UserProfileCache.UserProfile> first = cache.findAll(List.of(alice.getId(), guest));
+        Map<UUID, UserProfileCache.UserProfile> second = cache.findAll(List.of(alice.getId(), guest));
+
+        assertThat(first).containsOnlyKeys(alice.getId());
+        assertThat(second.get(alice.getId()).elo()).isEqualTo(1200);
+        verify(repository, times(1)).findAllById(any());
+        assertThat(cache.stats().hits()).isEqualTo(2);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Une écriture invalide le profil : la lecture suivante revient en base")
+    void invalidate_reloadsProfile() {
+        cache.find(alice.getId());
+        alice.setElo(1216);
+
+        cache.invalidate(alice.getId());
+
+        assertThat(cache.find(alice.getId())).get().extracting(UserProfileCache.UserProfile::elo).isEqualTo(1216);
+        verify(repository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Au-delà de la taille maximale, le profil le moins récemment lu est retiré")
+    void findAll_evictsLeastRecentlyUsed() {
+        cache.find(alice.getId());
+        cache.find(bob.getId());
+        cache.find(alice.getId());
+
+        cache.find(UUID.randomUUID());
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        cache.find(alice.getId());
+        verify(repository, times(3)).findAllById(any());
+    }
+
+    private static boolean contains(Iterable<UUID> ids, UUID id) {
+        for (UUID candidate : ids) {
+            if (candidate.equals(id))
+                return true;
+        }
+        return false;
+    }
+}
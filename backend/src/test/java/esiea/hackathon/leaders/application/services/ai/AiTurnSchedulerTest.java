@@ -0,0 +1,66 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiTurnSchedulerTest {
+
+    private final AiTurnScheduler scheduler = new AiTurnScheduler(false, 1, 100, 50);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Les étapes sont diffusées dans l'ordre, à la cadence configurée")
+    void playTurn_emitsStepsAtCadence() throws InterruptedException {
+        List<String> emitted = new CopyOnWriteArrayList<>();
+        List<Long> times = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+
+        scheduler.playTurn(() -> List.of("move", "recruit", "end"), step -> {
+            emitted.add(step);
+            times.add((System.nanoTime() - start) / 1_000_000);
+            done.countDown();
+        });
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("move", "recruit", "end"), emitted);
+        assertThat(times.get(0)).isGreaterThanOrEqualTo(100);
+        assertThat(times.get(1) - times.get(0)).isGreaterThanOrEqualTo(40);
+        assertThat(times.get(2) - times.get(1)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("L'appelant n'attend ni le calcul ni la diffusion")
+    void playTurn_returnsImmediately() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch emitted = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        scheduler.playTurn(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of("end");
+        }, step -> emitted.countDown());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(100);
+        release.countDown();
+        assertTrue(emitted.await(2, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,290 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.application.strategies.movement.AcrobatJumpStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.CavalryChargeStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.LeaderBoostStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
+import esiea.hackathon.leaders.application.strategies.movement.MoveStrategyFactory;
+import esiea.hackathon.leaders.application.strategies.movement.NemesisMoveStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.ProwlerStealthStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.RoyalGuardStrategy;
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.VictoryType;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class AlphaBetaSearchTest {
+
+    @Mock
+    private RefCharacterRepository characterRepository;
+
+    private final SearchThreadPool threadPool = new SearchThreadPool(1);
+    private final UUID gameId = UUID.randomUUID();
+    private SearchMoveGenerator searchMoveGenerator;
+    private AlphaBetaSearch search;
+
+    @BeforeEach
+    void setUp() {
+        MoveStrategyFactory factory = new MoveStrategyFactory(List.of(
+                new AcrobatJumpStrategy(), new CavalryChargeStrategy(), new LeaderBoostStrategy(),
+                new NemesisMoveStrategy(), new ProwlerStealthStrategy(), new RoyalGuardStrategy()));
+        for (String id : BoardState.CHARACTER_IDS) {
+            lenient().when(characterRepository.findById(id))
+                    .thenReturn(Optional.of(RefCharacterEntity.builder().id(id).abilities(Set.of()).build()));
+        }
+        searchMoveGenerator = new SearchMoveGenerator(new MoveGenerator(factory, characterRepository));
+        search = new AlphaBetaSearch(searchMoveGenerator, new PositionEvaluator(), new TranspositionTable(1),
+                threadPool, 5_000, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        threadPool.shutdown();
+    }
+
+    private PieceEntity piece(String characterId, int owner, int q, int r) {
+        return PieceEntity.builder()
+                .id(UUID.randomUUID())
+                .characterId(characterId)
+                .ownerIndex((short) owner)
+                .q((short) q)
+                .r((short) r)
+                .hasActedThisTurn(false)
+                .build();
+    }
+
+    private int cell(int q, int r) {
+        return HexBitboards.cellIndex(q, r);
+    }
+
+    @Test
+    @DisplayName("make / unmake : le plateau est restauré pour toutes les actions")
+    void makeUnmake_restoresBoard() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 1, 0, -3), piece("BRAWLER", 1, 0, -1), piece("ILLUSIONIST", 1, -2, 0),
+                piece("GRAPPLER", 1, 2, -2), piece("LEADER", 0, 0, 2), piece("NEMESIS", 0, -3, 3),
+                piece("INNKEEPER", 0, 1, 1), piece("ARCHER", 0, 0, 0)), 1);
+        long owners0 = board.owner(0);
+        long owners1 = board.owner(1);
+        long hash = board.hash();
+        int[] moves = new int[SearchMoveGenerator.MAX_ACTIONS];
+
+        int count = searchMoveGenerator.generate(board, moves);
+
+        assertTrue(count > 10);
+        for (int i = 0; i < count; i++) {
+            board.make(moves[i]);
+            assertEquals(0, board.sideToMove());
+            assertEquals(board.computeHash(), board.hash(), SearchMove.toString(moves[i]));
+            board.unmake();
+            assertEquals(hash, board.hash());
+            assertEquals(owners0, board.owner(0), SearchMove.toString(moves[i]));
+            assertEquals(owners1, board.owner(1), SearchMove.toString(moves[i]));
+            assertEquals(BoardState.NEMESIS, board.characterAt(cell(-3, 3)));
+            assertEquals(1, board.sideToMove());
+        }
+    }
+
+    @Test
+    @DisplayName("Zobrist : même clé pour une position atteinte par deux ordres de coups")
+    void hash_sameForTranspositions() {
+        List<PieceEntity> pieces = List.of(
+                piece("LEADER", 1, 0, -3), piece("CAVALRY", 1, 1, -3), piece("ACROBAT", 1, -1, -2),
+                piece("LEADER", 0, 0, 3), piece("ARCHER", 0, 1, 2), piece("VIZIER", 0, -1, 3));
+        SearchBoard a = SearchBoard.fromPieces(pieces, 1);
+        SearchBoard b = SearchBoard.fromPieces(pieces, 1);
+        int cavalry = SearchMove.move(cell(1, -3), cell(1, -2));
+        int acrobat = SearchMove.move(cell(-1, -2), cell(-1, -1));
+        int archer = SearchMove.move(cell(1, 2), cell(1, 1));
+        int vizier = SearchMove.move(cell(-1, 3), cell(-1, 2));
+
+        a.make(cavalry);
+        a.make(archer);
+        a.make(acrobat);
+        a.make(vizier);
+        b.make(acrobat);
+        b.make(vizier);
+        b.make(cavalry);
+        b.make(archer);
+
+        assertEquals(a.hash(), b.hash());
+        assertEquals(a.computeHash(), a.hash());
+        a.unmake();
+        assertNotEquals(a.hash(), b.hash());
+    }
+
+    @Test
+    @DisplayName("Table de transposition : réutilisée lors d'une seconde recherche")
+    void search_reusesTranspositionTable() {
+        TranspositionTable table = new TranspositionTable(1);
+        AlphaBetaSearch withTable = new AlphaBetaSearch(searchMoveGenerator, new PositionEvaluator(), table,
+                threadPool, 5_000, 3);
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 1, 0, -3), piece("CAVALRY", 1, 1, -3), piece("LEADER", 0, 0, 3),
+                piece("ARCHER", 0, 1, 2)), 1);
+
+        SearchResult first = withTable.search(gameId, board);
+        long hitsAfterFirst = table.stats().hits();
+        SearchResult second = withTable.search(gameId, board);
+
+        assertThat(table.stats().hits() - hitsAfterFirst).isPositive();
+        assertThat(second.nodes()).isLessThan(first.nodes());
+        assertEquals(first.score(), second.score());
+    }
+
+    @Test
+    @DisplayName("Lazy SMP : plusieurs threads, même coup gagnant et noeuds cumulés")
+    void parallelSearch_findsWinAndReportsMetrics() {
+        SearchThreadPool pool = new SearchThreadPool(4);
+        try {
+            AlphaBetaSearch parallel = new AlphaBetaSearch(searchMoveGenerator, new PositionEvaluator(),
+                    new TranspositionTable(1), pool, 5_000, 16);
+            SearchBoard board = SearchBoard.fromPieces(List.of(
+                    piece("LEADER", 0, 0, 0), piece("ASSASSIN", 1, 2, -1), piece("LEADER", 1, -3, 3),
+                    piece("BRAWLER", 0, -1, 2)), 1);
+
+            SearchResult result = parallel.search(gameId, board);
+
+            assertTrue(AlphaBetaSearch.isWinScore(result.score()));
+            SearchThreadPool.Stats stats = pool.stats();
+            assertEquals(4, stats.parallelism());
+            assertEquals(4, stats.lastSearchThreads());
+            assertEquals(1, stats.searches());
+            assertEquals(result.nodes(), stats.nodes());
+            assertEquals(0, stats.activeGames());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Équité : les threads sont partagés entre les parties en recherche")
+    void threadPool_sharesThreadsBetweenGames() {
+        SearchThreadPool pool = new SearchThreadPool(8);
+        try {
+            UUID other = UUID.randomUUID();
+            assertEquals(8, pool.acquire(gameId));
+            assertEquals(4, pool.acquire(other));
+            pool.release(gameId);
+            assertEquals(4, pool.acquire(UUID.randomUUID()));
+            assertEquals(2, pool.stats().activeGames());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Équité : une recherche déjà lancée rend des threads à celle qui arrive, les deux avancent")
+    void threadPool_rebalancesRunningSearches() throws Exception {
+        SearchThreadPool pool = new SearchThreadPool(4);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            UUID other = UUID.randomUUID();
+            AlphaBetaSearch first = new AlphaBetaSearch(searchMoveGenerator, new PositionEvaluator(),
+                    new TranspositionTable(1), pool, 1_500, 16);
+            AlphaBetaSearch second = new AlphaBetaSearch(searchMoveGenerator, new PositionEvaluator(),
+                    new TranspositionTable(1), pool, 1_000, 16);
+            List<PieceEntity> pieces = List.of(
+                    piece("LEADER", 1, 0, -3), piece("BRAWLER", 1, 0, -1), piece("ILLUSIONIST", 1, -2, 0),
+                    piece("GRAPPLER", 1, 2, -2), piece("LEADER", 0, 0, 2), piece("NEMESIS", 0, -3, 3),
+                    piece("INNKEEPER", 0, 1, 1), piece("ARCHER", 0, 0, 0));
+
+            Future<SearchResult> firstResult = callers
+                    .submit(() -> first.search(gameId, SearchBoard.fromPieces(pieces, 1)));
+            awaitTrue(() -> pool.helpers(gameId) == 3);
+            Future<SearchResult> secondResult = callers
+                    .submit(() -> second.search(other, SearchBoard.fromPieces(pieces, 0)));
+
+            // Parts recalculées : 2 threads chacune, les auxiliaires en trop s'arrêtent en cours de recherche
+            awaitTrue(() -> pool.helpers(other) == 1 && pool.helpers(gameId) <= 1);
+            SearchResult a = firstResult.get(10, TimeUnit.SECONDS);
+            SearchResult b = secondResult.get(10, TimeUnit.SECONDS);
+
+            assertThat(a.depth()).isPositive();
+            assertThat(b.depth()).isPositive();
+            assertNotEquals(SearchMove.NULL_MOVE, a.move());
+            assertNotEquals(SearchMove.NULL_MOVE, b.move());
+            assertEquals(0, pool.stats().activeGames());
+        } finally {
+            callers.shutdownNow();
+            pool.shutdown();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached within 5 s");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Némésis : se rapproche de 2 cases quand le Leader adverse bouge")
+    void make_triggersNemesis() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 1, 0, 0), piece("NEMESIS", 0, -3, 0), piece("LEADER", 0, 0, 3)), 1);
+
+        board.make(SearchMove.move(cell(0, 0), cell(1, 0)));
+
+        assertEquals(BoardState.NEMESIS, board.characterAt(cell(-1, 0)));
+        board.unmake();
+        assertEquals(BoardState.NEMESIS, board.characterAt(cell(-3, 0)));
+        assertEquals(BoardState.LEADER, board.characterAt(cell(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Recherche : trouve la capture en un coup (Assassin = 2 points)")
+    void search_findsWinInOne() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 0, 0, 0), piece("ASSASSIN", 1, 2, -1), piece("LEADER", 1, -3, 3),
+                piece("BRAWLER", 0, -1, 2)), 1);
+
+        SearchResult result = search.search(gameId, board);
+
+        assertThat(result.hasMove()).isTrue();
+        assertTrue(AlphaBetaSearch.isWinScore(result.score()));
+        board.make(result.move());
+        assertEquals(1, board.winner());
+        assertEquals(VictoryType.CAPTURE, board.defeatOf(0));
+    }
+
+    @Test
+    @DisplayName("Recherche : respecte le budget de temps")
+    void search_respectsTimeBudget() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 1, 0, -3), piece("CAVALRY", 1, 1, -3), piece("PROWLER", 1, -1, -2),
+                piece("LEADER", 0, 0, 3), piece("ACROBAT", 0, -1, 3), piece("ARCHER", 0, 1, 2)), 1);
+
+        long start = System.currentTimeMillis();
+        SearchResult result = search.search(gameId, board, 100, 64);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1_000);
+        assertThat(result.hasMove()).isTrue();
+        assertThat(result.nodes()).isPositive();
+    }
+}
@@ -0,0 +1,136 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import esiea.hackathon.leaders.application.strategies.movement.AcrobatJumpStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.CavalryChargeStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.LeaderBoostStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.MoveGenerator;
+import esiea.hackathon.leaders.application.strategies.movement.MoveStrategyFactory;
+import esiea.hackathon.leaders.application.strategies.movement.NemesisMoveStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.ProwlerStealthStrategy;
+import esiea.hackathon.leaders.application.strategies.movement.RoyalGuardStrategy;
+import esiea.hackathon.leaders.domain.model.AbilityEntity;
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RecruitmentCardEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.model.enums.CardState;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class MctsSearchTest {
+
+    @Mock
+    private RefCharacterRepository characterRepository;
+
+    private PlayoutEngine playoutEngine;
+    private MctsSearch mcts;
+
+    @BeforeEach
+    void setUp() {
+        MoveStrategyFactory factory = new MoveStrategyFactory(List.of(
+                new AcrobatJumpStrategy(), new CavalryChargeStrategy(), new LeaderBoostStrategy(),
+                new NemesisMoveStrategy(), new ProwlerStealthStrategy(), new RoyalGuardStrategy()));
+        for (String id : BoardState.CHARACTER_IDS) {
+            String ability = switch (id) {
+                case "ACROBAT" -> "ACROBAT_JUMP";
+                case "CAVALRY" -> "CAVALRY_CHARGE";
+                case "PROWLER" -> "PROWLER_STEALTH";
+                case "ROYAL_GUARD" -> "ROYAL_GUARD_PROTECT";
+                default -> null;
+            };
+            lenient().when(characterRepository.findById(id)).thenReturn(Optional.of(RefCharacterEntity.builder()
+                    .id(id)
+                    .abilities(ability == null ? Set.of() : Set.of(AbilityEntity.builder().id(ability).build()))
+                    .build()));
+        }
+        SearchMoveGenerator generator = new SearchMoveGenerator(new MoveGenerator(factory, characterRepository));
+        playoutEngine = new PlayoutEngine(generator);
+        mcts = new MctsSearch(generator, playoutEngine, 2_000, 5_000);
+    }
+
+    private PieceEntity piece(String characterId, int owner, int q, int r) {
+        return PieceEntity.builder()
+                .id(UUID.randomUUID())
+                .characterId(characterId)
+                .ownerIndex((short) owner)
+                .q((short) q)
+                .r((short) r)
+                .hasActedThisTurn(false)
+                .build();
+    }
+
+    private PlayoutRiver river(String... characterIds) {
+        List<RecruitmentCardEntity> cards = new ArrayList<>();
+        for (int i = 0; i < characterIds.length; i++) {
+            cards.add(RecruitmentCardEntity.builder()
+                    .character(RefCharacterEntity.builder().id(characterIds[i]).build())
+                    .state(i < 3 ? CardState.VISIBLE : CardState.IN_DECK)
+                    .build());
+        }
+        return PlayoutRiver.fromCards(cards);
+    }
+
+    @Test
+    @DisplayName("Simulation : recrute depuis la rivière et termine la partie")
+    void playout_recruitsAndTerminates() {
+        SearchBoard start = SearchBoard.fromPieces(List.of(piece("LEADER", 0, 0, 3), piece("LEADER", 1, 0, -3)), 0);
+        PlayoutRiver river = river("ASSASSIN", "CAVALRY", "OLD_BEAR", "ARCHER", "BRAWLER", "GRAPPLER");
+        PlayoutEngine.Scratch scratch = new PlayoutEngine.Scratch(start, 42L);
+
+        int winner = playoutEngine.playout(start, river, scratch);
+
+        assertThat(winner).isIn(0, 1, PlayoutEngine.DRAW);
+        assertThat(Long.bitCount(scratch.board().occupied())).isGreaterThan(2);
+        // La position de départ et la rivière ne sont pas modifiées
+        assertEquals(2, Long.bitCount(start.occupied()));
+        assertEquals(3, river.visibleCount());
+    }
+
+    @Test
+    @DisplayName("MCTS : joue la capture immédiate")
+    void search_findsWinInOne() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 0, 0, 0), piece("ASSASSIN", 1, 2, -1), piece("LEADER", 1, -3, 3),
+                piece("BRAWLER", 0, -1, 2)), 1);
+
+        SearchResult result = mcts.search(board, river("ARCHER", "CAVALRY"), 500, 5_000, 7L);
+
+        board.make(result.move());
+        assertEquals(1, board.winner());
+        assertEquals(500, result.nodes());
+    }
+
+    @Test
+    @DisplayName("MCTS : la force est bornée par le budget de simulations")
+    void search_respectsPlayoutBudget() {
+        SearchBoard board = SearchBoard.fromPieces(List.of(
+                piece("LEADER", 1, 0, -3), piece("CAVALRY", 1, 1, -3), piece("ILLUSIONIST", 1, -1, -2),
+                piece("LEADER", 0, 0, 3), piece("BRAWLER", 0, -1, 3), piece("GRAPPLER", 0, 1, 2)), 1);
+        PlayoutRiver river = river("ASSASSIN", "ARCHER", "PROWLER", "VIZIER", "JAILER");
+
+        long start = System.nanoTime();
+        SearchResult result = mcts.search(board, river, 2_000, 10_000, 3L);
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.println("MCTS: " + result.nodes() * 1000 / elapsedMs + " playouts/s");
+
+        assertTrue(result.hasMove());
+        assertEquals(2_000, result.nodes());
+        assertThat(result.score()).isBetween(0, 1000);
+    }
+}
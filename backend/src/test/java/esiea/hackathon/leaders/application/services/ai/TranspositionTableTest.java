@@ -0,0 +1,90 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Taille configurable : arrondie à une puissance de 2 d'entrées de 16 octets")
+    void capacity_fromMegabytes() {
+        assertEquals(65_536, new TranspositionTable(1).capacity());
+        assertEquals(4 * 65_536, new TranspositionTable(4).capacity());
+    }
+
+    @Test
+    @DisplayName("Stockage / lecture : coup, score, profondeur et borne restitués")
+    void storeAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = SearchMove.encode(SearchMove.PUSH, 3, 10, 10, 11);
+        int generation = table.newSearch();
+
+        table.store(42L, move, -AlphaBetaSearch.WIN + 5, 7, TranspositionTable.LOWER, generation);
+        long data = table.probe(42L);
+
+        assertNotEquals(TranspositionTable.MISS, data);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(-AlphaBetaSearch.WIN + 5, TranspositionTable.score(data));
+        assertEquals(7, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(data));
+
+        table.store(43L, SearchMove.NULL_MOVE, 12, 1, TranspositionTable.EXACT, generation);
+        assertEquals(SearchMove.NULL_MOVE, TranspositionTable.move(table.probe(43L)));
+    }
+
+    @Test
+    @DisplayName("Remplacement : l'entrée la plus profonde reste, sauf si elle vient d'une autre recherche")
+    void depthPreferredReplacement() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = 5L;
+        long collision = deep + ((long) table.capacity() << 32); // Même index, autre clé
+
+        int first = table.newSearch();
+        table.store(deep, 1, 100, 8, TranspositionTable.EXACT, first);
+        table.store(collision, 2, 50, 2, TranspositionTable.EXACT, first);
+        assertNotEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(TranspositionTable.MISS, table.probe(collision));
+
+        int next = table.newSearch();
+        table.store(collision, 2, 50, 2, TranspositionTable.EXACT, next);
+        assertEquals(TranspositionTable.MISS, table.probe(deep));
+        assertEquals(2, TranspositionTable.move(table.probe(collision)));
+    }
+
+    @Test
+    @DisplayName("Une recherche lancée en parallèle ne vieillit pas les entrées d'une recherche en cours")
+    void concurrentSearchKeepsGeneration() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = 5L;
+        long collision = deep + ((long) table.capacity() << 32);
+
+        int running = table.newSearch();
+        table.store(deep, 1, 100, 8, TranspositionTable.EXACT, running);
+        table.newSearch(); // Autre partie
+
+        table.store(collision, 2, 50, 2, TranspositionTable.EXACT, running);
+        assertEquals(1, TranspositionTable.move(table.probe(deep)));
+        assertEquals(TranspositionTable.MISS, table.probe(collision));
+    }
+
+    @Test
+    @DisplayName("Compteurs de succès / échecs")
+    void hitMissCounters() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(1L, 0, 0, 1, TranspositionTable.EXACT, table.newSearch());
+
+        table.probe(1L);
+        table.probe(2L);
+        table.probe(1L);
+
+        TranspositionTable.Stats stats = table.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.stores());
+        assertThat(stats.hitRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+    }
+}
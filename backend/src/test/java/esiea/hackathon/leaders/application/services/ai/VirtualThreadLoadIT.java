@@ -0,0 +1,88 @@
+package esiea.hackathon.leaders.application.services.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de charge (hors build par défaut, lancer avec
+ * {@code mvn test -Dtest=VirtualThreadLoadIT}) : plus de 1000 parties jouent un
+ * tour de l'IA en même temps sur {@link AiTurnScheduler}, chaque tour faisant
+ * des accès JDBC bloquants (simulés par une attente). Compare le pool de
+ * planification et les threads virtuels : latence p99. Les requêtes HTTP sont
+ * mesurées sur l'application démarrée : cf. VirtualThreadRequestLoadIT.
+ */
+class VirtualThreadLoadIT {
+
+    private static final int GAMES = 1200;
+    private static final int QUERIES_PER_TURN = 5;
+    private static final long QUERY_MS = 2;
+
+    @Test
+    @DisplayName("Tours de l'IA : threads virtuels vs pool de planification")
+    void aiTurns() throws Exception {
+        Measure platform = measureTurns(false);
+        Measure virtual = measureTurns(true);
+
+        assertThat(virtual.p99Ms()).as("p99 (ms) : virtuels %s, plateforme %s", virtual, platform)
+                .isLessThan(platform.p99Ms());
+    }
+
+    private Measure measureTurns(boolean virtualThreads) throws InterruptedException {
+        AiTurnScheduler scheduler = new AiTurnScheduler(virtualThreads, 0, 0, 0);
+        try {
+            return measure(GAMES, (latencies, index, done) -> {
+                long start = System.nanoTime();
+                scheduler.playTurn(() -> {
+                    blockingQueries(QUERIES_PER_TURN);
+                    return List.of(start);
+                }, planned -> {
+                    latencies[index] = System.nanoTime() - start;
+                    done.countDown();
+                });
+            });
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private Measure measure(int count, Load load) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long[] latencies = new long[count];
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++)
+            load.start(latencies, i, done);
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(count * 0.99) - 1];
+        return new Measure(threads.getPeakThreadCount(), TimeUnit.NANOSECONDS.toMillis(p99));
+    }
+
+    private static void blockingQueries(int queries) {
+        try {
+            for (int i = 0; i < queries; i++)
+                Thread.sleep(QUERY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Load {
+        void start(long[] latencies, int index, CountDownLatch done);
+    }
+
+    private record Measure(int peakThreads, long p99Ms) {
+    }
+}
@@ -0,0 +1,147 @@
+package esiea.hackathon.leaders.application.strategies.movement;
+
+import esiea.hackathon.leaders.domain.model.AbilityEntity;
+import esiea.hackathon.leaders.domain.model.BoardState;
+import esiea.hackathon.leaders.domain.model.HexCoord;
+import esiea.hackathon.leaders.domain.model.PieceEntity;
+import esiea.hackathon.leaders.domain.model.RefCharacterEntity;
+import esiea.hackathon.leaders.domain.repository.RefCharacterRepository;
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MoveGeneratorTest {
+
+    @Mock
+    private RefCharacterRepository characterRepository;
+
+    private MoveGenerator moveGenerator;
+
+    @BeforeEach
+    void setUp() {
+        MoveStrategyFactory factory = new MoveStrategyFactory(List.of(
+                new AcrobatJumpStrategy(), new CavalryChargeStrategy(), new LeaderBoostStrategy(),
+                new NemesisMoveStrategy(), new ProwlerStealthStrategy(), new RoyalGuardStrategy()));
+        moveGenerator = new MoveGenerator(factory, characterRepository);
+
+        for (String id : BoardState.CHARACTER_IDS) {
+            lenient().when(characterRepository.findById(id)).thenReturn(Optional.of(character(id)));
+        }
+    }
+
+    private RefCharacterEntity character(String id) {
+        String ability = switch (id) {
+            case "ACROBAT" -> "ACROBAT_JUMP";
+            case "CAVALRY" -> "CAVALRY_CHARGE";
+            case "PROWLER" -> "PROWLER_STEALTH";
+            case "ROYAL_GUARD" -> "ROYAL_GUARD_PROTECT";
+            case "NEMESIS" -> "NEMESIS_REACT";
+            case "VIZIER" -> "VIZIER_BOOST";
+            default -> null;
+        };
+        return RefCharacterEntity.builder()
+                .id(id)
+                .abilities(ability == null ? Set.of() : Set.of(AbilityEntity.builder().id(ability).build()))
+                .build();
+    }
+
+    private PieceEntity piece(String characterId, int owner, int q, int r) {
+        return PieceEntity.builder()
+                .id(UUID.randomUUID())
+                .characterId(characterId)
+                .ownerIndex((short) owner)
+                .q((short) q)
+                .r((short) r)
+                .build();
+    }
+
+    private List<HexCoord> movesOf(List<PieceEntity> pieces, int q, int r) {
+        return HexBitboards.toCoords(
+                moveGenerator.legalMoveMask(BoardState.fromPieces(pieces), HexBitboards.cellIndex(q, r)));
+    }
+
+    private HexCoord hex(int q, int r) {
+        return new HexCoord((short) q, (short) r);
+    }
+
+    @Test
+    @DisplayName("Cavalier : pas standard + charge de 2 cases si le passage est libre")
+    void cavalry_chargeNeedsFreePath() {
+        List<HexCoord> moves = movesOf(List.of(piece("CAVALRY", 0, 0, 0), piece("JAILER", 1, 1, 0)), 0, 0);
+
+        assertThat(moves).hasSize(5 + 5);
+        assertThat(moves).contains(hex(-2, 0), hex(0, 2)).doesNotContain(hex(2, 0), hex(1, 0));
+    }
+
+    @Test
+    @DisplayName("Leader : bonus du Vizir uniquement avec un Vizir allié")
+    void leader_vizierBoost() {
+        List<PieceEntity> withoutVizier = List.of(piece("LEADER", 0, 0, 0), piece("VIZIER", 1, 3, -3));
+        List<PieceEntity> withVizier = List.of(piece("LEADER", 0, 0, 0), piece("VIZIER", 0, 3, -3));
+
+        assertThat(movesOf(withoutVizier, 0, 0)).hasSize(6);
+        assertThat(movesOf(withVizier, 0, 0)).hasSize(6 + 12);
+    }
+
+    @Test
+    @DisplayName("Némésis : aucun déplacement à son tour")
+    void nemesis_noMove() {
+        assertThat(movesOf(List.of(piece("NEMESIS", 0, 0, 0)), 0, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Acrobate : double saut sans retour sur la case de départ")
+    void acrobat_doubleJump() {
+        List<PieceEntity> pieces = List.of(
+                piece("ACROBAT", 0, 0, 0),
+                piece("JAILER", 1, 1, 0),
+                piece("JAILER", 1, 2, -1));
+
+        List<HexCoord> moves = movesOf(pieces, 0, 0);
+
+        assertThat(moves).contains(hex(2, 0), hex(2, -2)).doesNotContain(hex(0, 0));
+        // Compatibilité avec l'API liste des stratégies
+        assertThat(new AcrobatJumpStrategy().getExtraMoves(pieces.get(0), pieces))
+                .containsExactlyInAnyOrder(hex(2, 0), hex(2, -2));
+    }
+
+    @Test
+    @DisplayName("Rôdeuse : uniquement les cases sans ennemi voisin")
+    void prowler_avoidsEnemyZone() {
+        List<HexCoord> moves = movesOf(List.of(piece("PROWLER", 0, 3, 0), piece("JAILER", 1, 0, 0)), 3, 0);
+
+        assertThat(moves).doesNotContain(hex(1, 0), hex(0, 1), hex(0, 0));
+        assertThat(moves).contains(hex(-3, 3), hex(2, 0));
+    }
+
+    @Test
+    @DisplayName("Buffer primitif et cache des compétences par personnage")
+    void generate_writesBufferAndCachesAbilities() {
+        BoardState board = BoardState.fromPieces(List.of(piece("ROYAL_GUARD", 0, -3, 0), piece("LEADER", 0, 0, 3)));
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        int cell = HexBitboards.cellIndex(-3, 0);
+
+        int count = moveGenerator.generate(board, cell, buffer);
+        moveGenerator.generate(board, cell, buffer);
+
+        assertEquals(Long.bitCount(moveGenerator.legalMoveMask(board, cell)), count);
+        assertTrue(count > 3);
+        verify(characterRepository, times(1)).findById("ROYAL_GUARD");
+    }
+}
@@ -0,0 +1,106 @@
+package esiea.hackathon.leaders.domain.model;
+
+import esiea.hackathon.leaders.domain.utils.HexBitboards;
+import esiea.hackathon.leaders.domain.utils.HexUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardStateTest {
+
+    private PieceEntity piece(String characterId, int owner, int q, int r) {
+        return PieceEntity.builder()
+                .id(UUID.randomUUID())
+                .characterId(characterId)
+                .ownerIndex((short) owner)
+                .q((short) q)
+                .r((short) r)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Les tables couvrent les 37 cases et sont cohérentes avec HexUtils")
+    void tables_matchHexUtils() {
+        assertEquals(37, Long.bitCount(HexBitboards.ALL_CELLS));
+        for (int a = 0; a < HexBitboards.CELL_COUNT; a++) {
+            assertEquals(a, HexBitboards.cellIndex(HexBitboards.coord(a)));
+            for (int b = 0; b < HexBitboards.CELL_COUNT; b++) {
+                int expected = HexUtils.getDistance(HexBitboards.coord(a), HexBitboards.coord(b));
+                assertEquals(expected, HexBitboards.distance(a, b));
+                assertEquals(expected == 1, (HexBitboards.neighbors(a) & HexBitboards.bit(b)) != 0);
+                assertEquals(a != b && HexUtils.isAligned(HexBitboards.coord(a), HexBitboards.coord(b)),
+                        HexBitboards.isAligned(a, b));
+            }
+        }
+        assertEquals(-1, HexBitboards.cellIndex(3, 1));
+    }
+
+    @Test
+    @DisplayName("Masques par joueur et par personnage")
+    void fromPieces_buildsMasks() {
+        BoardState board = BoardState.fromPieces(List.of(
+                piece("LEADER", 0, 0, 3),
+                piece("LEADER", 1, 0, -3),
+                piece("VIZIER", 1, 1, -3)));
+
+        assertEquals(3, Long.bitCount(board.occupied()));
+        assertEquals(2, Long.bitCount(board.owner(1)));
+        assertEquals(HexBitboards.cellIndex(0, 3), board.leaderCell(0));
+        assertEquals(BoardState.VIZIER, board.characterAt(HexBitboards.cellIndex(1, -3)));
+        assertTrue(board.areAdjacent(HexBitboards.cellIndex(0, -3), HexBitboards.cellIndex(1, -3)));
+        assertEquals(-1, board.ownerAt(HexBitboards.cellIndex(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Ligne de vue : bloquée par une pièce intermédiaire")
+    void pathClear_blockedByPiece() {
+        List<PieceEntity> pieces = List.of(piece("ARCHER", 0, 0, 0), piece("CAVALRY", 1, 0, 2));
+        BoardState board = BoardState.fromPieces(pieces);
+        int from = HexBitboards.cellIndex(0, -2);
+
+        assertTrue(board.isPathClear(from, HexBitboards.cellIndex(0, 0)));
+        assertFalse(board.isPathClear(from, HexBitboards.cellIndex(0, 2)));
+        assertFalse(board.isPathClear(from, HexBitboards.cellIndex(1, 0))); // Non aligné
+        assertEquals(HexUtils.isPathClear(new HexCoord((short) 0, (short) -2), new HexCoord((short) 0, (short) 2),
+                board), board.isPathClear(from, HexBitboards.cellIndex(0, 2)));
+    }
+
+    @Test
+    @DisplayName("Encerclement : le bord du plateau compte comme un mur")
+    void encircled_inCorner() {
+        BoardState board = BoardState.fromPieces(List.of(
+                piece("LEADER", 0, 3, 0),
+                piece("BRAWLER", 1, 2, 0),
+                piece("BRAWLER", 1, 3, -1)));
+        int leader = board.leaderCell(0);
+
+        assertFalse(board.isEncircled(leader));
+        BoardState closed = BoardState.fromPieces(List.of(
+                piece("LEADER", 0, 3, 0),
+                piece("BRAWLER", 1, 2, 0),
+                piece("BRAWLER", 1, 3, -1),
+                piece("CUB", 1, 2, 1)));
+        assertTrue(closed.isEncircled(leader));
+    }
+
+    @Test
+    @DisplayName("withMove ne modifie pas l'état d'origine")
+    void withMove_isImmutable() {
+        BoardState board = BoardState.fromPieces(List.of(piece("PROTECTOR", 0, 0, 0), piece("CAVALRY", 0, 1, 0)));
+        int from = HexBitboards.cellIndex(1, 0);
+        int to = HexBitboards.cellIndex(2, 0);
+
+        BoardState moved = board.withMove(from, to);
+
+        assertTrue(board.isOccupied(from));
+        assertTrue(board.isProtected(from));
+        assertThat(moved.isOccupied(from)).isFalse();
+        assertThat(moved.characterAt(to)).isEqualTo(BoardState.CAVALRY);
+        assertThat(moved.isProtected(to)).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30000;
+
+    @Test
+    @DisplayName("Les parties sont réparties à peu près également entre les nœuds")
+    void ownerOf_spreadsKeys() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++)
+            counts.merge(ring.ownerOf(UUID.randomUUID().toString()), 1, Integer::sum);
+
+        assertThat(counts).containsOnlyKeys("a", "b", "c");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS / 4, KEYS / 2));
+    }
+
+    @Test
+    @DisplayName("Un nouveau nœud ne récupère que des clés, sans déplacement entre les autres")
+    void addingNode_movesOnlyItsShare() {
+        ConsistentHashRing three = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing four = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = UUID.randomUUID().toString();
+            String before = three.ownerOf(key);
+            String after = four.ownerOf(key);
+            if (!before.equals(after)) {
+                assertThat(after).isEqualTo("d");
+                moved++;
+            }
+        }
+
+        // Environ un quart des clés
+        assertThat(moved).isBetween(KEYS / 8, KEYS * 3 / 8);
+    }
+}
@@ -0,0 +1,149 @@
+package esiea.hackathon.leaders.infrastructure.cluster;
+
+import esiea.hackathon.leaders.application.dto.response.GameStateDeltaDto;
+import esiea.hackathon.leaders.application.dto.response.GameStateDto;
+import esiea.hackathon.leaders.application.services.ActionService;
+import esiea.hackathon.leaders.application.services.AiService;
+import esiea.hackathon.leaders.application.services.GameQueryService;
+import esiea.hackathon.leaders.application.services.GameService;
+import esiea.hackathon.leaders.application.services.GameStateBroadcaster;
+import esiea.hackathon.leaders.application.services.MovementService;
+import esiea.hackathon.leaders.application.services.RecruitmentService;
+import esiea.hackathon.leaders.domain.Player;
+import esiea.hackathon.leaders.domain.Session;
+import esiea.hackathon.leaders.domain.model.enums.GamePhase;
+import esiea.hackathon.leaders.domain.model.enums.GameStatus;
+import esiea.hackathon.leaders.domain.repository.GameRepository;
+import esiea.hackathon.leaders.infrastructure.repository.InMemorySessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** Trois nœuds dans la même JVM, reliés par le transport en mémoire. */
+class MultiNodeClusterTest {
+
+    private static final List<String> NODES = List.of("node-1", "node-2", "node-3");
+
+    private final List<ClusterNode> nodes = new ArrayList<>();
+    private final List<InMemorySessionRepository> localSessions = new ArrayList<>();
+    private final List<ClusterSessionRepository> sessions = new ArrayList<>();
+    private final List<SimpMessagingTemplate> templates = new ArrayList<>();
+    private final List<ClusterBrokerRelay> relays = new ArrayList<>();
+    private final List<GameCommandRouter> routers = new ArrayList<>();
+    // Même base pour tous les nœuds
+    private final GameQueryService gameQueryService = mock(GameQueryService.class);
+
+    @BeforeEach
+    void setUp() {
+        LocalClusterTransport transport = new LocalClusterTransport();
+        for (String nodeId : NODES) {
+            ClusterNode node = new ClusterNode(nodeId, NODES, 64, transport);
+            InMemorySessionRepository local = new InMemorySessionRepository();
+            SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+            nodes.add(node);
+            localSessions.add(local);
+            sessions.add(new ClusterSessionRepository(local, node));
+            templates.add(template);
+            ClusterBrokerRelay relay = new ClusterBrokerRelay(template, node);
+            relays.add(relay);
+            routers.add(new GameCommandRouter(node, mock(GameService.class), mock(MovementService.class),
+                    mock(ActionService.class), mock(RecruitmentService.class), mock(GameRepository.class),
+                    new GameStateBroadcaster(gameQueryService, relay), mock(AiService.class)));
+        }
+    }
+
+    @Test
+    @DisplayName("Une session est rangée sur son nœud propriétaire et trouvée depuis tous les nœuds")
+    void session_storedOnOwner_visibleEverywhere() {
+        String id = UUID.randomUUID().toString();
+        Session session = new Session(id, new Player("p1"), true, "ABCD");
+
+        sessions.get(0).save(session);
+
+        int owner = NODES.indexOf(nodes.get(0).ownerOf(id));
+        for (int i = 0; i < NODES.size(); i++) {
+            assertThat(localSessions.get(i).findById(id).isPresent()).isEqualTo(i == owner);
+            assertThat(sessions.get(i).findById(id)).containsSame(session);
+            assertThat(sessions.get(i).findByCode("ABCD")).containsSame(session);
+            assertThat(sessions.get(i).findByPlayerId("p1")).containsSame(session);
+        }
+    }
+
+    @Test
+    @DisplayName("Les recherches par statut et les statistiques réunissent tous les nœuds")
+    void findByStatus_gathersAllNodes() {
+        for (int i = 0; i < 30; i++)
+            sessions.get(i % NODES.size()).save(new Session(UUID.randomUUID().toString(), new Player("p" + i)));
+
+        assertThat(sessions.get(1).findByStatus(Session.SessionStatus.WAITING_FOR_PLAYER)).hasSize(30);
+        assertThat(sessions.get(2).findAll()).hasSize(30);
+        assertThat(sessions.get(0).stats().live()).isEqualTo(30);
+        assertThat(localSessions).allSatisfy(local -> assertThat(local.findAll()).hasSizeLessThan(30));
+
+        sessions.get(2).deleteAll();
+
+        assertThat(sessions.get(0).findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Un message publié sur un nœud est remis aux abonnés de chaque nœud")
+    void publish_reachesEveryNode() {
+        relays.get(1).publish("/topic/game/42", "state");
+
+        for (SimpMessagingTemplate template : templates)
+            verify(template).convertAndSend("/topic/game/42", (Object) "state");
+    }
+
+    @Test
+    @DisplayName("Une commande est exécutée par le nœud propriétaire de la clé, quel que soit l'émetteur")
+    void send_runsOnOwner() {
+        for (ClusterNode node : nodes)
+            node.on("whoami", command -> node.nodeId());
+
+        for (int i = 0; i < 100; i++) {
+            String key = UUID.randomUUID().toString();
+            for (ClusterNode sender : nodes) {
+                String executedOn = sender.send("whoami", key, null);
+                assertThat(executedOn).isEqualTo(sender.ownerOf(key));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Abonné sur un autre nœud : l'état complet a la version des deltas du propriétaire")
+    void snapshot_onNonOwner_matchesOwnerVersion() {
+        UUID gameId = UUID.randomUUID();
+        int owner = NODES.indexOf(nodes.get(0).ownerOf(gameId.toString()));
+        int subscriber = (owner + 1) % NODES.size();
+        when(gameQueryService.getGameState(gameId)).thenReturn(new GameStateDto(gameId, GameStatus.IN_PROGRESS,
+                GamePhase.ACTION, 0, 1, false, null, null, 420, 420, null, null, null, List.of(), List.of(),
+                List.of(), 0, 0));
+
+        // Deux coups reçus par le nœud de l'abonné, joués et diffusés par le propriétaire
+        for (int i = 0; i < 2; i++)
+            routers.get(subscriber).send(new GameCommand.Move(gameId, UUID.randomUUID(), (short) 0, (short) 0, null));
+
+        GameStateDto snapshot = routers.get(subscriber).snapshot(gameId);
+
+        assertThat(snapshot.version()).isEqualTo(2);
+        // Le delta reçu ensuite par l'abonné part de cette version
+        routers.get(subscriber).send(new GameCommand.Move(gameId, UUID.randomUUID(), (short) 0, (short) 0, null));
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(templates.get(subscriber), times(3)).convertAndSend(eq("/topic/game/" + gameId), messages.capture());
+        assertThat(messages.getValue()).isInstanceOfSatisfying(GameStateDeltaDto.class,
+                delta -> assertThat(delta.baseVersion()).isEqualTo(snapshot.version()));
+    }
+}
@@ -0,0 +1,69 @@
+package esiea.hackathon.leaders.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeartbeatWheelTest {
+
+    // Délai de 30 s, cases d'une seconde
+    private final HeartbeatWheel wheel = new HeartbeatWheel(30000, 1000, 64);
+
+    @Test
+    @DisplayName("Une session sans signe de vie expire une seule fois, au délai près d'une case")
+    void advance_expiresSilentSession() {
+        wheel.register("s1", 0);
+
+        assertThat(wheel.advance(29000)).isEmpty();
+        assertThat(wheel.advance(30000)).containsExactly("s1");
+        assertThat(wheel.advance(60000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.touch("s1", 60000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Les signes de vie repoussent l'expiration sans déplacer l'entrée à chaque ping")
+    void touch_postponesExpiry() {
+        wheel.register("s1", 0);
+        for (long now = 1000; now <= 50000; now += 1000) {
+            assertThat(wheel.touch("s1", now)).isTrue();
+            assertThat(wheel.advance(now)).isEmpty();
+        }
+
+        assertThat(wheel.advance(79000)).isEmpty();
+        assertThat(wheel.advance(80000)).containsExactly("s1");
+    }
+
+    @Test
+    @DisplayName("Une connexion ouverte maintient la session ; sa fermeture compte comme dernier signe de vie")
+    void connection_keepsSessionAlive() {
+        wheel.register("s1", 0);
+        wheel.connected("s1");
+
+        assertThat(wheel.advance(120000)).isEmpty();
+
+        wheel.disconnected("s1", 120000);
+        assertThat(wheel.advance(149000)).isEmpty();
+        assertThat(wheel.advance(151000)).containsExactly("s1");
+    }
+
+    @Test
+    @DisplayName("Une session retirée du suivi n'expire plus ; une longue pause ne fait perdre aucune expiration")
+    void unregister_andLongPause() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            wheel.register("s" + i, i * 100L);
+            if (i % 2 == 0)
+                wheel.unregister("s" + i);
+            else
+                expected.add("s" + i);
+        }
+
+        assertThat(wheel.advance(1000000)).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package esiea.hackathon.leaders.infrastructure.repository;
+
+import esiea.hackathon.leaders.domain.Player;
+import esiea.hackathon.leaders.domain.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySessionRepositoryTest {
+
+    private final InMemorySessionRepository repository = new InMemorySessionRepository();
+
+    @Test
+    @DisplayName("Les sessions publiques en attente sont proposées dans l'ordre d'arrivée")
+    void findSuitableSession_isFifo() {
+        Session first = waiting("s1", "p1");
+        Session second = waiting("s2", "p2");
+        repository.save(new Session("private", new Player("p3"), true, "ABCD"));
+
+        assertThat(repository.findSuitableSession(null)).contains(first);
+        assertThat(repository.findSuitableSession("p1")).contains(second);
+
+        // Une nouvelle sauvegarde ne fait pas perdre sa place à la session
+        repository.save(first);
+        assertThat(repository.findSuitableSession(null)).contains(first);
+    }
+
+    @Test
+    @DisplayName("Un changement de statut sauvegardé met à jour la file et l'index des statuts")
+    void save_reindexesStatus() {
+        Session session = waiting("s1", "p1");
+
+        session.join(new Player("p2"));
+        repository.save(session);
+
+        assertThat(repository.findSuitableSession(null)).isEmpty();
+        assertThat(repository.findByStatus(Session.SessionStatus.WAITING_FOR_PLAYER)).isEmpty();
+        assertThat(repository.findByStatus(Session.SessionStatus.ACTIVE)).containsExactly(session);
+        assertThat(repository.findByPlayerId("p2")).contains(session);
+    }
+
+    @Test
+    @DisplayName("Les recherches par code et par joueur sont directes")
+    void findByCodeAndPlayer() {
+        Session privateSession = new Session("s1", new Player("p1"), true, "ABCD");
+        repository.save(privateSession);
+
+        assertThat(repository.findByCode("ABCD")).contains(privateSession);
+        assertThat(repository.findByCode("ZZZZ")).isEmpty();
+        assertThat(repository.findByPlayerId("p1")).contains(privateSession);
+        assertThat(repository.findByPlayerId("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Une session terminée est retirée après le délai de grâce")
+    void evictExpired_removesFinishedSessions() {
+        InMemorySessionRepository noGrace = new InMemorySessionRepository(0, 100, 30000);
+        Session live = new Session("live", new Player("p1"));
+        Session finished = new Session("done", new Player("p2"), true, "ABCD");
+        noGrace.save(live);
+        noGrace.save(finished);
+        finished.finish();
+        noGrace.save(finished);
+
+        assertThat(noGrace.stats().retained()).isEqualTo(1);
+        assertThat(noGrace.evictExpired()).isEqualTo(1);
+
+        assertThat(noGrace.findById("done")).isEmpty();
+        assertThat(noGrace.findByCode("ABCD")).isEmpty();
+        assertThat(noGrace.findByPlayerId("p2")).isEmpty();
+        assertThat(noGrace.findById("live")).contains(live);
+        assertThat(noGrace.stats()).extracting(s -> s.live(), s -> s.retained(), s -> s.evicted())
+                .containsExactly(1, 0, 1L);
+    }
+
+    @Test
+    @DisplayName("Au-delà du maximum, les plus anciennes sessions terminées partent en premier")
+    void save_evictsOldestFinishedOverCapacity() {
+        InMemorySessionRepository capped = new InMemorySessionRepository(60000, 2, 30000);
+        Session first = new Session("s1", new Player("p1"));
+        Session second = new Session("s2", new Player("p2"));
+        capped.save(first);
+        capped.save(second);
+        first.finish();
+        capped.save(first);
+        second.finish();
+        capped.save(second);
+
+        capped.save(new Session("s3", new Player("p3")));
+
+        assertThat(capped.findById("s1")).isEmpty();
+        assertThat(capped.findById("s2")).contains(second);
+        assertThat(capped.stats().evictedOverCapacity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Seules les sessions en cours sans signe de vie sont signalées, une seule fois")
+    void pollTimedOut_returnsSilentLiveSessions() {
+        long longAgo = System.currentTimeMillis() - 60000;
+        Session silent = new Session("silent", new Player("p1"));
+        silent.setLastHeartbeat(longAgo);
+        Session done = new Session("done", new Player("p2"));
+        done.setLastHeartbeat(longAgo);
+        repository.save(silent);
+        repository.save(done);
+        Session alive = waiting("alive", "p3");
+        done.finish();
+        repository.save(done);
+
+        assertThat(repository.heartbeat("alive")).isTrue();
+        assertThat(repository.heartbeat("done")).isFalse();
+        assertThat(repository.pollTimedOut()).containsExactly(silent);
+        assertThat(repository.pollTimedOut()).isEmpty();
+        assertThat(alive.getStatus()).isEqualTo(Session.SessionStatus.WAITING_FOR_PLAYER);
+    }
+
+    private Session waiting(String id, String playerId) {
+        Session session = new Session(id, new Player(playerId));
+        repository.save(session);
+        return session;
+    }
+}
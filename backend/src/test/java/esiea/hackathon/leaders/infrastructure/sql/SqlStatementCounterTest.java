@@ -0,0 +1,136 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter(true, 2, 2);
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final DataSource dataSource = new StatementCountingDataSource(target, counter);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    @DisplayName("Instructions, lignes lues et modifiées d'une mesure ; un lot compte pour une instruction")
+    void measure_countsStatementsAndRows() throws SQLException {
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(statement.executeBatch()).thenReturn(new int[] { 1, 1, Statement.SUCCESS_NO_INFO });
+        when(statement.executeUpdate()).thenReturn(3);
+
+        SqlStatementCounter.Measure measure = counter.begin();
+        try (Connection c = dataSource.getConnection()) {
+            ResultSet rs = c.prepareStatement("SELECT 1").executeQuery();
+            while (rs.next()) {
+            }
+            PreparedStatement batch = c.prepareStatement("INSERT");
+            batch.addBatch();
+            batch.addBatch();
+            batch.executeBatch();
+            c.prepareStatement("UPDATE").executeUpdate();
+        }
+        counter.end(measure, "POST /games/{gameId}/move");
+
+        assertThat(measure.statements()).isEqualTo(3);
+        assertThat(measure.rows()).isEqualTo(7);
+        assertThat(counter.current()).isNull();
+        assertThat(counter.stats().scopes()).singleElement()
+                .extracting(s -> s.name(), s -> s.count(), s -> s.statements(), s -> s.maxStatements())
+                .containsExactly("POST /games/{gameId}/move", 1L, 3L, 3L);
+        // Budget de 2 instructions dépassé
+        assertThat(counter.stats().overBudget()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Hors mesure, les requêtes sont comptées à part")
+    void statementOutsideMeasure_isUnscoped() throws SQLException {
+        when(statement.executeUpdate()).thenReturn(1);
+
+        try (Connection c = dataSource.getConnection()) {
+            c.prepareStatement("UPDATE").executeUpdate();
+        }
+
+        assertThat(counter.stats().scopes()).isEmpty();
+        assertThat(counter.stats().unscoped().statements()).isEqualTo(1);
+        assertThat(counter.stats().unscoped().rows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Une mesure imbriquée suspend la mesure englobante jusqu'à sa fin")
+    void nestedMeasure_restoresOuter() throws SQLException {
+        when(statement.executeUpdate()).thenReturn(0);
+
+        SqlStatementCounter.Measure outer = counter.begin();
+        SqlStatementCounter.Measure inner = counter.begin();
+        try (Connection c = dataSource.getConnection()) {
+            c.prepareStatement("UPDATE").executeUpdate();
+            counter.end(inner, "inner");
+            c.prepareStatement("UPDATE").executeUpdate();
+            c.prepareStatement("UPDATE").executeUpdate();
+        }
+        counter.end(outer, "outer");
+
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+        assertThat(counter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Au-delà du nombre de noms suivis, les mesures sont réunies sous other")
+    void tooManyNames_areGroupedUnderOther() {
+        for (String name : new String[] { "a", "b", "c", "d", "a" })
+            counter.end(counter.begin(), name);
+
+        assertThat(counter.stats().scopes())
+                .extracting(s -> s.name() + "=" + s.count())
+                .containsExactlyInAnyOrder("a=2", "b=1", "other=2");
+    }
+
+    @Test
+    @DisplayName("Comptage désactivé : aucune mesure")
+    void disabled_beginsNoMeasure() {
+        SqlStatementCounter disabled = new SqlStatementCounter(false, 25, 256);
+
+        SqlStatementCounter.Measure measure = disabled.begin();
+        disabled.end(measure, "GET /games/{gameId}");
+
+        assertThat(measure).isNull();
+        assertThat(disabled.stats().scopes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Les identifiants des destinations STOMP sont remplacés pour regrouper les messages")
+    void stompName_replacesIds() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setDestination("/app/game/" + UUID.randomUUID());
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThat(SqlStatementChannelInterceptor.nameOf(message)).isEqualTo("STOMP SUBSCRIBE /app/game/{id}");
+    }
+}
@@ -0,0 +1,56 @@
+package esiea.hackathon.leaders.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementFilterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter(true, 25, 256);
+
+    // Deux requêtes puis le corps de la réponse, puis une requête après l'écriture
+    private final FilterChain chain = (request, response) -> {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/games/{gameId}");
+        counter.statement(1_000_000, 1);
+        counter.statement(1_000_000, 4);
+        response.getWriter().write("{}");
+        response.flushBuffer();
+        counter.statement(1_000_000, 0);
+    };
+
+    @Test
+    @DisplayName("En dev, la réponse porte les requêtes exécutées avant l'écriture du corps")
+    void headers_writtenBeforeBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new SqlStatementFilter(counter, true).doFilter(new MockHttpServletRequest("GET", "/games/42"), response,
+                chain);
+
+        assertThat(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isEqualTo("2");
+        assertThat(response.getHeader(SqlStatementFilter.ROWS_HEADER)).isEqualTo("5");
+        assertThat(response.getHeader(SqlStatementFilter.TIME_HEADER)).isEqualTo("2");
+        assertThat(counter.stats().scopes()).singleElement()
+                .extracting(s -> s.name(), s -> s.statements())
+                .containsExactly("GET /games/{gameId}", 3L);
+    }
+
+    @Test
+    @DisplayName("Hors dev, la requête est mesurée sans en-têtes")
+    void noHeaders_stillMeasured() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new SqlStatementFilter(counter, false).doFilter(new MockHttpServletRequest("GET", "/games/42"), response,
+                chain);
+
+        assertThat(response.getHeaderNames()).doesNotContain(SqlStatementFilter.STATEMENTS_HEADER);
+        assertThat(counter.stats().scopes()).singleElement()
+                .extracting(s -> s.count(), s -> s.statements())
+                .containsExactly(1L, 3L);
+        assertThat(counter.current()).isNull();
+    }
+}
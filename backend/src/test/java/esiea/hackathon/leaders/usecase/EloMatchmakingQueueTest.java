@@ -0,0 +1,151 @@
+package esiea.hackathon.leaders.usecase;
+
+import esiea.hackathon.leaders.domain.Player;
+import esiea.hackathon.leaders.domain.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EloMatchmakingQueueTest {
+
+    // Tranches de 50, écart initial de 100, +25 par seconde d'attente, 400 au plus
+    private final EloMatchmakingQueue queue = new EloMatchmakingQueue(50, 100, 25, 400, 0);
+
+    @Test
+    @DisplayName("Les joueurs sont appariés avec leur voisin d'ELO le plus proche")
+    void pair_minimizesTotalRatingGap() {
+        enqueue("a", 1000, 0);
+        enqueue("b", 1300, 0);
+        enqueue("c", 1040, 0);
+        enqueue("d", 1330, 0);
+
+        List<EloMatchmakingQueue.Match> matches = queue.pair(0);
+
+        assertThat(matches).extracting(EloMatchmakingQueue.Match::ratingGap).containsExactlyInAnyOrder(40, 30);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("L'écart accepté s'élargit avec le temps d'attente")
+    void pair_widensBandOverTime() {
+        enqueue("low", 1000, 0);
+        enqueue("high", 1250, 0);
+
+        assertThat(queue.pair(0)).isEmpty();
+        // 100 + 6 s x 25 = 250
+        List<EloMatchmakingQueue.Match> matches = queue.pair(TimeUnit.SECONDS.toNanos(6));
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).host().playerId()).isEqualTo("low");
+    }
+
+    @Test
+    @DisplayName("Un nouveau venu à l'écart étroit n'empêche pas deux joueurs patients de s'affronter")
+    void pair_skipsNarrowBandNewcomer() {
+        enqueue("veteran-1", 1000, 0);
+        enqueue("veteran-2", 1250, 0);
+        long now = TimeUnit.SECONDS.toNanos(10);
+        enqueue("newcomer", 1120, now - 1);
+
+        List<EloMatchmakingQueue.Match> matches = queue.pair(now);
+
+        assertThat(matches).hasSize(1);
+        assertThat(List.of(matches.get(0).host().playerId(), matches.get(0).guest().playerId()))
+                .containsExactlyInAnyOrder("veteran-1", "veteran-2");
+        assertThat(queue.find("newcomer")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Un joueur retiré ou dont la session est terminée n'est plus apparié")
+    void pair_ignoresCancelledAndStaleTickets() {
+        enqueue("a", 1000, 0);
+        enqueue("b", 1000, 0);
+        Session stale = enqueue("c", 1000, 0);
+        stale.finish();
+
+        assertThat(queue.remove("a")).isTrue();
+        assertThat(queue.remove("a")).isFalse();
+
+        assertThat(queue.pair(0)).isEmpty();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Plusieurs milliers de joueurs sont appariés en un seul passage")
+    void pair_handlesThousandsOfPlayers() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++)
+            enqueue("p" + i, 800 + random.nextInt(800), 0);
+
+        List<EloMatchmakingQueue.Match> matches = queue.pair(TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(matches).hasSize(2500);
+        assertThat(matches).allSatisfy(match -> assertThat(match.ratingGap()).isLessThanOrEqualTo(400));
+    }
+
+    @Test
+    @DisplayName("Départs et ticks concurrents : chaque joueur est soit apparié une fois, soit retiré")
+    void pair_racingCancels_neverBoth() throws Exception {
+        int players = 2000;
+        for (int i = 0; i < players; i++)
+            enqueue("p" + i, 1000 + i % 50, 0);
+        Set<String> cancelled = ConcurrentHashMap.newKeySet();
+        List<EloMatchmakingQueue.Match> matches = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> cancels = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int offset = t;
+                cancels.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = offset; i < players; i += 3) {
+                        if (i % 2 == 0 && queue.remove("p" + i))
+                            cancelled.add("p" + i);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> ticks = executor.submit(() -> {
+                start.await();
+                for (int tick = 0; tick < 50; tick++)
+                    matches.addAll(queue.pair(TimeUnit.SECONDS.toNanos(60)));
+                return null;
+            });
+            start.countDown();
+            for (Future<?> cancel : cancels)
+                cancel.get(10, TimeUnit.SECONDS);
+            ticks.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        matches.addAll(queue.pair(TimeUnit.SECONDS.toNanos(60)));
+
+        List<String> matched = matches.stream()
+                .flatMap(match -> Stream.of(match.host().playerId(), match.guest().playerId()))
+                .toList();
+        assertThat(matched).doesNotHaveDuplicates().doesNotContainAnyElementsOf(cancelled);
+        assertThat(matched.size() + cancelled.size() + queue.size()).isEqualTo(players);
+        assertThat(queue.size()).isLessThanOrEqualTo(1);
+    }
+
+    private Session enqueue(String playerId, int elo, long at) {
+        Session session = new Session(playerId + "-session", new Player(playerId));
+        queue.enqueue(playerId, elo, session, at);
+        return session;
+    }
+}
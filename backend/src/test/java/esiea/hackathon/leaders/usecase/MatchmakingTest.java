@@ -3,8 +3,6 @@ package esiea.hackathon.leaders.usecase;
 import esiea.hackathon.leaders.domain.Session;
 import esiea.hackathon.leaders.domain.SessionRepository;
 import esiea.hackathon.leaders.infrastructure.repository.InMemorySessionRepository;
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGamePlayerRepository; // Import ajouté
-import esiea.hackathon.leaders.adapter.infrastructure.repository.SpringGameRepository; // Import ajouté
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.*;
@@ -24,21 +22,22 @@ public class MatchmakingTest {
         createGameSessionUseCase = new CreateGameSessionUseCase(sessionRepository);
         gameSetupService = mock(esiea.hackathon.leaders.application.services.GameSetupService.class);
 
-        // On mock les nouveaux repositories requis par le constructeur
-        SpringGamePlayerRepository gamePlayerRepository = mock(SpringGamePlayerRepository.class);
-        SpringGameRepository gameRepository = mock(SpringGameRepository.class);
-
         connectPlayerUseCase = new ConnectPlayerUseCase(
                 sessionRepository,
-                gameSetupService,
-                mock(esiea.hackathon.leaders.application.services.GameQueryService.class),
-                mock(org.springframework.messaging.simp.SimpMessagingTemplate.class),
-                gamePlayerRepository, // Nouvel argument
-                gameRepository // Nouvel argument
-        );
-
-        matchmakingUseCase = new MatchmakingUseCase(sessionRepository, createGameSessionUseCase, connectPlayerUseCase,
-                gameSetupService, mock(org.springframework.messaging.simp.SimpMessagingTemplate.class));
+                mock(esiea.hackathon.leaders.application.services.GamePoolService.class),
+                mock(esiea.hackathon.leaders.application.services.GameStateBroadcaster.class),
+                mock(esiea.hackathon.leaders.domain.BrokerRelay.class));
+
+        // Sans délai minimal d'attente : chaque matchTick() apparie les joueurs déjà en file ;
+        // les parties démarrent sur le thread du tick
+        matchmakingUseCase = matchmaking(Runnable::run);
+    }
+
+    private MatchmakingUseCase matchmaking(java.util.concurrent.Executor starter) {
+        return new MatchmakingUseCase(sessionRepository, createGameSessionUseCase, connectPlayerUseCase,
+                gameSetupService, mock(esiea.hackathon.leaders.domain.BrokerRelay.class),
+                new EloMatchmakingQueue(50, 100, 25, 800, 0),
+                mock(esiea.hackathon.leaders.application.services.UserProfileCache.class), starter);
     }
 
     @Test
@@ -56,9 +55,13 @@ public class MatchmakingTest {
         Session s2 = matchmakingUseCase.findOrCreatePublicSession(p2);
         assertNotNull(s2);
 
-        // 3. Should match
-        assertEquals(s1.getId(), s2.getId());
-        assertEquals(Session.SessionStatus.ACTIVE, s2.getStatus());
+        // 3. Should match on the next tick: player 2 joins player 1's session
+        matchmakingUseCase.matchTick();
+        assertEquals(Session.SessionStatus.ACTIVE, s1.getStatus());
+        assertEquals(p2, s1.getPlayer2().getId());
+        assertEquals(Session.SessionStatus.FINISHED, s2.getStatus());
+        assertEquals(s1.getId(), sessionRepository.findByPlayerId(p2).orElseThrow().getId());
+        assertEquals(1, matchmakingUseCase.stats().matches());
     }
 
     @Test
@@ -74,4 +77,71 @@ public class MatchmakingTest {
         assertEquals(s1.getId(), s2.getId());
         assertEquals(Session.SessionStatus.WAITING_FOR_PLAYER, s2.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testConcurrentMatchmakingPairsEveryone() throws Exception {
+        int players = 16;
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(players);
+        java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+        java.util.List<java.util.concurrent.Future<Session>> results = new java.util.ArrayList<>();
+        try {
+            for (int i = 0; i < players; i++) {
+                String playerId = "player-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return matchmakingUseCase.findOrCreatePublicSession(playerId);
+                }));
+            }
+            start.countDown();
+            for (java.util.concurrent.Future<Session> result : results)
+                result.get(10, java.util.concurrent.TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        matchmakingUseCase.matchTick();
+
+        // Nombre pair de joueurs : personne ne reste seul en file
+        assertTrue(sessionRepository.findByStatus(Session.SessionStatus.WAITING_FOR_PLAYER).isEmpty());
+        java.util.List<Session> active = sessionRepository.findByStatus(Session.SessionStatus.ACTIVE);
+        assertEquals(players / 2, active.size());
+        java.util.Set<String> paired = new java.util.HashSet<>();
+        for (Session session : active) {
+            assertTrue(paired.add(session.getPlayer1().getId()));
+            assertTrue(paired.add(session.getPlayer2().getId()));
+        }
+    }
+
+    @Test
+    void testCancelledPlayerIsNotMatched() {
+        Session s1 = matchmakingUseCase.findOrCreatePublicSession("player-1");
+        matchmakingUseCase.removePlayerFromQueue("player-1");
+
+        Session s2 = matchmakingUseCase.findOrCreatePublicSession("player-2");
+        matchmakingUseCase.matchTick();
+
+        assertEquals(Session.SessionStatus.FINISHED, s1.getStatus());
+        assertNotEquals(s1.getId(), s2.getId());
+        assertEquals(Session.SessionStatus.WAITING_FOR_PLAYER, s2.getStatus());
+    }
+
+    @Test
+    void testTickOnlyPairsAndHandsStartsOff() {
+        java.util.List<Runnable> starts = new java.util.ArrayList<>();
+        matchmakingUseCase = matchmaking(starts::add);
+        Session s1 = matchmakingUseCase.findOrCreatePublicSession("player-1");
+        matchmakingUseCase.findOrCreatePublicSession("player-2");
+
+        matchmakingUseCase.matchTick();
+
+        // Apparié mais pas encore démarré : une nouvelle demande ne le remet pas en file
+        assertEquals(1, starts.size());
+        assertEquals(Session.SessionStatus.WAITING_FOR_PLAYER, s1.getStatus());
+        assertEquals(s1.getId(), matchmakingUseCase.findOrCreatePublicSession("player-1").getId());
+        assertEquals(0, matchmakingUseCase.stats().queued());
+
+        starts.forEach(Runnable::run);
+
+        assertEquals(Session.SessionStatus.ACTIVE, s1.getStatus());
+        assertEquals("player-2", s1.getPlayer2().getId());
+    }
+}
@@ -81,20 +81,28 @@ export interface Game {
   eloChangeP1?: number;
   lastTimerUpdate?: string;
   mode?: string;
-  actions: {
-    turnNumber: number;
-    playerIndex: number;
-    actionOrder?: number; // 🆕 Added
-    actionType: string;
-    pieceId: string;
-    fromQ: number;
-    fromR: number;
-    toQ: number;
-    toR: number;
-    targetPieceId?: string;
-    abilityId?: string;
-    characterId?: string;
-  }[];
+  lastActionOrder: number; // Curseur de l'historique (cf. getActions)
+}
+
+export interface GameAction {
+  turnNumber: number;
+  playerIndex: number;
+  actionOrder: number;
+  actionType: string;
+  pieceId: string;
+  fromQ: number;
+  fromR: number;
+  toQ: number;
+  toR: number;
+  targetPieceId?: string;
+  abilityId?: string;
+  characterId?: string;
+}
+
+export interface GameActionPage {
+  actions: GameAction[];
+  nextCursor: number;
+  hasMore: boolean;
 }
 
 // Frontend specific types
@@ -187,7 +195,7 @@ export async function createGame(gameIdOrScenarioId?: string | number, forcedDec
   return res.json(); // Retourne l'UUID de la partie
 }
 
-export async function createAiGame(playerId: string, difficulty: "EASY" | "HARD" | "EXPERT" = "EASY"): Promise<string> {
+export async function createAiGame(playerId: string, difficulty: "EASY" | "HARD" | "EXPERT" | "MASTER" = "EASY"): Promise<string> {
   const res = await fetch(`${BASE_URL}/games/ai`, {
     method: "POST",
     headers: { "Content-Type": "application/json" },
@@ -210,6 +218,13 @@ export async function getGame(gameId: string): Promise<Game> {
 /** Alias for getGame used in feature branch */
 export const getGameState = getGame;
 
+/** Historique par curseur : actions d'actionOrder > since */
+export async function getActions(gameId: string, since = 0): Promise<GameActionPage> {
+  const res = await fetch(`${BASE_URL}/games/${gameId}/actions?since=${since}`);
+  if (!res.ok) throw new Error("Failed to get game actions");
+  return res.json();
+}
+
 export async function endTurn(gameId: string): Promise<Game> {
   const res = await fetch(`${BASE_URL}/games/${gameId}/end-turn`, {
     method: "POST",
@@ -396,6 +411,7 @@ export const gameApi = {
   createGame,
   getGame,
   getGameState,
+  getActions,
   endTurn,
   recruitCharacter,
   getPieces,
@@ -1,14 +1,15 @@
 import { useRef, useEffect } from "react";
-import type { GameFrontend } from "../api/gameApi";
+import type { GameAction, GameFrontend } from "../api/gameApi";
 import { CHARACTER_IMAGES, CHARACTER_NAMES } from "../constants/characters";
 
 interface MoveHistoryProps {
     game: GameFrontend;
+    actions: GameAction[];
     onClose?: () => void;
     variant?: "modal" | "embedded";
 }
 
-export default function MoveHistory({ game, onClose, variant = "modal" }: MoveHistoryProps) {
+export default function MoveHistory({ game, actions, onClose, variant = "modal" }: MoveHistoryProps) {
     const listRef = useRef<HTMLDivElement>(null);
 
     useEffect(() => {
@@ -16,7 +17,7 @@ export default function MoveHistory({ game, onClose, variant = "modal" }: MoveHi
         if (listRef.current) {
             listRef.current.scrollTop = 0;
         }
-    }, [game.actions?.length]);
+    }, [actions.length]);
 
     const getActionDescription = (action: any) => {
         const player = game.players.find(p => p.playerIndex === action.playerIndex);
@@ -58,8 +59,8 @@ export default function MoveHistory({ game, onClose, variant = "modal" }: MoveHi
 
             {/* List */}
             <div ref={listRef} className={`flex-1 overflow-y-auto ${variant === "embedded" ? "p-3 space-y-3" : "p-6 space-y-4"}`}>
-                {game.actions && game.actions.length > 0 ? (
-                    [...game.actions].reverse().map((action, index) => (
+                {actions.length > 0 ? (
+                    [...actions].reverse().map((action, index) => (
                         <div
                             key={index}
                             className={`p-3 rounded-xl border flex gap-3 ${action.playerIndex === 0
@@ -1,4 +1,4 @@
-import type { GameFrontend, PieceFrontend } from "../api/gameApi";
+import type { GameAction, GameFrontend, PieceFrontend } from "../api/gameApi";
 import { gameApi } from "../api/gameApi";
 import ChatPanel from '../components/ChatPanel';
 import { authService } from "../services/auth.service";
@@ -32,6 +32,13 @@ interface CharacterCard {
   type?: "ACTIVE" | "PASSIVE" | "SPECIAL";
 }
 
+// Ajoute à l'historique les actions postérieures à la dernière connue (les doublons sont ignorés)
+function appendActions(current: GameAction[], incoming: GameAction[]): GameAction[] {
+  const last = current.length > 0 ? current[current.length - 1].actionOrder : 0;
+  const fresh = incoming.filter(a => a.actionOrder > last);
+  return fresh.length > 0 ? [...current, ...fresh] : current;
+}
+
 // === COMPOSANTS UI ===
 
 // Carte de la rivière (Sidebar gauche) - Redesign "Data Slate"
@@ -162,6 +169,9 @@ function SidebarCard({
 export default function Game({ gameId, sessionId: propSessionId, onBackToLobby }: { gameId: string; sessionId?: string; onBackToLobby: () => void }) {
   const sessionId = propSessionId || gameId;
   const [gameState, setGameState] = useState<GameFrontend | null>(null);
+  // Historique hors de l'état : complété par curseur (dernier actionOrder reçu)
+  const [actions, setActions] = useState<GameAction[]>([]);
+  const actionCursorRef = useRef(0);
   const [selectedPiece, setSelectedPiece] = useState<PieceFrontend | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [showSurrenderModal, setShowSurrenderModal] = useState(false);
@@ -297,6 +307,13 @@ export default function Game({ gameId, sessionId: propSessionId, onBackToLobby }
   }, [gameState?.status, gameState?.winnerPlayerIndex]);
 
   const updateGameState = useCallback((game: any) => {
+    // Actions jointes à un delta WebSocket : gardées si elles suivent le curseur
+    const newActions: GameAction[] = game.newActions ?? [];
+    if (newActions.length > 0 && newActions[0].actionOrder <= actionCursorRef.current + 1) {
+      actionCursorRef.current = Math.max(actionCursorRef.current, newActions[newActions.length - 1].actionOrder);
+      setActions(prev => appendActions(prev, newActions));
+    }
+
     const mappedGame = gameApi.mapGameToFrontend(game);
     setGameState(mappedGame);
     setIsLoading(false);
@@ -380,6 +397,38 @@ export default function Game({ gameId, sessionId: propSessionId, onBackToLobby }
     return () => clearInterval(interval);
   }, [gameId, updateGameState]);
 
+  // Récupère seulement les actions manquées (reconnexion, polling, trou dans les deltas)
+  const lastActionOrder = gameState?.lastActionOrder ?? 0;
+  useEffect(() => {
+    setActions([]);
+    actionCursorRef.current = 0;
+  }, [gameId]);
+
+  useEffect(() => {
+    if (!gameId || lastActionOrder <= actionCursorRef.current) return;
+    let cancelled = false;
+
+    const fetchMissingActions = async () => {
+      try {
+        let hasMore = true;
+        while (hasMore && !cancelled) {
+          const page = await gameApi.getActions(gameId, actionCursorRef.current);
+          if (cancelled) return;
+          actionCursorRef.current = Math.max(actionCursorRef.current, page.nextCursor);
+          setActions(prev => appendActions(prev, page.actions));
+          hasMore = page.hasMore;
+        }
+      } catch (e) {
+        console.error("Failed to load move history", e);
+      }
+    };
+
+    fetchMissingActions();
+    return () => {
+      cancelled = true;
+    };
+  }, [gameId, lastActionOrder]);
+
   const handleSurrender = async () => {
     // On récupère l'ID joueur. Priorité au user object (auth/guest).
     const currentUser = user || authService.getUser();
@@ -1168,7 +1217,7 @@ export default function Game({ gameId, sessionId: propSessionId, onBackToLobby }
               <h3 className="font-cyber text-slate-400 text-xs tracking-widest uppercase">JOURNAL DE COMBAT</h3>
             </div>
             <div className="flex-1 overflow-hidden rounded-xl border border-white/5 bg-slate-900/50">
-              <MoveHistory game={gameState} variant="embedded" />
+              <MoveHistory game={gameState} actions={actions} variant="embedded" />
             </div>
           </div>
         )}
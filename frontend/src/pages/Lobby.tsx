@@ -374,6 +374,7 @@ export default function Lobby({
                   <option value={-1}>🤖 VS IA (FACILE)</option>
                   <option value={-2}>😈 VS IA (DIFFICILE)</option>
                   <option value={-3}>👹 VS IA (EXPERT)</option>
+                  <option value={-4}>🧠 VS IA (MAÎTRE)</option>
                 </select>
 
                 <button
@@ -384,11 +385,12 @@ export default function Lobby({
                       setIsSearching(false);
                     } else {
                       // VS AI Check
-                      if (selectedScenario === -1 || selectedScenario === -2 || selectedScenario === -3) {
+                      if (selectedScenario === -1 || selectedScenario === -2 || selectedScenario === -3 || selectedScenario === -4) {
                         try {
-                          let difficulty: "EASY" | "HARD" | "EXPERT" = "EASY";
+                          let difficulty: "EASY" | "HARD" | "EXPERT" | "MASTER" = "EASY";
                           if (selectedScenario === -2) difficulty = "HARD";
                           if (selectedScenario === -3) difficulty = "EXPERT";
+                          if (selectedScenario === -4) difficulty = "MASTER";
                           const gameId = await createAiGame(user?.id || "GUEST", difficulty);
                           onStartGame(gameId);
                         } catch (e) {
@@ -20,6 +20,33 @@ const getSocketUrl = () => {
 
 const SOCKET_URL = getSocketUrl();
 
+const applyGameDelta = (state: any, delta: any) => {
+    const replacedPieces = new Set([...delta.removedPieceIds, ...delta.changedPieces.map((p: any) => p.id)]);
+    const replacedCards = new Set([...delta.removedRiverCardIds, ...delta.changedRiver.map((c: any) => c.id)]);
+    return {
+        ...state,
+        version: delta.version,
+        status: delta.status,
+        currentPhase: delta.currentPhase,
+        currentPlayerIndex: delta.currentPlayerIndex,
+        turnNumber: delta.turnNumber,
+        hasRecruitedThisTurn: delta.hasRecruitedThisTurn,
+        winnerPlayerIndex: delta.winnerPlayerIndex,
+        winnerVictoryType: delta.winnerVictoryType,
+        remainingTimeP0: delta.remainingTimeP0,
+        remainingTimeP1: delta.remainingTimeP1,
+        lastTimerUpdate: delta.lastTimerUpdate,
+        eloChangeP0: delta.eloChangeP0,
+        eloChangeP1: delta.eloChangeP1,
+        pieces: [...state.pieces.filter((p: any) => !replacedPieces.has(p.id)), ...delta.changedPieces],
+        river: [...state.river.filter((c: any) => !replacedCards.has(c.id)), ...delta.changedRiver],
+        players: delta.players ?? state.players,
+        // L'historique n'est pas dans l'état : les nouvelles actions sont transmises telles quelles
+        lastActionOrder: delta.lastActionOrder,
+        newActions: delta.newActions,
+    };
+};
+
 class WebSocketService {
     private client: Client;
     private connected: boolean = false;
@@ -72,14 +99,47 @@ class WebSocketService {
             const checkInterval = setInterval(() => {
                 if (this.connected) {
                     clearInterval(checkInterval);
-                    this.doSubscribe(`/topic/game/${gameId}`, callback);
+                    this.doSubscribeToGame(gameId, callback);
                 }
             }, 100);
         } else {
-            this.doSubscribe(`/topic/game/${gameId}`, callback);
+            this.doSubscribeToGame(gameId, callback);
         }
     }
 
+    // /topic/game/{id} diffuse l'état complet une fois puis des deltas versionnés.
+    // L'état complet est redemandé (/app/game/{id}) à l'abonnement et en cas de trou de version.
+    private doSubscribeToGame(gameId: string, callback: (gameState: any) => void) {
+        let state: any = null;
+        let snapshotPending = false;
+
+        const requestSnapshot = () => {
+            if (snapshotPending) return;
+            snapshotPending = true;
+            const subscription = this.doSubscribe(`/app/game/${gameId}`, (snapshot) => {
+                subscription.unsubscribe();
+                snapshotPending = false;
+                if (!state || snapshot.version >= state.version) {
+                    state = snapshot;
+                    callback(state);
+                }
+            });
+        };
+
+        this.doSubscribe(`/topic/game/${gameId}`, (data) => {
+            if (data.type !== 'DELTA') {
+                state = data;
+                callback(state);
+            } else if (state && data.baseVersion === state.version) {
+                state = applyGameDelta(state, data);
+                callback(state);
+            } else if (!state || data.version > state.version) {
+                requestSnapshot();
+            }
+        });
+        requestSnapshot();
+    }
+
     subscribeToChat(sessionId: string, callback: (message: any) => void): () => void {
         let subscription: any = null;
         let checkInterval: any = null;